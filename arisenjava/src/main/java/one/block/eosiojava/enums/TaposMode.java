@@ -0,0 +1,26 @@
+package one.block.arisenjava.enums;
+
+/**
+ * Enum of the ways {@link one.block.arisenjava.session.TransactionProcessor} resolves the reference
+ * block used to fill refBlockNum and refBlockPrefix of a transaction (TAPOS).
+ */
+public enum TaposMode {
+    /**
+     * Download the block which is blocks behind the head block and read its ref block prefix.
+     * <br>
+     * Default mode.
+     */
+    FETCH_BLOCK,
+
+    /**
+     * Compute refBlockNum and refBlockPrefix from the head block id returned by getInfo, without
+     * downloading any block.  Blocks behind is ignored in this mode.
+     */
+    HEAD_BLOCK_ID,
+
+    /**
+     * Compute refBlockNum and refBlockPrefix from the last irreversible block id returned by getInfo,
+     * without downloading any block.  Blocks behind is ignored in this mode.
+     */
+    LAST_IRREVERSIBLE_BLOCK_ID
+}
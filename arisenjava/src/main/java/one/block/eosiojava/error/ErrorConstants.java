@@ -7,12 +7,23 @@ import one.block.arisenjava.interfaces.IRPCProvider;
 import one.block.arisenjava.interfaces.ISignatureProvider;
 import one.block.arisenjava.models.AbiRixSerializationObject;
 import one.block.arisenjava.models.ARISENName;
+import one.block.arisenjava.models.Asset;
+import one.block.arisenjava.implementations.SerializationProviderImpl;
+import one.block.arisenjava.models.abi.CompiledAbi;
+import one.block.arisenjava.models.Symbol;
+import one.block.arisenjava.models.rpcProvider.PackedTransaction;
 import one.block.arisenjava.models.rpcProvider.request.GetBlockRequest;
 import one.block.arisenjava.models.rpcProvider.request.GetRequiredKeysRequest;
 import one.block.arisenjava.models.rpcProvider.request.PushTransactionRequest;
 import one.block.arisenjava.models.rpcProvider.response.GetInfoResponse;
 import one.block.arisenjava.models.signatureProvider.ArisenTransactionSignatureRequest;
+import one.block.arisenjava.session.ActionTemplate;
+import one.block.arisenjava.session.BatchConfig;
+import one.block.arisenjava.session.ReferenceBlockCache;
+import one.block.arisenjava.session.RequiredKeysCache;
 import one.block.arisenjava.session.TransactionProcessor;
+import one.block.arisenjava.utilities.AbiClassGenerator;
+import one.block.arisenjava.utilities.ByteFormatter;
 import one.block.arisenjava.interfaces.IABIProvider;
 import one.block.arisenjava.interfaces.ISerializationProvider;
 import one.block.arisenjava.models.signatureProvider.ArisenTransactionSignatureResponse;
@@ -134,6 +145,11 @@ public class ErrorConstants {
     public static final String REQUESTED_ACCCOUNT_NOT_EQUAL_RETURNED = "Requested account name does not match returned account name.";
     public static final String NO_ABI_FOUND = "No ABI found for requested account name.";
     public static final String ERROR_RETRIEVING_ABI = "Error retrieving ABI from the chain.";
+    public static final String ABI_FETCH_DEADLINE_EXCEEDED = "Deadline exceeded before the ABI of [%s] was fetched.";
+    public static final String ABI_FETCH_INTERRUPTED = "Interrupted while waiting for the ABI of [%s].";
+    public static final String ABI_INVALID_MAX_CONCURRENT_FETCHES = "Maximum number of concurrent ABI fetches must be greater than zero.";
+    public static final String ABI_STORE_INVALID_FILE = "File [%s] is not an ABI store.";
+    public static final String ABI_CACHE_INVALID_CONFIG = "ABI cache bounds, time to live and revalidation interval can't be negative, and the cache can't be bounded both by entries and by bytes.";
 
     //PEMProcessor Errors
     /**
@@ -184,6 +200,11 @@ public class ErrorConstants {
      */
     public static final String TRANSACTION_PROCESSOR_HEAD_BLOCK_TIME_PARSE_ERROR = "Failed to parse head block time";
 
+    /**
+     * Error message get thrown if the block id from {@link GetInfoResponse} used to compute refBlockNum and refBlockPrefix is not a valid block id.
+     */
+    public static final String TRANSACTION_PROCESSOR_PREPARE_INVALID_BLOCK_ID = "Block id %s is not a valid block id. It must be a 64 characters hex string.";
+
     /**
      * Error message get thrown if making clone version of transaction is failed.
      */
@@ -219,6 +240,11 @@ public class ErrorConstants {
      */
     public static final String TRANSACTION_PROCESSOR_SERIALIZE_ACTION_ERROR = "Error happened on serializing action [%s]";
 
+    /**
+     * Error message get thrown if the thread is interrupted while waiting for actions serialized in parallel.
+     */
+    public static final String TRANSACTION_PROCESSOR_SERIALIZE_ACTION_INTERRUPTED = "Interrupted while serializing actions in parallel";
+
     /**
      * Error message get thrown if Transaction's serialization process get error by calling {@link ISerializationProvider#serializeTransaction(String)}
      */
@@ -324,4 +350,240 @@ public class ErrorConstants {
      */
     public static final String TRANSACTION_PROCESSOR_SIGN_BROADCAST_SIGN_EMPTY = "Can't call sign and broadcast because Signature is empty. Make sure of calling sign before calling sign and broadcast.";
 
+    //TransactionConfig errors
+    /**
+     * Error message get thrown if {@link one.block.arisenjava.models.rpcProvider.TransactionConfig#setTaposMode(one.block.arisenjava.enums.TaposMode)} is given null.
+     */
+    public static final String TRANSACTION_CONFIG_TAPOS_MODE_NULL = "TAPOS mode can't be null.";
+
+    //ReferenceBlockCache errors
+    /**
+     * Error message get thrown if the refresh interval of {@link ReferenceBlockCache} is not positive.
+     */
+    public static final String REFERENCE_BLOCK_CACHE_INVALID_REFRESH_INTERVAL = "Reference block cache refresh interval must be greater than zero.";
+
+    /**
+     * Error message get thrown if the maximum age of the snapshot of {@link ReferenceBlockCache} is lower than its refresh interval.
+     */
+    public static final String REFERENCE_BLOCK_CACHE_INVALID_MAX_AGE = "Reference block cache maximum age must not be lower than its refresh interval.";
+
+    //RequiredKeysCache errors
+    /**
+     * Error message get thrown if the maximum size or the time to live of {@link RequiredKeysCache} is not positive.
+     */
+    public static final String REQUIRED_KEYS_CACHE_INVALID_CONFIG = "Required keys cache maximum size and time to live must be greater than zero.";
+
+    //Batch submission errors
+    /**
+     * Error message get thrown if a concurrency or the max in flight value of {@link BatchConfig} is not positive.
+     */
+    public static final String BATCH_INVALID_CONCURRENCY = "Batch stage concurrency and max in flight must be greater than zero.";
+
+    //ActionTemplate errors
+    /**
+     * Error message get thrown if the ABI given to {@link ActionTemplate} is not a valid JSON ABI.
+     */
+    public static final String ACTION_TEMPLATE_INVALID_ABI = "ABI of contract [%s] is not a valid JSON ABI.";
+
+    /**
+     * Error message get thrown if the action or its struct is not found in the ABI given to {@link ActionTemplate}.
+     */
+    public static final String ACTION_TEMPLATE_STRUCT_NOT_FOUND = "Struct of action [%s] was not found in the ABI of contract [%s].";
+
+    /**
+     * Error message get thrown if the data of the partial action given to {@link ActionTemplate} is not a JSON object.
+     */
+    public static final String ACTION_TEMPLATE_INVALID_DATA = "Data of the action template must be a JSON object of its static fields.";
+
+    /**
+     * Error message get thrown if a field given to {@link ActionTemplate} is not a variable field of the action.
+     */
+    public static final String ACTION_TEMPLATE_UNKNOWN_FIELD = "Field [%s] is not a variable field of the action template.";
+
+    /**
+     * Error message get thrown if a variable field of {@link ActionTemplate} is not bound.
+     */
+    public static final String ACTION_TEMPLATE_MISSING_FIELD = "Variable field [%s] of the action template is not bound.";
+
+    /**
+     * Error message get thrown if {@link ISerializationProvider} fails to serialize a field of {@link ActionTemplate}.
+     */
+    public static final String ACTION_TEMPLATE_SERIALIZE_FIELD_ERROR = "Error happened on serializing field [%s] of the action template.";
+
+    /**
+     * Error message get thrown if {@link IABIProvider} fails to return the ABI of an {@link ActionTemplate}.
+     */
+    public static final String ACTION_TEMPLATE_GET_ABI_ERROR = "Error happened on getting the ABI of contract [%s] for the action template.";
+
+    //CompiledAbi errors
+    /**
+     * Error message get thrown if the ABI given to {@link CompiledAbi#compile(String)} is not a JSON object.
+     */
+    public static final String COMPILE_ABI_INVALID_JSON = "ABI is not a valid JSON ABI.";
+
+    /**
+     * Error message get thrown if a member of the ABI given to {@link CompiledAbi#compile(String)} is missing or has the wrong JSON type.
+     */
+    public static final String COMPILE_ABI_INVALID_MEMBER = "ABI member [%s] is missing or invalid.";
+
+    /**
+     * Error message get thrown if a type alias of the ABI given to {@link CompiledAbi#compile(String)} refers to itself.
+     */
+    public static final String COMPILE_ABI_CIRCULAR_TYPE = "Type alias [%s] of the ABI refers to itself.";
+
+    /**
+     * Error message get thrown if a struct of the ABI given to {@link CompiledAbi#compile(String)} inherits from itself.
+     */
+    public static final String COMPILE_ABI_CIRCULAR_STRUCT = "Struct [%s] of the ABI inherits from itself.";
+
+    /**
+     * Error message get thrown if the base of a struct of the ABI given to {@link CompiledAbi#compile(String)} is not found.
+     */
+    public static final String COMPILE_ABI_UNKNOWN_BASE = "Base [%s] of struct [%s] was not found in the ABI.";
+
+    /**
+     * Error message get thrown if {@link IABIProvider#getCompiledAbi(String, ARISENName)} fails to compile the ABI.
+     */
+    public static final String ERROR_COMPILING_ABI = "Error compiling the ABI of contract [%s].";
+
+    //SerializationProviderImpl errors
+    /**
+     * Error message get thrown if {@link SerializationProviderImpl} fails to serialize a JSON value.
+     */
+    public static final String SERIALIZATION_PROVIDER_SERIALIZE_ERROR = "Error happened on serializing JSON of type [%s].";
+
+    /**
+     * Error message get thrown if {@link SerializationProviderImpl} fails to deserialize a hex value.
+     */
+    public static final String SERIALIZATION_PROVIDER_DESERIALIZE_ERROR = "Error happened on deserializing hex of type [%s].";
+
+    /**
+     * Error message get thrown if the ABI given to {@link SerializationProviderImpl} is not a valid JSON ABI.
+     */
+    public static final String SERIALIZATION_PROVIDER_INVALID_ABI = "ABI of contract [%s] is not a valid JSON ABI.";
+
+    /**
+     * Error message get thrown if the action to serialize with {@link SerializationProviderImpl} is not found in the ABI.
+     */
+    public static final String SERIALIZATION_PROVIDER_UNKNOWN_ACTION = "Action [%s] was not found in the ABI of contract [%s].";
+
+    /**
+     * Error message get thrown if a type to serialize with {@link SerializationProviderImpl} is not defined.
+     */
+    public static final String SERIALIZATION_PROVIDER_UNKNOWN_TYPE = "Type [%s] is not a built-in type nor defined in the ABI.";
+
+    /**
+     * Error message get thrown if a JSON value given to {@link SerializationProviderImpl} doesn't match its type.
+     */
+    public static final String SERIALIZATION_PROVIDER_INVALID_VALUE = "Value [%s] is not a valid [%s].";
+
+    /**
+     * Error message get thrown if the data given to {@link SerializationProviderImpl} is not a valid binary value of its type.
+     */
+    public static final String SERIALIZATION_PROVIDER_INVALID_DATA = "Data is not a valid binary [%s].";
+
+    /**
+     * Error message get thrown if the data given to {@link SerializationProviderImpl} ends before the value.
+     */
+    public static final String SERIALIZATION_PROVIDER_END_OF_DATA = "Data ended before the end of the value.";
+
+    /**
+     * Error message get thrown if the data given to {@link SerializationProviderImpl} has bytes after the value.
+     */
+    public static final String SERIALIZATION_PROVIDER_EXTRA_DATA = "Data has %d bytes left after the value.";
+
+    /**
+     * Error message get thrown if a struct field is missing from the JSON given to {@link SerializationProviderImpl}.
+     */
+    public static final String SERIALIZATION_PROVIDER_MISSING_FIELD = "Field [%s] of struct [%s] is missing.";
+
+    /**
+     * Error message get thrown if a struct field follows a missing binary extension field in the JSON given to {@link SerializationProviderImpl}.
+     */
+    public static final String SERIALIZATION_PROVIDER_FIELD_AFTER_MISSING_EXTENSION = "Field [%s] of struct [%s] follows a missing binary extension field.";
+
+    /**
+     * Error message get thrown if the type of a variant value given to {@link SerializationProviderImpl} is not a type of the variant.
+     */
+    public static final String SERIALIZATION_PROVIDER_UNKNOWN_VARIANT_TYPE = "Type [%s] is not a type of variant [%s].";
+
+    /**
+     * Error message get thrown if a value given to {@link SerializationProviderImpl} nests types too deeply.
+     */
+    public static final String SERIALIZATION_PROVIDER_TYPE_TOO_DEEP = "Type [%s] is nested too deeply.";
+
+    //AbiClassGenerator errors
+    /**
+     * Error message get thrown if the ABI given to {@link AbiClassGenerator} is not a valid JSON ABI.
+     */
+    public static final String ABI_CLASS_GENERATOR_INVALID_ABI = "ABI is not a valid JSON ABI.";
+
+    /**
+     * Error message get thrown if {@link AbiClassGenerator} can't generate the Java type of a field, like a variant.
+     */
+    public static final String ABI_CLASS_GENERATOR_UNSUPPORTED_TYPE = "Type [%s] of field [%s] of struct [%s] is not supported.";
+
+    /**
+     * Error message get thrown if {@link AbiClassGenerator} fails to read the ABI file or write a generated class.
+     */
+    public static final String ABI_CLASS_GENERATOR_IO_ERROR = "Error happened on reading or writing file [%s].";
+
+    //PackedTransaction errors
+    /**
+     * Error message get thrown if the data given to {@link PackedTransaction} is not a valid packed transaction.
+     */
+    public static final String PACKED_TRANSACTION_INVALID_DATA = "Data is not a valid packed transaction.";
+
+    /**
+     * Error message get thrown if a {@link PackedTransaction} with transaction extensions is converted to a Transaction, which can't hold them.
+     */
+    public static final String PACKED_TRANSACTION_EXTENSIONS_NOT_SUPPORTED = "Transaction extensions can't be converted to a Transaction.";
+
+    //ByteFormatter errors
+    /**
+     * Error message get thrown if a hex string given to {@link ByteFormatter} has an odd length.
+     */
+    public static final String BYTE_FORMATTER_ODD_HEX_LENGTH = "Hex string has an odd length of %d.";
+
+    /**
+     * Error message get thrown if a hex string given to {@link ByteFormatter} has a character which is not a hex digit.
+     */
+    public static final String BYTE_FORMATTER_INVALID_HEX_CHARACTER = "Invalid hex character at index %d.";
+
+    /**
+     * Error message get thrown if a base64 string given to {@link ByteFormatter} has a character which is not a base64 digit, padding or whitespace.
+     */
+    public static final String BYTE_FORMATTER_INVALID_BASE64_CHARACTER = "Invalid base64 character at index %d.";
+
+    /**
+     * Error message get thrown if a base64 string given to {@link ByteFormatter} ends with a single digit, which can't encode a byte.
+     */
+    public static final String BYTE_FORMATTER_TRUNCATED_BASE64 = "Base64 string is truncated.";
+
+    //ARISENName errors
+    /**
+     * Error message get thrown if the name given to {@link ARISENName} is not a valid name.
+     */
+    public static final String ARISEN_NAME_INVALID = "[%s] is not a valid name: up to 13 characters from .12345abcdefghijklmnopqrstuvwxyz, the 13th one up to j, not ending with a dot.";
+
+    //Asset errors
+    /**
+     * Error message get thrown if the string given to {@link Asset} is not a valid asset.
+     */
+    public static final String ASSET_INVALID = "[%s] is not a valid asset.";
+
+    /**
+     * Error message get thrown if the amount of an {@link Asset} is out of the range allowed by the chain.
+     */
+    public static final String ASSET_AMOUNT_OUT_OF_RANGE = "Asset amount is out of range.";
+
+    /**
+     * Error message get thrown if {@link Asset} arithmetic combines assets of different symbols.
+     */
+    public static final String ASSET_SYMBOL_MISMATCH = "Assets of symbols [%s] and [%s] can't be combined.";
+
+    /**
+     * Error message get thrown if the value given to {@link Symbol} is not a valid symbol or symbol code.
+     */
+    public static final String SYMBOL_INVALID = "[%s] is not a valid symbol.";
 }
@@ -0,0 +1,26 @@
+package one.block.arisenjava.error.abiProvider;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Error class is used when an ABI in JSON format can't be compiled into a
+ * {@link one.block.arisenjava.models.abi.CompiledAbi}.
+ */
+public class CompileAbiError extends AbiProviderError {
+
+    public CompileAbiError() {
+    }
+
+    public CompileAbiError(@NotNull String message) {
+        super(message);
+    }
+
+    public CompileAbiError(@NotNull String message,
+            @NotNull Exception exception) {
+        super(message, exception);
+    }
+
+    public CompileAbiError(@NotNull Exception exception) {
+        super(exception);
+    }
+}
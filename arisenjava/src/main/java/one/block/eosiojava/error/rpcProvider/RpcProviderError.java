@@ -1,7 +1,9 @@
 package one.block.arisenjava.error.rpcProvider;
 
 import one.block.arisenjava.error.ArisenError;
+import one.block.arisenjava.models.rpcProvider.response.RPCResponseError;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Error class is used when there is an exception while attempting to use any RPC call.
@@ -10,6 +12,13 @@ import org.jetbrains.annotations.NotNull;
  */
 public class RpcProviderError extends ArisenError {
 
+    /**
+     * Error response returned by the chain, if the RPC provider parsed it.  It is used to recognize
+     * errors like missing authority or duplicate transaction.
+     */
+    @Nullable
+    private transient RPCResponseError rpcResponseError;
+
     public RpcProviderError() {
     }
 
@@ -25,4 +34,24 @@ public class RpcProviderError extends ArisenError {
     public RpcProviderError(@NotNull Exception exception) {
         super(exception);
     }
+
+    /**
+     * Gets the error response returned by the chain.
+     *
+     * @return the error response, null if the RPC provider did not set it.
+     */
+    @Nullable
+    public RPCResponseError getRpcResponseError() {
+        return rpcResponseError;
+    }
+
+    /**
+     * Sets the error response returned by the chain.  RPC providers should set it when the chain
+     * returns an error response, so callers can recognize the error without parsing messages.
+     *
+     * @param rpcResponseError the error response.
+     */
+    public void setRpcResponseError(@Nullable RPCResponseError rpcResponseError) {
+        this.rpcResponseError = rpcResponseError;
+    }
 }
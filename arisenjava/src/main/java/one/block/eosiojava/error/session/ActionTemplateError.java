@@ -0,0 +1,27 @@
+package one.block.arisenjava.error.session;
+
+import one.block.arisenjava.error.ArisenError;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Error class is used when there is an exception while attempting to compile or bind an
+ * {@link one.block.arisenjava.session.ActionTemplate}
+ */
+public class ActionTemplateError extends ArisenError {
+
+    public ActionTemplateError() {
+    }
+
+    public ActionTemplateError(@NotNull String message) {
+        super(message);
+    }
+
+    public ActionTemplateError(@NotNull String message,
+            @NotNull Exception exception) {
+        super(message, exception);
+    }
+
+    public ActionTemplateError(@NotNull Exception exception) {
+        super(exception);
+    }
+}
@@ -0,0 +1,27 @@
+package one.block.arisenjava.error.utilities;
+
+import one.block.arisenjava.error.ArisenError;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Error class is used when there is an exception while generating Java classes from an ABI with
+ * {@link one.block.arisenjava.utilities.AbiClassGenerator}
+ */
+public class AbiClassGeneratorError extends ArisenError {
+
+    public AbiClassGeneratorError() {
+    }
+
+    public AbiClassGeneratorError(@NotNull String message) {
+        super(message);
+    }
+
+    public AbiClassGeneratorError(@NotNull String message,
+            @NotNull Exception exception) {
+        super(message, exception);
+    }
+
+    public AbiClassGeneratorError(@NotNull Exception exception) {
+        super(exception);
+    }
+}
@@ -15,7 +15,7 @@ import org.jetbrains.annotations.NotNull;
  * <br>
  *     * The signature must be recreated and tested to pass this exception.
  */
-public class RixFormatterSignatureIsNotCanonicalError extends RixFormatterError{
+public class RixFormatterSignatureIsNotCanonicalError extends RIXFormatterError{
     public RixFormatterSignatureIsNotCanonicalError() {
     }
 
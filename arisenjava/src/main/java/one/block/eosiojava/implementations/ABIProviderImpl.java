@@ -5,33 +5,88 @@
 package one.block.arisenjava.implementations;
 
 import com.google.common.base.Strings;
-import java.util.ArrayList;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.Weigher;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import one.block.arisenjava.error.ErrorConstants;
+import one.block.arisenjava.error.abiProvider.CompileAbiError;
 import one.block.arisenjava.error.abiProvider.GetAbiError;
+import one.block.arisenjava.error.serializationProvider.DeserializeAbiError;
 import one.block.arisenjava.interfaces.IABIProvider;
 import one.block.arisenjava.interfaces.IRPCProvider;
 import one.block.arisenjava.interfaces.ISerializationProvider;
 import one.block.arisenjava.models.ARISENName;
+import one.block.arisenjava.models.AbiFetchResult;
+import one.block.arisenjava.models.abi.CompiledAbi;
 import one.block.arisenjava.models.rpcProvider.request.GetRawAbiRequest;
 import one.block.arisenjava.models.rpcProvider.response.GetRawAbiResponse;
 import one.block.arisenjava.utilities.ByteFormatter;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Default ABI Provider implementation, providing in memory caching of previously fetched
  * ABI's as well as fetching of ABI's using the provided RPC provider.
+ * <p>
+ * The cache is unbounded by default.  It can be bounded by number of entries or estimated memory and
+ * given a time to live with {@link AbiCacheConfig}.  It can also be backed by an {@link AbiFileStore}
+ * so ABIs fetched by a previous process are reused without calling the chain.  The store is read
+ * the first time an ABI is missing from the cache only, later misses fetch from the chain so an
+ * expired ABI is refreshed.  Stored ABIs are verified against their hash like fetched ones.
+ * <p>
+ * With a revalidation interval, a cached ABI is kept until its hash changes on the chain: the first
+ * use after the interval returns the cached ABI and checks its hash in the background, and the ABI is
+ * only downloaded and deserialized again if the hash changed.  ABIs read from the persistent store
+ * are checked on their first use.
  */
 
 public class ABIProviderImpl implements IABIProvider {
 
     private @NotNull IRPCProvider rpcProvider;
     private @NotNull ISerializationProvider serializationProvider;
-    private @NotNull Map<String, String> abiCache = new ConcurrentHashMap<>();
+    private @NotNull Cache<AbiCacheKey, CachedAbi> abiCache;
+    private @Nullable AbiFileStore abiStore;
+    private final long revalidationIntervalNanos;
+
+    /**
+     * Cache keys already looked up in the persistent store.
+     */
+    private final @NotNull Set<AbiCacheKey> storeReadKeys = Collections
+            .newSetFromMap(new ConcurrentHashMap<AbiCacheKey, Boolean>());
+
+    /**
+     * Default maximum number of ABIs fetched concurrently by a getAbis call.
+     */
+    private static final int DEFAULT_MAX_CONCURRENT_ABI_FETCHES = 4;
+
+    private int maxConcurrentAbiFetches = DEFAULT_MAX_CONCURRENT_ABI_FETCHES;
+    private @Nullable Executor abiFetchExecutor;
 
     /**
      * Initialize a new ABI Provider, passing the necessary RPC provider to fetch ABI's
@@ -44,8 +99,54 @@ public class ABIProviderImpl implements IABIProvider {
      */
     public ABIProviderImpl(@NotNull IRPCProvider rpcProvider,
             @NotNull ISerializationProvider serializationProvider) {
+        this(rpcProvider, serializationProvider, new AbiCacheConfig());
+    }
+
+    /**
+     * Initialize a new ABI Provider with a bounded or expiring cache.
+     *
+     * @param rpcProvider RPC provider implementation to use to fetch ABIs if they are not
+     * in the cache.
+     * @param serializationProvider Serialization provider implementation to use to deserialize
+     * the ABIs for return and storage in the cache.
+     * @param abiCacheConfig configuration of the ABI cache.
+     * @throws IllegalArgumentException if a bound or the time to live is negative, or if the cache is
+     * bounded both by entries and by memory.
+     */
+    public ABIProviderImpl(@NotNull IRPCProvider rpcProvider,
+            @NotNull ISerializationProvider serializationProvider,
+            @NotNull AbiCacheConfig abiCacheConfig) {
         this.rpcProvider = rpcProvider;
         this.serializationProvider = serializationProvider;
+        this.abiCache = createAbiCache(abiCacheConfig);
+        this.revalidationIntervalNanos = TimeUnit.MILLISECONDS
+                .toNanos(abiCacheConfig.getRevalidationIntervalMillis());
+        if (abiCacheConfig.getStoreFile() != null) {
+            this.abiStore = new AbiFileStore(abiCacheConfig.getStoreFile());
+        }
+    }
+
+    /**
+     * Gets a snapshot of the statistics of the ABI cache.
+     *
+     * @return the ABI cache statistics.
+     */
+    public @NotNull AbiCacheStats getAbiCacheStats() {
+        long estimatedBytes = 0;
+        for (Map.Entry<AbiCacheKey, CachedAbi> entry : this.abiCache.asMap().entrySet()) {
+            estimatedBytes += estimateBytes(entry.getKey(), entry.getValue());
+        }
+
+        CacheStats cacheStats = this.abiCache.stats();
+        return new AbiCacheStats(cacheStats.hitCount(), cacheStats.missCount(),
+                cacheStats.evictionCount(), this.abiCache.size(), estimatedBytes);
+    }
+
+    /**
+     * Remove all cached ABIs, so they are fetched again from the chain on their next use.
+     */
+    public void invalidateAbiCache() {
+        this.abiCache.invalidateAll();
     }
 
     /**
@@ -53,25 +154,143 @@ public class ABIProviderImpl implements IABIProvider {
      * will be checked first and any missing ABIs will be fetched via the RPC provider and placed
      * in the cache.  This call is synchronous.  Developers should wrap it
      * in an asynchronous mechanism to avoid blocking if necessary.
+     * <p>
+     * Missing ABIs are fetched concurrently, at most
+     * {@link ABIProviderImpl#getMaxConcurrentAbiFetches()} at a time.
      *
      * @param chainId the chain id
      * @param accounts the accounts - duplicate names will be removed
      * @return Map of ABIs keyed by the account
-     * @throws GetAbiError If there is an error retrieving or deserializing any of the ABIs
+     * @throws GetAbiError If there is an error retrieving or deserializing any of the ABIs.  If
+     * several fail, the error of the first failing account in the input order is thrown.
      */
     @Override
     public @NotNull Map<String, String> getAbis(@NotNull String chainId,
             @NotNull List<ARISENName> accounts) throws GetAbiError {
+        AbiFetchResult abiFetchResult = this.fetchAbis(chainId, accounts, false, 0);
+        for (ARISENName account : accounts) {
+            GetAbiError getAbiError = abiFetchResult.getError(account.getAccountName());
+            if (getAbiError != null) {
+                throw getAbiError;
+            }
+        }
 
-        Map<String, String> returnAbis = new HashMap<>();
-        List<ARISENName> uniqAccounts = new ArrayList<>(new HashSet<>(accounts));
+        return new HashMap<>(abiFetchResult.getAbis());
+    }
+
+    /**
+     * Return the ABIs which could be fetched within a deadline and the error of each other account.
+     * Cached ABIs are returned directly and missing ABIs are fetched concurrently, at most
+     * {@link ABIProviderImpl#getMaxConcurrentAbiFetches()} at a time.  Fetches still running at the
+     * deadline are reported as errors but complete in the background and fill the cache.
+     *
+     * @param chainId the chain id
+     * @param accounts the accounts - duplicate names will be removed
+     * @param timeout the overall time allowed to fetch the ABIs
+     * @param timeUnit the unit of the timeout
+     * @return the fetched ABIs and the errors by account name
+     */
+    @Override
+    public @NotNull AbiFetchResult getAbis(@NotNull String chainId,
+            @NotNull List<ARISENName> accounts, long timeout, @NotNull TimeUnit timeUnit) {
+        return this.fetchAbis(chainId, accounts, true, System.nanoTime() + timeUnit.toNanos(timeout));
+    }
+
+    /**
+     * Start fetching and compiling the ABIs of accounts in the background, so the first
+     * transactions calling their contracts don't wait for them.  The ABIs are fetched concurrently,
+     * at most {@link ABIProviderImpl#getMaxConcurrentAbiFetches()} at a time, on the fetch executor.
+     * ABIs already cached are only compiled if needed.
+     *
+     * @param chainId the chain id
+     * @param accounts the accounts - duplicate names will be removed
+     * @return the progress of the warmup, to wait for it or check whether it is ready
+     */
+    public @NotNull AbiWarmup warmUp(@NotNull final String chainId,
+            @NotNull List<ARISENName> accounts) {
+        final Queue<ARISENName> pendingAccounts = new ConcurrentLinkedQueue<>(
+                new LinkedHashSet<>(accounts));
+        final Map<String, String> abis = new ConcurrentHashMap<>();
+        final Map<String, GetAbiError> errors = new ConcurrentHashMap<>();
+        final AbiWarmup abiWarmup = new AbiWarmup(pendingAccounts.size());
 
-        for (ARISENName account : uniqAccounts) {
-            String abiJsonString = getAbi(chainId, account);
-            returnAbis.put(account.getAccountName(), abiJsonString);
+        int workerCount = Math.min(this.maxConcurrentAbiFetches, pendingAccounts.size());
+        if (workerCount == 0) {
+            abiWarmup.complete(new AbiFetchResult(abis, errors));
+            return abiWarmup;
+        }
+
+        // The last worker to run out of accounts completes the warmup
+        final AtomicInteger runningWorkers = new AtomicInteger(workerCount);
+        Runnable worker = new Runnable() {
+            @Override
+            public void run() {
+                ARISENName account;
+                while ((account = pendingAccounts.poll()) != null) {
+                    try {
+                        abis.put(account.getAccountName(),
+                                getCompiledAbi(chainId, account).getAbiJson());
+                    } catch (GetAbiError getAbiError) {
+                        errors.put(account.getAccountName(), getAbiError);
+                    } catch (RuntimeException runtimeException) {
+                        errors.put(account.getAccountName(), new GetAbiError(
+                                ErrorConstants.ERROR_RETRIEVING_ABI, runtimeException));
+                    }
+                }
+
+                if (runningWorkers.decrementAndGet() == 0) {
+                    abiWarmup.complete(new AbiFetchResult(new HashMap<>(abis),
+                            new HashMap<>(errors)));
+                }
+            }
+        };
+
+        Executor executor = this.abiFetchExecutor != null ? this.abiFetchExecutor
+                : DefaultAbiFetchExecutor.INSTANCE;
+        for (int i = 0; i < workerCount; i++) {
+            try {
+                executor.execute(worker);
+            } catch (RejectedExecutionException rejectedExecutionException) {
+                worker.run();
+            }
+        }
+
+        return abiWarmup;
+    }
+
+    /**
+     * Gets the maximum number of ABIs fetched concurrently by a getAbis call or a warmup.
+     *
+     * @return the maximum number of concurrent fetches.
+     */
+    public int getMaxConcurrentAbiFetches() {
+        return maxConcurrentAbiFetches;
+    }
+
+    /**
+     * Sets the maximum number of ABIs fetched concurrently by a getAbis call or a warmup.  Default
+     * is 4.
+     *
+     * @param maxConcurrentAbiFetches the maximum number of concurrent fetches.
+     * @throws IllegalArgumentException if the value is not positive.
+     */
+    public void setMaxConcurrentAbiFetches(int maxConcurrentAbiFetches) {
+        if (maxConcurrentAbiFetches <= 0) {
+            throw new IllegalArgumentException(ErrorConstants.ABI_INVALID_MAX_CONCURRENT_FETCHES);
         }
 
-        return returnAbis;
+        this.maxConcurrentAbiFetches = maxConcurrentAbiFetches;
+    }
+
+    /**
+     * Sets the executor running the concurrent fetches of getAbis, the warmups and the background
+     * revalidations.
+     * By default they run on a shared pool of daemon threads.
+     *
+     * @param abiFetchExecutor the executor, null for the default pool.
+     */
+    public void setAbiFetchExecutor(@Nullable Executor abiFetchExecutor) {
+        this.abiFetchExecutor = abiFetchExecutor;
     }
 
     /**
@@ -79,6 +298,14 @@ public class ABIProviderImpl implements IABIProvider {
      * will be checked first and if missing the ABI will be fetched via the RPC provider
      * and placed in the cache.  This call is synchronous.  Developers should wrap it
      * in an asynchronous mechanism to avoid blocking if necessary.
+     * <p>
+     * Concurrent calls missing the same ABI share a single fetch: one caller fetches and
+     * deserializes the ABI while the others wait for its result.  A failed fetch is reported to
+     * every waiting caller and is not cached, so the next call fetches again.
+     * <p>
+     * If the revalidation interval has elapsed since the ABI was last validated, the cached ABI is
+     * returned and its hash is checked in the background.
+     *
      * @param chainId the chain id
      * @param account the account
      * @return abiJsonString - the deserialized JSON string for the requested ABI
@@ -87,50 +314,516 @@ public class ABIProviderImpl implements IABIProvider {
     @Override
     public @NotNull String getAbi(@NotNull String chainId, @NotNull ARISENName account)
             throws GetAbiError {
+        return this.getCachedAbi(chainId, account).abiJsonString;
+    }
+
+    /**
+     * The compiled form of each ABI is cached with it.
+     *
+     * @return true.
+     */
+    @Override
+    public boolean isCompiledAbiSupported() {
+        return true;
+    }
+
+    /**
+     * Return a compiled ABI given the chain id and account name desired.  The ABI is retrieved as
+     * by {@link ABIProviderImpl#getAbi(String, ARISENName)} and compiled on its first use, then the
+     * compiled ABI is cached with it.
+     *
+     * @param chainId the chain id
+     * @param account the account
+     * @return the compiled ABI
+     * @throws GetAbiError If there is an error retrieving, deserializing or compiling the ABI.
+     */
+    @Override
+    public @NotNull CompiledAbi getCompiledAbi(@NotNull String chainId,
+            @NotNull ARISENName account) throws GetAbiError {
+        CachedAbi cachedAbi = this.getCachedAbi(chainId, account);
+        synchronized (cachedAbi) {
+            if (cachedAbi.compiledAbi == null) {
+                try {
+                    cachedAbi.compiledAbi = CompiledAbi.compile(cachedAbi.abiJsonString);
+                } catch (CompileAbiError compileAbiError) {
+                    throw new GetAbiError(String.format(ErrorConstants.ERROR_COMPILING_ABI,
+                            account.getAccountName()), compileAbiError);
+                }
+            }
+
+            return cachedAbi.compiledAbi;
+        }
+    }
+
+    /**
+     * Return the cache entry of an ABI, fetching it if missing, and revalidate it in the background
+     * if it is due.
+     *
+     * @param chainId the chain id
+     * @param account the account
+     * @return the cached ABI
+     * @throws GetAbiError If there is an error retrieving or deserializing the ABI.
+     */
+    private @NotNull CachedAbi getCachedAbi(@NotNull final String chainId,
+            @NotNull final ARISENName account) throws GetAbiError {
+        AbiCacheKey cacheKey = new AbiCacheKey(chainId, account);
+        CachedAbi cachedAbi;
+
+        try {
+            cachedAbi = this.abiCache.get(cacheKey, new Callable<CachedAbi>() {
+                @Override
+                public CachedAbi call() throws GetAbiError {
+                    return fetchAbi(chainId, account);
+                }
+            });
+        } catch (ExecutionException | UncheckedExecutionException executionException) {
+            if (executionException.getCause() instanceof GetAbiError) {
+                throw (GetAbiError) executionException.getCause();
+            }
+
+            throw new GetAbiError(ErrorConstants.ERROR_RETRIEVING_ABI, executionException);
+        }
+
+        this.revalidateInBackground(chainId, account, cachedAbi);
+        return cachedAbi;
+    }
+
+    /**
+     * Read an ABI from the persistent store or else fetch it via the RPC provider.
+     *
+     * @param chainId the chain id
+     * @param account the account
+     * @return the verified and deserialized ABI
+     * @throws GetAbiError If there is an error retrieving or deserializing the ABI.
+     */
+    private @NotNull CachedAbi fetchAbi(@NotNull String chainId, @NotNull ARISENName account)
+            throws GetAbiError {
+        CachedAbi storedAbi = this.readStoredAbi(chainId, account);
+        if (storedAbi != null) {
+            return storedAbi;
+        }
+
+        try {
+            GetRawAbiRequest getRawAbiRequest = new GetRawAbiRequest(account.getAccountName());
+            return this.readAbiResponse(chainId, account, this.rpcProvider.getRawAbi(getRawAbiRequest));
+        } catch (Exception ex) {
+            throw new GetAbiError(ErrorConstants.ERROR_RETRIEVING_ABI, ex);
+        }
+    }
+
+    /**
+     * Verify the hash and account name of a fetched ABI, deserialize it and append it to the
+     * persistent store.
+     *
+     * @param chainId the chain id
+     * @param account the account
+     * @param getRawAbiResponse the response of the RPC provider
+     * @return the verified and deserialized ABI
+     * @throws GetAbiError If the response is missing, the ABI doesn't match its hash or account, or
+     * it is empty once deserialized.
+     * @throws DeserializeAbiError If the ABI can't be deserialized.
+     */
+    private @NotNull CachedAbi readAbiResponse(@NotNull String chainId, @NotNull ARISENName account,
+            @Nullable GetRawAbiResponse getRawAbiResponse) throws GetAbiError, DeserializeAbiError {
+        if (getRawAbiResponse == null) {
+            throw new GetAbiError(ErrorConstants.NO_RESPONSE_RETRIEVING_ABI);
+        }
 
-        String abiJsonString;
-        String cacheKey = chainId + account.getAccountName();
+        String abi = getRawAbiResponse.getAbi();
+        if (Strings.isNullOrEmpty(abi)) {
+            throw new GetAbiError(ErrorConstants.MISSING_ABI_FROM_RESPONSE);
+        }
+
+        ByteFormatter abiByteFormatter = ByteFormatter.createFromBase64(abi);
+        verifyAbiHash(abiByteFormatter, getRawAbiResponse.getAbiHash());
+
+        if (!account.getAccountName().equals(getRawAbiResponse.getAccountName())) {
+            throw new GetAbiError(ErrorConstants.REQUESTED_ACCCOUNT_NOT_EQUAL_RETURNED);
+        }
+
+        String abiJsonString = this.deserializeRawAbi(abiByteFormatter);
+        if (abiJsonString.isEmpty()) {
+            throw new GetAbiError(ErrorConstants.NO_ABI_FOUND);
+        }
+
+        String abiHash = getRawAbiResponse.getAbiHash().toLowerCase();
+        this.writeStoredAbi(chainId, account, abiHash, abiByteFormatter);
+        return new CachedAbi(abiJsonString, abiHash, System.nanoTime());
+    }
+
+    /**
+     * Schedule the revalidation of a cached ABI if revalidation is enabled, the interval has elapsed
+     * since it was last validated and it is not already being revalidated.
+     *
+     * @param chainId the chain id
+     * @param account the account
+     * @param cachedAbi the cached ABI
+     */
+    private void revalidateInBackground(@NotNull final String chainId,
+            @NotNull final ARISENName account, @NotNull final CachedAbi cachedAbi) {
+        if (this.revalidationIntervalNanos == 0
+                || System.nanoTime() - cachedAbi.validatedAtNanos < this.revalidationIntervalNanos
+                || !cachedAbi.revalidating.compareAndSet(false, true)) {
+            return;
+        }
+
+        Executor executor = this.abiFetchExecutor != null ? this.abiFetchExecutor
+                : DefaultAbiFetchExecutor.INSTANCE;
+        try {
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        revalidateAbi(chainId, account, cachedAbi);
+                    } finally {
+                        cachedAbi.revalidating.set(false);
+                    }
+                }
+            });
+        } catch (RejectedExecutionException rejectedExecutionException) {
+            cachedAbi.revalidating.set(false);
+        }
+    }
+
+    /**
+     * Check the hash of a cached ABI against the chain and replace the cached ABI if it changed.
+     * The request carries the cached hash, so the node only returns the ABI if it changed.
+     *
+     * @param chainId the chain id
+     * @param account the account
+     * @param cachedAbi the cached ABI
+     */
+    private void revalidateAbi(@NotNull String chainId, @NotNull ARISENName account,
+            @NotNull CachedAbi cachedAbi) {
+        try {
+            GetRawAbiResponse getRawAbiResponse = this.rpcProvider.getRawAbi(
+                    new GetRawAbiRequest(account.getAccountName(), cachedAbi.abiHash));
+            if (getRawAbiResponse != null
+                    && cachedAbi.abiHash.equalsIgnoreCase(getRawAbiResponse.getAbiHash())) {
+                cachedAbi.validatedAtNanos = System.nanoTime();
+                return;
+            }
+
+            if (getRawAbiResponse == null || Strings.isNullOrEmpty(getRawAbiResponse.getAbi())) {
+                getRawAbiResponse = this.rpcProvider
+                        .getRawAbi(new GetRawAbiRequest(account.getAccountName()));
+            }
+
+            CachedAbi updatedAbi = this.readAbiResponse(chainId, account, getRawAbiResponse);
+            // Unless the ABI was invalidated or replaced meanwhile
+            this.abiCache.asMap().replace(new AbiCacheKey(chainId, account), cachedAbi,
+                    updatedAbi);
+        } catch (Exception ex) {
+            // Keep the cached ABI and try again after the next interval
+            cachedAbi.validatedAtNanos = System.nanoTime();
+        }
+    }
 
-        abiJsonString = this.abiCache.get(cacheKey);
-        if (!Strings.isNullOrEmpty(abiJsonString)) {
-            return abiJsonString;
+    /**
+     * Read, verify and deserialize an ABI from the persistent store.
+     *
+     * @param chainId the chain id
+     * @param account the account
+     * @return the verified and deserialized stored ABI, null if there is no store, the store was
+     * already read for this ABI, the ABI is not stored or it can't be read, verified or
+     * deserialized.
+     */
+    private @Nullable CachedAbi readStoredAbi(@NotNull String chainId, @NotNull ARISENName account) {
+        if (this.abiStore == null
+                || !this.storeReadKeys.add(new AbiCacheKey(chainId, account))) {
+            return null;
         }
 
-        GetRawAbiRequest getRawAbiRequest = new GetRawAbiRequest(account.getAccountName());
         try {
-            GetRawAbiResponse getRawAbiResponse = this.rpcProvider.getRawAbi(getRawAbiRequest);
-            if (getRawAbiResponse == null) {
-                throw new GetAbiError(ErrorConstants.NO_RESPONSE_RETRIEVING_ABI);
+            String abiHash = this.abiStore.getAbiHash(chainId, account.getAccountName());
+            byte[] abi = this.abiStore.readAbi(chainId, account.getAccountName());
+            if (abiHash == null || abi == null) {
+                return null;
+            }
+
+            ByteFormatter abiByteFormatter = new ByteFormatter(abi);
+            verifyAbiHash(abiByteFormatter, abiHash);
+            String abiJsonString = this.deserializeRawAbi(abiByteFormatter);
+            // A stored ABI may be outdated, so it is due for revalidation on its first use
+            return abiJsonString.isEmpty() ? null : new CachedAbi(abiJsonString,
+                    abiHash.toLowerCase(), System.nanoTime() - this.revalidationIntervalNanos);
+        } catch (Exception ex) {
+            // The store is only a shortcut: an unreadable or corrupted ABI is fetched from the chain
+            return null;
+        }
+    }
+
+    /**
+     * Append a verified ABI to the persistent store, if any, unless it is already the stored one.
+     *
+     * @param chainId the chain id
+     * @param account the account
+     * @param abiHash the verified hash of the ABI
+     * @param abiByteFormatter the raw ABI
+     */
+    private void writeStoredAbi(@NotNull String chainId, @NotNull ARISENName account,
+            @NotNull String abiHash, @NotNull ByteFormatter abiByteFormatter) {
+        if (this.abiStore == null) {
+            return;
+        }
+
+        try {
+            byte[] abi = abiByteFormatter.toBytes();
+            if (Arrays.equals(abi, this.abiStore.readAbi(chainId, account.getAccountName()))) {
+                return;
+            }
+
+            this.abiStore.writeAbi(chainId, account.getAccountName(), abiHash.toLowerCase(), abi);
+        } catch (IOException ioException) {
+            // A failed write only costs a fetch from the chain after the next restart
+        }
+    }
+
+    /**
+     * Deserialize a raw ABI, as bytes when the serialization provider supports it, otherwise in hex.
+     *
+     * @param abiByteFormatter the raw ABI
+     * @return the ABI in JSON format
+     * @throws DeserializeAbiError If the ABI can't be deserialized.
+     */
+    private @NotNull String deserializeRawAbi(@NotNull ByteFormatter abiByteFormatter)
+            throws DeserializeAbiError {
+        if (this.serializationProvider.isByteSerializationSupported()) {
+            return this.serializationProvider.deserializeAbi(abiByteFormatter.toByteBuffer());
+        }
+
+        return this.serializationProvider.deserializeAbi(abiByteFormatter.toHex());
+    }
+
+    /**
+     * Verify the sha256 hash of a raw ABI.
+     *
+     * @param abiByteFormatter the raw ABI
+     * @param abiHash the expected hash in hex
+     * @throws GetAbiError If the calculated hash does not match the expected one.
+     */
+    private static void verifyAbiHash(@NotNull ByteFormatter abiByteFormatter,
+            @NotNull String abiHash) throws GetAbiError {
+        String calculatedHash = abiByteFormatter.sha256().toHex().toLowerCase();
+        if (!calculatedHash.equals(abiHash.toLowerCase())) {
+            throw new GetAbiError(ErrorConstants.CALCULATED_HASH_NOT_EQUAL_RETURNED);
+        }
+    }
+
+    /**
+     * Fetch the ABIs of the distinct accounts, the missing ones concurrently, and collect the
+     * results and errors by account name.
+     *
+     * @param chainId the chain id
+     * @param accounts the accounts
+     * @param hasDeadline whether the fetch is bounded by the deadline
+     * @param deadline the deadline in {@link System#nanoTime()} time
+     * @return the fetched ABIs and the errors by account name
+     */
+    private @NotNull AbiFetchResult fetchAbis(@NotNull final String chainId,
+            @NotNull List<ARISENName> accounts, final boolean hasDeadline, final long deadline) {
+        Map<String, String> abis = new HashMap<>();
+        Map<String, GetAbiError> errors = new HashMap<>();
+        final Queue<ARISENName> missingAccounts = new ConcurrentLinkedQueue<>();
+        final Map<String, CompletableFuture<String>> fetches = new LinkedHashMap<>();
+
+        for (ARISENName account : new LinkedHashSet<>(accounts)) {
+            if (!this.abiCache.asMap().containsKey(new AbiCacheKey(chainId, account))) {
+                missingAccounts.add(account);
+                fetches.put(account.getAccountName(), new CompletableFuture<String>());
+                continue;
             }
 
-            String abi = getRawAbiResponse.getAbi();
-            if (Strings.isNullOrEmpty(abi)) {
-                throw new GetAbiError(ErrorConstants.MISSING_ABI_FROM_RESPONSE);
+            try {
+                abis.put(account.getAccountName(), this.getAbi(chainId, account));
+            } catch (GetAbiError getAbiError) {
+                errors.put(account.getAccountName(), getAbiError);
             }
+        }
 
-            ByteFormatter abiByteFormatter = ByteFormatter.createFromBase64(abi);
+        // Each worker takes the next missing account until none is left or the deadline passes
+        Runnable worker = new Runnable() {
+            @Override
+            public void run() {
+                ARISENName account;
+                while ((!hasDeadline || System.nanoTime() - deadline < 0)
+                        && (account = missingAccounts.poll()) != null) {
+                    CompletableFuture<String> fetch = fetches.get(account.getAccountName());
+                    try {
+                        fetch.complete(getAbi(chainId, account));
+                    } catch (GetAbiError getAbiError) {
+                        fetch.completeExceptionally(getAbiError);
+                    } catch (RuntimeException runtimeException) {
+                        fetch.completeExceptionally(new GetAbiError(
+                                ErrorConstants.ERROR_RETRIEVING_ABI, runtimeException));
+                    }
+                }
+            }
+        };
 
-            String calculatedHash = abiByteFormatter.sha256().toHex().toLowerCase();
-            String verificationHash = getRawAbiResponse.getAbiHash().toLowerCase();
-            if (!calculatedHash.equals(verificationHash)) {
-                throw new GetAbiError(ErrorConstants.CALCULATED_HASH_NOT_EQUAL_RETURNED);
+        Executor executor = this.abiFetchExecutor != null ? this.abiFetchExecutor
+                : DefaultAbiFetchExecutor.INSTANCE;
+        int workerCount = Math.min(this.maxConcurrentAbiFetches, missingAccounts.size());
+        for (int i = 0; i < workerCount; i++) {
+            try {
+                executor.execute(worker);
+            } catch (RejectedExecutionException rejectedExecutionException) {
+                worker.run();
             }
+        }
 
-            if (!account.getAccountName().equals(getRawAbiResponse.getAccountName())) {
-                throw new GetAbiError(ErrorConstants.REQUESTED_ACCCOUNT_NOT_EQUAL_RETURNED);
+        for (Map.Entry<String, CompletableFuture<String>> fetch : fetches.entrySet()) {
+            String accountName = fetch.getKey();
+            try {
+                abis.put(accountName, hasDeadline
+                        ? fetch.getValue().get(Math.max(0, deadline - System.nanoTime()),
+                        TimeUnit.NANOSECONDS)
+                        : fetch.getValue().get());
+            } catch (ExecutionException executionException) {
+                errors.put(accountName, executionException.getCause() instanceof GetAbiError
+                        ? (GetAbiError) executionException.getCause()
+                        : new GetAbiError(ErrorConstants.ERROR_RETRIEVING_ABI, executionException));
+            } catch (TimeoutException timeoutException) {
+                errors.put(accountName, new GetAbiError(String.format(
+                        ErrorConstants.ABI_FETCH_DEADLINE_EXCEEDED, accountName)));
+            } catch (InterruptedException interruptedException) {
+                Thread.currentThread().interrupt();
+                errors.put(accountName, new GetAbiError(String.format(
+                        ErrorConstants.ABI_FETCH_INTERRUPTED, accountName), interruptedException));
             }
+        }
+
+        return new AbiFetchResult(abis, errors);
+    }
+
+    /**
+     * Create the ABI cache from its configuration.
+     */
+    private static @NotNull Cache<AbiCacheKey, CachedAbi> createAbiCache(
+            @NotNull AbiCacheConfig abiCacheConfig) {
+        if (abiCacheConfig.getMaximumEntries() < 0 || abiCacheConfig.getMaximumBytes() < 0
+                || abiCacheConfig.getTimeToLiveMillis() < 0
+                || abiCacheConfig.getRevalidationIntervalMillis() < 0
+                || (abiCacheConfig.getMaximumEntries() > 0
+                && abiCacheConfig.getMaximumBytes() > 0)) {
+            throw new IllegalArgumentException(ErrorConstants.ABI_CACHE_INVALID_CONFIG);
+        }
+
+        CacheBuilder<Object, Object> cacheBuilder = CacheBuilder.newBuilder().recordStats();
+        if (abiCacheConfig.getMaximumEntries() > 0 || abiCacheConfig.getMaximumBytes() > 0) {
+            // A single segment applies the bound and the LRU order to the whole cache instead of
+            // splitting them between segments.  ABIs are rarely written so this costs no contention.
+            cacheBuilder.concurrencyLevel(1);
+        }
+
+        if (abiCacheConfig.getMaximumEntries() > 0) {
+            cacheBuilder.maximumSize(abiCacheConfig.getMaximumEntries());
+        }
+
+        if (abiCacheConfig.getTimeToLiveMillis() > 0) {
+            cacheBuilder.expireAfterWrite(abiCacheConfig.getTimeToLiveMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        if (abiCacheConfig.getMaximumBytes() > 0) {
+            return cacheBuilder.maximumWeight(abiCacheConfig.getMaximumBytes())
+                    .weigher(new Weigher<AbiCacheKey, CachedAbi>() {
+                        @Override
+                        public int weigh(AbiCacheKey key, CachedAbi value) {
+                            return (int) Math.min(Integer.MAX_VALUE, estimateBytes(key, value));
+                        }
+                    })
+                    .build();
+        }
 
-            abiJsonString = this.serializationProvider.deserializeAbi(abiByteFormatter.toHex());
-            if (abiJsonString.isEmpty()) {
-                throw new GetAbiError(ErrorConstants.NO_ABI_FOUND);
+        return cacheBuilder.build();
+    }
+
+    /**
+     * Estimate the memory of a cache entry: two bytes per character of the chain id and the ABI
+     * JSON, and the 64 bit account name.
+     */
+    private static long estimateBytes(@NotNull AbiCacheKey key, @NotNull CachedAbi cachedAbi) {
+        return 2L * (key.chainId.length() + cachedAbi.abiJsonString.length()) + Long.SIZE / 8;
+    }
+
+    /**
+     * Key of a cached ABI: the chain id and the account name in its 64 bit format, so looking up
+     * an ABI doesn't build a string.
+     */
+    private static final class AbiCacheKey {
+
+        @NotNull
+        private final String chainId;
+
+        private final long account;
+
+        AbiCacheKey(@NotNull String chainId, @NotNull ARISENName account) {
+            this.chainId = chainId;
+            this.account = account.toLong();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
             }
+            AbiCacheKey abiCacheKey = (AbiCacheKey) o;
+            return account == abiCacheKey.account && chainId.equals(abiCacheKey.chainId);
+        }
 
-            this.abiCache.put(cacheKey, abiJsonString);
+        @Override
+        public int hashCode() {
+            return 31 * chainId.hashCode() + (int) (account ^ (account >>> 32));
+        }
+    }
 
-        } catch (Exception ex) {
-            throw new GetAbiError(ErrorConstants.ERROR_RETRIEVING_ABI, ex);
+    /**
+     * Cached ABI with the hash it was verified against and its compiled form.
+     */
+    private static final class CachedAbi {
+
+        @NotNull
+        private final String abiJsonString;
+
+        @NotNull
+        private final String abiHash;
+
+        /**
+         * Last time the hash was validated against the chain, in {@link System#nanoTime()} time.
+         */
+        private volatile long validatedAtNanos;
+
+        /**
+         * Compiled ABI, null until first requested.  Guarded by the cached ABI.
+         */
+        @Nullable
+        private CompiledAbi compiledAbi;
+
+        /**
+         * Whether a revalidation is scheduled or running.
+         */
+        private final AtomicBoolean revalidating = new AtomicBoolean();
+
+        CachedAbi(@NotNull String abiJsonString, @NotNull String abiHash, long validatedAtNanos) {
+            this.abiJsonString = abiJsonString;
+            this.abiHash = abiHash;
+            this.validatedAtNanos = validatedAtNanos;
         }
+    }
+
+    /**
+     * Shared pool of daemon threads running the concurrent fetches of getAbis when no executor is
+     * set, created on first use.
+     */
+    private static final class DefaultAbiFetchExecutor {
 
-        return abiJsonString;
+        private static final ExecutorService INSTANCE = Executors.newCachedThreadPool(
+                new ThreadFactoryBuilder()
+                        .setDaemon(true)
+                        .setNameFormat("arisenjava-abi-fetch-%d")
+                        .build());
     }
 }
@@ -0,0 +1,1255 @@
+package one.block.arisenjava.implementations;
+
+import com.google.common.primitives.Bytes;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import one.block.arisenjava.error.ErrorConstants;
+import one.block.arisenjava.models.ARISENName;
+import one.block.arisenjava.models.Asset;
+import one.block.arisenjava.models.Symbol;
+import one.block.arisenjava.utilities.ByteFormatter;
+import org.bitcoinj.core.Base58;
+import org.bitcoinj.core.Sha256Hash;
+import org.bouncycastle.crypto.digests.RIPEMD160Digest;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Binary codec of the built-in types of the ABI type system, used by
+ * {@link SerializationProviderImpl}.
+ * <p>
+ * Values of built-in types are converted between their JSON format and the binary format of the
+ * chain.  The other types of an ABI (type aliases, structs and their binary extension fields,
+ * variants, optionals and arrays) are compiled to {@link AbiTypeCodec}s built on these conversions,
+ * sharing the constants and helpers of this class.  The JSON format follows the one of the chain
+ * plugins: 64 and 128 bit integers, names, assets, symbols, keys and signatures are strings, time
+ * points are ISO 8601 strings in UTC, bytes are hex strings and variants are [type, value] arrays.
+ * <p>
+ * Invalid values and data throw {@link IllegalArgumentException} with an {@link ErrorConstants}
+ * message, data ending too early throws {@link java.nio.BufferUnderflowException}.
+ */
+final class AbiBinaryCodec {
+
+    /**
+     * Maximum nesting of types, which bounds the recursion of self-referencing structs.
+     */
+    static final int MAX_DEPTH = 32;
+
+    static final String ARRAY_SUFFIX = "[]";
+
+    static final String OPTIONAL_SUFFIX = "?";
+
+    static final String BINARY_EXTENSION_SUFFIX = "$";
+
+    private static final int INT128_BYTES = 16;
+
+    private static final int CHECKSUM160_BYTES = 20;
+
+    private static final int CHECKSUM256_BYTES = 32;
+
+    private static final int CHECKSUM512_BYTES = 64;
+
+    private static final int PUBLIC_KEY_BYTES = 33;
+
+    private static final int PRIVATE_KEY_BYTES = 32;
+
+    private static final int SIGNATURE_BYTES = 65;
+
+    private static final int KEY_CHECKSUM_BYTES = 4;
+
+    private static final long MICROSECONDS_PER_SECOND = 1000000L;
+
+    private static final long MICROSECONDS_PER_MILLISECOND = 1000L;
+
+    private static final long SECONDS_PER_DAY = 86400L;
+
+    /**
+     * Epoch of the block timestamps, 2000-01-01T00:00:00.000 in milliseconds since 1970.
+     */
+    private static final long BLOCK_TIMESTAMP_EPOCH_MILLIS = 946684800000L;
+
+    private static final long BLOCK_INTERVAL_MILLIS = 500L;
+
+    private static final String LEGACY_PUBLIC_KEY_PREFIX = "RIX";
+
+    private static final String PUBLIC_KEY_PREFIX = "PUB_";
+
+    private static final String PRIVATE_KEY_PREFIX = "PVT_";
+
+    private static final String SIGNATURE_PREFIX = "SIG_";
+
+    /**
+     * Suffixes of the key types in their index order, also used in the checksum of the keys.
+     */
+    private static final String[] KEY_TYPES = {"K1", "R1", "WA"};
+
+    private static final int KEY_TYPE_K1 = 0;
+
+    private static final int KEY_TYPE_WA = 2;
+
+    private static final byte LEGACY_PRIVATE_KEY_HEADER = (byte) 0x80;
+
+    private AbiBinaryCodec() {
+    }
+
+    /**
+     * Write the binary format of a JSON value of a built-in type, without an ABI.
+     *
+     * @param type the built-in type of the value.
+     * @param value the JSON value.
+     * @param output the output of the binary format.
+     */
+    static void writeBuiltIn(@NotNull String type, @Nullable JsonElement value,
+            @NotNull Output output) {
+        builtInType(type).write(value, output);
+    }
+
+    /**
+     * Read binary data of a built-in type and write its JSON format, without an ABI.
+     *
+     * @param type the built-in type of the value.
+     * @param buffer the binary data, in little endian order, read from its position.
+     * @param writer the writer of the JSON format.
+     * @throws IOException if the JSON can't be written.
+     */
+    static void readBuiltIn(@NotNull String type, @NotNull ByteBuffer buffer,
+            @NotNull JsonWriter writer) throws IOException {
+        builtInType(type).read(buffer, writer);
+    }
+
+    /**
+     * Get the built-in type of a type name, for codecs resolving it once.
+     *
+     * @param type the type, without "[]", "?" or "$" suffix.
+     * @return the built-in type.
+     * @throws IllegalArgumentException if the type is not a built-in type.
+     */
+    @NotNull
+    static BuiltInType builtInType(@NotNull String type) {
+        BuiltInType builtInType = BuiltInType.forName(type);
+        if (builtInType == null) {
+            throw new IllegalArgumentException(
+                    String.format(ErrorConstants.SERIALIZATION_PROVIDER_UNKNOWN_TYPE, type));
+        }
+
+        return builtInType;
+    }
+
+    /**
+     * Whether a type is a built-in type, converted by {@link #writeBuiltIn(String, JsonElement, Output)}
+     * and {@link #readBuiltIn(String, ByteBuffer, JsonWriter)}.
+     *
+     * @param type the type, without "[]", "?" or "$" suffix.
+     * @return true if the type is a built-in type.
+     */
+    static boolean isBuiltInType(@NotNull String type) {
+        return BuiltInType.forName(type) != null;
+    }
+
+    /**
+     * The built-in types, each with its own conversions so that compiled codecs resolve the type
+     * once instead of on every value.
+     */
+    enum BuiltInType {
+        BOOL("bool") {
+            @Override
+            void write(@Nullable JsonElement value, @NotNull Output output) {
+                if (value == null || !value.isJsonPrimitive()
+                        || !value.getAsJsonPrimitive().isBoolean()) {
+                    throw invalidValue(this.abiType, value);
+                }
+
+                output.writeByte(value.getAsBoolean() ? 1 : 0);
+            }
+
+            @Override
+            void read(@NotNull ByteBuffer buffer, @NotNull JsonWriter writer) throws IOException {
+                byte value = buffer.get();
+                if (value != 0 && value != 1) {
+                    throw invalidData(this.abiType);
+                }
+
+                writer.value(value == 1);
+            }
+        },
+        INT8("int8") {
+            @Override
+            void write(@Nullable JsonElement value, @NotNull Output output) {
+                output.writeByte(
+                        (int) parseInteger(this.abiType, value, Byte.MIN_VALUE, Byte.MAX_VALUE));
+            }
+
+            @Override
+            void read(@NotNull ByteBuffer buffer, @NotNull JsonWriter writer) throws IOException {
+                writer.value(buffer.get());
+            }
+        },
+        UINT8("uint8") {
+            @Override
+            void write(@Nullable JsonElement value, @NotNull Output output) {
+                output.writeByte((int) parseInteger(this.abiType, value, 0, 0xFF));
+            }
+
+            @Override
+            void read(@NotNull ByteBuffer buffer, @NotNull JsonWriter writer) throws IOException {
+                writer.value(buffer.get() & 0xFF);
+            }
+        },
+        INT16("int16") {
+            @Override
+            void write(@Nullable JsonElement value, @NotNull Output output) {
+                output.writeShort(
+                        (int) parseInteger(this.abiType, value, Short.MIN_VALUE, Short.MAX_VALUE));
+            }
+
+            @Override
+            void read(@NotNull ByteBuffer buffer, @NotNull JsonWriter writer) throws IOException {
+                writer.value(buffer.getShort());
+            }
+        },
+        UINT16("uint16") {
+            @Override
+            void write(@Nullable JsonElement value, @NotNull Output output) {
+                output.writeShort((int) parseInteger(this.abiType, value, 0, 0xFFFF));
+            }
+
+            @Override
+            void read(@NotNull ByteBuffer buffer, @NotNull JsonWriter writer) throws IOException {
+                writer.value(buffer.getShort() & 0xFFFF);
+            }
+        },
+        INT32("int32") {
+            @Override
+            void write(@Nullable JsonElement value, @NotNull Output output) {
+                output.writeInt((int) parseInteger(this.abiType, value, Integer.MIN_VALUE,
+                        Integer.MAX_VALUE));
+            }
+
+            @Override
+            void read(@NotNull ByteBuffer buffer, @NotNull JsonWriter writer) throws IOException {
+                writer.value(buffer.getInt());
+            }
+        },
+        UINT32("uint32") {
+            @Override
+            void write(@Nullable JsonElement value, @NotNull Output output) {
+                output.writeInt((int) parseInteger(this.abiType, value, 0, 0xFFFFFFFFL));
+            }
+
+            @Override
+            void read(@NotNull ByteBuffer buffer, @NotNull JsonWriter writer) throws IOException {
+                writer.value(buffer.getInt() & 0xFFFFFFFFL);
+            }
+        },
+        INT64("int64") {
+            @Override
+            void write(@Nullable JsonElement value, @NotNull Output output) {
+                output.writeLong(parseInteger(this.abiType, value, Long.MIN_VALUE, Long.MAX_VALUE));
+            }
+
+            @Override
+            void read(@NotNull ByteBuffer buffer, @NotNull JsonWriter writer) throws IOException {
+                writer.value(Long.toString(buffer.getLong()));
+            }
+        },
+        UINT64("uint64") {
+            @Override
+            void write(@Nullable JsonElement value, @NotNull Output output) {
+                try {
+                    output.writeLong(Long.parseUnsignedLong(getString(this.abiType, value)));
+                } catch (NumberFormatException numberFormatException) {
+                    throw invalidValue(this.abiType, value);
+                }
+            }
+
+            @Override
+            void read(@NotNull ByteBuffer buffer, @NotNull JsonWriter writer) throws IOException {
+                writer.value(Long.toUnsignedString(buffer.getLong()));
+            }
+        },
+        INT128("int128") {
+            @Override
+            void write(@Nullable JsonElement value, @NotNull Output output) {
+                output.writeBytes(parseInt128(this.abiType, value));
+            }
+
+            @Override
+            void read(@NotNull ByteBuffer buffer, @NotNull JsonWriter writer) throws IOException {
+                byte[] bigEndian = readInt128(buffer);
+                writer.value(new BigInteger(
+                        Arrays.copyOfRange(bigEndian, 1, bigEndian.length)).toString());
+            }
+        },
+        UINT128("uint128") {
+            @Override
+            void write(@Nullable JsonElement value, @NotNull Output output) {
+                output.writeBytes(parseInt128(this.abiType, value));
+            }
+
+            @Override
+            void read(@NotNull ByteBuffer buffer, @NotNull JsonWriter writer) throws IOException {
+                writer.value(new BigInteger(readInt128(buffer)).toString());
+            }
+        },
+        VARINT32("varint32") {
+            @Override
+            void write(@Nullable JsonElement value, @NotNull Output output) {
+                int varint = (int) parseInteger(this.abiType, value, Integer.MIN_VALUE,
+                        Integer.MAX_VALUE);
+                output.writeVarUint32((varint << 1) ^ (varint >> 31));
+            }
+
+            @Override
+            void read(@NotNull ByteBuffer buffer, @NotNull JsonWriter writer) throws IOException {
+                int zigzag = (int) readVarUint32(buffer);
+                writer.value((zigzag >>> 1) ^ -(zigzag & 1));
+            }
+        },
+        VARUINT32("varuint32") {
+            @Override
+            void write(@Nullable JsonElement value, @NotNull Output output) {
+                output.writeVarUint32((int) parseInteger(this.abiType, value, 0, 0xFFFFFFFFL));
+            }
+
+            @Override
+            void read(@NotNull ByteBuffer buffer, @NotNull JsonWriter writer) throws IOException {
+                writer.value(readVarUint32(buffer));
+            }
+        },
+        FLOAT32("float32") {
+            @Override
+            void write(@Nullable JsonElement value, @NotNull Output output) {
+                output.writeInt(Float.floatToIntBits((float) parseDouble(this.abiType, value)));
+            }
+
+            @Override
+            void read(@NotNull ByteBuffer buffer, @NotNull JsonWriter writer) throws IOException {
+                writer.value(Float.valueOf(Float.intBitsToFloat(buffer.getInt())));
+            }
+        },
+        FLOAT64("float64") {
+            @Override
+            void write(@Nullable JsonElement value, @NotNull Output output) {
+                output.writeLong(Double.doubleToLongBits(parseDouble(this.abiType, value)));
+            }
+
+            @Override
+            void read(@NotNull ByteBuffer buffer, @NotNull JsonWriter writer) throws IOException {
+                writer.value(Double.valueOf(Double.longBitsToDouble(buffer.getLong())));
+            }
+        },
+        FLOAT128("float128") {
+            @Override
+            void write(@Nullable JsonElement value, @NotNull Output output) {
+                output.writeBytes(parseFixedHex(this.abiType, value, INT128_BYTES));
+            }
+
+            @Override
+            void read(@NotNull ByteBuffer buffer, @NotNull JsonWriter writer) throws IOException {
+                writer.value(readHex(buffer, INT128_BYTES, false));
+            }
+        },
+        TIME_POINT("time_point") {
+            @Override
+            void write(@Nullable JsonElement value, @NotNull Output output) {
+                output.writeLong(parseTimePointMicros(this.abiType, value));
+            }
+
+            @Override
+            void read(@NotNull ByteBuffer buffer, @NotNull JsonWriter writer) throws IOException {
+                writer.value(formatTimePoint(buffer.getLong()));
+            }
+        },
+        TIME_POINT_SEC("time_point_sec") {
+            @Override
+            void write(@Nullable JsonElement value, @NotNull Output output) {
+                long seconds = Math.floorDiv(parseTimePointMicros(this.abiType, value),
+                        MICROSECONDS_PER_SECOND);
+                checkRange(this.abiType, value, seconds, 0, 0xFFFFFFFFL);
+                output.writeInt((int) seconds);
+            }
+
+            @Override
+            void read(@NotNull ByteBuffer buffer, @NotNull JsonWriter writer) throws IOException {
+                writer.value(formatTimePoint(
+                        (buffer.getInt() & 0xFFFFFFFFL) * MICROSECONDS_PER_SECOND));
+            }
+        },
+        BLOCK_TIMESTAMP_TYPE("block_timestamp_type") {
+            @Override
+            void write(@Nullable JsonElement value, @NotNull Output output) {
+                long slot = Math.floorDiv(parseTimePointMicros(this.abiType, value)
+                        / MICROSECONDS_PER_MILLISECOND - BLOCK_TIMESTAMP_EPOCH_MILLIS,
+                        BLOCK_INTERVAL_MILLIS);
+                checkRange(this.abiType, value, slot, 0, 0xFFFFFFFFL);
+                output.writeInt((int) slot);
+            }
+
+            @Override
+            void read(@NotNull ByteBuffer buffer, @NotNull JsonWriter writer) throws IOException {
+                writer.value(formatTimePoint(((buffer.getInt() & 0xFFFFFFFFL) * BLOCK_INTERVAL_MILLIS
+                        + BLOCK_TIMESTAMP_EPOCH_MILLIS) * MICROSECONDS_PER_MILLISECOND));
+            }
+        },
+        NAME("name") {
+            @Override
+            void write(@Nullable JsonElement value, @NotNull Output output) {
+                output.writeLong(nameToLong(getString(this.abiType, value)));
+            }
+
+            @Override
+            void read(@NotNull ByteBuffer buffer, @NotNull JsonWriter writer) throws IOException {
+                writer.value(longToName(buffer.getLong()));
+            }
+        },
+        BYTES("bytes") {
+            @Override
+            void write(@Nullable JsonElement value, @NotNull Output output) {
+                byte[] bytes = parseHex(this.abiType, value);
+                output.writeVarUint32(bytes.length);
+                output.writeBytes(bytes);
+            }
+
+            @Override
+            void read(@NotNull ByteBuffer buffer, @NotNull JsonWriter writer) throws IOException {
+                writer.value(readHex(buffer, readLength(buffer), true));
+            }
+        },
+        STRING("string") {
+            @Override
+            void write(@Nullable JsonElement value, @NotNull Output output) {
+                byte[] bytes = getString(this.abiType, value).getBytes(StandardCharsets.UTF_8);
+                output.writeVarUint32(bytes.length);
+                output.writeBytes(bytes);
+            }
+
+            @Override
+            void read(@NotNull ByteBuffer buffer, @NotNull JsonWriter writer) throws IOException {
+                writer.value(new String(readBytes(buffer, readLength(buffer)),
+                        StandardCharsets.UTF_8));
+            }
+        },
+        CHECKSUM160("checksum160") {
+            @Override
+            void write(@Nullable JsonElement value, @NotNull Output output) {
+                output.writeBytes(parseFixedHex(this.abiType, value, CHECKSUM160_BYTES));
+            }
+
+            @Override
+            void read(@NotNull ByteBuffer buffer, @NotNull JsonWriter writer) throws IOException {
+                writer.value(readHex(buffer, CHECKSUM160_BYTES, false));
+            }
+        },
+        CHECKSUM256("checksum256") {
+            @Override
+            void write(@Nullable JsonElement value, @NotNull Output output) {
+                output.writeBytes(parseFixedHex(this.abiType, value, CHECKSUM256_BYTES));
+            }
+
+            @Override
+            void read(@NotNull ByteBuffer buffer, @NotNull JsonWriter writer) throws IOException {
+                writer.value(readHex(buffer, CHECKSUM256_BYTES, false));
+            }
+        },
+        CHECKSUM512("checksum512") {
+            @Override
+            void write(@Nullable JsonElement value, @NotNull Output output) {
+                output.writeBytes(parseFixedHex(this.abiType, value, CHECKSUM512_BYTES));
+            }
+
+            @Override
+            void read(@NotNull ByteBuffer buffer, @NotNull JsonWriter writer) throws IOException {
+                writer.value(readHex(buffer, CHECKSUM512_BYTES, false));
+            }
+        },
+        PUBLIC_KEY("public_key") {
+            @Override
+            void write(@Nullable JsonElement value, @NotNull Output output) {
+                writePublicKey(getString(this.abiType, value), output);
+            }
+
+            @Override
+            void read(@NotNull ByteBuffer buffer, @NotNull JsonWriter writer) throws IOException {
+                writer.value(readPublicKey(buffer));
+            }
+        },
+        PRIVATE_KEY("private_key") {
+            @Override
+            void write(@Nullable JsonElement value, @NotNull Output output) {
+                writePrivateKey(getString(this.abiType, value), output);
+            }
+
+            @Override
+            void read(@NotNull ByteBuffer buffer, @NotNull JsonWriter writer) throws IOException {
+                writer.value(readPrivateKey(buffer));
+            }
+        },
+        SIGNATURE("signature") {
+            @Override
+            void write(@Nullable JsonElement value, @NotNull Output output) {
+                writeSignature(getString(this.abiType, value), output);
+            }
+
+            @Override
+            void read(@NotNull ByteBuffer buffer, @NotNull JsonWriter writer) throws IOException {
+                writer.value(readSignature(buffer));
+            }
+        },
+        SYMBOL_CODE("symbol_code") {
+            @Override
+            void write(@Nullable JsonElement value, @NotNull Output output) {
+                output.writeLong(symbolCodeToLong(getString(this.abiType, value)));
+            }
+
+            @Override
+            void read(@NotNull ByteBuffer buffer, @NotNull JsonWriter writer) throws IOException {
+                writer.value(Symbol.decodeCode(buffer.getLong()));
+            }
+        },
+        SYMBOL("symbol") {
+            @Override
+            void write(@Nullable JsonElement value, @NotNull Output output) {
+                output.writeLong(symbolToLong(getString(this.abiType, value)));
+            }
+
+            @Override
+            void read(@NotNull ByteBuffer buffer, @NotNull JsonWriter writer) throws IOException {
+                writer.value(longToSymbol(buffer.getLong()));
+            }
+        },
+        ASSET("asset") {
+            @Override
+            void write(@Nullable JsonElement value, @NotNull Output output) {
+                writeAsset(getString(this.abiType, value), output);
+            }
+
+            @Override
+            void read(@NotNull ByteBuffer buffer, @NotNull JsonWriter writer) throws IOException {
+                writer.value(readAsset(buffer));
+            }
+        },
+        EXTENDED_ASSET("extended_asset") {
+            @Override
+            void write(@Nullable JsonElement value, @NotNull Output output) {
+                if (value == null || !value.isJsonObject()) {
+                    throw invalidValue(this.abiType, value);
+                }
+
+                JsonObject extendedAsset = value.getAsJsonObject();
+                writeAsset(getString(this.abiType, extendedAsset.get("quantity")), output);
+                output.writeLong(
+                        nameToLong(getString(this.abiType, extendedAsset.get("contract"))));
+            }
+
+            @Override
+            void read(@NotNull ByteBuffer buffer, @NotNull JsonWriter writer) throws IOException {
+                writer.beginObject();
+                writer.name("quantity").value(readAsset(buffer));
+                writer.name("contract").value(longToName(buffer.getLong()));
+                writer.endObject();
+            }
+        };
+
+        private static final Map<String, BuiltInType> BY_ABI_TYPE = new HashMap<>();
+
+        static {
+            for (BuiltInType builtInType : values()) {
+                BY_ABI_TYPE.put(builtInType.abiType, builtInType);
+            }
+        }
+
+        /**
+         * Name of the type in ABIs.
+         */
+        @NotNull
+        final String abiType;
+
+        BuiltInType(@NotNull String abiType) {
+            this.abiType = abiType;
+        }
+
+        /**
+         * Get the built-in type of a type name.
+         *
+         * @param type the type, without "[]", "?" or "$" suffix.
+         * @return the built-in type, or null if the type is not a built-in type.
+         */
+        @Nullable
+        static BuiltInType forName(@NotNull String type) {
+            return BY_ABI_TYPE.get(type);
+        }
+
+        /**
+         * Write the binary format of a JSON value of this type.
+         *
+         * @param value the JSON value.
+         * @param output the output of the binary format.
+         */
+        abstract void write(@Nullable JsonElement value, @NotNull Output output);
+
+        /**
+         * Read binary data of this type and write its JSON format.
+         *
+         * @param buffer the binary data, in little endian order, read from its position.
+         * @param writer the writer of the JSON format.
+         * @throws IOException if the JSON can't be written.
+         */
+        abstract void read(@NotNull ByteBuffer buffer, @NotNull JsonWriter writer)
+                throws IOException;
+    }
+
+    /**
+     * Read the 16 bytes of a 128 bit integer, in big endian order after a leading zero byte.
+     */
+    @NotNull
+    private static byte[] readInt128(@NotNull ByteBuffer buffer) {
+        byte[] bytes = readBytes(buffer, INT128_BYTES);
+        byte[] bigEndian = new byte[INT128_BYTES + 1];
+        for (int i = 0; i < INT128_BYTES; i++) {
+            bigEndian[INT128_BYTES - i] = bytes[i];
+        }
+
+        return bigEndian;
+    }
+
+    /**
+     * Convert a name to its 64 bit value.
+     */
+    static long nameToLong(@NotNull String name) {
+        try {
+            return ARISENName.valueOf(name).toLong();
+        } catch (IllegalArgumentException illegalArgumentException) {
+            throw invalidValue("name", name);
+        }
+    }
+
+    /**
+     * Convert the 64 bit value of a name to its string format.
+     */
+    @NotNull
+    static String longToName(long value) {
+        return ARISENName.valueOf(value).getAccountName();
+    }
+
+    private static long symbolCodeToLong(@NotNull String symbolCode) {
+        try {
+            return Symbol.encodeCode(symbolCode);
+        } catch (IllegalArgumentException illegalArgumentException) {
+            throw invalidValue("symbol_code", symbolCode);
+        }
+    }
+
+    private static long symbolToLong(@NotNull String symbol) {
+        try {
+            return Symbol.parse(symbol).toLong();
+        } catch (IllegalArgumentException illegalArgumentException) {
+            throw invalidValue("symbol", symbol);
+        }
+    }
+
+    @NotNull
+    private static String longToSymbol(long value) {
+        try {
+            return Symbol.valueOf(value).toString();
+        } catch (IllegalArgumentException illegalArgumentException) {
+            throw invalidData("symbol");
+        }
+    }
+
+    private static void writeAsset(@NotNull String asset, @NotNull Output output) {
+        Asset parsedAsset;
+        try {
+            parsedAsset = Asset.parse(asset);
+        } catch (IllegalArgumentException illegalArgumentException) {
+            throw invalidValue("asset", asset);
+        }
+
+        output.writeLong(parsedAsset.getAmount());
+        output.writeLong(parsedAsset.getSymbol().toLong());
+    }
+
+    @NotNull
+    private static String readAsset(@NotNull ByteBuffer buffer) {
+        long amount = buffer.getLong();
+        try {
+            return new Asset(amount, Symbol.valueOf(buffer.getLong())).toString();
+        } catch (IllegalArgumentException illegalArgumentException) {
+            throw invalidData("asset");
+        }
+    }
+
+    /**
+     * Parse an ISO 8601 time point in UTC, "2019-04-01T22:08:40.000", to microseconds since 1970.
+     * The fraction of second is optional and has up to 6 digits, a trailing "Z" is accepted.
+     */
+    private static long parseTimePointMicros(@NotNull String type, @Nullable JsonElement value) {
+        String timePoint = getString(type, value);
+        int length = timePoint.endsWith("Z") ? timePoint.length() - 1 : timePoint.length();
+        if (length < 19 || timePoint.charAt(4) != '-' || timePoint.charAt(7) != '-'
+                || timePoint.charAt(10) != 'T' || timePoint.charAt(13) != ':'
+                || timePoint.charAt(16) != ':') {
+            throw invalidValue(type, value);
+        }
+
+        int year = parseDigits(type, timePoint, 0, 4);
+        int month = parseDigits(type, timePoint, 5, 7);
+        int day = parseDigits(type, timePoint, 8, 10);
+        int hour = parseDigits(type, timePoint, 11, 13);
+        int minute = parseDigits(type, timePoint, 14, 16);
+        int second = parseDigits(type, timePoint, 17, 19);
+        if (month < 1 || month > 12 || day < 1 || day > 31 || hour > 23 || minute > 59
+                || second > 59) {
+            throw invalidValue(type, value);
+        }
+
+        long micros = 0;
+        if (length > 19) {
+            int fractionLength = length - 20;
+            if (timePoint.charAt(19) != '.' || fractionLength < 1 || fractionLength > 6) {
+                throw invalidValue(type, value);
+            }
+
+            micros = parseDigits(type, timePoint, 20, length);
+            for (int i = fractionLength; i < 6; i++) {
+                micros *= 10;
+            }
+        }
+
+        long seconds = daysFromCivil(year, month, day) * SECONDS_PER_DAY + hour * 3600L
+                + minute * 60L + second;
+        return seconds * MICROSECONDS_PER_SECOND + micros;
+    }
+
+    /**
+     * Format microseconds since 1970 as an ISO 8601 time point in UTC with milliseconds, or
+     * microseconds when they are not whole milliseconds.
+     */
+    @NotNull
+    private static String formatTimePoint(long micros) {
+        long seconds = Math.floorDiv(micros, MICROSECONDS_PER_SECOND);
+        long fraction = Math.floorMod(micros, MICROSECONDS_PER_SECOND);
+        long days = Math.floorDiv(seconds, SECONDS_PER_DAY);
+        long secondOfDay = Math.floorMod(seconds, SECONDS_PER_DAY);
+
+        // Civil date from days since 1970, see http://howardhinnant.github.io/date_algorithms.html
+        long shiftedDays = days + 719468;
+        long era = Math.floorDiv(shiftedDays, 146097);
+        long dayOfEra = shiftedDays - era * 146097;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long shiftedMonth = (5 * dayOfYear + 2) / 153;
+        long day = dayOfYear - (153 * shiftedMonth + 2) / 5 + 1;
+        long month = shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9;
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+
+        StringBuilder builder = new StringBuilder(26);
+        appendDigits(builder, year, 4).append('-');
+        appendDigits(builder, month, 2).append('-');
+        appendDigits(builder, day, 2).append('T');
+        appendDigits(builder, secondOfDay / 3600, 2).append(':');
+        appendDigits(builder, secondOfDay / 60 % 60, 2).append(':');
+        appendDigits(builder, secondOfDay % 60, 2).append('.');
+        if (fraction % MICROSECONDS_PER_MILLISECOND == 0) {
+            appendDigits(builder, fraction / MICROSECONDS_PER_MILLISECOND, 3);
+        } else {
+            appendDigits(builder, fraction, 6);
+        }
+
+        return builder.toString();
+    }
+
+    /**
+     * Days since 1970 of a civil date, see http://howardhinnant.github.io/date_algorithms.html
+     */
+    private static long daysFromCivil(long year, int month, int day) {
+        long shiftedYear = month <= 2 ? year - 1 : year;
+        long era = Math.floorDiv(shiftedYear, 400);
+        long yearOfEra = shiftedYear - era * 400;
+        long dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097 + dayOfEra - 719468;
+    }
+
+    @NotNull
+    private static StringBuilder appendDigits(@NotNull StringBuilder builder, long value,
+            int width) {
+        String digits = Long.toString(value);
+        for (int i = digits.length(); i < width; i++) {
+            builder.append('0');
+        }
+
+        return builder.append(digits);
+    }
+
+    private static int parseDigits(@NotNull String type, @NotNull String text, int start,
+            int end) {
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            char character = text.charAt(i);
+            if (character < '0' || character > '9') {
+                throw invalidValue(type, text);
+            }
+
+            value = value * 10 + character - '0';
+        }
+
+        return value;
+    }
+
+    private static void writePublicKey(@NotNull String publicKey, @NotNull Output output) {
+        if (publicKey.startsWith(LEGACY_PUBLIC_KEY_PREFIX)) {
+            output.writeVarUint32(KEY_TYPE_K1);
+            output.writeBytes(decodeKey("public_key",
+                    publicKey.substring(LEGACY_PUBLIC_KEY_PREFIX.length()), "", PUBLIC_KEY_BYTES));
+            return;
+        }
+
+        int keyType = getKeyType("public_key", publicKey, PUBLIC_KEY_PREFIX);
+        byte[] key = decodeKey("public_key",
+                publicKey.substring(PUBLIC_KEY_PREFIX.length() + 3), KEY_TYPES[keyType], -1);
+        if (keyType != KEY_TYPE_WA && key.length != PUBLIC_KEY_BYTES) {
+            throw invalidValue("public_key", publicKey);
+        }
+
+        output.writeVarUint32(keyType);
+        output.writeBytes(key);
+    }
+
+    @NotNull
+    private static String readPublicKey(@NotNull ByteBuffer buffer) {
+        int keyType = readKeyType("public_key", buffer);
+        int start = buffer.position();
+        readBytes(buffer, PUBLIC_KEY_BYTES);
+        if (keyType == KEY_TYPE_WA) {
+            // User presence flag and relying party id
+            buffer.get();
+            readBytes(buffer, readLength(buffer));
+        }
+
+        return PUBLIC_KEY_PREFIX + encodeKey(copyFrom(buffer, start), KEY_TYPES[keyType]);
+    }
+
+    private static void writePrivateKey(@NotNull String privateKey, @NotNull Output output) {
+        if (!privateKey.startsWith(PRIVATE_KEY_PREFIX)) {
+            // Legacy WIF format of a K1 key
+            byte[] decoded = decodeBase58("private_key", privateKey);
+            int length = decoded.length - KEY_CHECKSUM_BYTES;
+            byte[] checksum = Sha256Hash.hashTwice(decoded, 0, length);
+            if (length != PRIVATE_KEY_BYTES + 1 || decoded[0] != LEGACY_PRIVATE_KEY_HEADER
+                    || !checksumMatches(decoded, length, checksum)) {
+                throw invalidValue("private_key", privateKey);
+            }
+
+            output.writeVarUint32(KEY_TYPE_K1);
+            output.writeBytes(Arrays.copyOfRange(decoded, 1, length));
+            return;
+        }
+
+        int keyType = getKeyType("private_key", privateKey, PRIVATE_KEY_PREFIX);
+        if (keyType == KEY_TYPE_WA) {
+            throw invalidValue("private_key", privateKey);
+        }
+
+        output.writeVarUint32(keyType);
+        output.writeBytes(decodeKey("private_key",
+                privateKey.substring(PRIVATE_KEY_PREFIX.length() + 3), KEY_TYPES[keyType],
+                PRIVATE_KEY_BYTES));
+    }
+
+    @NotNull
+    private static String readPrivateKey(@NotNull ByteBuffer buffer) {
+        int keyType = readKeyType("private_key", buffer);
+        if (keyType == KEY_TYPE_WA) {
+            throw invalidData("private_key");
+        }
+
+        return PRIVATE_KEY_PREFIX + encodeKey(readBytes(buffer, PRIVATE_KEY_BYTES),
+                KEY_TYPES[keyType]);
+    }
+
+    private static void writeSignature(@NotNull String signature, @NotNull Output output) {
+        int keyType = getKeyType("signature", signature, SIGNATURE_PREFIX);
+        byte[] decoded = decodeKey("signature", signature.substring(SIGNATURE_PREFIX.length() + 3),
+                KEY_TYPES[keyType], -1);
+        if (keyType != KEY_TYPE_WA && decoded.length != SIGNATURE_BYTES) {
+            throw invalidValue("signature", signature);
+        }
+
+        output.writeVarUint32(keyType);
+        output.writeBytes(decoded);
+    }
+
+    @NotNull
+    private static String readSignature(@NotNull ByteBuffer buffer) {
+        int keyType = readKeyType("signature", buffer);
+        int start = buffer.position();
+        readBytes(buffer, SIGNATURE_BYTES);
+        if (keyType == KEY_TYPE_WA) {
+            // Authenticator data and client JSON
+            readBytes(buffer, readLength(buffer));
+            readBytes(buffer, readLength(buffer));
+        }
+
+        return SIGNATURE_PREFIX + encodeKey(copyFrom(buffer, start), KEY_TYPES[keyType]);
+    }
+
+    /**
+     * Gets the key type index from the prefix of a key or signature, like "PUB_K1_".
+     */
+    private static int getKeyType(@NotNull String type, @NotNull String key,
+            @NotNull String prefix) {
+        if (key.startsWith(prefix) && key.length() > prefix.length() + 3
+                && key.charAt(prefix.length() + 2) == '_') {
+            String keyType = key.substring(prefix.length(), prefix.length() + 2);
+            for (int i = 0; i < KEY_TYPES.length; i++) {
+                if (KEY_TYPES[i].equals(keyType)) {
+                    return i;
+                }
+            }
+        }
+
+        throw invalidValue(type, key);
+    }
+
+    private static int readKeyType(@NotNull String type, @NotNull ByteBuffer buffer) {
+        long keyType = readVarUint32(buffer);
+        if (keyType >= KEY_TYPES.length) {
+            throw invalidData(type);
+        }
+
+        return (int) keyType;
+    }
+
+    /**
+     * Decode a base58 key and check its RIPEMD160 checksum, computed over the key followed by the
+     * key type suffix.
+     *
+     * @param expectedLength the length of the key, -1 for any length.
+     */
+    @NotNull
+    private static byte[] decodeKey(@NotNull String type, @NotNull String base58,
+            @NotNull String keyTypeSuffix, int expectedLength) {
+        byte[] decoded = decodeBase58(type, base58);
+        int length = decoded.length - KEY_CHECKSUM_BYTES;
+        if (length <= 0 || (expectedLength >= 0 && length != expectedLength)
+                || !checksumMatches(decoded, length,
+                digestRipemd160(Arrays.copyOf(decoded, length), keyTypeSuffix))) {
+            throw invalidValue(type, base58);
+        }
+
+        return Arrays.copyOf(decoded, length);
+    }
+
+    @NotNull
+    private static String encodeKey(@NotNull byte[] key, @NotNull String keyTypeSuffix) {
+        byte[] checksum = digestRipemd160(key, keyTypeSuffix);
+        return keyTypeSuffix + "_" + Base58.encode(
+                Bytes.concat(key, Arrays.copyOf(checksum, KEY_CHECKSUM_BYTES)));
+    }
+
+    @NotNull
+    private static byte[] decodeBase58(@NotNull String type, @NotNull String base58) {
+        try {
+            return Base58.decode(base58);
+        } catch (Exception exception) {
+            throw invalidValue(type, base58);
+        }
+    }
+
+    @NotNull
+    private static byte[] digestRipemd160(@NotNull byte[] key, @NotNull String keyTypeSuffix) {
+        byte[] suffix = keyTypeSuffix.getBytes(StandardCharsets.US_ASCII);
+        RIPEMD160Digest digest = new RIPEMD160Digest();
+        digest.update(key, 0, key.length);
+        digest.update(suffix, 0, suffix.length);
+        byte[] output = new byte[digest.getDigestSize()];
+        digest.doFinal(output, 0);
+        return output;
+    }
+
+    private static boolean checksumMatches(@NotNull byte[] decoded, int length,
+            @NotNull byte[] checksum) {
+        for (int i = 0; i < KEY_CHECKSUM_BYTES; i++) {
+            if (decoded[length + i] != checksum[i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @NotNull
+    private static byte[] copyFrom(@NotNull ByteBuffer buffer, int start) {
+        byte[] bytes = new byte[buffer.position() - start];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = buffer.get(start + i);
+        }
+
+        return bytes;
+    }
+
+    private static long parseInteger(@NotNull String type, @Nullable JsonElement value,
+            long minimum, long maximum) {
+        long parsedValue;
+        try {
+            parsedValue = Long.parseLong(getString(type, value));
+        } catch (NumberFormatException numberFormatException) {
+            throw invalidValue(type, value);
+        }
+
+        checkRange(type, value, parsedValue, minimum, maximum);
+        return parsedValue;
+    }
+
+    private static void checkRange(@NotNull String type, @Nullable Object value, long parsedValue,
+            long minimum, long maximum) {
+        if (parsedValue < minimum || parsedValue > maximum) {
+            throw invalidValue(type, value);
+        }
+    }
+
+    private static double parseDouble(@NotNull String type, @Nullable JsonElement value) {
+        try {
+            return Double.parseDouble(getString(type, value));
+        } catch (NumberFormatException numberFormatException) {
+            throw invalidValue(type, value);
+        }
+    }
+
+    /**
+     * Parse a 128 bit integer to its 16 little endian bytes.
+     */
+    @NotNull
+    private static byte[] parseInt128(@NotNull String type, @Nullable JsonElement value) {
+        BigInteger integer;
+        try {
+            integer = new BigInteger(getString(type, value));
+        } catch (NumberFormatException numberFormatException) {
+            throw invalidValue(type, value);
+        }
+
+        boolean isSigned = type.equals("int128");
+        if (isSigned ? integer.bitLength() > 127
+                : integer.signum() < 0 || integer.bitLength() > 128) {
+            throw invalidValue(type, value);
+        }
+
+        byte[] bigEndian = integer.toByteArray();
+        byte[] littleEndian = new byte[INT128_BYTES];
+        byte padding = (byte) (integer.signum() < 0 ? 0xFF : 0);
+        for (int i = 0; i < INT128_BYTES; i++) {
+            int index = bigEndian.length - 1 - i;
+            littleEndian[i] = index >= 0 ? bigEndian[index] : padding;
+        }
+
+        return littleEndian;
+    }
+
+    @NotNull
+    private static byte[] parseHex(@NotNull String type, @Nullable JsonElement value) {
+        String hex = getString(type, value);
+        if (hex.length() % 2 != 0) {
+            throw invalidValue(type, value);
+        }
+
+        try {
+            return ByteFormatter.decodeHex(hex);
+        } catch (IllegalArgumentException illegalArgumentException) {
+            throw invalidValue(type, value);
+        }
+    }
+
+    @NotNull
+    private static byte[] parseFixedHex(@NotNull String type, @Nullable JsonElement value,
+            int length) {
+        byte[] bytes = parseHex(type, value);
+        if (bytes.length != length) {
+            throw invalidValue(type, value);
+        }
+
+        return bytes;
+    }
+
+    @NotNull
+    private static String getString(@NotNull String type, @Nullable JsonElement value) {
+        if (value == null || !value.isJsonPrimitive()) {
+            throw invalidValue(type, value);
+        }
+
+        return value.getAsString();
+    }
+
+    static boolean isString(@Nullable JsonElement value) {
+        return value != null && value.isJsonPrimitive() && value.getAsJsonPrimitive().isString();
+    }
+
+    /**
+     * Read a variable length unsigned 32 bit integer.
+     */
+    static long readVarUint32(@NotNull ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            byte current = buffer.get();
+            value |= (long) (current & 0x7F) << shift;
+            if ((current & 0x80) == 0) {
+                if (value > 0xFFFFFFFFL) {
+                    break;
+                }
+
+                return value;
+            }
+        }
+
+        throw invalidData("varuint32");
+    }
+
+    /**
+     * Read the length of bytes or a string, failing before allocating if the data is shorter.
+     */
+    static int readLength(@NotNull ByteBuffer buffer) {
+        long length = readVarUint32(buffer);
+        if (length > buffer.remaining()) {
+            throw new IllegalArgumentException(
+                    ErrorConstants.SERIALIZATION_PROVIDER_END_OF_DATA);
+        }
+
+        return (int) length;
+    }
+
+    @NotNull
+    private static byte[] readBytes(@NotNull ByteBuffer buffer, int length) {
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    /**
+     * Read bytes as hex, straight from the array of the buffer when it has one.
+     */
+    @NotNull
+    private static String readHex(@NotNull ByteBuffer buffer, int length, boolean upperCase) {
+        if (length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+
+        StringBuilder hex = new StringBuilder(2 * length);
+        if (buffer.hasArray()) {
+            ByteFormatter.appendHex(buffer.array(), buffer.arrayOffset() + buffer.position(), length,
+                    upperCase, hex);
+            buffer.position(buffer.position() + length);
+        } else {
+            ByteFormatter.appendHex(readBytes(buffer, length), 0, length, upperCase, hex);
+        }
+
+        return hex.toString();
+    }
+
+    @NotNull
+    static String stripSuffix(@NotNull String type, @NotNull String suffix) {
+        return type.substring(0, type.length() - suffix.length());
+    }
+
+    @NotNull
+    static IllegalArgumentException invalidValue(@NotNull String type,
+            @Nullable Object value) {
+        return new IllegalArgumentException(String.format(
+                ErrorConstants.SERIALIZATION_PROVIDER_INVALID_VALUE,
+                value instanceof JsonPrimitive ? ((JsonPrimitive) value).getAsString() : value,
+                type));
+    }
+
+    @NotNull
+    static IllegalArgumentException invalidData(@NotNull String type) {
+        return new IllegalArgumentException(
+                String.format(ErrorConstants.SERIALIZATION_PROVIDER_INVALID_DATA, type));
+    }
+
+    /**
+     * Growable little endian output of the binary format.
+     */
+    static final class Output {
+
+        private static final int INITIAL_CAPACITY = 256;
+
+        @NotNull
+        private byte[] bytes = new byte[INITIAL_CAPACITY];
+
+        private int size;
+
+        void writeByte(int value) {
+            this.ensureCapacity(1);
+            this.bytes[this.size++] = (byte) value;
+        }
+
+        void writeShort(int value) {
+            this.ensureCapacity(2);
+            this.bytes[this.size++] = (byte) value;
+            this.bytes[this.size++] = (byte) (value >>> 8);
+        }
+
+        void writeInt(int value) {
+            this.ensureCapacity(4);
+            for (int i = 0; i < 4; i++) {
+                this.bytes[this.size++] = (byte) (value >>> (8 * i));
+            }
+        }
+
+        void writeLong(long value) {
+            this.ensureCapacity(8);
+            for (int i = 0; i < 8; i++) {
+                this.bytes[this.size++] = (byte) (value >>> (8 * i));
+            }
+        }
+
+        /**
+         * Write the lower 32 bits of a value as a variable length unsigned integer.
+         */
+        void writeVarUint32(long value) {
+            long remaining = value & 0xFFFFFFFFL;
+            do {
+                int current = (int) (remaining & 0x7F);
+                remaining >>>= 7;
+                this.writeByte(remaining != 0 ? current | 0x80 : current);
+            } while (remaining != 0);
+        }
+
+        void writeBytes(@NotNull byte[] value) {
+            this.ensureCapacity(value.length);
+            System.arraycopy(value, 0, this.bytes, this.size, value.length);
+            this.size += value.length;
+        }
+
+        @NotNull
+        byte[] toByteArray() {
+            return Arrays.copyOf(this.bytes, this.size);
+        }
+
+        /**
+         * Append the written bytes in hex, upper case, without copying them.
+         */
+        void appendHex(@NotNull StringBuilder target) {
+            ByteFormatter.appendHex(this.bytes, 0, this.size, true, target);
+        }
+
+        int size() {
+            return this.size;
+        }
+
+        private void ensureCapacity(int length) {
+            if (this.size + length > this.bytes.length) {
+                this.bytes = Arrays.copyOf(this.bytes,
+                        Math.max(this.bytes.length * 2, this.size + length));
+            }
+        }
+    }
+}
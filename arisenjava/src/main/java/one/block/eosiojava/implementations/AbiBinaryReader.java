@@ -0,0 +1,289 @@
+package one.block.arisenjava.implementations;
+
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import one.block.arisenjava.error.ErrorConstants;
+import one.block.arisenjava.models.ARISENName;
+import one.block.arisenjava.models.Asset;
+import one.block.arisenjava.models.ExtendedAsset;
+import one.block.arisenjava.models.Symbol;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Reader of the binary format of the chain, one typed value at a time.  It is the decoder matching
+ * {@link AbiBinaryWriter}.
+ * <p>
+ * Invalid data throws {@link IllegalArgumentException}, data ending too early throws
+ * {@link java.nio.BufferUnderflowException}.  A reader is not thread safe.
+ */
+public final class AbiBinaryReader {
+
+    @NotNull
+    private final ByteBuffer buffer;
+
+    /**
+     * Instantiates a new reader of binary data.
+     *
+     * @param data the binary data.
+     */
+    public AbiBinaryReader(@NotNull byte[] data) {
+        this(ByteBuffer.wrap(data));
+    }
+
+    /**
+     * Instantiates a new reader of binary data.  The position of the given buffer is not changed.
+     *
+     * @param data the binary data, read from its position to its limit.
+     */
+    public AbiBinaryReader(@NotNull ByteBuffer data) {
+        this.buffer = data.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Whether data is left, which tells if a binary extension field is present.
+     *
+     * @return true if data is left.
+     */
+    public boolean hasRemaining() {
+        return this.buffer.hasRemaining();
+    }
+
+    /**
+     * Gets the position of the next value in the binary data.
+     *
+     * @return the position, from the start of the data.
+     */
+    public int getPosition() {
+        return this.buffer.position();
+    }
+
+    /**
+     * Skip bytes without reading them.
+     *
+     * @param length the number of bytes to skip.
+     */
+    public void skip(int length) {
+        if (length < 0 || length > this.buffer.remaining()) {
+            throw new IllegalArgumentException(ErrorConstants.SERIALIZATION_PROVIDER_END_OF_DATA);
+        }
+
+        this.buffer.position(this.buffer.position() + length);
+    }
+
+    /**
+     * Read a bool.
+     *
+     * @return the value.
+     */
+    public boolean readBool() {
+        byte value = this.buffer.get();
+        if (value != 0 && value != 1) {
+            throw AbiBinaryCodec.invalidData("bool");
+        }
+
+        return value == 1;
+    }
+
+    /**
+     * Read an int8.
+     *
+     * @return the value.
+     */
+    public int readInt8() {
+        return this.buffer.get();
+    }
+
+    /**
+     * Read a uint8.
+     *
+     * @return the value.
+     */
+    public int readUint8() {
+        return this.buffer.get() & 0xFF;
+    }
+
+    /**
+     * Read an int16.
+     *
+     * @return the value.
+     */
+    public int readInt16() {
+        return this.buffer.getShort();
+    }
+
+    /**
+     * Read a uint16.
+     *
+     * @return the value.
+     */
+    public int readUint16() {
+        return this.buffer.getShort() & 0xFFFF;
+    }
+
+    /**
+     * Read an int32.
+     *
+     * @return the value.
+     */
+    public int readInt32() {
+        return this.buffer.getInt();
+    }
+
+    /**
+     * Read a uint32.
+     *
+     * @return the value.
+     */
+    public long readUint32() {
+        return this.buffer.getInt() & 0xFFFFFFFFL;
+    }
+
+    /**
+     * Read an int64.
+     *
+     * @return the value.
+     */
+    public long readInt64() {
+        return this.buffer.getLong();
+    }
+
+    /**
+     * Read a uint64.
+     *
+     * @return the value, whose 64 bits are unsigned: values above {@link Long#MAX_VALUE} are
+     * negative.
+     */
+    public long readUint64() {
+        return this.buffer.getLong();
+    }
+
+    /**
+     * Read a varint32.
+     *
+     * @return the value.
+     */
+    public int readVarInt32() {
+        int value = (int) AbiBinaryCodec.readVarUint32(this.buffer);
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * Read a varuint32.
+     *
+     * @return the value.
+     */
+    public long readVarUint32() {
+        return AbiBinaryCodec.readVarUint32(this.buffer);
+    }
+
+    /**
+     * Read a float32.
+     *
+     * @return the value.
+     */
+    public float readFloat32() {
+        return this.buffer.getFloat();
+    }
+
+    /**
+     * Read a float64.
+     *
+     * @return the value.
+     */
+    public double readFloat64() {
+        return this.buffer.getDouble();
+    }
+
+    /**
+     * Read a name.
+     *
+     * @return the name.
+     */
+    @NotNull
+    public String readName() {
+        return AbiBinaryCodec.longToName(this.buffer.getLong());
+    }
+
+    /**
+     * Read a symbol.
+     *
+     * @return the symbol.
+     */
+    @NotNull
+    public Symbol readSymbol() {
+        return Symbol.valueOf(this.buffer.getLong());
+    }
+
+    /**
+     * Read an asset.
+     *
+     * @return the asset.
+     */
+    @NotNull
+    public Asset readAsset() {
+        long amount = this.buffer.getLong();
+        return new Asset(amount, this.readSymbol());
+    }
+
+    /**
+     * Read an extended asset.
+     *
+     * @return the extended asset.
+     */
+    @NotNull
+    public ExtendedAsset readExtendedAsset() {
+        Asset quantity = this.readAsset();
+        return new ExtendedAsset(quantity, ARISENName.valueOf(this.buffer.getLong()));
+    }
+
+    /**
+     * Read a string.
+     *
+     * @return the value.
+     */
+    @NotNull
+    public String readString() {
+        return new String(this.readBytes(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Read bytes.
+     *
+     * @return the value.
+     */
+    @NotNull
+    public byte[] readBytes() {
+        byte[] value = new byte[AbiBinaryCodec.readLength(this.buffer)];
+        this.buffer.get(value);
+        return value;
+    }
+
+    /**
+     * Read a value of a built-in type in its string format, the JSON format of
+     * {@link SerializationProviderImpl}.
+     *
+     * @param type the built-in type, for example "asset", "public_key" or "time_point".
+     * @return the value in its string format.
+     */
+    @NotNull
+    public String readBuiltIn(@NotNull String type) {
+        StringWriter json = new StringWriter();
+        JsonWriter writer = new JsonWriter(json);
+        // Allows a single value as document
+        writer.setLenient(true);
+        try {
+            AbiBinaryCodec.readBuiltIn(type, this.buffer, writer);
+            writer.flush();
+        } catch (IOException ioException) {
+            // A StringWriter doesn't fail
+            throw new IllegalStateException(ioException);
+        }
+
+        return new JsonParser().parse(json.toString()).getAsString();
+    }
+}
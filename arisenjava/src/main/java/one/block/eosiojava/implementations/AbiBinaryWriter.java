@@ -0,0 +1,266 @@
+package one.block.arisenjava.implementations;
+
+import com.google.gson.JsonPrimitive;
+import java.nio.charset.StandardCharsets;
+import one.block.arisenjava.interfaces.IAbiSerializable;
+import one.block.arisenjava.models.ARISENName;
+import one.block.arisenjava.models.Asset;
+import one.block.arisenjava.models.ExtendedAsset;
+import one.block.arisenjava.models.Symbol;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Writer of the binary format of the chain, one typed value at a time.
+ * <p>
+ * It is the encoder used by {@link IAbiSerializable} classes, for example the classes generated
+ * from an ABI by {@link one.block.arisenjava.utilities.AbiClassGenerator}: each field is written by
+ * the method of its ABI type, without going through JSON.  Types whose Java form is a string, like
+ * assets, keys or time points, are written with {@link AbiBinaryWriter#writeBuiltIn(String, String)}
+ * from the same string format as the JSON format of {@link SerializationProviderImpl}.
+ * <p>
+ * Invalid values throw {@link IllegalArgumentException}.  A writer is not thread safe.
+ */
+public final class AbiBinaryWriter {
+
+    @NotNull
+    private final AbiBinaryCodec.Output output = new AbiBinaryCodec.Output();
+
+    /**
+     * Write a bool.
+     *
+     * @param value the value.
+     */
+    public void writeBool(boolean value) {
+        this.output.writeByte(value ? 1 : 0);
+    }
+
+    /**
+     * Write an int8.
+     *
+     * @param value the value, from -128 to 127.
+     */
+    public void writeInt8(int value) {
+        checkRange("int8", value, Byte.MIN_VALUE, Byte.MAX_VALUE);
+        this.output.writeByte(value);
+    }
+
+    /**
+     * Write a uint8.
+     *
+     * @param value the value, from 0 to 255.
+     */
+    public void writeUint8(int value) {
+        checkRange("uint8", value, 0, 0xFF);
+        this.output.writeByte(value);
+    }
+
+    /**
+     * Write an int16.
+     *
+     * @param value the value, from -32768 to 32767.
+     */
+    public void writeInt16(int value) {
+        checkRange("int16", value, Short.MIN_VALUE, Short.MAX_VALUE);
+        this.output.writeShort(value);
+    }
+
+    /**
+     * Write a uint16.
+     *
+     * @param value the value, from 0 to 65535.
+     */
+    public void writeUint16(int value) {
+        checkRange("uint16", value, 0, 0xFFFF);
+        this.output.writeShort(value);
+    }
+
+    /**
+     * Write an int32.
+     *
+     * @param value the value.
+     */
+    public void writeInt32(int value) {
+        this.output.writeInt(value);
+    }
+
+    /**
+     * Write a uint32.
+     *
+     * @param value the value, from 0 to 4294967295.
+     */
+    public void writeUint32(long value) {
+        checkRange("uint32", value, 0, 0xFFFFFFFFL);
+        this.output.writeInt((int) value);
+    }
+
+    /**
+     * Write an int64.
+     *
+     * @param value the value.
+     */
+    public void writeInt64(long value) {
+        this.output.writeLong(value);
+    }
+
+    /**
+     * Write a uint64.
+     *
+     * @param value the value, whose 64 bits are read as unsigned: values above
+     * {@link Long#MAX_VALUE} are negative.
+     */
+    public void writeUint64(long value) {
+        this.output.writeLong(value);
+    }
+
+    /**
+     * Write a varint32.
+     *
+     * @param value the value.
+     */
+    public void writeVarInt32(int value) {
+        this.output.writeVarUint32((value << 1) ^ (value >> 31));
+    }
+
+    /**
+     * Write a varuint32.
+     *
+     * @param value the value, from 0 to 4294967295.
+     */
+    public void writeVarUint32(long value) {
+        checkRange("varuint32", value, 0, 0xFFFFFFFFL);
+        this.output.writeVarUint32(value);
+    }
+
+    /**
+     * Write a float32.
+     *
+     * @param value the value.
+     */
+    public void writeFloat32(float value) {
+        this.output.writeInt(Float.floatToIntBits(value));
+    }
+
+    /**
+     * Write a float64.
+     *
+     * @param value the value.
+     */
+    public void writeFloat64(double value) {
+        this.output.writeLong(Double.doubleToLongBits(value));
+    }
+
+    /**
+     * Write a name.
+     *
+     * @param value the name, up to 13 characters.
+     */
+    public void writeName(@NotNull String value) {
+        this.output.writeLong(AbiBinaryCodec.nameToLong(value));
+    }
+
+    /**
+     * Write a name already in its 64 bit format.
+     *
+     * @param value the name.
+     */
+    public void writeName(@NotNull ARISENName value) {
+        this.output.writeLong(value.toLong());
+    }
+
+    /**
+     * Write a symbol.
+     *
+     * @param value the symbol.
+     */
+    public void writeSymbol(@NotNull Symbol value) {
+        this.output.writeLong(value.toLong());
+    }
+
+    /**
+     * Write an asset: its amount then its symbol.
+     *
+     * @param value the asset.
+     */
+    public void writeAsset(@NotNull Asset value) {
+        this.output.writeLong(value.getAmount());
+        this.output.writeLong(value.getSymbol().toLong());
+    }
+
+    /**
+     * Write an extended asset: its quantity then its contract.
+     *
+     * @param value the extended asset.
+     */
+    public void writeExtendedAsset(@NotNull ExtendedAsset value) {
+        this.writeAsset(value.getQuantity());
+        this.writeName(value.getContract());
+    }
+
+    /**
+     * Write a string, UTF-8 encoded and prefixed by its length.
+     *
+     * @param value the value.
+     */
+    public void writeString(@NotNull String value) {
+        this.writeBytes(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Write bytes, prefixed by their length.
+     *
+     * @param value the value.
+     */
+    public void writeBytes(@NotNull byte[] value) {
+        this.output.writeVarUint32(value.length);
+        this.output.writeBytes(value);
+    }
+
+    /**
+     * Write a value of a built-in type from its string format, the JSON format of
+     * {@link SerializationProviderImpl}.  For example "10.0000 EOS" for an asset or
+     * "2019-04-02T20:14:03.000" for a time point.
+     *
+     * @param type the built-in type, for example "asset", "public_key" or "time_point".
+     * @param value the value in its string format.
+     */
+    public void writeBuiltIn(@NotNull String type, @NotNull String value) {
+        AbiBinaryCodec.writeBuiltIn(type, new JsonPrimitive(value), this.output);
+    }
+
+    /**
+     * Write an {@link IAbiSerializable} value.
+     *
+     * @param value the value.
+     */
+    public void write(@NotNull IAbiSerializable value) {
+        value.serialize(this);
+    }
+
+    /**
+     * Gets the written data.
+     *
+     * @return a copy of the written data.
+     */
+    @NotNull
+    public byte[] toBytes() {
+        return this.output.toByteArray();
+    }
+
+    /**
+     * Gets the written data in hex, upper case like {@link SerializationProviderImpl}.
+     *
+     * @return the written data in hex.
+     */
+    @NotNull
+    public String toHex() {
+        StringBuilder hex = new StringBuilder(2 * this.output.size());
+        this.output.appendHex(hex);
+        return hex.toString();
+    }
+
+    private static void checkRange(@NotNull String type, long value, long minimum, long maximum) {
+        if (value < minimum || value > maximum) {
+            throw AbiBinaryCodec.invalidValue(type, value);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package one.block.arisenjava.implementations;
+
+import java.io.File;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A configuration class for the ABI cache of {@link ABIProviderImpl}.
+ * <p>
+ * By default the cache is unbounded and entries never expire.  The cache can be bounded either by
+ * number of entries or by estimated memory, not both.  Beyond the bound, the least recently used
+ * entries are evicted first.  The memory of an entry is estimated from the length of its cache key
+ * and deserialized ABI JSON, two bytes per character.
+ * <p>
+ * Instead of a time to live, cached ABIs can be revalidated in the background: once the revalidation
+ * interval has elapsed since an ABI was last validated, its next use asks the chain whether its hash
+ * changed and only downloads the ABI again if it did.
+ * <p>
+ * A store file can be set to keep the fetched raw ABIs on disk, see {@link AbiFileStore}.
+ */
+public class AbiCacheConfig {
+
+    /**
+     * Maximum number of cached ABIs, 0 for no limit.
+     */
+    private long maximumEntries;
+
+    /**
+     * Maximum estimated memory of the cached ABIs in bytes, 0 for no limit.
+     */
+    private long maximumBytes;
+
+    /**
+     * Time to live of a cached ABI in milliseconds after it is fetched, 0 for no expiration.
+     */
+    private long timeToLiveMillis;
+
+    /**
+     * Interval in milliseconds after which a cached ABI is revalidated in the background, 0 for no
+     * revalidation.
+     */
+    private long revalidationIntervalMillis;
+
+    /**
+     * File of the persistent ABI store, null for no persistent store.
+     */
+    @Nullable
+    private File storeFile;
+
+    /**
+     * Gets the maximum number of cached ABIs.
+     *
+     * @return the maximum number of entries, 0 for no limit.
+     */
+    public long getMaximumEntries() {
+        return maximumEntries;
+    }
+
+    /**
+     * Sets the maximum number of cached ABIs.  Can't be combined with
+     * {@link AbiCacheConfig#setMaximumBytes(long)}.
+     *
+     * @param maximumEntries the maximum number of entries, 0 for no limit.
+     */
+    public void setMaximumEntries(long maximumEntries) {
+        this.maximumEntries = maximumEntries;
+    }
+
+    /**
+     * Gets the maximum estimated memory of the cached ABIs.
+     *
+     * @return the maximum memory in bytes, 0 for no limit.
+     */
+    public long getMaximumBytes() {
+        return maximumBytes;
+    }
+
+    /**
+     * Sets the maximum estimated memory of the cached ABIs.  Can't be combined with
+     * {@link AbiCacheConfig#setMaximumEntries(long)}.
+     *
+     * @param maximumBytes the maximum memory in bytes, 0 for no limit.
+     */
+    public void setMaximumBytes(long maximumBytes) {
+        this.maximumBytes = maximumBytes;
+    }
+
+    /**
+     * Gets the time to live of a cached ABI after it is fetched.
+     *
+     * @return the time to live in milliseconds, 0 for no expiration.
+     */
+    public long getTimeToLiveMillis() {
+        return timeToLiveMillis;
+    }
+
+    /**
+     * Sets the time to live of a cached ABI after it is fetched.  An expired ABI is fetched again
+     * from the chain on its next use.
+     *
+     * @param timeToLiveMillis the time to live in milliseconds, 0 for no expiration.
+     */
+    public void setTimeToLiveMillis(long timeToLiveMillis) {
+        this.timeToLiveMillis = timeToLiveMillis;
+    }
+
+    /**
+     * Gets the interval after which a cached ABI is revalidated in the background.
+     *
+     * @return the revalidation interval in milliseconds, 0 for no revalidation.
+     */
+    public long getRevalidationIntervalMillis() {
+        return revalidationIntervalMillis;
+    }
+
+    /**
+     * Sets the interval after which a cached ABI is revalidated in the background.  The first use
+     * of the ABI after the interval still returns the cached ABI and asks the chain for its hash in
+     * the background.  The ABI is downloaded and deserialized again only if its hash changed.
+     *
+     * @param revalidationIntervalMillis the revalidation interval in milliseconds, 0 for no
+     * revalidation.
+     */
+    public void setRevalidationIntervalMillis(long revalidationIntervalMillis) {
+        this.revalidationIntervalMillis = revalidationIntervalMillis;
+    }
+
+    /**
+     * Gets the file of the persistent ABI store.
+     *
+     * @return the store file, null for no persistent store.
+     */
+    @Nullable
+    public File getStoreFile() {
+        return storeFile;
+    }
+
+    /**
+     * Sets the file of the persistent ABI store.  ABIs missing from the cache are read from the
+     * store before being fetched from the chain, and fetched ABIs are appended to it.
+     *
+     * @param storeFile the store file, null for no persistent store.
+     */
+    public void setStoreFile(@Nullable File storeFile) {
+        this.storeFile = storeFile;
+    }
+}
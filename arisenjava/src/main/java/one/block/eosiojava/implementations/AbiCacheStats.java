@@ -0,0 +1,81 @@
+package one.block.arisenjava.implementations;
+
+/**
+ * Snapshot of the statistics of the ABI cache of {@link ABIProviderImpl}.  Counters are cumulative
+ * since the provider was created.
+ */
+public final class AbiCacheStats {
+
+    private final long hitCount;
+
+    private final long missCount;
+
+    private final long evictionCount;
+
+    private final long entryCount;
+
+    private final long estimatedBytes;
+
+    /**
+     * Instantiates a snapshot of the ABI cache statistics.
+     *
+     * @param hitCount number of ABIs served from the cache.
+     * @param missCount number of ABIs not found in the cache.
+     * @param evictionCount number of ABIs evicted by size or expiration.
+     * @param entryCount number of cached ABIs.
+     * @param estimatedBytes estimated memory of the cached ABIs in bytes.
+     */
+    AbiCacheStats(long hitCount, long missCount, long evictionCount, long entryCount,
+            long estimatedBytes) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.entryCount = entryCount;
+        this.estimatedBytes = estimatedBytes;
+    }
+
+    /**
+     * Gets the number of ABIs served from the cache.
+     *
+     * @return the hit count.
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Gets the number of ABIs not found in the cache, which were fetched from the chain.
+     *
+     * @return the miss count.
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Gets the number of ABIs evicted because of the size bound or their time to live.
+     *
+     * @return the eviction count.
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * Gets the number of cached ABIs.
+     *
+     * @return the entry count.
+     */
+    public long getEntryCount() {
+        return entryCount;
+    }
+
+    /**
+     * Gets the estimated memory of the cached ABIs.
+     *
+     * @return the estimated memory in bytes.
+     */
+    public long getEstimatedBytes() {
+        return estimatedBytes;
+    }
+}
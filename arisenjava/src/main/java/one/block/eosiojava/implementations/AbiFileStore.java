@@ -0,0 +1,200 @@
+package one.block.arisenjava.implementations;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.HashMap;
+import java.util.Map;
+import one.block.arisenjava.error.ErrorConstants;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Append-only file of raw ABIs, used by {@link ABIProviderImpl} as a persistent tier behind its
+ * in-memory cache so a restarted process finds the ABIs it fetched before without calling the chain.
+ * <p>
+ * The file starts with a magic number followed by one record per stored ABI: the chain id, the
+ * account name and the ABI hash as UTF strings, then the length and the bytes of the raw ABI.  A new
+ * version of an ABI is appended and shadows the older records of the same chain and account.  The
+ * index of the records is loaded on first use and the ABI bytes are only read when requested.  A
+ * record truncated by a crash is dropped when the index is loaded.
+ * <p>
+ * The store doesn't check the ABI hashes: callers verify the raw ABI against its hash before using
+ * it.  A store file must not be shared by several processes at the same time.
+ */
+public final class AbiFileStore {
+
+    /**
+     * Magic number at the start of the file, "ABI1" in ASCII.
+     */
+    private static final int MAGIC = 0x41424931;
+
+    @NotNull
+    private final File file;
+
+    /**
+     * Latest record by chain id and account name, null until loaded.
+     */
+    @Nullable
+    private Map<String, Record> index;
+
+    /**
+     * Instantiates a store backed by a file.  The file is created on the first write if it doesn't
+     * exist.
+     *
+     * @param file the store file.
+     */
+    public AbiFileStore(@NotNull File file) {
+        this.file = file;
+    }
+
+    /**
+     * Gets the store file.
+     *
+     * @return the store file.
+     */
+    @NotNull
+    public File getFile() {
+        return file;
+    }
+
+    /**
+     * Gets the hash of the latest stored ABI of an account.
+     *
+     * @param chainId the chain id.
+     * @param accountName the account name.
+     * @return the ABI hash in hex, null if no ABI is stored for the account.
+     * @throws IOException if the store can't be read.
+     */
+    @Nullable
+    public synchronized String getAbiHash(@NotNull String chainId, @NotNull String accountName)
+            throws IOException {
+        Record record = this.loadIndex().get(chainId + accountName);
+        return record == null ? null : record.abiHash;
+    }
+
+    /**
+     * Read the latest stored raw ABI of an account.
+     *
+     * @param chainId the chain id.
+     * @param accountName the account name.
+     * @return the raw ABI, null if no ABI is stored for the account.
+     * @throws IOException if the store can't be read.
+     */
+    @Nullable
+    public synchronized byte[] readAbi(@NotNull String chainId, @NotNull String accountName)
+            throws IOException {
+        Record record = this.loadIndex().get(chainId + accountName);
+        if (record == null) {
+            return null;
+        }
+
+        byte[] abi = new byte[record.length];
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(this.file, "r")) {
+            randomAccessFile.seek(record.offset);
+            randomAccessFile.readFully(abi);
+        }
+
+        return abi;
+    }
+
+    /**
+     * Append a raw ABI, which shadows the older records of the same chain and account.
+     *
+     * @param chainId the chain id.
+     * @param accountName the account name.
+     * @param abiHash the hash of the ABI in hex.
+     * @param abi the raw ABI.
+     * @throws IOException if the store can't be written.
+     */
+    public synchronized void writeAbi(@NotNull String chainId, @NotNull String accountName,
+            @NotNull String abiHash, @NotNull byte[] abi) throws IOException {
+        Map<String, Record> records = this.loadIndex();
+        long fileLength = this.file.length();
+        long recordOffset;
+        try (DataOutputStream outputStream = new DataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(this.file, true)))) {
+            if (fileLength == 0) {
+                outputStream.writeInt(MAGIC);
+            }
+
+            outputStream.writeUTF(chainId);
+            outputStream.writeUTF(accountName);
+            outputStream.writeUTF(abiHash);
+            outputStream.writeInt(abi.length);
+            recordOffset = fileLength + outputStream.size();
+            outputStream.write(abi);
+        }
+
+        records.put(chainId + accountName, new Record(abiHash, recordOffset, abi.length));
+    }
+
+    /**
+     * Load the index of the records on first use, truncating a record left incomplete by a crash.
+     */
+    @NotNull
+    private Map<String, Record> loadIndex() throws IOException {
+        if (this.index != null) {
+            return this.index;
+        }
+
+        Map<String, Record> records = new HashMap<>();
+        if (this.file.length() > 0) {
+            try (RandomAccessFile randomAccessFile = new RandomAccessFile(this.file, "rw")) {
+                if (randomAccessFile.length() < 4 || randomAccessFile.readInt() != MAGIC) {
+                    throw new IOException(String.format(ErrorConstants.ABI_STORE_INVALID_FILE,
+                            this.file.getPath()));
+                }
+
+                long validLength = randomAccessFile.getFilePointer();
+                try {
+                    while (validLength < randomAccessFile.length()) {
+                        String key = randomAccessFile.readUTF() + randomAccessFile.readUTF();
+                        String abiHash = randomAccessFile.readUTF();
+                        int length = randomAccessFile.readInt();
+                        long offset = randomAccessFile.getFilePointer();
+                        if (length < 0 || offset + length > randomAccessFile.length()) {
+                            break;
+                        }
+
+                        randomAccessFile.seek(offset + length);
+                        records.put(key, new Record(abiHash, offset, length));
+                        validLength = offset + length;
+                    }
+                } catch (EOFException eofException) {
+                    // Incomplete record, dropped below
+                }
+
+                if (validLength < randomAccessFile.length()) {
+                    randomAccessFile.setLength(validLength);
+                }
+            }
+        }
+
+        this.index = records;
+        return records;
+    }
+
+    /**
+     * Location of a stored raw ABI in the file.
+     */
+    private static final class Record {
+
+        @NotNull
+        private final String abiHash;
+
+        private final long offset;
+
+        private final int length;
+
+        Record(@NotNull String abiHash, long offset, int length) {
+            this.abiHash = abiHash;
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+}
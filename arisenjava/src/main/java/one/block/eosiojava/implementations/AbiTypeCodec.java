@@ -0,0 +1,467 @@
+package one.block.arisenjava.implementations;
+
+import static one.block.arisenjava.implementations.AbiBinaryCodec.ARRAY_SUFFIX;
+import static one.block.arisenjava.implementations.AbiBinaryCodec.BINARY_EXTENSION_SUFFIX;
+import static one.block.arisenjava.implementations.AbiBinaryCodec.OPTIONAL_SUFFIX;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import one.block.arisenjava.error.ErrorConstants;
+import one.block.arisenjava.models.abi.AbiField;
+import one.block.arisenjava.models.abi.CompiledAbi;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Encoder and decoder of one type of an ABI, specialized for it by
+ * {@link #compile(CompiledAbi, String)}.
+ * <p>
+ * Compiling resolves the type once into a tree of codecs: suffixes, type aliases, built-in types,
+ * variants and the fields of structs are looked up while compiling instead of for every value, and
+ * converting a value only calls the codecs of its members.  Built-in types are converted by
+ * {@link AbiBinaryCodec}.  Recursive types compile to a cyclic tree, whose depth is bounded while
+ * converting.
+ * <p>
+ * A compiled codec is immutable and can be shared between threads.
+ */
+abstract class AbiTypeCodec {
+
+    /**
+     * Compile the codec of a type.  Types unknown to the ABI compile to a codec failing when used,
+     * so only the values using them fail, as without compiling.
+     *
+     * @param abi the ABI defining the type.
+     * @param type the type to compile.
+     * @return the codec of the type.
+     */
+    @NotNull
+    static AbiTypeCodec compile(@NotNull CompiledAbi abi, @NotNull String type) {
+        return compileType(abi, type, new HashMap<String, AbiTypeCodec>());
+    }
+
+    /**
+     * Write the binary format of a JSON value.
+     *
+     * @param value the JSON value, null for a missing optional value.
+     * @param output the output of the binary format.
+     * @param depth the nesting of the value.
+     */
+    abstract void write(@Nullable JsonElement value, @NotNull AbiBinaryCodec.Output output,
+            int depth);
+
+    /**
+     * Read binary data and write its JSON format.
+     *
+     * @param buffer the binary data, in little endian order, read from its position.
+     * @param writer the writer of the JSON format.
+     * @param depth the nesting of the value.
+     * @throws IOException if the JSON can't be written.
+     */
+    abstract void read(@NotNull ByteBuffer buffer, @NotNull JsonWriter writer, int depth)
+            throws IOException;
+
+    /**
+     * Compile a type, reusing the codecs of the types already compiled.  Structs and variants are
+     * registered before their members are compiled, which ends the recursion of recursive types.
+     * Suffixed types and type aliases are registered as a {@link ForwardingCodec} before their
+     * target is compiled, so a type referring to itself through a suffix also compiles to a cycle.
+     */
+    @NotNull
+    private static AbiTypeCodec compileType(@NotNull CompiledAbi abi, @NotNull String type,
+            @NotNull Map<String, AbiTypeCodec> compiledTypes) {
+        AbiTypeCodec codec = compiledTypes.get(type);
+        if (codec != null) {
+            if (codec instanceof ForwardingCodec) {
+                ((ForwardingCodec) codec).isReferenced = true;
+            }
+
+            return codec;
+        }
+
+        if (type.endsWith(BINARY_EXTENSION_SUFFIX) || type.endsWith(OPTIONAL_SUFFIX)
+                || type.endsWith(ARRAY_SUFFIX) || !abi.resolveType(type).equals(type)) {
+            ForwardingCodec forwardingCodec = new ForwardingCodec(type);
+            compiledTypes.put(type, forwardingCodec);
+            codec = compileTarget(abi, type, compiledTypes);
+            if (forwardingCodec.isReferenced) {
+                forwardingCodec.target = codec;
+                codec = forwardingCodec;
+            }
+        } else if (AbiBinaryCodec.isBuiltInType(type)) {
+            codec = new BuiltInCodec(AbiBinaryCodec.builtInType(type));
+        } else if (abi.getVariant(type) != null) {
+            List<String> variantTypes = abi.getVariant(type);
+            VariantCodec variantCodec = new VariantCodec(type, variantTypes);
+            compiledTypes.put(type, variantCodec);
+            for (int i = 0; i < variantTypes.size(); i++) {
+                variantCodec.codecs[i] = compileType(abi, variantTypes.get(i), compiledTypes);
+            }
+
+            codec = variantCodec;
+        } else if (abi.getStruct(type) != null) {
+            List<AbiField> fields = abi.getStruct(type).getFields();
+            StructCodec structCodec = new StructCodec(type, fields);
+            compiledTypes.put(type, structCodec);
+            for (int i = 0; i < fields.size(); i++) {
+                structCodec.codecs[i] = compileType(abi, fields.get(i).getType(), compiledTypes);
+            }
+
+            codec = structCodec;
+        } else {
+            codec = new UnknownTypeCodec(type);
+        }
+
+        compiledTypes.put(type, codec);
+        return codec;
+    }
+
+    /**
+     * Compile the codec of a suffixed type or of a type alias from the codec of its target.
+     */
+    @NotNull
+    private static AbiTypeCodec compileTarget(@NotNull CompiledAbi abi, @NotNull String type,
+            @NotNull Map<String, AbiTypeCodec> compiledTypes) {
+        if (type.endsWith(BINARY_EXTENSION_SUFFIX)) {
+            return compileType(abi, AbiBinaryCodec.stripSuffix(type, BINARY_EXTENSION_SUFFIX),
+                    compiledTypes);
+        } else if (type.endsWith(OPTIONAL_SUFFIX)) {
+            return new OptionalCodec(type, compileType(abi,
+                    AbiBinaryCodec.stripSuffix(type, OPTIONAL_SUFFIX), compiledTypes));
+        } else if (type.endsWith(ARRAY_SUFFIX)) {
+            return new ArrayCodec(type, compileType(abi,
+                    AbiBinaryCodec.stripSuffix(type, ARRAY_SUFFIX), compiledTypes));
+        }
+
+        return compileType(abi, abi.resolveType(type), compiledTypes);
+    }
+
+    private static void checkDepth(@NotNull String type, int depth) {
+        if (depth > AbiBinaryCodec.MAX_DEPTH) {
+            throw new IllegalArgumentException(
+                    String.format(ErrorConstants.SERIALIZATION_PROVIDER_TYPE_TOO_DEEP, type));
+        }
+    }
+
+    /**
+     * Codec of a built-in type, resolved when the type is compiled.
+     */
+    private static final class BuiltInCodec extends AbiTypeCodec {
+
+        @NotNull
+        private final AbiBinaryCodec.BuiltInType builtInType;
+
+        BuiltInCodec(@NotNull AbiBinaryCodec.BuiltInType builtInType) {
+            this.builtInType = builtInType;
+        }
+
+        @Override
+        void write(@Nullable JsonElement value, @NotNull AbiBinaryCodec.Output output, int depth) {
+            this.builtInType.write(value, output);
+        }
+
+        @Override
+        void read(@NotNull ByteBuffer buffer, @NotNull JsonWriter writer, int depth)
+                throws IOException {
+            this.builtInType.read(buffer, writer);
+        }
+    }
+
+    /**
+     * Codec of an optional value, a presence flag followed by the value.
+     */
+    private static final class OptionalCodec extends AbiTypeCodec {
+
+        @NotNull
+        private final String type;
+
+        @NotNull
+        private final AbiTypeCodec valueCodec;
+
+        OptionalCodec(@NotNull String type, @NotNull AbiTypeCodec valueCodec) {
+            this.type = type;
+            this.valueCodec = valueCodec;
+        }
+
+        @Override
+        void write(@Nullable JsonElement value, @NotNull AbiBinaryCodec.Output output, int depth) {
+            if (value == null || value.isJsonNull()) {
+                output.writeByte(0);
+            } else {
+                output.writeByte(1);
+                this.valueCodec.write(value, output, depth + 1);
+            }
+        }
+
+        @Override
+        void read(@NotNull ByteBuffer buffer, @NotNull JsonWriter writer, int depth)
+                throws IOException {
+            byte flag = buffer.get();
+            if (flag == 0) {
+                writer.nullValue();
+            } else if (flag == 1) {
+                this.valueCodec.read(buffer, writer, depth + 1);
+            } else {
+                throw AbiBinaryCodec.invalidData(this.type);
+            }
+        }
+    }
+
+    /**
+     * Codec of an array, its size followed by its elements.
+     */
+    private static final class ArrayCodec extends AbiTypeCodec {
+
+        @NotNull
+        private final String type;
+
+        @NotNull
+        private final AbiTypeCodec elementCodec;
+
+        ArrayCodec(@NotNull String type, @NotNull AbiTypeCodec elementCodec) {
+            this.type = type;
+            this.elementCodec = elementCodec;
+        }
+
+        @Override
+        void write(@Nullable JsonElement value, @NotNull AbiBinaryCodec.Output output, int depth) {
+            if (value == null || !value.isJsonArray()) {
+                throw AbiBinaryCodec.invalidValue(this.type, value);
+            }
+
+            JsonArray array = value.getAsJsonArray();
+            output.writeVarUint32(array.size());
+            for (JsonElement element : array) {
+                this.elementCodec.write(element, output, depth + 1);
+            }
+        }
+
+        @Override
+        void read(@NotNull ByteBuffer buffer, @NotNull JsonWriter writer, int depth)
+                throws IOException {
+            long size = AbiBinaryCodec.readVarUint32(buffer);
+            writer.beginArray();
+            for (long i = 0; i < size; i++) {
+                this.elementCodec.read(buffer, writer, depth + 1);
+            }
+
+            writer.endArray();
+        }
+    }
+
+    /**
+     * Codec of a variant, the index of its type followed by the value.
+     */
+    private static final class VariantCodec extends AbiTypeCodec {
+
+        @NotNull
+        private final String type;
+
+        @NotNull
+        private final List<String> types;
+
+        /**
+         * Codecs of the types, set once while compiling.
+         */
+        @NotNull
+        private final AbiTypeCodec[] codecs;
+
+        VariantCodec(@NotNull String type, @NotNull List<String> types) {
+            this.type = type;
+            this.types = types;
+            this.codecs = new AbiTypeCodec[types.size()];
+        }
+
+        @Override
+        void write(@Nullable JsonElement value, @NotNull AbiBinaryCodec.Output output, int depth) {
+            checkDepth(this.type, depth);
+            if (value == null || !value.isJsonArray() || value.getAsJsonArray().size() != 2
+                    || !AbiBinaryCodec.isString(value.getAsJsonArray().get(0))) {
+                throw AbiBinaryCodec.invalidValue(this.type, value);
+            }
+
+            String variantType = value.getAsJsonArray().get(0).getAsString();
+            int index = this.types.indexOf(variantType);
+            if (index < 0) {
+                throw new IllegalArgumentException(String.format(
+                        ErrorConstants.SERIALIZATION_PROVIDER_UNKNOWN_VARIANT_TYPE, variantType,
+                        this.type));
+            }
+
+            output.writeVarUint32(index);
+            this.codecs[index].write(value.getAsJsonArray().get(1), output, depth + 1);
+        }
+
+        @Override
+        void read(@NotNull ByteBuffer buffer, @NotNull JsonWriter writer, int depth)
+                throws IOException {
+            checkDepth(this.type, depth);
+            long index = AbiBinaryCodec.readVarUint32(buffer);
+            if (index >= this.codecs.length) {
+                throw AbiBinaryCodec.invalidData(this.type);
+            }
+
+            writer.beginArray();
+            writer.value(this.types.get((int) index));
+            this.codecs[(int) index].read(buffer, writer, depth + 1);
+            writer.endArray();
+        }
+    }
+
+    /**
+     * Codec of a struct, its fields in order, including the ones of its base structs.
+     */
+    private static final class StructCodec extends AbiTypeCodec {
+
+        @NotNull
+        private final String type;
+
+        @NotNull
+        private final String[] names;
+
+        private final boolean[] isOptionals;
+
+        private final boolean[] isExtensions;
+
+        /**
+         * Codecs of the fields, set once while compiling.
+         */
+        @NotNull
+        private final AbiTypeCodec[] codecs;
+
+        StructCodec(@NotNull String type, @NotNull List<AbiField> fields) {
+            this.type = type;
+            this.names = new String[fields.size()];
+            this.isOptionals = new boolean[fields.size()];
+            this.isExtensions = new boolean[fields.size()];
+            this.codecs = new AbiTypeCodec[fields.size()];
+            for (int i = 0; i < fields.size(); i++) {
+                this.names[i] = fields.get(i).getName();
+                this.isOptionals[i] = fields.get(i).getType().endsWith(OPTIONAL_SUFFIX);
+                this.isExtensions[i] = fields.get(i).getType().endsWith(BINARY_EXTENSION_SUFFIX);
+            }
+        }
+
+        @Override
+        void write(@Nullable JsonElement value, @NotNull AbiBinaryCodec.Output output, int depth) {
+            checkDepth(this.type, depth);
+            if (value == null || !value.isJsonObject()) {
+                throw AbiBinaryCodec.invalidValue(this.type, value);
+            }
+
+            JsonObject object = value.getAsJsonObject();
+            boolean isExtensionMissing = false;
+            for (int i = 0; i < this.codecs.length; i++) {
+                JsonElement fieldValue = object.get(this.names[i]);
+                if (this.isExtensions[i] && fieldValue == null) {
+                    isExtensionMissing = true;
+                    continue;
+                }
+
+                if (isExtensionMissing) {
+                    throw new IllegalArgumentException(String.format(
+                            ErrorConstants.SERIALIZATION_PROVIDER_FIELD_AFTER_MISSING_EXTENSION,
+                            this.names[i], this.type));
+                }
+
+                if (fieldValue == null && !this.isOptionals[i]) {
+                    throw new IllegalArgumentException(String.format(
+                            ErrorConstants.SERIALIZATION_PROVIDER_MISSING_FIELD, this.names[i],
+                            this.type));
+                }
+
+                this.codecs[i].write(fieldValue, output, depth + 1);
+            }
+        }
+
+        @Override
+        void read(@NotNull ByteBuffer buffer, @NotNull JsonWriter writer, int depth)
+                throws IOException {
+            checkDepth(this.type, depth);
+            writer.beginObject();
+            for (int i = 0; i < this.codecs.length; i++) {
+                if (this.isExtensions[i] && !buffer.hasRemaining()) {
+                    break;
+                }
+
+                writer.name(this.names[i]);
+                this.codecs[i].read(buffer, writer, depth + 1);
+            }
+
+            writer.endObject();
+        }
+    }
+
+    /**
+     * Codec of a type referring to itself through a suffix or an alias, forwarding to the codec of
+     * its target.  Each forward counts as a nesting level, which bounds the cycle while converting.
+     */
+    private static final class ForwardingCodec extends AbiTypeCodec {
+
+        @NotNull
+        private final String type;
+
+        /**
+         * Whether the type refers to itself, set while compiling.
+         */
+        private boolean isReferenced;
+
+        /**
+         * Codec of the target, set once while compiling.
+         */
+        @Nullable
+        private AbiTypeCodec target;
+
+        ForwardingCodec(@NotNull String type) {
+            this.type = type;
+        }
+
+        @Override
+        void write(@Nullable JsonElement value, @NotNull AbiBinaryCodec.Output output, int depth) {
+            checkDepth(this.type, depth);
+            this.target.write(value, output, depth + 1);
+        }
+
+        @Override
+        void read(@NotNull ByteBuffer buffer, @NotNull JsonWriter writer, int depth)
+                throws IOException {
+            checkDepth(this.type, depth);
+            this.target.read(buffer, writer, depth + 1);
+        }
+    }
+
+    /**
+     * Codec of a type the ABI doesn't define, failing when used.
+     */
+    private static final class UnknownTypeCodec extends AbiTypeCodec {
+
+        @NotNull
+        private final String type;
+
+        UnknownTypeCodec(@NotNull String type) {
+            this.type = type;
+        }
+
+        @Override
+        void write(@Nullable JsonElement value, @NotNull AbiBinaryCodec.Output output, int depth) {
+            throw this.unknownType();
+        }
+
+        @Override
+        void read(@NotNull ByteBuffer buffer, @NotNull JsonWriter writer, int depth) {
+            throw this.unknownType();
+        }
+
+        @NotNull
+        private IllegalArgumentException unknownType() {
+            return new IllegalArgumentException(
+                    String.format(ErrorConstants.SERIALIZATION_PROVIDER_UNKNOWN_TYPE, this.type));
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package one.block.arisenjava.implementations;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import one.block.arisenjava.models.AbiFetchResult;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Progress of an ABI warmup started by {@link ABIProviderImpl#warmUp(String, java.util.List)}.
+ * <p>
+ * The warmup is done once every account was fetched and compiled or failed, and ready if all of
+ * them succeeded.  Startup code can block on {@link AbiWarmup#awaitDone(long, TimeUnit)} and health
+ * checks can report {@link AbiWarmup#isReady()}.
+ */
+public final class AbiWarmup {
+
+    /**
+     * Number of distinct accounts to warm up.
+     */
+    private final int accountCount;
+
+    private final CountDownLatch doneLatch = new CountDownLatch(1);
+
+    /**
+     * Warmed up ABIs and errors by account name, null until done.
+     */
+    @Nullable
+    private volatile AbiFetchResult result;
+
+    /**
+     * Instantiates the progress of a warmup.
+     *
+     * @param accountCount the number of distinct accounts to warm up.
+     */
+    AbiWarmup(int accountCount) {
+        this.accountCount = accountCount;
+    }
+
+    /**
+     * Gets the number of distinct accounts to warm up.
+     *
+     * @return the number of accounts.
+     */
+    public int getAccountCount() {
+        return accountCount;
+    }
+
+    /**
+     * Whether every account was warmed up or failed.
+     *
+     * @return true if the warmup is done.
+     */
+    public boolean isDone() {
+        return this.result != null;
+    }
+
+    /**
+     * Whether the ABI of every account was fetched and compiled.
+     *
+     * @return true if the warmup is done without error.
+     */
+    public boolean isReady() {
+        AbiFetchResult doneResult = this.result;
+        return doneResult != null && doneResult.isComplete();
+    }
+
+    /**
+     * Wait for the warmup to be done.
+     *
+     * @param timeout the maximum time to wait.
+     * @param timeUnit the unit of the timeout.
+     * @return true if the warmup is done, false if the timeout elapsed before.
+     * @throws InterruptedException if the current thread is interrupted while waiting.
+     */
+    public boolean awaitDone(long timeout, @NotNull TimeUnit timeUnit) throws InterruptedException {
+        return this.doneLatch.await(timeout, timeUnit);
+    }
+
+    /**
+     * Gets the warmed up ABIs and the error of each failed account.
+     *
+     * @return the result, null until the warmup is done.
+     */
+    @Nullable
+    public AbiFetchResult getResult() {
+        return result;
+    }
+
+    /**
+     * Mark the warmup as done.
+     *
+     * @param result the warmed up ABIs and the errors by account name.
+     */
+    void complete(@NotNull AbiFetchResult result) {
+        this.result = result;
+        this.doneLatch.countDown();
+    }
+}
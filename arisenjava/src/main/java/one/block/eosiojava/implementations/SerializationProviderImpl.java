@@ -0,0 +1,566 @@
+package one.block.arisenjava.implementations;
+
+import com.google.common.base.Strings;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import one.block.arisenjava.error.ErrorConstants;
+import one.block.arisenjava.error.abiProvider.CompileAbiError;
+import one.block.arisenjava.error.serializationProvider.DeserializeAbiError;
+import one.block.arisenjava.error.serializationProvider.DeserializeError;
+import one.block.arisenjava.error.serializationProvider.DeserializeTransactionError;
+import one.block.arisenjava.error.serializationProvider.SerializeAbiError;
+import one.block.arisenjava.error.serializationProvider.SerializeError;
+import one.block.arisenjava.error.serializationProvider.SerializeTransactionError;
+import one.block.arisenjava.interfaces.ISerializationProvider;
+import one.block.arisenjava.models.AbiRixSerializationObject;
+import one.block.arisenjava.models.abi.CompiledAbi;
+import one.block.arisenjava.utilities.ByteFormatter;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Pure Java implementation of {@link ISerializationProvider}.
+ * <p>
+ * Action data is converted with the ABI of its contract, using the compiled ABI carried by the
+ * serialization object when there is one.  Transactions and ABIs are converted with built-in
+ * definitions of the transaction and ABI structs.  The whole ABI type system is supported: built-in
+ * types, type aliases, structs with base structs and binary extension fields, variants, optionals and
+ * arrays.  Hex results are upper case.
+ * <p>
+ * The byte variants of the interface are implemented natively: they read and write the binary data
+ * without any hex conversion, see {@link ISerializationProvider#isByteSerializationSupported()}.
+ * <p>
+ * When the serialization object carries a compiled ABI, the type is converted by a codec specialized
+ * for it, compiled the first time the type of that ABI is converted and cached with the compiled ABI.
+ * As {@link ABIProviderImpl} compiles an ABI once per hash, a contract upgrade gets new codecs and the
+ * ones of the old ABI are dropped with it.  The codec of a JSON ABI, compiled for a single use, is
+ * not cached.
+ * <p>
+ * The provider can be shared between threads.
+ */
+public class SerializationProviderImpl implements ISerializationProvider {
+
+    /**
+     * Type of the transactions in {@link SerializationProviderImpl#TRANSACTION_ABI}.
+     */
+    private static final String TRANSACTION_TYPE = "transaction";
+
+    /**
+     * Type of the ABIs in {@link SerializationProviderImpl#ABI_DEF_ABI}.
+     */
+    private static final String ABI_TYPE = "abi_def";
+
+    /**
+     * Members of an ABI which default to an empty array when serializing an ABI without them.
+     */
+    private static final String[] ABI_ARRAY_MEMBERS = {"types", "structs", "actions", "tables",
+            "ricardian_clauses", "error_messages", "abi_extensions"};
+
+    /**
+     * Definition of the transaction struct and its members.
+     */
+    private static final CompiledAbi TRANSACTION_ABI = compileBuiltInAbi("{"
+            + "\"version\":\"arisen::abi/1.0\","
+            + "\"structs\":["
+            + "{\"name\":\"permission_level\",\"base\":\"\",\"fields\":["
+            + "{\"name\":\"actor\",\"type\":\"name\"},"
+            + "{\"name\":\"permission\",\"type\":\"name\"}]},"
+            + "{\"name\":\"action\",\"base\":\"\",\"fields\":["
+            + "{\"name\":\"account\",\"type\":\"name\"},"
+            + "{\"name\":\"name\",\"type\":\"name\"},"
+            + "{\"name\":\"authorization\",\"type\":\"permission_level[]\"},"
+            + "{\"name\":\"data\",\"type\":\"bytes\"}]},"
+            + "{\"name\":\"extension\",\"base\":\"\",\"fields\":["
+            + "{\"name\":\"type\",\"type\":\"uint16\"},"
+            + "{\"name\":\"data\",\"type\":\"bytes\"}]},"
+            + "{\"name\":\"transaction_header\",\"base\":\"\",\"fields\":["
+            + "{\"name\":\"expiration\",\"type\":\"time_point_sec\"},"
+            + "{\"name\":\"ref_block_num\",\"type\":\"uint16\"},"
+            + "{\"name\":\"ref_block_prefix\",\"type\":\"uint32\"},"
+            + "{\"name\":\"max_net_usage_words\",\"type\":\"varuint32\"},"
+            + "{\"name\":\"max_cpu_usage_ms\",\"type\":\"uint8\"},"
+            + "{\"name\":\"delay_sec\",\"type\":\"varuint32\"}]},"
+            + "{\"name\":\"transaction\",\"base\":\"transaction_header\",\"fields\":["
+            + "{\"name\":\"context_free_actions\",\"type\":\"action[]\"},"
+            + "{\"name\":\"actions\",\"type\":\"action[]\"},"
+            + "{\"name\":\"transaction_extensions\",\"type\":\"extension[]\"}]}"
+            + "]}");
+
+    /**
+     * Definition of the ABI struct and its members, up to ABI version 1.2.
+     */
+    private static final CompiledAbi ABI_DEF_ABI = compileBuiltInAbi("{"
+            + "\"version\":\"arisen::abi/1.0\","
+            + "\"structs\":["
+            + "{\"name\":\"type_def\",\"base\":\"\",\"fields\":["
+            + "{\"name\":\"new_type_name\",\"type\":\"string\"},"
+            + "{\"name\":\"type\",\"type\":\"string\"}]},"
+            + "{\"name\":\"field_def\",\"base\":\"\",\"fields\":["
+            + "{\"name\":\"name\",\"type\":\"string\"},"
+            + "{\"name\":\"type\",\"type\":\"string\"}]},"
+            + "{\"name\":\"struct_def\",\"base\":\"\",\"fields\":["
+            + "{\"name\":\"name\",\"type\":\"string\"},"
+            + "{\"name\":\"base\",\"type\":\"string\"},"
+            + "{\"name\":\"fields\",\"type\":\"field_def[]\"}]},"
+            + "{\"name\":\"action_def\",\"base\":\"\",\"fields\":["
+            + "{\"name\":\"name\",\"type\":\"name\"},"
+            + "{\"name\":\"type\",\"type\":\"string\"},"
+            + "{\"name\":\"ricardian_contract\",\"type\":\"string\"}]},"
+            + "{\"name\":\"table_def\",\"base\":\"\",\"fields\":["
+            + "{\"name\":\"name\",\"type\":\"name\"},"
+            + "{\"name\":\"index_type\",\"type\":\"string\"},"
+            + "{\"name\":\"key_names\",\"type\":\"string[]\"},"
+            + "{\"name\":\"key_types\",\"type\":\"string[]\"},"
+            + "{\"name\":\"type\",\"type\":\"string\"}]},"
+            + "{\"name\":\"clause_pair\",\"base\":\"\",\"fields\":["
+            + "{\"name\":\"id\",\"type\":\"string\"},"
+            + "{\"name\":\"body\",\"type\":\"string\"}]},"
+            + "{\"name\":\"error_message\",\"base\":\"\",\"fields\":["
+            + "{\"name\":\"error_code\",\"type\":\"uint64\"},"
+            + "{\"name\":\"error_msg\",\"type\":\"string\"}]},"
+            + "{\"name\":\"extension\",\"base\":\"\",\"fields\":["
+            + "{\"name\":\"type\",\"type\":\"uint16\"},"
+            + "{\"name\":\"data\",\"type\":\"bytes\"}]},"
+            + "{\"name\":\"variant_def\",\"base\":\"\",\"fields\":["
+            + "{\"name\":\"name\",\"type\":\"string\"},"
+            + "{\"name\":\"types\",\"type\":\"string[]\"}]},"
+            + "{\"name\":\"action_result_def\",\"base\":\"\",\"fields\":["
+            + "{\"name\":\"name\",\"type\":\"name\"},"
+            + "{\"name\":\"result_type\",\"type\":\"string\"}]},"
+            + "{\"name\":\"abi_def\",\"base\":\"\",\"fields\":["
+            + "{\"name\":\"version\",\"type\":\"string\"},"
+            + "{\"name\":\"types\",\"type\":\"type_def[]\"},"
+            + "{\"name\":\"structs\",\"type\":\"struct_def[]\"},"
+            + "{\"name\":\"actions\",\"type\":\"action_def[]\"},"
+            + "{\"name\":\"tables\",\"type\":\"table_def[]\"},"
+            + "{\"name\":\"ricardian_clauses\",\"type\":\"clause_pair[]\"},"
+            + "{\"name\":\"error_messages\",\"type\":\"error_message[]\"},"
+            + "{\"name\":\"abi_extensions\",\"type\":\"extension[]\"},"
+            + "{\"name\":\"variants\",\"type\":\"variant_def[]$\"},"
+            + "{\"name\":\"action_results\",\"type\":\"action_result_def[]$\"}]}"
+            + "]}");
+
+    private static final AbiTypeCodec TRANSACTION_CODEC
+            = AbiTypeCodec.compile(TRANSACTION_ABI, TRANSACTION_TYPE);
+
+    private static final AbiTypeCodec ABI_DEF_CODEC = AbiTypeCodec.compile(ABI_DEF_ABI, ABI_TYPE);
+
+    /**
+     * Compiled codecs of the types of each compiled ABI.  The ABIs are weak keys, compared by
+     * identity, so the codecs live as long as their ABI is used.
+     */
+    private static final LoadingCache<CompiledAbi, ConcurrentMap<String, AbiTypeCodec>> CODECS
+            = CacheBuilder.newBuilder()
+            .weakKeys()
+            .build(new CacheLoader<CompiledAbi, ConcurrentMap<String, AbiTypeCodec>>() {
+                @Override
+                public ConcurrentMap<String, AbiTypeCodec> load(@NotNull CompiledAbi abi) {
+                    return new ConcurrentHashMap<>();
+                }
+            });
+
+    /**
+     * Serialize the JSON data of an action, or of a type when the serialization object has one, to
+     * hex using the ABI of the contract.
+     *
+     * @param serializationObject the object passing the JSON data, the ABI and the action name or
+     * type.  The result is placed in its hex field.
+     * @throws SerializeError thrown if the ABI is invalid, the action or type is not found in it or
+     * the JSON doesn't match the type.
+     */
+    @Override
+    public void serialize(@NotNull AbiRixSerializationObject serializationObject)
+            throws SerializeError {
+        serializationObject.setHex(toHex(this.serializeToBytes(serializationObject)));
+    }
+
+    /**
+     * Serialize the JSON data of an action, or of a type when the serialization object has one, to
+     * bytes using the ABI of the contract.  The hex field of the serialization object is not set.
+     *
+     * @param serializationObject the object passing the JSON data, the ABI and the action name or
+     * type.
+     * @return the serialized data.
+     * @throws SerializeError thrown if the ABI is invalid, the action or type is not found in it or
+     * the JSON doesn't match the type.
+     */
+    @Override
+    @NotNull
+    public byte[] serializeToBytes(@NotNull AbiRixSerializationObject serializationObject)
+            throws SerializeError {
+        CompiledAbi abi;
+        try {
+            abi = getCompiledAbi(serializationObject);
+        } catch (CompileAbiError compileAbiError) {
+            throw new SerializeError(String.format(ErrorConstants.SERIALIZATION_PROVIDER_INVALID_ABI,
+                    serializationObject.getContract()), compileAbiError);
+        }
+
+        String type = getType(serializationObject, abi);
+        if (type == null) {
+            throw new SerializeError(String.format(ErrorConstants.SERIALIZATION_PROVIDER_UNKNOWN_ACTION,
+                    serializationObject.getName(), serializationObject.getContract()));
+        }
+
+        try {
+            return serializeToBytes(getCodec(serializationObject, abi, type),
+                    parseJson(serializationObject.getJson()));
+        } catch (IllegalArgumentException | IllegalStateException | JsonParseException exception) {
+            throw new SerializeError(
+                    String.format(ErrorConstants.SERIALIZATION_PROVIDER_SERIALIZE_ERROR, type), exception);
+        }
+    }
+
+    /**
+     * Deserialize the hex data of an action, or of a type when the serialization object has one, to
+     * JSON using the ABI of the contract.
+     *
+     * @param deserilizationObject the object passing the hex data, the ABI and the action name or
+     * type.  The result is placed in its json field.
+     * @throws DeserializeError thrown if the ABI is invalid, the action or type is not found in it or
+     * the hex is not a valid value of the type.
+     */
+    @Override
+    public void deserialize(@NotNull AbiRixSerializationObject deserilizationObject)
+            throws DeserializeError {
+        ByteBuffer data;
+        try {
+            data = fromHex(deserilizationObject.getHex());
+        } catch (IllegalArgumentException | IllegalStateException exception) {
+            throw new DeserializeError(String.format(ErrorConstants.SERIALIZATION_PROVIDER_DESERIALIZE_ERROR,
+                    deserilizationObject.getType()), exception);
+        }
+
+        this.deserialize(deserilizationObject, data);
+    }
+
+    /**
+     * Deserialize the binary data of an action, or of a type when the serialization object has one,
+     * to JSON using the ABI of the contract.
+     *
+     * @param deserilizationObject the object passing the ABI and the action name or type.  The
+     * result is placed in its json field.
+     * @param data the binary data, read from its position to its limit.  The position of the buffer
+     * is not changed.
+     * @throws DeserializeError thrown if the ABI is invalid, the action or type is not found in it or
+     * the data is not a valid value of the type.
+     */
+    @Override
+    public void deserialize(@NotNull AbiRixSerializationObject deserilizationObject,
+            @NotNull ByteBuffer data) throws DeserializeError {
+        CompiledAbi abi;
+        try {
+            abi = getCompiledAbi(deserilizationObject);
+        } catch (CompileAbiError compileAbiError) {
+            throw new DeserializeError(String.format(ErrorConstants.SERIALIZATION_PROVIDER_INVALID_ABI,
+                    deserilizationObject.getContract()), compileAbiError);
+        }
+
+        String type = getType(deserilizationObject, abi);
+        if (type == null) {
+            throw new DeserializeError(String.format(ErrorConstants.SERIALIZATION_PROVIDER_UNKNOWN_ACTION,
+                    deserilizationObject.getName(), deserilizationObject.getContract()));
+        }
+
+        try {
+            deserilizationObject.setJson(
+                    deserializeToJson(getCodec(deserilizationObject, abi, type), data));
+        } catch (IllegalArgumentException | IllegalStateException | BufferUnderflowException exception) {
+            throw new DeserializeError(
+                    String.format(ErrorConstants.SERIALIZATION_PROVIDER_DESERIALIZE_ERROR, type), exception);
+        }
+    }
+
+    /**
+     * Deserialize a transaction from hex to JSON.
+     *
+     * @param hex the serialized transaction in hex.
+     * @return the transaction in JSON format.
+     * @throws DeserializeTransactionError thrown if the hex is not a valid transaction.
+     */
+    @Override
+    @NotNull
+    public String deserializeTransaction(@NotNull String hex) throws DeserializeTransactionError {
+        try {
+            return this.deserializeTransaction(fromHex(hex));
+        } catch (IllegalArgumentException | IllegalStateException exception) {
+            throw new DeserializeTransactionError(String.format(
+                    ErrorConstants.SERIALIZATION_PROVIDER_DESERIALIZE_ERROR, TRANSACTION_TYPE), exception);
+        }
+    }
+
+    /**
+     * Deserialize a transaction from bytes to JSON.
+     *
+     * @param serializedTransaction the serialized transaction, read from its position to its limit.
+     * The position of the buffer is not changed.
+     * @return the transaction in JSON format.
+     * @throws DeserializeTransactionError thrown if the data is not a valid transaction.
+     */
+    @Override
+    @NotNull
+    public String deserializeTransaction(@NotNull ByteBuffer serializedTransaction)
+            throws DeserializeTransactionError {
+        try {
+            return deserializeToJson(TRANSACTION_CODEC, serializedTransaction);
+        } catch (IllegalArgumentException | IllegalStateException | BufferUnderflowException exception) {
+            throw new DeserializeTransactionError(String.format(
+                    ErrorConstants.SERIALIZATION_PROVIDER_DESERIALIZE_ERROR, TRANSACTION_TYPE), exception);
+        }
+    }
+
+    /**
+     * Serialize a transaction from JSON to hex.  The data of its actions must already be serialized.
+     *
+     * @param json the transaction in JSON format.
+     * @return the serialized transaction in hex.
+     * @throws SerializeTransactionError thrown if the JSON is not a valid transaction.
+     */
+    @Override
+    @NotNull
+    public String serializeTransaction(@NotNull String json) throws SerializeTransactionError {
+        return toHex(this.serializeTransactionToBytes(json));
+    }
+
+    /**
+     * Serialize a transaction from JSON to bytes.  The data of its actions must already be
+     * serialized.
+     *
+     * @param json the transaction in JSON format.
+     * @return the serialized transaction.
+     * @throws SerializeTransactionError thrown if the JSON is not a valid transaction.
+     */
+    @Override
+    @NotNull
+    public byte[] serializeTransactionToBytes(@NotNull String json) throws SerializeTransactionError {
+        try {
+            return serializeToBytes(TRANSACTION_CODEC, parseJson(json));
+        } catch (IllegalArgumentException | IllegalStateException | JsonParseException exception) {
+            throw new SerializeTransactionError(String.format(
+                    ErrorConstants.SERIALIZATION_PROVIDER_SERIALIZE_ERROR, TRANSACTION_TYPE), exception);
+        }
+    }
+
+    /**
+     * Deserialize an ABI from hex, as returned by the get_raw_abi endpoint, to JSON.
+     *
+     * @param hex the serialized ABI in hex.
+     * @return the ABI in JSON format.
+     * @throws DeserializeAbiError thrown if the hex is not a valid ABI.
+     */
+    @Override
+    @NotNull
+    public String deserializeAbi(@NotNull String hex) throws DeserializeAbiError {
+        try {
+            return this.deserializeAbi(fromHex(hex));
+        } catch (IllegalArgumentException | IllegalStateException exception) {
+            throw new DeserializeAbiError(String.format(
+                    ErrorConstants.SERIALIZATION_PROVIDER_DESERIALIZE_ERROR, ABI_TYPE), exception);
+        }
+    }
+
+    /**
+     * Deserialize an ABI from bytes, as returned by the get_raw_abi endpoint, to JSON.
+     *
+     * @param serializedAbi the serialized ABI, read from its position to its limit.  The position of
+     * the buffer is not changed.
+     * @return the ABI in JSON format.
+     * @throws DeserializeAbiError thrown if the data is not a valid ABI.
+     */
+    @Override
+    @NotNull
+    public String deserializeAbi(@NotNull ByteBuffer serializedAbi) throws DeserializeAbiError {
+        try {
+            return deserializeToJson(ABI_DEF_CODEC, serializedAbi);
+        } catch (IllegalArgumentException | IllegalStateException | BufferUnderflowException exception) {
+            throw new DeserializeAbiError(String.format(
+                    ErrorConstants.SERIALIZATION_PROVIDER_DESERIALIZE_ERROR, ABI_TYPE), exception);
+        }
+    }
+
+    /**
+     * Serialize an ABI from JSON to hex.  Missing array members of the ABI and missing bases of its
+     * structs are serialized empty, as ABI files usually omit them.
+     *
+     * @param json the ABI in JSON format.
+     * @return the serialized ABI in hex.
+     * @throws SerializeAbiError thrown if the JSON is not a valid ABI.
+     */
+    @Override
+    @NotNull
+    public String serializeAbi(@NotNull String json) throws SerializeAbiError {
+        return toHex(this.serializeAbiToBytes(json));
+    }
+
+    /**
+     * Serialize an ABI from JSON to bytes.  Missing array members of the ABI and missing bases of
+     * its structs are serialized empty, as ABI files usually omit them.
+     *
+     * @param json the ABI in JSON format.
+     * @return the serialized ABI.
+     * @throws SerializeAbiError thrown if the JSON is not a valid ABI.
+     */
+    @Override
+    @NotNull
+    public byte[] serializeAbiToBytes(@NotNull String json) throws SerializeAbiError {
+        try {
+            JsonElement abi = parseJson(json);
+            if (abi.isJsonObject()) {
+                JsonObject abiObject = abi.getAsJsonObject();
+                for (String member : ABI_ARRAY_MEMBERS) {
+                    if (!abiObject.has(member)) {
+                        abiObject.add(member, new JsonArray());
+                    }
+                }
+
+                if (abiObject.get("structs").isJsonArray()) {
+                    for (JsonElement struct : abiObject.getAsJsonArray("structs")) {
+                        if (struct.isJsonObject() && !struct.getAsJsonObject().has("base")) {
+                            struct.getAsJsonObject().addProperty("base", "");
+                        }
+                    }
+                }
+            }
+
+            return serializeToBytes(ABI_DEF_CODEC, abi);
+        } catch (IllegalArgumentException | IllegalStateException | JsonParseException exception) {
+            throw new SerializeAbiError(String.format(
+                    ErrorConstants.SERIALIZATION_PROVIDER_SERIALIZE_ERROR, ABI_TYPE), exception);
+        }
+    }
+
+    /**
+     * The byte variants are implemented natively, the hex methods convert from and to them.
+     *
+     * @return true.
+     */
+    @Override
+    public boolean isByteSerializationSupported() {
+        return true;
+    }
+
+    /**
+     * Gets the compiled ABI of a serialization object, compiling its JSON ABI if it carries none.
+     */
+    @NotNull
+    private static CompiledAbi getCompiledAbi(@NotNull AbiRixSerializationObject serializationObject)
+            throws CompileAbiError {
+        CompiledAbi compiledAbi = serializationObject.getCompiledAbi();
+        return compiledAbi != null ? compiledAbi : CompiledAbi.compile(serializationObject.getAbi());
+    }
+
+    /**
+     * Gets the type to convert: the type of the serialization object if set, otherwise the type of
+     * its action.
+     *
+     * @return the type, null if the action is not found in the ABI.
+     */
+    private static String getType(@NotNull AbiRixSerializationObject serializationObject,
+            @NotNull CompiledAbi abi) {
+        if (!Strings.isNullOrEmpty(serializationObject.getType())) {
+            return serializationObject.getType();
+        }
+
+        return abi.getActionType(serializationObject.getName());
+    }
+
+    /**
+     * Gets the codec of a type.  The codec of a compiled ABI carried by the serialization object is
+     * compiled the first time and cached, the one of a JSON ABI compiled for this use is not.
+     */
+    @NotNull
+    private static AbiTypeCodec getCodec(@NotNull AbiRixSerializationObject serializationObject,
+            @NotNull CompiledAbi abi, @NotNull String type) {
+        if (serializationObject.getCompiledAbi() == null) {
+            return AbiTypeCodec.compile(abi, type);
+        }
+
+        ConcurrentMap<String, AbiTypeCodec> codecs = CODECS.getUnchecked(abi);
+        AbiTypeCodec codec = codecs.get(type);
+        if (codec == null) {
+            // Concurrent compilations of a type give equivalent codecs, the first one is kept
+            AbiTypeCodec compiledCodec = AbiTypeCodec.compile(abi, type);
+            codec = codecs.putIfAbsent(type, compiledCodec);
+            if (codec == null) {
+                codec = compiledCodec;
+            }
+        }
+
+        return codec;
+    }
+
+    @NotNull
+    private static JsonElement parseJson(@NotNull String json) {
+        return new JsonParser().parse(json);
+    }
+
+    @NotNull
+    private static byte[] serializeToBytes(@NotNull AbiTypeCodec codec,
+            @NotNull JsonElement value) {
+        AbiBinaryCodec.Output output = new AbiBinaryCodec.Output();
+        codec.write(value, output, 0);
+        return output.toByteArray();
+    }
+
+    @NotNull
+    private static String deserializeToJson(@NotNull AbiTypeCodec codec, @NotNull ByteBuffer data) {
+        ByteBuffer buffer = data.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        StringWriter json = new StringWriter();
+        JsonWriter writer = new JsonWriter(json);
+        // Allows NaN and infinite floats
+        writer.setLenient(true);
+        try {
+            codec.read(buffer, writer, 0);
+            writer.flush();
+        } catch (IOException ioException) {
+            // A StringWriter doesn't fail
+            throw new IllegalStateException(ioException);
+        }
+
+        if (buffer.hasRemaining()) {
+            throw new IllegalArgumentException(String.format(
+                    ErrorConstants.SERIALIZATION_PROVIDER_EXTRA_DATA, buffer.remaining()));
+        }
+
+        return json.toString();
+    }
+
+    @NotNull
+    private static String toHex(@NotNull byte[] data) {
+        StringBuilder hex = new StringBuilder(2 * data.length);
+        ByteFormatter.appendHex(data, 0, data.length, true, hex);
+        return hex.toString();
+    }
+
+    @NotNull
+    private static ByteBuffer fromHex(@NotNull String hex) {
+        if (hex.length() % 2 != 0) {
+            throw new IllegalArgumentException(
+                    String.format(ErrorConstants.SERIALIZATION_PROVIDER_INVALID_VALUE, hex, "hex"));
+        }
+
+        return ByteBuffer.wrap(ByteFormatter.decodeHex(hex));
+    }
+
+    @NotNull
+    private static CompiledAbi compileBuiltInAbi(@NotNull String abiJson) {
+        try {
+            return CompiledAbi.compile(abiJson);
+        } catch (CompileAbiError compileAbiError) {
+            throw new IllegalStateException(compileAbiError);
+        }
+    }
+}
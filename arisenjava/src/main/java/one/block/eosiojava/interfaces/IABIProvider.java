@@ -1,9 +1,16 @@
 package one.block.arisenjava.interfaces;
 
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import one.block.arisenjava.error.ErrorConstants;
+import one.block.arisenjava.error.abiProvider.CompileAbiError;
 import one.block.arisenjava.error.abiProvider.GetAbiError;
 import one.block.arisenjava.models.ARISENName;
+import one.block.arisenjava.models.AbiFetchResult;
+import one.block.arisenjava.models.abi.CompiledAbi;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -37,5 +44,81 @@ public interface IABIProvider {
      * @throws GetAbiError thrown if there are any exceptions during the getAbis process.
      */
     @NotNull
-    String getAbi(@NotNull String chainId, @NotNull arisenName account) throws GetAbiError;
+    String getAbi(@NotNull String chainId, @NotNull ARISENName account) throws GetAbiError;
+
+    /**
+     * Gets multiple ABI by list of ARISENName within a deadline, returning the ABIs which could be
+     * fetched and the error of each other account instead of failing on the first error.
+     * <br>
+     * The default implementation calls {@link IABIProvider#getAbi(String, ARISENName)} for each
+     * distinct account in turn and reports the accounts left when the deadline passes as errors.
+     * Implementations may fetch the ABIs concurrently.
+     *
+     * @param chainId the chain id
+     * @param accounts the accounts - duplicate names will be removed
+     * @param timeout the overall time allowed to fetch the ABIs
+     * @param timeUnit the unit of the timeout
+     * @return the fetched ABIs and the errors by account name
+     */
+    @NotNull
+    default AbiFetchResult getAbis(@NotNull String chainId, @NotNull List<ARISENName> accounts,
+            long timeout, @NotNull TimeUnit timeUnit) {
+        long deadline = System.nanoTime() + timeUnit.toNanos(timeout);
+        Map<String, String> abis = new HashMap<>();
+        Map<String, GetAbiError> errors = new HashMap<>();
+
+        for (ARISENName account : new LinkedHashSet<>(accounts)) {
+            if (System.nanoTime() - deadline >= 0) {
+                errors.put(account.getAccountName(), new GetAbiError(String.format(
+                        ErrorConstants.ABI_FETCH_DEADLINE_EXCEEDED, account.getAccountName())));
+                continue;
+            }
+
+            try {
+                abis.put(account.getAccountName(), this.getAbi(chainId, account));
+            } catch (GetAbiError getAbiError) {
+                errors.put(account.getAccountName(), getAbiError);
+            }
+        }
+
+        return new AbiFetchResult(abis, errors);
+    }
+
+    /**
+     * Whether the provider caches the compiled form of its ABIs, so
+     * {@link IABIProvider#getCompiledAbi(String, ARISENName)} is cheap to call for every action.
+     * {@link one.block.arisenjava.session.TransactionProcessor} serializes actions with the compiled
+     * ABI when the provider supports it, with the ABI in JSON format otherwise.
+     *
+     * @return true if the provider caches compiled ABIs, false by default.
+     */
+    default boolean isCompiledAbiSupported() {
+        return false;
+    }
+
+    /**
+     * Gets abi by ARISENName, compiled so serializing actions doesn't parse its JSON again.
+     * <br>
+     * The default implementation compiles the ABI returned by
+     * {@link IABIProvider#getAbi(String, ARISENName)} on every call.  Implementations caching ABIs
+     * should cache their compiled form too and report
+     * {@link IABIProvider#isCompiledAbiSupported()}.
+     *
+     * @param chainId the chain id
+     * @param account the account
+     * @return the compiled abi
+     * @throws GetAbiError thrown if there are any exceptions during the getAbi process or the ABI
+     * can't be compiled.
+     */
+    @NotNull
+    default CompiledAbi getCompiledAbi(@NotNull String chainId, @NotNull ARISENName account)
+            throws GetAbiError {
+        String abi = this.getAbi(chainId, account);
+        try {
+            return CompiledAbi.compile(abi);
+        } catch (CompileAbiError compileAbiError) {
+            throw new GetAbiError(String.format(ErrorConstants.ERROR_COMPILING_ABI,
+                    account.getAccountName()), compileAbiError);
+        }
+    }
 }
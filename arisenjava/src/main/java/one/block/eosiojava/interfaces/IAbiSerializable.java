@@ -0,0 +1,23 @@
+package one.block.arisenjava.interfaces;
+
+import one.block.arisenjava.implementations.AbiBinaryWriter;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The interface of values which write their own binary format, like the classes generated from an
+ * ABI by {@link one.block.arisenjava.utilities.AbiClassGenerator}.
+ * <p>
+ * Such a value is the data of a {@link one.block.arisenjava.models.rpcProvider.TypedAction}, which
+ * {@link one.block.arisenjava.session.TransactionProcessor} uses without fetching the ABI of the
+ * contract or serializing JSON.
+ */
+public interface IAbiSerializable {
+
+    /**
+     * Write the binary format of the value.
+     *
+     * @param writer the writer of the binary format.
+     * @throws IllegalArgumentException thrown if a field has an invalid value.
+     */
+    void serialize(@NotNull AbiBinaryWriter writer);
+}
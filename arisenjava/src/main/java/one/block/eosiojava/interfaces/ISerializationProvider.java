@@ -6,10 +6,18 @@ import one.block.arisenjava.error.serializationProvider.DeserializeTransactionEr
 import one.block.arisenjava.error.serializationProvider.SerializeAbiError;
 import one.block.arisenjava.error.serializationProvider.SerializeError;
 import one.block.arisenjava.error.serializationProvider.SerializeTransactionError;
+import java.nio.ByteBuffer;
 import one.block.arisenjava.models.AbiRixSerializationObject;
+import one.block.arisenjava.utilities.ByteFormatter;
+import org.jetbrains.annotations.NotNull;
 
 /**
  * Interface of Serialization Provider
+ * <p>
+ * Besides the hex methods, the interface has byte variants which take and return the binary data
+ * directly.  Their default implementations convert from and to hex, so a provider reporting
+ * {@link ISerializationProvider#isByteSerializationSupported()} should override them to skip the
+ * conversion.
  */
 public interface ISerializationProvider {
 
@@ -29,6 +37,10 @@ public interface ISerializationProvider {
      * Perform a serialization process to convert a JSON string to a HEX string given the parameters
      * provided in the input serializationObject.  The result will be placed in the hex field of
      * the serializationObject and can be accessed with getHex().
+     * <br>
+     * When the serializationObject carries a compiled ABI, see
+     * {@link AbiRixSerializationObject#getCompiledAbi()}, implementations should use it instead of
+     * parsing the JSON ABI for every call.
      *
      * @param serializationObject Input object passing the JSON string to be converted as well
      * as other parameters to control the serialization process.
@@ -76,4 +88,104 @@ public interface ISerializationProvider {
      * conversion process.
      */
     String serializeAbi(String json) throws SerializeAbiError;
+
+    /**
+     * Whether the provider implements the byte variants natively, without converting the binary
+     * data from or to hex.  {@link one.block.arisenjava.session.TransactionProcessor} keeps the
+     * serialized transaction in bytes when its providers support it.
+     *
+     * @return true if the byte variants are implemented natively, false by default.
+     */
+    default boolean isByteSerializationSupported() {
+        return false;
+    }
+
+    /**
+     * Byte variant of {@link ISerializationProvider#serialize(AbiRixSerializationObject)}: the
+     * binary data is returned instead of being placed in the hex field of the serializationObject.
+     *
+     * @param serializationObject Input object passing the JSON string to be converted as well
+     * as other parameters to control the serialization process.
+     * @return the serialized binary data.
+     * @throws SerializeError A serialization error is thrown if there are any exceptions during the
+     * conversion process.
+     */
+    @NotNull
+    default byte[] serializeToBytes(@NotNull AbiRixSerializationObject serializationObject)
+            throws SerializeError {
+        this.serialize(serializationObject);
+        return ByteFormatter.decodeHex(serializationObject.getHex());
+    }
+
+    /**
+     * Byte variant of {@link ISerializationProvider#deserialize(AbiRixSerializationObject)}: the
+     * binary data is read from a buffer instead of the hex field of the deserilizationObject.  The
+     * result is placed in the json field of the deserilizationObject.
+     *
+     * @param deserilizationObject Input object passing the parameters to control the
+     * deserialization process.
+     * @param data the binary data, read from its position to its limit.  The position of the buffer
+     * is not changed.
+     * @throws DeserializeError A deserialization error is thrown if there are any exceptions during the
+     * conversion process.
+     */
+    default void deserialize(@NotNull AbiRixSerializationObject deserilizationObject,
+            @NotNull ByteBuffer data) throws DeserializeError {
+        deserilizationObject.setHex(ByteFormatter.createFromByteBuffer(data).toHex());
+        this.deserialize(deserilizationObject);
+    }
+
+    /**
+     * Byte variant of {@link ISerializationProvider#deserializeTransaction(String)}.
+     *
+     * @param serializedTransaction the serialized transaction, read from its position to its limit.
+     * The position of the buffer is not changed.
+     * @return Deserialized JSON string representing the transaction.
+     * @throws DeserializeTransactionError A deserialization error is thrown if there are any exceptions during the
+     * conversion process.
+     */
+    default String deserializeTransaction(@NotNull ByteBuffer serializedTransaction)
+            throws DeserializeTransactionError {
+        return this.deserializeTransaction(
+                ByteFormatter.createFromByteBuffer(serializedTransaction).toHex());
+    }
+
+    /**
+     * Byte variant of {@link ISerializationProvider#serializeTransaction(String)}.
+     *
+     * @param json JSON string representing the transaction to serialize.
+     * @return the serialized transaction.
+     * @throws SerializeTransactionError A serialization error is thrown if there are any exceptions during the
+     * conversion process.
+     */
+    @NotNull
+    default byte[] serializeTransactionToBytes(String json) throws SerializeTransactionError {
+        return ByteFormatter.decodeHex(this.serializeTransaction(json));
+    }
+
+    /**
+     * Byte variant of {@link ISerializationProvider#deserializeAbi(String)}.
+     *
+     * @param serializedAbi the serialized ABI, read from its position to its limit.  The position of
+     * the buffer is not changed.
+     * @return Deserialized JSON string representing the ABI.
+     * @throws DeserializeAbiError A deserialization error is thrown if there are any exceptions during the
+     * conversion process.
+     */
+    default String deserializeAbi(@NotNull ByteBuffer serializedAbi) throws DeserializeAbiError {
+        return this.deserializeAbi(ByteFormatter.createFromByteBuffer(serializedAbi).toHex());
+    }
+
+    /**
+     * Byte variant of {@link ISerializationProvider#serializeAbi(String)}.
+     *
+     * @param json JSON string representing the ABI to serialize.
+     * @return the serialized ABI.
+     * @throws SerializeAbiError A serialization error is thrown if there are any exceptions during the
+     * conversion process.
+     */
+    @NotNull
+    default byte[] serializeAbiToBytes(String json) throws SerializeAbiError {
+        return ByteFormatter.decodeHex(this.serializeAbi(json));
+    }
 }
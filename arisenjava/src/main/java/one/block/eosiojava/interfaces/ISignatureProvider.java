@@ -34,4 +34,19 @@ public interface ISignatureProvider {
      */
     @NotNull
     List<String> getAvailableKeys() throws GetAvailableKeysError;
+
+    /**
+     * Whether the signature provider reads the serialized transaction of the request with {@link
+     * ArisenTransactionSignatureRequest#getSerializedTransactionBytes()} and, if it modifies the
+     * transaction, returns it as bytes in the response.
+     * <br>
+     * The transaction processor only keeps the serialized transaction as bytes, without converting
+     * it to hex, when both the serialization provider and the signature provider support it.  The
+     * hex getters keep working in any case.
+     *
+     * @return true if the signature provider works on the byte form, false by default.
+     */
+    default boolean isByteSerializationSupported() {
+        return false;
+    }
 }
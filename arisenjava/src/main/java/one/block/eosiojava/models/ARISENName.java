@@ -1,27 +1,181 @@
 package one.block.arisenjava.models;
 
-import java.util.Objects;
+import java.util.Arrays;
+import one.block.arisenjava.error.ErrorConstants;
 import org.jetbrains.annotations.NotNull;
 
 /**
  * Class holds block chain account name.
+ * <p>
+ * A name is a 64 bit value holding up to 13 base32 characters, which is how the chain and the
+ * serializers handle it.  ARISENName is immutable and keeps both forms: the name is validated and
+ * encoded once when created, so equality and hashing compare the 64 bit value and serializers use
+ * {@link #toLong()} directly.
+ * <p>
+ * {@link #valueOf(String)} and {@link #valueOf(long)} return interned instances of frequent names,
+ * like the accounts and actions of the contracts in use, instead of encoding or decoding them again.
  */
-public class ARISENName {
+public final class ARISENName {
+
+    private static final char[] CHARACTERS = ".12345abcdefghijklmnopqrstuvwxyz".toCharArray();
+
+    private static final int MAX_LENGTH = 13;
+
+    /**
+     * Number of bits of the characters before the last one, the last one has 4 bits.
+     */
+    private static final int CHARACTER_BITS = 5;
+
+    private static final int LAST_CHARACTER_MASK = 0x0F;
+
+    private static final int CHARACTER_MASK = 0x1F;
+
+    /**
+     * Value of each ASCII character in a name, -1 if it is not allowed.
+     */
+    private static final byte[] CHARACTER_VALUES = new byte[128];
+
+    /**
+     * Number of slots of the interning tables, a power of 2.
+     */
+    private static final int INTERNED_NAMES = 512;
+
+    /**
+     * Interned names by hash of their string and of their value.  A slot holds the last name looked
+     * up with its hash.  Names are immutable, so the tables are safely read and written without
+     * synchronization.
+     */
+    private static final ARISENName[] NAMES_BY_STRING = new ARISENName[INTERNED_NAMES];
+    private static final ARISENName[] NAMES_BY_VALUE = new ARISENName[INTERNED_NAMES];
+
+    static {
+        Arrays.fill(CHARACTER_VALUES, (byte) -1);
+        for (int i = 0; i < CHARACTERS.length; i++) {
+            CHARACTER_VALUES[CHARACTERS[i]] = (byte) i;
+        }
+    }
+
+    /**
+     * arisen account name in its 64 bit format.
+     */
+    private final long value;
 
     /**
      * arisen account name in String format.
      */
-    @NotNull private String accountName;
+    @NotNull private final String accountName;
 
     /**
      * Initialize arisenName object with arisen account name in String format
      *
      * @param accountName - input arisen account name in String format.
+     * @throws IllegalArgumentException if the name is not valid, see {@link #encode(String)}.
      */
     public ARISENName(@NotNull String accountName) {
+        this(encode(accountName), accountName);
+    }
+
+    private ARISENName(long value, @NotNull String accountName) {
+        this.value = value;
         this.accountName = accountName;
     }
 
+    /**
+     * Get arisenName object of arisen account name in String format, interned if the name is
+     * frequently used.
+     *
+     * @param accountName - input arisen account name in String format.
+     * @return arisenName object of the name.
+     * @throws IllegalArgumentException if the name is not valid, see {@link #encode(String)}.
+     */
+    @NotNull
+    public static ARISENName valueOf(@NotNull String accountName) {
+        int slot = slot(accountName.hashCode());
+        ARISENName name = NAMES_BY_STRING[slot];
+        if (name == null || !name.accountName.equals(accountName)) {
+            name = new ARISENName(accountName);
+            NAMES_BY_STRING[slot] = name;
+        }
+
+        return name;
+    }
+
+    /**
+     * Get arisenName object of arisen account name in its 64 bit format, interned if the name is
+     * frequently used.  Every 64 bit value is a valid name.
+     *
+     * @param value - input arisen account name in its 64 bit format.
+     * @return arisenName object of the name.
+     */
+    @NotNull
+    public static ARISENName valueOf(long value) {
+        int slot = slot(hashCode(value));
+        ARISENName name = NAMES_BY_VALUE[slot];
+        if (name == null || name.value != value) {
+            name = new ARISENName(value, decode(value));
+            NAMES_BY_VALUE[slot] = name;
+        }
+
+        return name;
+    }
+
+    /**
+     * Convert arisen account name in String format to its 64 bit format.
+     *
+     * @param accountName - input arisen account name in String format: up to 13 characters from
+     * ".12345abcdefghijklmnopqrstuvwxyz", the 13th one up to 'j', not ending with '.'.
+     * @return the name in its 64 bit format.
+     * @throws IllegalArgumentException if the name is not valid.
+     */
+    public static long encode(@NotNull String accountName) {
+        int length = accountName.length();
+        if (length > MAX_LENGTH || (length > 0 && accountName.charAt(length - 1) == '.')) {
+            throw invalidName(accountName);
+        }
+
+        long value = 0;
+        for (int i = 0; i < length; i++) {
+            char character = accountName.charAt(i);
+            int symbol = character < CHARACTER_VALUES.length ? CHARACTER_VALUES[character] : -1;
+            if (symbol < 0 || (i == MAX_LENGTH - 1 && symbol > LAST_CHARACTER_MASK)) {
+                throw invalidName(accountName);
+            }
+
+            if (i < MAX_LENGTH - 1) {
+                value |= (long) symbol << (Long.SIZE - CHARACTER_BITS * (i + 1));
+            } else {
+                value |= symbol;
+            }
+        }
+
+        return value;
+    }
+
+    /**
+     * Convert arisen account name in its 64 bit format to String format.
+     *
+     * @param value - input arisen account name in its 64 bit format.
+     * @return the name in String format.
+     */
+    @NotNull
+    public static String decode(long value) {
+        char[] characters = new char[MAX_LENGTH];
+        long remaining = value;
+        characters[MAX_LENGTH - 1] = CHARACTERS[(int) (remaining & LAST_CHARACTER_MASK)];
+        remaining >>>= Long.SIZE - CHARACTER_BITS * (MAX_LENGTH - 1);
+        for (int i = MAX_LENGTH - 2; i >= 0; i--) {
+            characters[i] = CHARACTERS[(int) (remaining & CHARACTER_MASK)];
+            remaining >>>= CHARACTER_BITS;
+        }
+
+        int length = MAX_LENGTH;
+        while (length > 0 && characters[length - 1] == '.') {
+            length--;
+        }
+
+        return new String(characters, 0, length);
+    }
+
     /**
      * Get arisen account name in String format.
      *
@@ -33,12 +187,12 @@ public class ARISENName {
     }
 
     /**
-     * Get arisen account name
+     * Get arisen account name in its 64 bit format.
      *
-     * @param accountName input arisen account name in string format.
+     * @return arisen account name in its 64 bit format.
      */
-    public void setAccountName(@NotNull String accountName) {
-        this.accountName = accountName;
+    public long toLong() {
+        return value;
     }
 
     @Override
@@ -50,11 +204,30 @@ public class ARISENName {
             return false;
         }
         ARISENName arisenName = (ARISENName) o;
-        return getAccountName().equals(arisenName.getAccountName());
+        return value == arisenName.value;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(getAccountName());
+        return hashCode(value);
+    }
+
+    @Override
+    public String toString() {
+        return accountName;
+    }
+
+    private static int hashCode(long value) {
+        return (int) (value ^ (value >>> 32));
+    }
+
+    private static int slot(int hash) {
+        return (hash ^ (hash >>> 16)) & (INTERNED_NAMES - 1);
+    }
+
+    @NotNull
+    private static IllegalArgumentException invalidName(@NotNull String accountName) {
+        return new IllegalArgumentException(
+                String.format(ErrorConstants.ARISEN_NAME_INVALID, accountName));
     }
 }
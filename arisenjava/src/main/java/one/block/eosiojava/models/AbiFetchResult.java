@@ -0,0 +1,82 @@
+package one.block.arisenjava.models;
+
+import java.util.Collections;
+import java.util.Map;
+import one.block.arisenjava.error.abiProvider.GetAbiError;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Partial result of fetching the ABIs of several accounts, returned by
+ * {@link one.block.arisenjava.interfaces.IABIProvider#getAbis(String, java.util.List, long, java.util.concurrent.TimeUnit)}.
+ * <p>
+ * Every requested account is either in {@link AbiFetchResult#getAbis()} or in
+ * {@link AbiFetchResult#getErrors()}, including the accounts which were not fetched before the
+ * deadline.
+ */
+public final class AbiFetchResult {
+
+    /**
+     * ABIs in JSON format by account name.
+     */
+    @NotNull
+    private final Map<String, String> abis;
+
+    /**
+     * Errors by account name.
+     */
+    @NotNull
+    private final Map<String, GetAbiError> errors;
+
+    /**
+     * Instantiates a result of fetching ABIs.
+     *
+     * @param abis the fetched ABIs in JSON format by account name.
+     * @param errors the errors by account name of the ABIs which were not fetched.
+     */
+    public AbiFetchResult(@NotNull Map<String, String> abis,
+            @NotNull Map<String, GetAbiError> errors) {
+        this.abis = Collections.unmodifiableMap(abis);
+        this.errors = Collections.unmodifiableMap(errors);
+    }
+
+    /**
+     * Gets the fetched ABIs.
+     *
+     * @return the ABIs in JSON format by account name.
+     */
+    @NotNull
+    public Map<String, String> getAbis() {
+        return abis;
+    }
+
+    /**
+     * Gets the errors of the ABIs which were not fetched.
+     *
+     * @return the errors by account name.
+     */
+    @NotNull
+    public Map<String, GetAbiError> getErrors() {
+        return errors;
+    }
+
+    /**
+     * Gets the error of an account.
+     *
+     * @param accountName the account name.
+     * @return the error, null if the ABI was fetched or not requested.
+     */
+    @Nullable
+    public GetAbiError getError(@NotNull String accountName) {
+        return errors.get(accountName);
+    }
+
+    /**
+     * Whether the ABIs of all requested accounts were fetched.
+     *
+     * @return true if there is no error.
+     */
+    public boolean isComplete() {
+        return errors.isEmpty();
+    }
+}
@@ -1,5 +1,6 @@
 package one.block.arisenjava.models;
 
+import one.block.arisenjava.models.abi.CompiledAbi;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -42,6 +43,11 @@ public class AbiRixSerializationObject {
      */
     private @NotNull String abi;
 
+    /**
+     * The compiled form of the ABI, null if the caller only has its JSON format.
+     */
+    private @Nullable CompiledAbi compiledAbi;
+
     /**
      * Gets contract.
      * <br>
@@ -128,6 +134,18 @@ public class AbiRixSerializationObject {
         this.hex = hex;
     }
 
+    /**
+     * Gets the compiled abi.
+     * <br>
+     *     The compiled form of the ABI given by {@link AbiRixSerializationObject#getAbi()}.
+     *     Serialization providers can use it instead of parsing the JSON ABI.
+     * @return the compiled abi, null if only the JSON ABI is available.
+     */
+    @Nullable
+    public CompiledAbi getCompiledAbi() {
+        return compiledAbi;
+    }
+
     /**
      * Set json.
      * <br>
@@ -157,4 +175,19 @@ public class AbiRixSerializationObject {
         this.abi = abi;
     }
 
+    /**
+     * Initialize AbiRixSerializationObject with a compiled ABI.  The JSON ABI is taken from the
+     * compiled ABI.
+     *
+     * @param contract - the contract name.
+     * @param name - the action name.
+     * @param type - the type name.
+     * @param compiledAbi - the compiled abi to use for conversion.
+     */
+    public AbiRixSerializationObject(@Nullable String contract,
+            @NotNull String name, @Nullable String type,
+            @NotNull CompiledAbi compiledAbi) {
+        this(contract, name, type, compiledAbi.getAbiJson());
+        this.compiledAbi = compiledAbi;
+    }
 }
@@ -0,0 +1,243 @@
+package one.block.arisenjava.models;
+
+import one.block.arisenjava.error.ErrorConstants;
+import one.block.arisenjava.implementations.AbiBinaryWriter;
+import one.block.arisenjava.interfaces.IAbiSerializable;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Class holds a token quantity, like "1.0000 RIX": an amount of the smallest units of a
+ * {@link Symbol}.
+ * <p>
+ * Asset is immutable.  Its amount is a 64 bit integer within the range the chain allows, so
+ * parsing, formatting and arithmetic are exact without BigDecimal, and serialization writes the
+ * amount and the symbol directly.
+ */
+public final class Asset implements IAbiSerializable {
+
+    /**
+     * Maximum absolute amount of an asset, in units.
+     */
+    public static final long MAX_AMOUNT = (1L << 62) - 1;
+
+    /**
+     * Amount in units of the symbol, 10000 for "1.0000 RIX".
+     */
+    private final long amount;
+
+    @NotNull
+    private final Symbol symbol;
+
+    /**
+     * Initialize an asset with its amount in units and its symbol.
+     *
+     * @param amount - amount in units of the symbol, 10000 for "1.0000 RIX".
+     * @param symbol - symbol of the asset.
+     * @throws IllegalArgumentException if the absolute amount is greater than {@link #MAX_AMOUNT}.
+     */
+    public Asset(long amount, @NotNull Symbol symbol) {
+        if (amount < -MAX_AMOUNT || amount > MAX_AMOUNT) {
+            throw new IllegalArgumentException(ErrorConstants.ASSET_AMOUNT_OUT_OF_RANGE);
+        }
+
+        this.amount = amount;
+        this.symbol = symbol;
+    }
+
+    /**
+     * Parse an asset from its string format: the amount, with as many decimals as the precision of
+     * the symbol, then a space and the symbol code, like "1.0000 RIX".
+     *
+     * @param asset - asset in string format.
+     * @return the asset.
+     * @throws IllegalArgumentException if the asset is not valid.
+     */
+    @NotNull
+    public static Asset parse(@NotNull String asset) {
+        String trimmedAsset = asset.trim();
+        int separator = trimmedAsset.indexOf(' ');
+        if (separator < 0) {
+            throw invalidAsset(asset);
+        }
+
+        int position = 0;
+        boolean isNegative = false;
+        if (trimmedAsset.charAt(0) == '-' || trimmedAsset.charAt(0) == '+') {
+            isNegative = trimmedAsset.charAt(0) == '-';
+            position++;
+        }
+
+        long amount = 0;
+        int precision = -1;
+        boolean hasDigits = false;
+        for (; position < separator; position++) {
+            char character = trimmedAsset.charAt(position);
+            if (character == '.' && precision < 0) {
+                precision = 0;
+                continue;
+            }
+
+            if (character < '0' || character > '9') {
+                throw invalidAsset(asset);
+            }
+
+            int digit = character - '0';
+            if (amount > (MAX_AMOUNT - digit) / 10) {
+                throw invalidAsset(asset);
+            }
+
+            amount = amount * 10 + digit;
+            hasDigits = true;
+            if (precision >= 0) {
+                precision++;
+            }
+        }
+
+        if (!hasDigits || precision == 0 || precision > Symbol.MAX_PRECISION) {
+            throw invalidAsset(asset);
+        }
+
+        try {
+            Symbol symbol = new Symbol(Math.max(precision, 0),
+                    trimmedAsset.substring(separator + 1).trim());
+            return new Asset(isNegative ? -amount : amount, symbol);
+        } catch (IllegalArgumentException illegalArgumentException) {
+            throw invalidAsset(asset);
+        }
+    }
+
+    /**
+     * Get the amount in units of the symbol.
+     *
+     * @return the amount, 10000 for "1.0000 RIX".
+     */
+    public long getAmount() {
+        return amount;
+    }
+
+    /**
+     * Get the symbol of the asset.
+     *
+     * @return the symbol.
+     */
+    @NotNull
+    public Symbol getSymbol() {
+        return symbol;
+    }
+
+    /**
+     * Add an asset of the same symbol.
+     *
+     * @param other - the asset to add.
+     * @return the sum.
+     * @throws IllegalArgumentException if the symbols differ.
+     * @throws ArithmeticException if the sum is out of range.
+     */
+    @NotNull
+    public Asset add(@NotNull Asset other) {
+        this.checkSymbol(other);
+        // Amounts are within 62 bits, their sum doesn't overflow
+        return withAmount(this.amount + other.amount);
+    }
+
+    /**
+     * Subtract an asset of the same symbol.
+     *
+     * @param other - the asset to subtract.
+     * @return the difference.
+     * @throws IllegalArgumentException if the symbols differ.
+     * @throws ArithmeticException if the difference is out of range.
+     */
+    @NotNull
+    public Asset subtract(@NotNull Asset other) {
+        this.checkSymbol(other);
+        return withAmount(this.amount - other.amount);
+    }
+
+    /**
+     * Negate the asset.
+     *
+     * @return the asset with the opposite amount.
+     */
+    @NotNull
+    public Asset negate() {
+        return new Asset(-this.amount, this.symbol);
+    }
+
+    @Override
+    public void serialize(@NotNull AbiBinaryWriter writer) {
+        writer.writeAsset(this);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        Asset asset = (Asset) o;
+        return amount == asset.amount && symbol.equals(asset.symbol);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * symbol.hashCode() + (int) (amount ^ (amount >>> 32));
+    }
+
+    /**
+     * Get the asset in its string format.
+     *
+     * @return the amount with the decimals of the symbol, then a space and the symbol code, like
+     * "1.0000 RIX".
+     */
+    @Override
+    public String toString() {
+        int precision = symbol.getPrecision();
+        String units = Long.toString(Math.abs(amount));
+        StringBuilder asset = new StringBuilder(units.length() + precision + symbol.getCode().length() + 4);
+        if (amount < 0) {
+            asset.append('-');
+        }
+
+        int integerDigits = units.length() - precision;
+        if (integerDigits > 0) {
+            asset.append(units, 0, integerDigits);
+        } else {
+            asset.append('0');
+        }
+
+        if (precision > 0) {
+            asset.append('.');
+            for (int i = integerDigits; i < 0; i++) {
+                asset.append('0');
+            }
+
+            asset.append(units, Math.max(integerDigits, 0), units.length());
+        }
+
+        return asset.append(' ').append(symbol.getCode()).toString();
+    }
+
+    @NotNull
+    private Asset withAmount(long amount) {
+        if (amount < -MAX_AMOUNT || amount > MAX_AMOUNT) {
+            throw new ArithmeticException(ErrorConstants.ASSET_AMOUNT_OUT_OF_RANGE);
+        }
+
+        return new Asset(amount, this.symbol);
+    }
+
+    private void checkSymbol(@NotNull Asset other) {
+        if (!this.symbol.equals(other.symbol)) {
+            throw new IllegalArgumentException(String.format(ErrorConstants.ASSET_SYMBOL_MISMATCH,
+                    this.symbol, other.symbol));
+        }
+    }
+
+    @NotNull
+    private static IllegalArgumentException invalidAsset(@NotNull String asset) {
+        return new IllegalArgumentException(String.format(ErrorConstants.ASSET_INVALID, asset));
+    }
+}
@@ -0,0 +1,81 @@
+package one.block.arisenjava.models;
+
+import one.block.arisenjava.implementations.AbiBinaryWriter;
+import one.block.arisenjava.interfaces.IAbiSerializable;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Class holds a token quantity with the account of the token contract, like "1.0000 RIX" of
+ * "arisen.token".  ExtendedAsset is immutable.
+ */
+public final class ExtendedAsset implements IAbiSerializable {
+
+    @NotNull
+    private final Asset quantity;
+
+    @NotNull
+    private final ARISENName contract;
+
+    /**
+     * Initialize an extended asset with its quantity and its token contract.
+     *
+     * @param quantity - the quantity.
+     * @param contract - account of the token contract.
+     */
+    public ExtendedAsset(@NotNull Asset quantity, @NotNull ARISENName contract) {
+        this.quantity = quantity;
+        this.contract = contract;
+    }
+
+    /**
+     * Get the quantity.
+     *
+     * @return the quantity.
+     */
+    @NotNull
+    public Asset getQuantity() {
+        return quantity;
+    }
+
+    /**
+     * Get the account of the token contract.
+     *
+     * @return the account of the token contract.
+     */
+    @NotNull
+    public ARISENName getContract() {
+        return contract;
+    }
+
+    @Override
+    public void serialize(@NotNull AbiBinaryWriter writer) {
+        writer.writeExtendedAsset(this);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ExtendedAsset extendedAsset = (ExtendedAsset) o;
+        return quantity.equals(extendedAsset.quantity) && contract.equals(extendedAsset.contract);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * quantity.hashCode() + contract.hashCode();
+    }
+
+    /**
+     * Get the extended asset in string format.
+     *
+     * @return the quantity and the contract separated by '@', like "1.0000 RIX@arisen.token".
+     */
+    @Override
+    public String toString() {
+        return quantity + "@" + contract;
+    }
+}
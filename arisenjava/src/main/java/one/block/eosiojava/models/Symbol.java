@@ -0,0 +1,217 @@
+package one.block.arisenjava.models;
+
+import one.block.arisenjava.error.ErrorConstants;
+import one.block.arisenjava.implementations.AbiBinaryWriter;
+import one.block.arisenjava.interfaces.IAbiSerializable;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Class holds a token symbol: its precision and its code, like "4,RIX".
+ * <p>
+ * A symbol is a 64 bit value, the precision in the lowest byte and the code characters in the next
+ * ones.  Symbol is immutable and keeps that value, so equality, hashing and serialization use it
+ * directly.
+ */
+public final class Symbol implements IAbiSerializable {
+
+    /**
+     * Maximum number of decimals of a symbol.
+     */
+    public static final int MAX_PRECISION = 18;
+
+    private static final int MAX_CODE_LENGTH = 7;
+
+    private static final int PRECISION_MASK = 0xFF;
+
+    private static final int CODE_SHIFT = 8;
+
+    /**
+     * Symbol in its 64 bit format.
+     */
+    private final long value;
+
+    /**
+     * Code of the symbol, like "RIX".
+     */
+    @NotNull
+    private final String code;
+
+    /**
+     * Initialize a symbol with its precision and its code.
+     *
+     * @param precision - number of decimals, up to {@link #MAX_PRECISION}.
+     * @param code - code of the symbol, 1 to 7 upper case letters.
+     * @throws IllegalArgumentException if the precision or the code is not valid.
+     */
+    public Symbol(int precision, @NotNull String code) {
+        if (precision < 0 || precision > MAX_PRECISION) {
+            throw invalidSymbol(precision + "," + code);
+        }
+
+        this.value = precision | (encodeCode(code) << CODE_SHIFT);
+        this.code = code;
+    }
+
+    private Symbol(long value, @NotNull String code) {
+        this.value = value;
+        this.code = code;
+    }
+
+    /**
+     * Parse a symbol from its string format, the precision and the code separated by a comma, like
+     * "4,RIX".
+     *
+     * @param symbol - symbol in string format.
+     * @return the symbol.
+     * @throws IllegalArgumentException if the symbol is not valid.
+     */
+    @NotNull
+    public static Symbol parse(@NotNull String symbol) {
+        int separator = symbol.indexOf(',');
+        if (separator <= 0 || separator > 2) {
+            throw invalidSymbol(symbol);
+        }
+
+        int precision = 0;
+        for (int i = 0; i < separator; i++) {
+            char digit = symbol.charAt(i);
+            if (digit < '0' || digit > '9') {
+                throw invalidSymbol(symbol);
+            }
+
+            precision = precision * 10 + (digit - '0');
+        }
+
+        try {
+            return new Symbol(precision, symbol.substring(separator + 1));
+        } catch (IllegalArgumentException illegalArgumentException) {
+            throw invalidSymbol(symbol);
+        }
+    }
+
+    /**
+     * Get a symbol from its 64 bit format.
+     *
+     * @param value - symbol in its 64 bit format.
+     * @return the symbol.
+     * @throws IllegalArgumentException if the value is not a valid symbol.
+     */
+    @NotNull
+    public static Symbol valueOf(long value) {
+        String code = decodeCode(value >>> CODE_SHIFT);
+        int precision = (int) (value & PRECISION_MASK);
+        if (precision > MAX_PRECISION || code.isEmpty()
+                || encodeCode(code) != value >>> CODE_SHIFT) {
+            throw invalidSymbol(Long.toHexString(value));
+        }
+
+        return new Symbol(value, code);
+    }
+
+    /**
+     * Convert a symbol code to its 64 bit format.
+     *
+     * @param code - symbol code, 1 to 7 upper case letters.
+     * @return the code in its 64 bit format.
+     * @throws IllegalArgumentException if the code is not valid.
+     */
+    public static long encodeCode(@NotNull String code) {
+        if (code.isEmpty() || code.length() > MAX_CODE_LENGTH) {
+            throw invalidSymbol(code);
+        }
+
+        long value = 0;
+        for (int i = 0; i < code.length(); i++) {
+            char character = code.charAt(i);
+            if (character < 'A' || character > 'Z') {
+                throw invalidSymbol(code);
+            }
+
+            value |= (long) character << (Byte.SIZE * i);
+        }
+
+        return value;
+    }
+
+    /**
+     * Convert a symbol code in its 64 bit format to a string, up to its first zero byte.
+     *
+     * @param value - symbol code in its 64 bit format.
+     * @return the code.
+     */
+    @NotNull
+    public static String decodeCode(long value) {
+        char[] characters = new char[Long.SIZE / Byte.SIZE];
+        int length = 0;
+        for (long remaining = value; (remaining & 0xFF) != 0; remaining >>>= Byte.SIZE) {
+            characters[length++] = (char) (remaining & 0xFF);
+        }
+
+        return new String(characters, 0, length);
+    }
+
+    /**
+     * Get the number of decimals of the symbol.
+     *
+     * @return the precision.
+     */
+    public int getPrecision() {
+        return (int) (value & PRECISION_MASK);
+    }
+
+    /**
+     * Get the code of the symbol.
+     *
+     * @return the code, like "RIX".
+     */
+    @NotNull
+    public String getCode() {
+        return code;
+    }
+
+    /**
+     * Get the symbol in its 64 bit format.
+     *
+     * @return the symbol in its 64 bit format.
+     */
+    public long toLong() {
+        return value;
+    }
+
+    @Override
+    public void serialize(@NotNull AbiBinaryWriter writer) {
+        writer.writeSymbol(this);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        Symbol symbol = (Symbol) o;
+        return value == symbol.value;
+    }
+
+    @Override
+    public int hashCode() {
+        return (int) (value ^ (value >>> 32));
+    }
+
+    /**
+     * Get the symbol in its string format.
+     *
+     * @return the precision and the code separated by a comma, like "4,RIX".
+     */
+    @Override
+    public String toString() {
+        return this.getPrecision() + "," + code;
+    }
+
+    @NotNull
+    private static IllegalArgumentException invalidSymbol(@NotNull String symbol) {
+        return new IllegalArgumentException(String.format(ErrorConstants.SYMBOL_INVALID, symbol));
+    }
+}
@@ -0,0 +1,52 @@
+package one.block.arisenjava.models.abi;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Field of a struct of a {@link CompiledAbi}.
+ */
+public final class AbiField {
+
+    /**
+     * Name of the field.
+     */
+    @NotNull
+    private final String name;
+
+    /**
+     * Type of the field as declared in the ABI, including any "[]", "?" or "$" suffix.
+     */
+    @NotNull
+    private final String type;
+
+    /**
+     * Instantiates a field.
+     *
+     * @param name the name of the field.
+     * @param type the type of the field as declared in the ABI.
+     */
+    public AbiField(@NotNull String name, @NotNull String type) {
+        this.name = name;
+        this.type = type;
+    }
+
+    /**
+     * Gets the name of the field.
+     *
+     * @return the name of the field.
+     */
+    @NotNull
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the type of the field as declared in the ABI, including any "[]", "?" or "$" suffix.
+     *
+     * @return the type of the field.
+     */
+    @NotNull
+    public String getType() {
+        return type;
+    }
+}
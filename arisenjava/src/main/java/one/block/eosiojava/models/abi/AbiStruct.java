@@ -0,0 +1,74 @@
+package one.block.arisenjava.models.abi;
+
+import java.util.Collections;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Struct of a {@link CompiledAbi}, with the fields of its base structs resolved.
+ */
+public final class AbiStruct {
+
+    /**
+     * Name of the struct.
+     */
+    @NotNull
+    private final String name;
+
+    /**
+     * Name of the base struct, null if the struct has no base.
+     */
+    @Nullable
+    private final String base;
+
+    /**
+     * Fields of the base structs followed by the fields of the struct, in serialization order.
+     */
+    @NotNull
+    private final List<AbiField> fields;
+
+    /**
+     * Instantiates a struct.
+     *
+     * @param name the name of the struct.
+     * @param base the name of the base struct, null if the struct has no base.
+     * @param fields the fields of the base structs followed by the fields of the struct.
+     */
+    public AbiStruct(@NotNull String name, @Nullable String base, @NotNull List<AbiField> fields) {
+        this.name = name;
+        this.base = base;
+        this.fields = Collections.unmodifiableList(fields);
+    }
+
+    /**
+     * Gets the name of the struct.
+     *
+     * @return the name of the struct.
+     */
+    @NotNull
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the name of the base struct.
+     *
+     * @return the name of the base struct, null if the struct has no base.
+     */
+    @Nullable
+    public String getBase() {
+        return base;
+    }
+
+    /**
+     * Gets the fields of the base structs followed by the fields of the struct, in serialization
+     * order.
+     *
+     * @return the resolved fields.
+     */
+    @NotNull
+    public List<AbiField> getFields() {
+        return fields;
+    }
+}
@@ -0,0 +1,370 @@
+package one.block.arisenjava.models.abi;
+
+import com.google.common.base.Strings;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import one.block.arisenjava.error.ErrorConstants;
+import one.block.arisenjava.error.abiProvider.CompileAbiError;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * ABI of a contract compiled once from its JSON format: type aliases, structs with their base
+ * fields resolved, variants and the struct of each action are looked up without parsing the JSON
+ * again.
+ * <p>
+ * A compiled ABI is immutable and can be shared between threads.  It keeps its JSON format for
+ * serialization providers which don't use the compiled form.
+ */
+public final class CompiledAbi {
+
+    /**
+     * ABI in JSON format.
+     */
+    @NotNull
+    private final String abiJson;
+
+    /**
+     * Version of the ABI, for example "arisen::abi/1.1".
+     */
+    @NotNull
+    private final String version;
+
+    /**
+     * Type of each type alias, itself possibly an alias.
+     */
+    @NotNull
+    private final Map<String, String> typeAliases;
+
+    /**
+     * Structs by name.
+     */
+    @NotNull
+    private final Map<String, AbiStruct> structs;
+
+    /**
+     * Types of each variant by variant name.
+     */
+    @NotNull
+    private final Map<String, List<String>> variants;
+
+    /**
+     * Type of each action by action name.
+     */
+    @NotNull
+    private final Map<String, String> actionTypes;
+
+    /**
+     * Struct of each action by action name.
+     */
+    @NotNull
+    private final Map<String, AbiStruct> actionStructs;
+
+    private CompiledAbi(@NotNull String abiJson, @NotNull String version,
+            @NotNull Map<String, String> typeAliases, @NotNull Map<String, AbiStruct> structs,
+            @NotNull Map<String, List<String>> variants, @NotNull Map<String, String> actionTypes,
+            @NotNull Map<String, AbiStruct> actionStructs) {
+        this.abiJson = abiJson;
+        this.version = version;
+        this.typeAliases = typeAliases;
+        this.structs = structs;
+        this.variants = variants;
+        this.actionTypes = actionTypes;
+        this.actionStructs = actionStructs;
+    }
+
+    /**
+     * Compile an ABI in JSON format.
+     *
+     * @param abiJson the ABI in JSON format, as returned by
+     * {@link one.block.arisenjava.interfaces.IABIProvider#getAbi(String, one.block.arisenjava.models.ARISENName)}
+     * @return the compiled ABI.
+     * @throws CompileAbiError thrown if the JSON is not a valid ABI, a type alias or a struct
+     * inheritance is circular or a base struct is missing.
+     */
+    @NotNull
+    public static CompiledAbi compile(@NotNull String abiJson) throws CompileAbiError {
+        JsonObject abiObject;
+        try {
+            abiObject = new JsonParser().parse(abiJson).getAsJsonObject();
+        } catch (JsonParseException | IllegalStateException parseException) {
+            throw new CompileAbiError(ErrorConstants.COMPILE_ABI_INVALID_JSON, parseException);
+        }
+
+        JsonElement versionElement = abiObject.get("version");
+        String version = versionElement != null && versionElement.isJsonPrimitive()
+                ? versionElement.getAsString() : "";
+
+        Map<String, String> typeAliases = new HashMap<>();
+        for (JsonObject type : getObjects(abiObject, "types")) {
+            typeAliases.put(getString(type, "new_type_name"), getString(type, "type"));
+        }
+
+        for (String typeAlias : typeAliases.keySet()) {
+            resolveType(typeAlias, typeAliases);
+        }
+
+        Map<String, JsonObject> structObjects = new HashMap<>();
+        for (JsonObject struct : getObjects(abiObject, "structs")) {
+            structObjects.put(getString(struct, "name"), struct);
+        }
+
+        Map<String, AbiStruct> structs = new HashMap<>();
+        for (String structName : structObjects.keySet()) {
+            compileStruct(structName, structObjects, typeAliases, structs, new HashSet<String>());
+        }
+
+        Map<String, List<String>> variants = new HashMap<>();
+        for (JsonObject variant : getObjects(abiObject, "variants")) {
+            List<String> types = new ArrayList<>();
+            JsonElement typesElement = variant.get("types");
+            if (typesElement != null && typesElement.isJsonArray()) {
+                for (JsonElement type : typesElement.getAsJsonArray()) {
+                    if (!type.isJsonPrimitive()) {
+                        throw new CompileAbiError(
+                                String.format(ErrorConstants.COMPILE_ABI_INVALID_MEMBER, "types"));
+                    }
+
+                    types.add(type.getAsString());
+                }
+            }
+
+            variants.put(getString(variant, "name"), Collections.unmodifiableList(types));
+        }
+
+        Map<String, String> actionTypes = new HashMap<>();
+        Map<String, AbiStruct> actionStructs = new HashMap<>();
+        for (JsonObject action : getObjects(abiObject, "actions")) {
+            String actionName = getString(action, "name");
+            String actionType = getString(action, "type");
+            actionTypes.put(actionName, actionType);
+            AbiStruct actionStruct = structs.get(resolveType(actionType, typeAliases));
+            if (actionStruct != null) {
+                actionStructs.put(actionName, actionStruct);
+            }
+        }
+
+        return new CompiledAbi(abiJson, version, Collections.unmodifiableMap(typeAliases),
+                Collections.unmodifiableMap(structs), Collections.unmodifiableMap(variants),
+                Collections.unmodifiableMap(actionTypes), Collections.unmodifiableMap(actionStructs));
+    }
+
+    /**
+     * Gets the ABI in JSON format.
+     *
+     * @return the ABI in JSON format.
+     */
+    @NotNull
+    public String getAbiJson() {
+        return abiJson;
+    }
+
+    /**
+     * Gets the version of the ABI.
+     *
+     * @return the version, for example "arisen::abi/1.1", empty if the ABI has none.
+     */
+    @NotNull
+    public String getVersion() {
+        return version;
+    }
+
+    /**
+     * Resolve a type alias to the type it finally refers to.
+     *
+     * @param type the type name, without "[]", "?" or "$" suffix.
+     * @return the resolved type, or the given type if it is not an alias.
+     */
+    @NotNull
+    public String resolveType(@NotNull String type) {
+        String resolvedType = type;
+        while (this.typeAliases.containsKey(resolvedType)) {
+            resolvedType = this.typeAliases.get(resolvedType);
+        }
+
+        return resolvedType;
+    }
+
+    /**
+     * Gets a struct by name, resolving type aliases.
+     *
+     * @param name the name of the struct or of an alias of the struct.
+     * @return the struct, null if there is no such struct.
+     */
+    @Nullable
+    public AbiStruct getStruct(@NotNull String name) {
+        return this.structs.get(this.resolveType(name));
+    }
+
+    /**
+     * Gets the names of the structs of the ABI.
+     *
+     * @return the struct names.
+     */
+    @NotNull
+    public Set<String> getStructNames() {
+        return this.structs.keySet();
+    }
+
+    /**
+     * Gets the types of a variant, resolving type aliases.
+     *
+     * @param name the name of the variant or of an alias of the variant.
+     * @return the types of the variant in index order, null if there is no such variant.
+     */
+    @Nullable
+    public List<String> getVariant(@NotNull String name) {
+        return this.variants.get(this.resolveType(name));
+    }
+
+    /**
+     * Gets the names of the actions of the ABI.
+     *
+     * @return the action names.
+     */
+    @NotNull
+    public Set<String> getActionNames() {
+        return this.actionTypes.keySet();
+    }
+
+    /**
+     * Gets the type of an action.
+     *
+     * @param actionName the name of the action.
+     * @return the type of the action, null if the ABI has no such action.
+     */
+    @Nullable
+    public String getActionType(@NotNull String actionName) {
+        return this.actionTypes.get(actionName);
+    }
+
+    /**
+     * Gets the struct of the data of an action.
+     *
+     * @param actionName the name of the action.
+     * @return the struct of the action, null if the ABI has no such action or its type is not a
+     * struct.
+     */
+    @Nullable
+    public AbiStruct getActionStruct(@NotNull String actionName) {
+        return this.actionStructs.get(actionName);
+    }
+
+    /**
+     * Resolve a type alias while compiling, failing if the alias refers to itself.
+     */
+    @NotNull
+    private static String resolveType(@NotNull String type, @NotNull Map<String, String> typeAliases)
+            throws CompileAbiError {
+        String resolvedType = type;
+        Set<String> visitedTypes = new HashSet<>();
+        while (typeAliases.containsKey(resolvedType)) {
+            if (!visitedTypes.add(resolvedType)) {
+                throw new CompileAbiError(
+                        String.format(ErrorConstants.COMPILE_ABI_CIRCULAR_TYPE, type));
+            }
+
+            resolvedType = typeAliases.get(resolvedType);
+        }
+
+        return resolvedType;
+    }
+
+    /**
+     * Compile a struct after its base structs.
+     */
+    @NotNull
+    private static AbiStruct compileStruct(@NotNull String structName,
+            @NotNull Map<String, JsonObject> structObjects, @NotNull Map<String, String> typeAliases,
+            @NotNull Map<String, AbiStruct> structs, @NotNull Set<String> visitingStructs)
+            throws CompileAbiError {
+        AbiStruct compiledStruct = structs.get(structName);
+        if (compiledStruct != null) {
+            return compiledStruct;
+        }
+
+        if (!visitingStructs.add(structName)) {
+            throw new CompileAbiError(
+                    String.format(ErrorConstants.COMPILE_ABI_CIRCULAR_STRUCT, structName));
+        }
+
+        JsonObject struct = structObjects.get(structName);
+        List<AbiField> fields = new ArrayList<>();
+        JsonElement baseElement = struct.get("base");
+        String base = baseElement != null && baseElement.isJsonPrimitive()
+                && !Strings.isNullOrEmpty(baseElement.getAsString()) ? baseElement.getAsString() : null;
+        if (base != null) {
+            String resolvedBase = resolveType(base, typeAliases);
+            if (!structObjects.containsKey(resolvedBase)) {
+                throw new CompileAbiError(
+                        String.format(ErrorConstants.COMPILE_ABI_UNKNOWN_BASE, base, structName));
+            }
+
+            fields.addAll(compileStruct(resolvedBase, structObjects, typeAliases, structs,
+                    visitingStructs).getFields());
+        }
+
+        for (JsonObject field : getObjects(struct, "fields")) {
+            fields.add(new AbiField(getString(field, "name"), getString(field, "type")));
+        }
+
+        compiledStruct = new AbiStruct(structName, base, fields);
+        structs.put(structName, compiledStruct);
+        return compiledStruct;
+    }
+
+    /**
+     * Gets the objects of an array member, an empty list if the member is missing.
+     */
+    @NotNull
+    private static List<JsonObject> getObjects(@NotNull JsonObject object,
+            @NotNull String memberName) throws CompileAbiError {
+        JsonElement member = object.get(memberName);
+        if (member == null || member.isJsonNull()) {
+            return Collections.emptyList();
+        }
+
+        if (!member.isJsonArray()) {
+            throw new CompileAbiError(
+                    String.format(ErrorConstants.COMPILE_ABI_INVALID_MEMBER, memberName));
+        }
+
+        JsonArray array = member.getAsJsonArray();
+        List<JsonObject> objects = new ArrayList<>(array.size());
+        for (JsonElement element : array) {
+            if (!element.isJsonObject()) {
+                throw new CompileAbiError(
+                        String.format(ErrorConstants.COMPILE_ABI_INVALID_MEMBER, memberName));
+            }
+
+            objects.add(element.getAsJsonObject());
+        }
+
+        return objects;
+    }
+
+    /**
+     * Gets a string member, failing if it is missing.
+     */
+    @NotNull
+    private static String getString(@NotNull JsonObject object, @NotNull String memberName)
+            throws CompileAbiError {
+        JsonElement member = object.get(memberName);
+        if (member == null || !member.isJsonPrimitive()) {
+            throw new CompileAbiError(
+                    String.format(ErrorConstants.COMPILE_ABI_INVALID_MEMBER, memberName));
+        }
+
+        return member.getAsString();
+    }
+}
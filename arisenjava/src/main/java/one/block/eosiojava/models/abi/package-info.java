@@ -0,0 +1,6 @@
+/**
+ * Provides the compiled representation of contract ABIs, {@link one.block.arisenjava.models.abi.CompiledAbi},
+ * returned by {@link one.block.arisenjava.interfaces.IABIProvider#getCompiledAbi(String, one.block.arisenjava.models.ARISENName)}
+ */
+
+package one.block.arisenjava.models.abi;
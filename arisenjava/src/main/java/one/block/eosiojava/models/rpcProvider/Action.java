@@ -42,6 +42,14 @@ public class Action implements Serializable {
     @NotNull
     private String data;
 
+    /**
+     * Whether the data field already holds the serialized (hex) action data, as produced by
+     * {@link one.block.arisenjava.session.ActionTemplate}.  Such actions are not serialized again by
+     * {@link one.block.arisenjava.session.TransactionProcessor}.  The flag is not part of the JSON of
+     * the action.
+     */
+    private transient boolean isDataSerialized;
+
     /**
      * Instantiates a new action.
      *
@@ -134,4 +142,22 @@ public class Action implements Serializable {
     public void setData(@NotNull String data) {
         this.data = data;
     }
+
+    /**
+     * Whether the data field already holds the serialized (hex) action data.
+     *
+     * @return true if the data is serialized.
+     */
+    public boolean isDataSerialized() {
+        return isDataSerialized;
+    }
+
+    /**
+     * Sets whether the data field already holds the serialized (hex) action data.
+     *
+     * @param isDataSerialized true if the data is serialized.
+     */
+    public void setIsDataSerialized(boolean isDataSerialized) {
+        this.isDataSerialized = isDataSerialized;
+    }
 }
@@ -37,7 +37,7 @@ public class ArisenEndPoint {
      * @param port the port
      * @param host the host
      */
-    public arisenEndPoint(@NotNull String protocol, int port, @NotNull String host) {
+    public ArisenEndPoint(@NotNull String protocol, int port, @NotNull String host) {
         this.protocol = protocol;
         this.port = port;
         this.host = host;
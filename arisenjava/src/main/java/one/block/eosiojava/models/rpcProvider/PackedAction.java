@@ -0,0 +1,138 @@
+package one.block.arisenjava.models.rpcProvider;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import one.block.arisenjava.implementations.AbiBinaryReader;
+import one.block.arisenjava.utilities.ByteFormatter;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Read-only view of an action of a {@link PackedTransaction}, decoding its members from the packed
+ * bytes only when they are accessed.
+ * <p>
+ * Its data is the binary data of the action, which the serialization provider deserializes with the
+ * ABI of the contract if needed.
+ */
+public final class PackedAction {
+
+    private static final int NAME_BYTES = 8;
+
+    private static final int AUTHORIZATION_BYTES = 2 * NAME_BYTES;
+
+    /**
+     * The packed transaction holding the action.
+     */
+    @NotNull
+    private final byte[] packedTransaction;
+
+    /**
+     * Position of the action in the packed transaction.
+     */
+    private final int position;
+
+    /**
+     * Instantiates a view of an action whose layout was checked by {@link PackedTransaction}.
+     *
+     * @param packedTransaction the packed transaction holding the action.
+     * @param position the position of the action in the packed transaction.
+     */
+    PackedAction(@NotNull byte[] packedTransaction, int position) {
+        this.packedTransaction = packedTransaction;
+        this.position = position;
+    }
+
+    /**
+     * Gets the contract account name.
+     *
+     * @return the contract account name.
+     */
+    @NotNull
+    public String getAccount() {
+        return this.readerAt(0).readName();
+    }
+
+    /**
+     * Gets the contract action name.
+     *
+     * @return the contract action name.
+     */
+    @NotNull
+    public String getName() {
+        return this.readerAt(NAME_BYTES).readName();
+    }
+
+    /**
+     * Gets the authorizations (actor and permission) of the action.
+     *
+     * @return the authorizations.
+     */
+    @NotNull
+    public List<Authorization> getAuthorization() {
+        AbiBinaryReader reader = this.readerAt(2 * NAME_BYTES);
+        int count = (int) reader.readVarUint32();
+        List<Authorization> authorization = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            authorization.add(new Authorization(reader.readName(), reader.readName()));
+        }
+
+        return authorization;
+    }
+
+    /**
+     * Gets the binary data of the action, without copying it.
+     *
+     * @return a read-only buffer of the data, from its position to its limit.
+     */
+    @NotNull
+    public ByteBuffer getDataBytes() {
+        AbiBinaryReader reader = this.dataReader();
+        int length = (int) reader.readVarUint32();
+        ByteBuffer data = ByteBuffer.wrap(this.packedTransaction, reader.getPosition(), length);
+        return data.slice().asReadOnlyBuffer();
+    }
+
+    /**
+     * Gets the data of the action in hex, upper case.
+     *
+     * @return the hex data.
+     */
+    @NotNull
+    public String getData() {
+        AbiBinaryReader reader = this.dataReader();
+        int length = (int) reader.readVarUint32();
+        StringBuilder data = new StringBuilder(2 * length);
+        ByteFormatter.appendHex(this.packedTransaction, reader.getPosition(), length, true, data);
+        return data.toString();
+    }
+
+    /**
+     * Decode the whole action.
+     *
+     * @return the action, with its hex data flagged as serialized.
+     */
+    @NotNull
+    public Action toAction() {
+        Action action = new Action(this.getAccount(), this.getName(), this.getAuthorization(),
+                this.getData());
+        action.setIsDataSerialized(true);
+        return action;
+    }
+
+    /**
+     * Get a reader positioned at the length of the data, after the authorizations.
+     */
+    @NotNull
+    private AbiBinaryReader dataReader() {
+        AbiBinaryReader reader = this.readerAt(2 * NAME_BYTES);
+        reader.skip((int) reader.readVarUint32() * AUTHORIZATION_BYTES);
+        return reader;
+    }
+
+    @NotNull
+    private AbiBinaryReader readerAt(int offset) {
+        AbiBinaryReader reader = new AbiBinaryReader(this.packedTransaction);
+        reader.skip(this.position + offset);
+        return reader;
+    }
+}
@@ -0,0 +1,293 @@
+package one.block.arisenjava.models.rpcProvider;
+
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import one.block.arisenjava.error.ErrorConstants;
+import one.block.arisenjava.implementations.AbiBinaryReader;
+import one.block.arisenjava.utilities.ByteFormatter;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Read-only view of a packed (serialized) transaction, decoding its members from the packed bytes
+ * only when they are accessed.
+ * <p>
+ * Creating the view only checks the layout of the transaction and records where its actions start:
+ * the expiration, the names and authorizations of the actions and their data are decoded by their
+ * getters, so reading the header or the action names of a transaction doesn't decode the rest of it.
+ * It doesn't need a serialization provider, as the transaction format is not defined by an ABI.
+ * {@link #toTransaction()} decodes the whole transaction.
+ * <p>
+ * The packed bytes are not copied and must not be modified.  A view is immutable and can be shared
+ * between threads.
+ */
+public final class PackedTransaction {
+
+    /**
+     * Size of the fixed part of the header: expiration, ref block num and ref block prefix.
+     */
+    private static final int FIXED_HEADER_BYTES = 10;
+
+    private static final int REF_BLOCK_NUM_POSITION = 4;
+
+    private static final int REF_BLOCK_PREFIX_POSITION = 6;
+
+    private static final int AUTHORIZATION_BYTES = 16;
+
+    private static final int ACTION_NAMES_BYTES = 16;
+
+    @NotNull
+    private final byte[] packedTransaction;
+
+    private final long maxNetUsageWords;
+
+    private final int maxCpuUsageMs;
+
+    private final long delaySec;
+
+    /**
+     * Positions of the context free actions in the packed transaction.
+     */
+    @NotNull
+    private final int[] contextFreeActionPositions;
+
+    /**
+     * Positions of the actions in the packed transaction.
+     */
+    @NotNull
+    private final int[] actionPositions;
+
+    private final long transactionExtensionCount;
+
+    /**
+     * Instantiates a view of a packed transaction.
+     *
+     * @param packedTransaction the packed transaction, not copied.
+     * @throws IllegalArgumentException thrown if the data is not a valid packed transaction.
+     */
+    public PackedTransaction(@NotNull byte[] packedTransaction) {
+        this.packedTransaction = packedTransaction;
+        try {
+            AbiBinaryReader reader = new AbiBinaryReader(packedTransaction);
+            reader.skip(FIXED_HEADER_BYTES);
+            this.maxNetUsageWords = reader.readVarUint32();
+            this.maxCpuUsageMs = reader.readUint8();
+            this.delaySec = reader.readVarUint32();
+            this.contextFreeActionPositions = scanActions(reader, packedTransaction.length);
+            this.actionPositions = scanActions(reader, packedTransaction.length);
+            this.transactionExtensionCount = reader.readVarUint32();
+            for (long i = 0; i < this.transactionExtensionCount; i++) {
+                reader.readUint16();
+                reader.skip(checkLength(reader.readVarUint32()));
+            }
+
+            if (reader.hasRemaining()) {
+                throw new IllegalArgumentException(String.format(
+                        ErrorConstants.SERIALIZATION_PROVIDER_EXTRA_DATA,
+                        packedTransaction.length - reader.getPosition()));
+            }
+        } catch (IllegalArgumentException | BufferUnderflowException exception) {
+            throw new IllegalArgumentException(ErrorConstants.PACKED_TRANSACTION_INVALID_DATA,
+                    exception);
+        }
+    }
+
+    /**
+     * Instantiates a view of a packed transaction in hex.
+     *
+     * @param hex the packed transaction in hex.
+     * @return the view of the transaction.
+     * @throws IllegalArgumentException thrown if the hex is not a valid packed transaction.
+     */
+    @NotNull
+    public static PackedTransaction createFromHex(@NotNull String hex) {
+        byte[] packedTransaction;
+        try {
+            packedTransaction = ByteFormatter.decodeHex(hex);
+        } catch (IllegalArgumentException illegalArgumentException) {
+            throw new IllegalArgumentException(ErrorConstants.PACKED_TRANSACTION_INVALID_DATA,
+                    illegalArgumentException);
+        }
+
+        return new PackedTransaction(packedTransaction);
+    }
+
+    /**
+     * Gets the expiration of the transaction.
+     *
+     * @return the expiration in the format of {@link Transaction#getExpiration()}.
+     */
+    @NotNull
+    public String getExpiration() {
+        return new AbiBinaryReader(this.packedTransaction).readBuiltIn("time_point_sec");
+    }
+
+    /**
+     * Gets the ref block number of the transaction.
+     *
+     * @return the ref block number.
+     */
+    public int getRefBlockNum() {
+        return this.readerAt(REF_BLOCK_NUM_POSITION).readUint16();
+    }
+
+    /**
+     * Gets the ref block prefix of the transaction.
+     *
+     * @return the ref block prefix.
+     */
+    public long getRefBlockPrefix() {
+        return this.readerAt(REF_BLOCK_PREFIX_POSITION).readUint32();
+    }
+
+    /**
+     * Gets the max net usage words of the transaction.
+     *
+     * @return the max net usage words.
+     */
+    public long getMaxNetUsageWords() {
+        return maxNetUsageWords;
+    }
+
+    /**
+     * Gets the max cpu usage ms of the transaction.
+     *
+     * @return the max cpu usage ms.
+     */
+    public int getMaxCpuUsageMs() {
+        return maxCpuUsageMs;
+    }
+
+    /**
+     * Gets the delay sec of the transaction.
+     *
+     * @return the delay sec.
+     */
+    public long getDelaySec() {
+        return delaySec;
+    }
+
+    /**
+     * Gets the context free actions of the transaction, which are decoded when accessed.
+     *
+     * @return the context free actions.
+     */
+    @NotNull
+    public List<PackedAction> getContextFreeActions() {
+        return this.actionsAt(this.contextFreeActionPositions);
+    }
+
+    /**
+     * Gets the actions of the transaction, which are decoded when accessed.
+     *
+     * @return the actions.
+     */
+    @NotNull
+    public List<PackedAction> getActions() {
+        return this.actionsAt(this.actionPositions);
+    }
+
+    /**
+     * Gets the number of transaction extensions.
+     *
+     * @return the number of transaction extensions.
+     */
+    public long getTransactionExtensionCount() {
+        return transactionExtensionCount;
+    }
+
+    /**
+     * Decode the whole transaction.  The data of its actions stays in hex and is flagged as
+     * serialized.
+     *
+     * @return the transaction.
+     * @throws IllegalStateException thrown if the transaction has transaction extensions, which a
+     * {@link Transaction} can't hold.
+     */
+    @NotNull
+    public Transaction toTransaction() {
+        if (this.transactionExtensionCount != 0) {
+            throw new IllegalStateException(ErrorConstants.PACKED_TRANSACTION_EXTENSIONS_NOT_SUPPORTED);
+        }
+
+        return new Transaction(this.getExpiration(), BigInteger.valueOf(this.getRefBlockNum()),
+                BigInteger.valueOf(this.getRefBlockPrefix()),
+                BigInteger.valueOf(this.maxNetUsageWords), BigInteger.valueOf(this.maxCpuUsageMs),
+                BigInteger.valueOf(this.delaySec), toActions(this.getContextFreeActions()),
+                toActions(this.getActions()), new ArrayList<String>());
+    }
+
+    /**
+     * Record the positions of a list of actions, checking their layout without decoding them.
+     */
+    @NotNull
+    private static int[] scanActions(@NotNull AbiBinaryReader reader, int length) {
+        long count = reader.readVarUint32();
+        // Bound the allocation by the data left, each action takes more than one byte
+        if (count > length - reader.getPosition()) {
+            throw new IllegalArgumentException(ErrorConstants.SERIALIZATION_PROVIDER_END_OF_DATA);
+        }
+
+        int[] positions = new int[(int) count];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = reader.getPosition();
+            reader.skip(ACTION_NAMES_BYTES);
+            long authorizationCount = reader.readVarUint32();
+            if (authorizationCount > Integer.MAX_VALUE / AUTHORIZATION_BYTES) {
+                throw new IllegalArgumentException(ErrorConstants.SERIALIZATION_PROVIDER_END_OF_DATA);
+            }
+
+            reader.skip((int) authorizationCount * AUTHORIZATION_BYTES);
+            reader.skip(checkLength(reader.readVarUint32()));
+        }
+
+        return positions;
+    }
+
+    private static int checkLength(long length) {
+        if (length > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(ErrorConstants.SERIALIZATION_PROVIDER_END_OF_DATA);
+        }
+
+        return (int) length;
+    }
+
+    @NotNull
+    private static List<Action> toActions(@NotNull List<PackedAction> packedActions) {
+        List<Action> actions = new ArrayList<>(packedActions.size());
+        for (PackedAction packedAction : packedActions) {
+            actions.add(packedAction.toAction());
+        }
+
+        return actions;
+    }
+
+    @NotNull
+    private List<PackedAction> actionsAt(@NotNull final int[] positions) {
+        if (positions.length == 0) {
+            return Collections.emptyList();
+        }
+
+        return new AbstractList<PackedAction>() {
+            @Override
+            public PackedAction get(int index) {
+                return new PackedAction(PackedTransaction.this.packedTransaction, positions[index]);
+            }
+
+            @Override
+            public int size() {
+                return positions.length;
+            }
+        };
+    }
+
+    @NotNull
+    private AbiBinaryReader readerAt(int position) {
+        AbiBinaryReader reader = new AbiBinaryReader(this.packedTransaction);
+        reader.skip(position);
+        return reader;
+    }
+}
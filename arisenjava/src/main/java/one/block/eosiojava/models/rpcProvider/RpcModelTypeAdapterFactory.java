@@ -0,0 +1,545 @@
+package one.block.arisenjava.models.rpcProvider;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import one.block.arisenjava.models.rpcProvider.response.GetInfoResponse;
+import one.block.arisenjava.models.rpcProvider.response.GetRequiredKeysResponse;
+import one.block.arisenjava.models.rpcProvider.response.PushTransactionResponse;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Streaming {@link TypeAdapter}s for the models going through every transaction: {@link Transaction},
+ * {@link Action}, {@link Authorization}, {@link GetInfoResponse}, {@link GetRequiredKeysResponse}
+ * and {@link PushTransactionResponse}.
+ * <p>
+ * The adapters produce the same JSON as reflective binding (same field names and order, nulls
+ * following {@link Gson#serializeNulls()}, unknown fields ignored) without going through reflection.
+ * The factory is registered by {@link one.block.arisenjava.utilities.Utils#getGson(String)}.
+ */
+public final class RpcModelTypeAdapterFactory implements TypeAdapterFactory {
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+        Class<? super T> rawType = type.getRawType();
+        if (rawType == Authorization.class) {
+            return (TypeAdapter<T>) new AuthorizationAdapter().nullSafe();
+        } else if (rawType == Action.class) {
+            return (TypeAdapter<T>) new ActionAdapter(gson.getAdapter(Authorization.class))
+                    .nullSafe();
+        } else if (rawType == Transaction.class) {
+            return (TypeAdapter<T>) new TransactionAdapter(gson.getAdapter(Action.class)).nullSafe();
+        } else if (rawType == GetInfoResponse.class) {
+            return (TypeAdapter<T>) new GetInfoResponseAdapter().nullSafe();
+        } else if (rawType == GetRequiredKeysResponse.class) {
+            return (TypeAdapter<T>) new GetRequiredKeysResponseAdapter().nullSafe();
+        } else if (rawType == PushTransactionResponse.class) {
+            return (TypeAdapter<T>) new PushTransactionResponseAdapter(
+                    gson.getAdapter(new TypeToken<Map<String, Object>>() {})).nullSafe();
+        }
+
+        return null;
+    }
+
+    //region Readers and writers of field values
+
+    private static void writeString(@NotNull JsonWriter out, @Nullable String value)
+            throws IOException {
+        if (value == null) {
+            out.nullValue();
+        } else {
+            out.value(value);
+        }
+    }
+
+    private static void writeBigInteger(@NotNull JsonWriter out, @Nullable BigInteger value)
+            throws IOException {
+        if (value == null) {
+            out.nullValue();
+        } else {
+            out.value(value);
+        }
+    }
+
+    private static void writeStringList(@NotNull JsonWriter out, @Nullable List<String> values)
+            throws IOException {
+        if (values == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginArray();
+        for (String value : values) {
+            writeString(out, value);
+        }
+        out.endArray();
+    }
+
+    private static <E> void writeList(@NotNull JsonWriter out, @Nullable List<E> values,
+            @NotNull TypeAdapter<E> elementAdapter) throws IOException {
+        if (values == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginArray();
+        for (E value : values) {
+            elementAdapter.write(out, value);
+        }
+        out.endArray();
+    }
+
+    @Nullable
+    private static String readString(@NotNull JsonReader in) throws IOException {
+        JsonToken token = in.peek();
+        if (token == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        } else if (token == JsonToken.BOOLEAN) {
+            return Boolean.toString(in.nextBoolean());
+        }
+
+        return in.nextString();
+    }
+
+    @Nullable
+    private static BigInteger readBigInteger(@NotNull JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        String value = in.nextString();
+        try {
+            return new BigInteger(value);
+        } catch (NumberFormatException numberFormatException) {
+            throw new JsonSyntaxException(numberFormatException);
+        }
+    }
+
+    @Nullable
+    private static List<String> readStringList(@NotNull JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        List<String> values = new ArrayList<>();
+        in.beginArray();
+        while (in.hasNext()) {
+            values.add(readString(in));
+        }
+        in.endArray();
+        return values;
+    }
+
+    @Nullable
+    private static <E> List<E> readList(@NotNull JsonReader in,
+            @NotNull TypeAdapter<E> elementAdapter) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        List<E> values = new ArrayList<>();
+        in.beginArray();
+        while (in.hasNext()) {
+            values.add(elementAdapter.read(in));
+        }
+        in.endArray();
+        return values;
+    }
+
+    //endregion
+
+    //region Adapters
+
+    /**
+     * Adapter of {@link Authorization}.
+     */
+    static final class AuthorizationAdapter extends TypeAdapter<Authorization> {
+
+        @Override
+        public void write(JsonWriter out, Authorization value) throws IOException {
+            out.beginObject();
+            out.name("actor");
+            writeString(out, value.getActor());
+            out.name("permission");
+            writeString(out, value.getPermission());
+            out.endObject();
+        }
+
+        @Override
+        public Authorization read(JsonReader in) throws IOException {
+            String actor = null;
+            String permission = null;
+
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "actor":
+                        actor = readString(in);
+                        break;
+                    case "permission":
+                        permission = readString(in);
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+
+            return new Authorization(actor, permission);
+        }
+    }
+
+    /**
+     * Adapter of {@link Action}.
+     */
+    static final class ActionAdapter extends TypeAdapter<Action> {
+
+        @NotNull
+        private final TypeAdapter<Authorization> authorizationAdapter;
+
+        ActionAdapter(@NotNull TypeAdapter<Authorization> authorizationAdapter) {
+            this.authorizationAdapter = authorizationAdapter;
+        }
+
+        @Override
+        public void write(JsonWriter out, Action value) throws IOException {
+            out.beginObject();
+            out.name("account");
+            writeString(out, value.getAccount());
+            out.name("name");
+            writeString(out, value.getName());
+            out.name("authorization");
+            writeList(out, value.getAuthorization(), this.authorizationAdapter);
+            out.name("data");
+            writeString(out, value.getData());
+            out.endObject();
+        }
+
+        @Override
+        public Action read(JsonReader in) throws IOException {
+            String account = null;
+            String name = null;
+            List<Authorization> authorization = null;
+            String data = null;
+
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "account":
+                        account = readString(in);
+                        break;
+                    case "name":
+                        name = readString(in);
+                        break;
+                    case "authorization":
+                        authorization = readList(in, this.authorizationAdapter);
+                        break;
+                    case "data":
+                        data = readString(in);
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+
+            return new Action(account, name, authorization, data);
+        }
+    }
+
+    /**
+     * Adapter of {@link Transaction}.
+     */
+    static final class TransactionAdapter extends TypeAdapter<Transaction> {
+
+        @NotNull
+        private final TypeAdapter<Action> actionAdapter;
+
+        TransactionAdapter(@NotNull TypeAdapter<Action> actionAdapter) {
+            this.actionAdapter = actionAdapter;
+        }
+
+        @Override
+        public void write(JsonWriter out, Transaction value) throws IOException {
+            out.beginObject();
+            out.name("expiration");
+            writeString(out, value.getExpiration());
+            out.name("ref_block_num");
+            writeBigInteger(out, value.getRefBlockNum());
+            out.name("ref_block_prefix");
+            writeBigInteger(out, value.getRefBlockPrefix());
+            out.name("max_net_usage_words");
+            writeBigInteger(out, value.getMaxNetUsageWords());
+            out.name("max_cpu_usage_ms");
+            writeBigInteger(out, value.getMaxCpuUsageMs());
+            out.name("delay_sec");
+            writeBigInteger(out, value.getDelaySec());
+            out.name("context_free_actions");
+            writeList(out, value.getContextFreeActions(), this.actionAdapter);
+            out.name("actions");
+            writeList(out, value.getActions(), this.actionAdapter);
+            out.name("transaction_extensions");
+            writeStringList(out, value.getTransactionExtensions());
+            out.endObject();
+        }
+
+        @Override
+        public Transaction read(JsonReader in) throws IOException {
+            String expiration = null;
+            BigInteger refBlockNum = null;
+            BigInteger refBlockPrefix = null;
+            BigInteger maxNetUsageWords = null;
+            BigInteger maxCpuUsageMs = null;
+            BigInteger delaySec = null;
+            List<Action> contextFreeActions = null;
+            List<Action> actions = null;
+            List<String> transactionExtensions = null;
+
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "expiration":
+                        expiration = readString(in);
+                        break;
+                    case "ref_block_num":
+                        refBlockNum = readBigInteger(in);
+                        break;
+                    case "ref_block_prefix":
+                        refBlockPrefix = readBigInteger(in);
+                        break;
+                    case "max_net_usage_words":
+                        maxNetUsageWords = readBigInteger(in);
+                        break;
+                    case "max_cpu_usage_ms":
+                        maxCpuUsageMs = readBigInteger(in);
+                        break;
+                    case "delay_sec":
+                        delaySec = readBigInteger(in);
+                        break;
+                    case "context_free_actions":
+                        contextFreeActions = readList(in, this.actionAdapter);
+                        break;
+                    case "actions":
+                        actions = readList(in, this.actionAdapter);
+                        break;
+                    case "transaction_extensions":
+                        transactionExtensions = readStringList(in);
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+
+            return new Transaction(expiration, refBlockNum, refBlockPrefix, maxNetUsageWords,
+                    maxCpuUsageMs, delaySec, contextFreeActions, actions, transactionExtensions);
+        }
+    }
+
+    /**
+     * Adapter of {@link GetInfoResponse}.
+     */
+    static final class GetInfoResponseAdapter extends TypeAdapter<GetInfoResponse> {
+
+        @Override
+        public void write(JsonWriter out, GetInfoResponse value) throws IOException {
+            out.beginObject();
+            out.name("server_version");
+            writeString(out, value.getServerVersion());
+            out.name("chain_id");
+            writeString(out, value.getChainId());
+            out.name("head_block_num");
+            writeBigInteger(out, value.getHeadBlockNum());
+            out.name("last_irreversible_block_num");
+            writeBigInteger(out, value.getLastIrreversibleBlockNum());
+            out.name("last_irreversible_block_id");
+            writeString(out, value.getLastIrreversibleBlockId());
+            out.name("head_block_id");
+            writeString(out, value.getHeadBlockId());
+            out.name("head_block_time");
+            writeString(out, value.getHeadBlockTime());
+            out.name("head_block_producer");
+            writeString(out, value.getHeadBlockProducer());
+            out.name("virtual_block_cpu_limit");
+            writeBigInteger(out, value.getVirtualBlockCpuLimit());
+            out.name("virtual_block_net_limit");
+            writeBigInteger(out, value.getVirtualBlockNetLimit());
+            out.name("block_cpu_limit");
+            writeBigInteger(out, value.getBlockCpuLimit());
+            out.name("block_net_limit");
+            writeBigInteger(out, value.getBlockNetLimit());
+            out.name("server_version_string");
+            writeString(out, value.getServerVersionString());
+            out.endObject();
+        }
+
+        @Override
+        public GetInfoResponse read(JsonReader in) throws IOException {
+            String serverVersion = null;
+            String chainId = null;
+            BigInteger headBlockNum = null;
+            BigInteger lastIrreversibleBlockNum = null;
+            String lastIrreversibleBlockId = null;
+            String headBlockId = null;
+            String headBlockTime = null;
+            String headBlockProducer = null;
+            BigInteger virtualBlockCpuLimit = null;
+            BigInteger virtualBlockNetLimit = null;
+            BigInteger blockCpuLimit = null;
+            BigInteger blockNetLimit = null;
+            String serverVersionString = null;
+
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "server_version":
+                        serverVersion = readString(in);
+                        break;
+                    case "chain_id":
+                        chainId = readString(in);
+                        break;
+                    case "head_block_num":
+                        headBlockNum = readBigInteger(in);
+                        break;
+                    case "last_irreversible_block_num":
+                        lastIrreversibleBlockNum = readBigInteger(in);
+                        break;
+                    case "last_irreversible_block_id":
+                        lastIrreversibleBlockId = readString(in);
+                        break;
+                    case "head_block_id":
+                        headBlockId = readString(in);
+                        break;
+                    case "head_block_time":
+                        headBlockTime = readString(in);
+                        break;
+                    case "head_block_producer":
+                        headBlockProducer = readString(in);
+                        break;
+                    case "virtual_block_cpu_limit":
+                        virtualBlockCpuLimit = readBigInteger(in);
+                        break;
+                    case "virtual_block_net_limit":
+                        virtualBlockNetLimit = readBigInteger(in);
+                        break;
+                    case "block_cpu_limit":
+                        blockCpuLimit = readBigInteger(in);
+                        break;
+                    case "block_net_limit":
+                        blockNetLimit = readBigInteger(in);
+                        break;
+                    case "server_version_string":
+                        serverVersionString = readString(in);
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+
+            return new GetInfoResponse(serverVersion, chainId, headBlockNum,
+                    lastIrreversibleBlockNum, lastIrreversibleBlockId, headBlockId, headBlockTime,
+                    headBlockProducer, virtualBlockCpuLimit, virtualBlockNetLimit, blockCpuLimit,
+                    blockNetLimit, serverVersionString);
+        }
+    }
+
+    /**
+     * Adapter of {@link GetRequiredKeysResponse}.
+     */
+    static final class GetRequiredKeysResponseAdapter extends
+            TypeAdapter<GetRequiredKeysResponse> {
+
+        @Override
+        public void write(JsonWriter out, GetRequiredKeysResponse value) throws IOException {
+            out.beginObject();
+            out.name("required_keys");
+            writeStringList(out, value.getRequiredKeys());
+            out.endObject();
+        }
+
+        @Override
+        public GetRequiredKeysResponse read(JsonReader in) throws IOException {
+            List<String> requiredKeys = null;
+
+            in.beginObject();
+            while (in.hasNext()) {
+                if ("required_keys".equals(in.nextName())) {
+                    requiredKeys = readStringList(in);
+                } else {
+                    in.skipValue();
+                }
+            }
+            in.endObject();
+
+            return new GetRequiredKeysResponse(requiredKeys);
+        }
+    }
+
+    /**
+     * Adapter of {@link PushTransactionResponse}.  The processed trace has no fixed shape and is
+     * handled by the {@link Map} adapter of the enclosing {@link Gson}.
+     */
+    static final class PushTransactionResponseAdapter extends
+            TypeAdapter<PushTransactionResponse> {
+
+        @NotNull
+        private final TypeAdapter<Map<String, Object>> processedAdapter;
+
+        PushTransactionResponseAdapter(
+                @NotNull TypeAdapter<Map<String, Object>> processedAdapter) {
+            this.processedAdapter = processedAdapter;
+        }
+
+        @Override
+        public void write(JsonWriter out, PushTransactionResponse value) throws IOException {
+            out.beginObject();
+            out.name("transaction_id");
+            writeString(out, value.getTransactionId());
+            out.name("processed");
+            this.processedAdapter.write(out, value.getProcessed());
+            out.endObject();
+        }
+
+        @Override
+        public PushTransactionResponse read(JsonReader in) throws IOException {
+            String transactionId = null;
+            Map<String, Object> processed = null;
+
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "transaction_id":
+                        transactionId = readString(in);
+                        break;
+                    case "processed":
+                        processed = this.processedAdapter.read(in);
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+
+            return new PushTransactionResponse(transactionId, processed);
+        }
+    }
+
+    //endregion
+}
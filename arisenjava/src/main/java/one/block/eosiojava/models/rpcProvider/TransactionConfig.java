@@ -1,5 +1,7 @@
 package one.block.arisenjava.models.rpcProvider;
 
+import one.block.arisenjava.enums.TaposMode;
+import one.block.arisenjava.error.ErrorConstants;
 import one.block.arisenjava.models.rpcProvider.request.GetBlockRequest;
 import one.block.arisenjava.models.rpcProvider.response.GetInfoResponse;
 
@@ -21,6 +23,16 @@ public class TransactionConfig {
      */
     private static final int DEFAULT_EXPIRES_SECONDS = 5 * 60;
 
+    /**
+     * Maximum delay between two broadcast retries, in milliseconds
+     */
+    public static final long MAX_BROADCAST_RETRY_DELAY_MILLIS = 10 * 1000;
+
+    /**
+     * Default delay before the first broadcast retry, in milliseconds
+     */
+    private static final long DEFAULT_BROADCAST_RETRY_DELAY_MILLIS = 250;
+
     /**
      * The Expires seconds.
      * <br>
@@ -37,6 +49,36 @@ public class TransactionConfig {
      */
     private int blocksBehind = DEFAULT_BLOCKS_BEHIND;
 
+    /**
+     * The way refBlockNum and refBlockPrefix are resolved.
+     * <br>
+     * Default is {@link TaposMode#FETCH_BLOCK} which calls {@link
+     * one.block.arisenjava.interfaces.IRPCProvider#getBlock(GetBlockRequest)}.  The other modes compute
+     * them from a block id of {@link GetInfoResponse} without downloading the block.
+     */
+    private TaposMode taposMode = TaposMode.FETCH_BLOCK;
+
+    /**
+     * Whether actions are serialized in parallel.
+     * <br>
+     * Default is false.  If true, the ABIs of the distinct contracts of a transaction are fetched
+     * once and the actions are serialized concurrently on the common fork-join pool.  The
+     * serialization provider must be thread safe to use this mode.
+     */
+    private boolean isParallelActionSerializationEnabled;
+
+    /**
+     * Maximum number of times a failed push of a signed transaction is retried with the same signed
+     * bytes.  Default is 0, no retry.
+     */
+    private int maxBroadcastRetries;
+
+    /**
+     * Delay before the first broadcast retry, in milliseconds.  The delay doubles for each following
+     * retry, up to {@link #MAX_BROADCAST_RETRY_DELAY_MILLIS}.
+     */
+    private long broadcastRetryDelayMillis = DEFAULT_BROADCAST_RETRY_DELAY_MILLIS;
+
     /**
      * Gets the expiration time for the transaction.
      * <br>
@@ -82,4 +124,107 @@ public class TransactionConfig {
     public void setBlocksBehind(int blocksBehind) {
         this.blocksBehind = blocksBehind;
     }
+
+    /**
+     * Gets the way refBlockNum and refBlockPrefix are resolved.
+     *
+     * @return the TAPOS mode
+     */
+    public TaposMode getTaposMode() {
+        return taposMode;
+    }
+
+    /**
+     * Sets the way refBlockNum and refBlockPrefix are resolved.
+     * <br>
+     * {@link TaposMode#HEAD_BLOCK_ID} and {@link TaposMode#LAST_IRREVERSIBLE_BLOCK_ID} compute them from
+     * {@link GetInfoResponse#getHeadBlockId()} or {@link GetInfoResponse#getLastIrreversibleBlockId()}
+     * and ignore blocks behind.
+     *
+     * @param taposMode the TAPOS mode
+     * @throws IllegalArgumentException if the TAPOS mode is null.
+     */
+    public void setTaposMode(TaposMode taposMode) {
+        if (taposMode == null) {
+            throw new IllegalArgumentException(ErrorConstants.TRANSACTION_CONFIG_TAPOS_MODE_NULL);
+        }
+
+        this.taposMode = taposMode;
+    }
+
+    /**
+     * Whether actions are serialized in parallel.
+     *
+     * @return true if actions are serialized in parallel.
+     */
+    public boolean isParallelActionSerializationEnabled() {
+        return isParallelActionSerializationEnabled;
+    }
+
+    /**
+     * Sets whether actions are serialized in parallel.
+     * <br>
+     * If true, the ABIs of the distinct contracts of a transaction are fetched once and the actions
+     * are serialized concurrently on the common fork-join pool.  Serialized actions keep their
+     * original order and a failure reports the same error as the sequential serialization.  The
+     * serialization provider must be thread safe to use this mode.
+     *
+     * @param isParallelActionSerializationEnabled whether actions are serialized in parallel.
+     */
+    public void setIsParallelActionSerializationEnabled(
+            boolean isParallelActionSerializationEnabled) {
+        this.isParallelActionSerializationEnabled = isParallelActionSerializationEnabled;
+    }
+
+    /**
+     * Gets the maximum number of times a failed push of a signed transaction is retried.
+     *
+     * @return the maximum number of broadcast retries.
+     */
+    public int getMaxBroadcastRetries() {
+        return maxBroadcastRetries;
+    }
+
+    /**
+     * Sets the maximum number of times a failed push of a signed transaction is retried.
+     * <br>
+     * If greater than zero, broadcasting resubmits the same signed bytes after a transient failure,
+     * for example a timeout which leaves the outcome unknown, without preparing or signing again.
+     * Retries wait {@link #getBroadcastRetryDelayMillis()}, doubled for each following retry, by
+     * sleeping on the broadcasting thread, an executor thread for the asynchronous and batch APIs.
+     * Errors the chain would return again for the same transaction, like assertion failures, expired
+     * transactions or invalid signatures, are not retried.
+     * <br>
+     * The transaction id does not change, so a duplicate transaction error returned by the chain on
+     * a retry means an earlier attempt landed: it is reported as a success, with a response holding the
+     * local transaction id (see
+     * {@link one.block.arisenjava.session.TransactionProcessor#getTransactionId()}) and a null
+     * processed trace, as the chain doesn't return the trace of the earlier attempt.
+     *
+     * @param maxBroadcastRetries the maximum number of broadcast retries.
+     */
+    public void setMaxBroadcastRetries(int maxBroadcastRetries) {
+        this.maxBroadcastRetries = maxBroadcastRetries;
+    }
+
+    /**
+     * Gets the delay before the first broadcast retry.
+     *
+     * @return the delay in milliseconds.
+     */
+    public long getBroadcastRetryDelayMillis() {
+        return broadcastRetryDelayMillis;
+    }
+
+    /**
+     * Sets the delay before the first broadcast retry.
+     * <br>
+     * The delay doubles for each following retry, up to {@link #MAX_BROADCAST_RETRY_DELAY_MILLIS}.
+     * Default is 250 milliseconds.
+     *
+     * @param broadcastRetryDelayMillis the delay in milliseconds.
+     */
+    public void setBroadcastRetryDelayMillis(long broadcastRetryDelayMillis) {
+        this.broadcastRetryDelayMillis = broadcastRetryDelayMillis;
+    }
 }
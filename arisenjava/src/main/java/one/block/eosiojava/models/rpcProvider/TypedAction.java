@@ -0,0 +1,59 @@
+package one.block.arisenjava.models.rpcProvider;
+
+import java.util.List;
+import one.block.arisenjava.implementations.AbiBinaryWriter;
+import one.block.arisenjava.interfaces.IAbiSerializable;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * An action whose data is a typed value writing its own binary format, for example an instance of
+ * a class generated from the ABI of the contract by
+ * {@link one.block.arisenjava.utilities.AbiClassGenerator}.
+ * <p>
+ * The data is serialized when the action is created and the action is flagged by
+ * {@link Action#setIsDataSerialized(boolean)}, so it can be mixed with JSON actions in
+ * {@link one.block.arisenjava.session.TransactionProcessor}, which uses its data as is without
+ * fetching the ABI of the contract.  Changes to the typed value after the action is created are not
+ * reflected in its data.
+ */
+public class TypedAction extends Action {
+
+    /**
+     * The typed data of the action.  It is not part of the JSON of the action.
+     */
+    @NotNull
+    private final transient IAbiSerializable typedData;
+
+    /**
+     * Instantiates a new typed action, serializing its data.
+     *
+     * @param account the Contract account name.
+     * @param name the Contract action name.
+     * @param authorization the Authorization (actor and permission) to make transaction
+     * @param typedData the typed action data
+     * @throws IllegalArgumentException thrown if a field of the typed data has an invalid value.
+     */
+    public TypedAction(@NotNull String account, @NotNull String name,
+            @NotNull List<Authorization> authorization, @NotNull IAbiSerializable typedData) {
+        super(account, name, authorization, serialize(typedData));
+        this.typedData = typedData;
+        this.setIsDataSerialized(true);
+    }
+
+    /**
+     * Gets the typed data of the action.
+     *
+     * @return the typed action data.
+     */
+    @NotNull
+    public IAbiSerializable getTypedData() {
+        return typedData;
+    }
+
+    @NotNull
+    private static String serialize(@NotNull IAbiSerializable typedData) {
+        AbiBinaryWriter writer = new AbiBinaryWriter();
+        typedData.serialize(writer);
+        return writer.toHex();
+    }
+}
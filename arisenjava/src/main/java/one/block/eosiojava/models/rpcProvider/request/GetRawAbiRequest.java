@@ -2,6 +2,7 @@ package one.block.arisenjava.models.rpcProvider.request;
 
 import com.google.gson.annotations.SerializedName;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * The request class of getRawAbi() RPC call {@link one.block.arisenjava.interfaces.IRPCProvider#getRawAbi(GetRawAbiRequest)}
@@ -17,6 +18,18 @@ public class GetRawAbiRequest {
         this.accountName = accountName;
     }
 
+    /**
+     * Instantiates a new GetRawAbiRequest which only returns the ABI if it doesn't match a known
+     * hash.
+     *
+     * @param accountName the String representation of arisen name type
+     * @param abiHash the hash of the known ABI
+     */
+    public GetRawAbiRequest(@NotNull String accountName, @Nullable String abiHash) {
+        this.accountName = accountName;
+        this.abiHash = abiHash;
+    }
+
     /**
      * The string representation of arisen name type
      */
@@ -24,6 +37,14 @@ public class GetRawAbiRequest {
     @NotNull
     private String accountName;
 
+    /**
+     * The hash of the ABI known by the caller.  When it matches the current ABI hash, the node
+     * omits the ABI from the response and only returns its hash.
+     */
+    @SerializedName("abi_hash")
+    @Nullable
+    private String abiHash;
+
     /**
      * Gets the string representation of arisen name type
      *
@@ -42,4 +63,23 @@ public class GetRawAbiRequest {
     public void setAccountName(@NotNull String accountName) {
         this.accountName = accountName;
     }
+
+    /**
+     * Gets the hash of the ABI known by the caller
+     *
+     * @return the hash of the known ABI, null to always get the ABI
+     */
+    @Nullable
+    public String getAbiHash() {
+        return abiHash;
+    }
+
+    /**
+     * Sets the hash of the ABI known by the caller
+     *
+     * @param abiHash the hash of the known ABI, null to always get the ABI
+     */
+    public void setAbiHash(@Nullable String abiHash) {
+        this.abiHash = abiHash;
+    }
 }
@@ -71,6 +71,49 @@ public class GetInfoResponse {
     @SerializedName("server_version_string")
     private String serverVersionString;
 
+    /**
+     * Instantiates a new empty get info response.
+     */
+    public GetInfoResponse() {
+    }
+
+    /**
+     * Instantiates a new get info response.
+     *
+     * @param serverVersion the server version.
+     * @param chainId the chain id.
+     * @param headBlockNum the head block number.
+     * @param lastIrreversibleBlockNum the last irreversible block number.
+     * @param lastIrreversibleBlockId the last irreversible block id.
+     * @param headBlockId the head block id.
+     * @param headBlockTime the head block time.
+     * @param headBlockProducer the head block producer.
+     * @param virtualBlockCpuLimit the virtual block cpu limit.
+     * @param virtualBlockNetLimit the virtual block net limit.
+     * @param blockCpuLimit the block cpu limit.
+     * @param blockNetLimit the block net limit.
+     * @param serverVersionString the server version string.
+     */
+    public GetInfoResponse(String serverVersion, String chainId, BigInteger headBlockNum,
+            BigInteger lastIrreversibleBlockNum, String lastIrreversibleBlockId,
+            String headBlockId, String headBlockTime, String headBlockProducer,
+            BigInteger virtualBlockCpuLimit, BigInteger virtualBlockNetLimit,
+            BigInteger blockCpuLimit, BigInteger blockNetLimit, String serverVersionString) {
+        this.serverVersion = serverVersion;
+        this.chainId = chainId;
+        this.headBlockNum = headBlockNum;
+        this.lastIrreversibleBlockNum = lastIrreversibleBlockNum;
+        this.lastIrreversibleBlockId = lastIrreversibleBlockId;
+        this.headBlockId = headBlockId;
+        this.headBlockTime = headBlockTime;
+        this.headBlockProducer = headBlockProducer;
+        this.virtualBlockCpuLimit = virtualBlockCpuLimit;
+        this.virtualBlockNetLimit = virtualBlockNetLimit;
+        this.blockCpuLimit = blockCpuLimit;
+        this.blockNetLimit = blockNetLimit;
+        this.serverVersionString = serverVersionString;
+    }
+
     public String getServerVersion() {
         return serverVersion;
     }
@@ -17,6 +17,21 @@ public class GetRequiredKeysResponse {
     @SerializedName("required_keys")
     private List<String> requiredKeys;
 
+    /**
+     * Instantiates a new empty get required keys response.
+     */
+    public GetRequiredKeysResponse() {
+    }
+
+    /**
+     * Instantiates a new get required keys response.
+     *
+     * @param requiredKeys the required public arisen keys to sign the transaction.
+     */
+    public GetRequiredKeysResponse(List<String> requiredKeys) {
+        this.requiredKeys = requiredKeys;
+    }
+
     /**
      * Gets the required public arisen keys to sign the transaction. It gets assigned to {@link
      * one.block.arisenjava.models.signatureProvider.arisenTransactionSignatureRequest#setSigningPublicKeys(List)},
@@ -17,7 +17,24 @@ public class PushTransactionResponse {
     private String transactionId;
 
     @SerializedName("processed")
-    private Map processed;
+    private Map<String, Object> processed;
+
+    /**
+     * Instantiates a new empty push transaction response.
+     */
+    public PushTransactionResponse() {
+    }
+
+    /**
+     * Instantiates a new push transaction response.
+     *
+     * @param transactionId the transaction id of the successful transaction.
+     * @param processed the processed trace returned by the chain.
+     */
+    public PushTransactionResponse(String transactionId, Map<String, Object> processed) {
+        this.transactionId = transactionId;
+        this.processed = processed;
+    }
 
     /**
      * Gets the transaction id of the successful transaction.
@@ -28,7 +45,16 @@ public class PushTransactionResponse {
         return transactionId;
     }
 
-    public Map getProcessed() {
+    /**
+     * Gets the processed trace returned by the chain.
+     * <br>
+     * It is null when the transaction was reported as a duplicate of an earlier attempt during
+     * broadcast retries, see
+     * {@link one.block.arisenjava.models.rpcProvider.TransactionConfig#setMaxBroadcastRetries(int)}.
+     *
+     * @return the processed trace, or null.
+     */
+    public Map<String, Object> getProcessed() {
         return processed;
     }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package one.block.arisenjava.models.signatureProvider;
 
 import java.util.List;
 import one.block.arisenjava.models.rpcProvider.response.GetInfoResponse;
+import one.block.arisenjava.utilities.ByteFormatter;
 
 /**
  * The request object that will be sent to SignatureProvider.  It contains the transaction that will
@@ -13,9 +14,22 @@ public class ArisenTransactionSignatureRequest {
      * The serialized (Hex) version of {@link one.block.arisenjava.models.rpcProvider.Transaction}.
      * <br>
      * It is the result of {@link one.block.arisenjava.interfaces.ISerializationProvider#serializeTransaction(String)}
+     * <br>
+     * Null while the request only holds {@link ArisenTransactionSignatureRequest#serializedTransactionBytes}.
      */
     private String serializedTransaction;
 
+    /**
+     * The serialized (binary) version of {@link one.block.arisenjava.models.rpcProvider.Transaction}.
+     * <br>
+     * It is the result of {@link one.block.arisenjava.interfaces.ISerializationProvider#serializeTransactionToBytes(String)}
+     * <br>
+     * Null while the request only holds {@link ArisenTransactionSignatureRequest#serializedTransaction}.
+     * <br>
+     * Transient, so the JSON form only carries the hex version.
+     */
+    private transient byte[] serializedTransactionBytes;
+
     /**
      * The arisen public keys which will be used to find the private keys (or key identities) to sign
      * the serialized transaction.
@@ -64,6 +78,29 @@ public class ArisenTransactionSignatureRequest {
         this.isModifiable = isModifiable;
     }
 
+    /**
+     * Instantiates a new arisen transaction signature request from a transaction serialized to
+     * bytes.  The hex version is only built if {@link ArisenTransactionSignatureRequest#getSerializedTransaction()}
+     *
+     * is called, which must be done before serializing the object to JSON.
+     *
+     * @param serializedTransaction the serialized transaction
+     * @param signingPublicKeys the signing public keys
+     * @param chainId the chain id
+     * @param abis the ABIs
+     * @param isModifiable boolean to indicate whether the signature provider is able to modify the
+     * transaction
+     */
+    public ArisenTransactionSignatureRequest(byte[] serializedTransaction,
+            List<String> signingPublicKeys, String chainId, List<BinaryAbi> abis,
+            boolean isModifiable) {
+        this.serializedTransactionBytes = serializedTransaction;
+        this.signingPublicKeys = signingPublicKeys;
+        this.chainId = chainId;
+        this.abis = abis;
+        this.isModifiable = isModifiable;
+    }
+
     /**
      * Gets the serialized transaction.
      * <br>
@@ -74,9 +111,30 @@ public class ArisenTransactionSignatureRequest {
      * @return the serialized transaction
      */
     public String getSerializedTransaction() {
+        if (serializedTransaction == null && serializedTransactionBytes != null) {
+            serializedTransaction = new ByteFormatter(serializedTransactionBytes).toHex();
+        }
+
         return serializedTransaction;
     }
 
+    /**
+     * Gets the serialized transaction as bytes.
+     * <br>
+     * The serialized (binary) version of {@link one.block.arisenjava.models.rpcProvider.Transaction}.
+     * The hex version is decoded only if the request was created from it.  The returned array is not
+     * a copy and must not be modified.
+     *
+     * @return the serialized transaction
+     */
+    public byte[] getSerializedTransactionBytes() {
+        if (serializedTransactionBytes == null && serializedTransaction != null) {
+            serializedTransactionBytes = ByteFormatter.decodeHex(serializedTransaction);
+        }
+
+        return serializedTransactionBytes;
+    }
+
     /**
      * Sets the serialized transaction.
      * <br>
@@ -88,6 +146,21 @@ public class ArisenTransactionSignatureRequest {
      */
     public void setSerializedTransaction(String serializedTransaction) {
         this.serializedTransaction = serializedTransaction;
+        this.serializedTransactionBytes = null;
+    }
+
+    /**
+     * Sets the serialized transaction as bytes.
+     * <br>
+     * The serialized (binary) version of {@link one.block.arisenjava.models.rpcProvider.Transaction}.
+     * <br>
+     * It is the result of {@link one.block.arisenjava.interfaces.ISerializationProvider#serializeTransactionToBytes(String)}
+     *
+     * @param serializedTransaction the serialized transaction
+     */
+    public void setSerializedTransactionBytes(byte[] serializedTransaction) {
+        this.serializedTransactionBytes = serializedTransaction;
+        this.serializedTransaction = null;
     }
 
     /**
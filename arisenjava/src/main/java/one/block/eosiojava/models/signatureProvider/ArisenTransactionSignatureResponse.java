@@ -2,6 +2,7 @@ package one.block.arisenjava.models.signatureProvider;
 
 import java.util.List;
 import one.block.arisenjava.error.signatureProvider.SignatureProviderError;
+import one.block.arisenjava.utilities.ByteFormatter;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -22,10 +23,23 @@ public class ArisenTransactionSignatureResponse {
      * arisenTransactionSignatureRequest#isModifiable()} is false then {@link
      * one.block.arisenjava.error.session.TransactionGetSignatureNotAllowModifyTransactionError} will
      * be thrown
+     * <br>
+     * Null while the response only holds {@link ArisenTransactionSignatureResponse#serializeTransactionBytes}.
      */
-    @NotNull
+    @Nullable
     private String serializeTransaction;
 
+    /**
+     * The serialized (binary) version of {@link one.block.arisenjava.models.rpcProvider.Transaction},
+     * returned by signature providers supporting {@link one.block.arisenjava.interfaces.ISignatureProvider#isByteSerializationSupported()}.
+     * <br>
+     * Null while the response only holds {@link ArisenTransactionSignatureResponse#serializeTransaction}.
+     * <br>
+     * Transient, so the JSON form only carries the hex version.
+     */
+    @Nullable
+    private transient byte[] serializeTransactionBytes;
+
     /**
      * The signatures that are signed by private keys of {@link ArisenTransactionSignatureRequest#getSigningPublicKeys()}
      */
@@ -45,16 +59,50 @@ public class ArisenTransactionSignatureResponse {
         this.error = error;
     }
 
+    /**
+     * Instantiates a new arisen transaction signature response with a transaction serialized to
+     * bytes.  The hex version is only built if {@link ArisenTransactionSignatureResponse#getSerializeTransaction()}
+     *
+     * is called, which must be done before serializing the object to JSON.
+     *
+     * @param serializeTransaction the serialized transaction
+     * @param signatures the signatures
+     * @param error the error that occurred during signing
+     */
+    public ArisenTransactionSignatureResponse(@NotNull byte[] serializeTransaction,
+            @NotNull List<String> signatures, @Nullable SignatureProviderError error) {
+        this.serializeTransactionBytes = serializeTransaction;
+        this.signatures = signatures;
+        this.error = error;
+    }
+
     /**
      * Gets the serialized transaction.
      *
      * @return the serialize transaction
      */
-    @NotNull
     public String getSerializeTransaction() {
+        if (serializeTransaction == null && serializeTransactionBytes != null) {
+            serializeTransaction = new ByteFormatter(serializeTransactionBytes).toHex();
+        }
+
         return serializeTransaction;
     }
 
+    /**
+     * Gets the serialized transaction as bytes.  The hex version is decoded only if the response was
+     * created from it.  The returned array is not a copy and must not be modified.
+     *
+     * @return the serialize transaction
+     */
+    public byte[] getSerializeTransactionBytes() {
+        if (serializeTransactionBytes == null && serializeTransaction != null) {
+            serializeTransactionBytes = ByteFormatter.decodeHex(serializeTransaction);
+        }
+
+        return serializeTransactionBytes;
+    }
+
     /**
      * Gets signatures.
      *
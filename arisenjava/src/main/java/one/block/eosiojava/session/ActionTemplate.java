@@ -0,0 +1,310 @@
+package one.block.arisenjava.session;
+
+import com.google.common.base.Strings;
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import one.block.arisenjava.error.ErrorConstants;
+import one.block.arisenjava.error.abiProvider.CompileAbiError;
+import one.block.arisenjava.error.serializationProvider.SerializeError;
+import one.block.arisenjava.error.session.ActionTemplateError;
+import one.block.arisenjava.interfaces.ISerializationProvider;
+import one.block.arisenjava.models.AbiRixSerializationObject;
+import one.block.arisenjava.models.abi.AbiField;
+import one.block.arisenjava.models.abi.AbiStruct;
+import one.block.arisenjava.models.abi.CompiledAbi;
+import one.block.arisenjava.models.rpcProvider.Action;
+import one.block.arisenjava.models.rpcProvider.Authorization;
+import one.block.arisenjava.utilities.DateFormatter;
+import one.block.arisenjava.utilities.Utils;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Template of an action whose contract, name, authorization and part of the data never change.
+ * <p>
+ * The template is compiled once from the ABI of the contract and a partial {@link Action}: the data
+ * of the partial action is a JSON object holding the static fields only, every other field of the
+ * action struct is variable.  Static fields are serialized at compile time and consecutive ones are
+ * merged into pre-encoded hex segments.  {@link ActionTemplate#bind(Map)} then only serializes the
+ * variable fields, each one by its ABI type, and splices them between the pre-encoded segments,
+ * without fetching the ABI or serializing the whole action data again.
+ * <p>
+ * Bound actions hold hex data and are flagged by {@link Action#setIsDataSerialized(boolean)}, so
+ * {@link TransactionProcessor} uses their data as is.  A template is immutable and can be shared
+ * between threads if its {@link ISerializationProvider} is thread safe.
+ */
+public final class ActionTemplate {
+
+    /**
+     * Serialization provider used to serialize the fields.
+     */
+    @NotNull
+    private final ISerializationProvider serializationProvider;
+
+    /**
+     * Compiled ABI of the contract.
+     */
+    @NotNull
+    private final CompiledAbi abi;
+
+    /**
+     * Contract account name.
+     */
+    @NotNull
+    private final String account;
+
+    /**
+     * Contract action name.
+     */
+    @NotNull
+    private final String name;
+
+    /**
+     * Authorization of the bound actions.
+     */
+    @NotNull
+    private final List<Authorization> authorization;
+
+    /**
+     * Pre-encoded static segments and variable fields, in the order of the action struct.
+     */
+    @NotNull
+    private final List<Segment> segments;
+
+    /**
+     * Names of the variable fields, in the order of the action struct.
+     */
+    @NotNull
+    private final List<String> variableFields;
+
+    /**
+     * Compile an action template.
+     *
+     * @param serializationProvider serialization provider used to serialize the fields.
+     * @param abi ABI of the contract of the action, in JSON format.
+     * @param partialAction action whose data is a JSON object holding the static fields.  An empty
+     * data makes every field variable.
+     * @throws ActionTemplateError thrown if the ABI or the data is not valid, the action is not found
+     * in the ABI or a static field fails to serialize.
+     */
+    public ActionTemplate(@NotNull ISerializationProvider serializationProvider,
+            @NotNull String abi, @NotNull Action partialAction) throws ActionTemplateError {
+        this(serializationProvider, compileAbi(abi, partialAction.getAccount()), partialAction);
+    }
+
+    /**
+     * Compile an action template from a compiled ABI.
+     *
+     * @param serializationProvider serialization provider used to serialize the fields.
+     * @param abi compiled ABI of the contract of the action.
+     * @param partialAction action whose data is a JSON object holding the static fields.  An empty
+     * data makes every field variable.
+     * @throws ActionTemplateError thrown if the data is not valid, the action is not found in the ABI
+     * or a static field fails to serialize.
+     */
+    public ActionTemplate(@NotNull ISerializationProvider serializationProvider,
+            @NotNull CompiledAbi abi, @NotNull Action partialAction) throws ActionTemplateError {
+        this.serializationProvider = serializationProvider;
+        this.abi = abi;
+        this.account = partialAction.getAccount();
+        this.name = partialAction.getName();
+        this.authorization = Collections
+                .unmodifiableList(new ArrayList<>(partialAction.getAuthorization()));
+
+        JsonObject staticFields = parseStaticFields(partialAction.getData());
+        List<Segment> compiledSegments = new ArrayList<>();
+        List<String> variableFieldNames = new ArrayList<>();
+        StringBuilder staticHex = new StringBuilder();
+        Set<String> structFieldNames = new HashSet<>();
+
+        AbiStruct actionStruct = abi.getActionStruct(this.name);
+        if (actionStruct == null) {
+            throw new ActionTemplateError(String.format(
+                    ErrorConstants.ACTION_TEMPLATE_STRUCT_NOT_FOUND, this.name, this.account));
+        }
+
+        for (AbiField field : actionStruct.getFields()) {
+            structFieldNames.add(field.getName());
+            JsonElement staticValue = staticFields.get(field.getName());
+            if (staticValue != null) {
+                staticHex.append(this.serializeField(field, staticValue.toString()));
+                continue;
+            }
+
+            if (staticHex.length() > 0) {
+                compiledSegments.add(new Segment(staticHex.toString(), null));
+                staticHex.setLength(0);
+            }
+
+            compiledSegments.add(new Segment(null, field));
+            variableFieldNames.add(field.getName());
+        }
+
+        if (staticHex.length() > 0) {
+            compiledSegments.add(new Segment(staticHex.toString(), null));
+        }
+
+        for (String staticFieldName : staticFields.keySet()) {
+            if (!structFieldNames.contains(staticFieldName)) {
+                throw new ActionTemplateError(
+                        String.format(ErrorConstants.ACTION_TEMPLATE_UNKNOWN_FIELD, staticFieldName));
+            }
+        }
+
+        this.segments = Collections.unmodifiableList(compiledSegments);
+        this.variableFields = Collections.unmodifiableList(variableFieldNames);
+    }
+
+    /**
+     * Create an action by binding the variable fields of the template.
+     *
+     * @param values values of every variable field by field name.  Values are converted to JSON by
+     * Gson, so strings, numbers, maps and model objects are accepted.
+     * @return a new action holding the serialized data, flagged as serialized.
+     * @throws ActionTemplateError thrown if a variable field is missing, an unknown field is given or
+     * a field fails to serialize.
+     */
+    @NotNull
+    public Action bind(@NotNull Map<String, ?> values) throws ActionTemplateError {
+        for (String fieldName : values.keySet()) {
+            if (!this.variableFields.contains(fieldName)) {
+                throw new ActionTemplateError(
+                        String.format(ErrorConstants.ACTION_TEMPLATE_UNKNOWN_FIELD, fieldName));
+            }
+        }
+
+        Gson gson = Utils.getGson(DateFormatter.BACKEND_DATE_PATTERN);
+        StringBuilder hex = new StringBuilder();
+        for (Segment segment : this.segments) {
+            if (segment.field == null) {
+                hex.append(segment.hex);
+                continue;
+            }
+
+            if (!values.containsKey(segment.field.getName())) {
+                throw new ActionTemplateError(String.format(
+                        ErrorConstants.ACTION_TEMPLATE_MISSING_FIELD, segment.field.getName()));
+            }
+
+            hex.append(this.serializeField(segment.field,
+                    gson.toJson(values.get(segment.field.getName()))));
+        }
+
+        Action action = new Action(this.account, this.name, this.authorization, hex.toString());
+        action.setIsDataSerialized(true);
+        return action;
+    }
+
+    /**
+     * Gets the contract account name.
+     *
+     * @return the contract account name.
+     */
+    @NotNull
+    public String getAccount() {
+        return account;
+    }
+
+    /**
+     * Gets the contract action name.
+     *
+     * @return the contract action name.
+     */
+    @NotNull
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the names of the variable fields to bind, in the order of the action struct.
+     *
+     * @return the variable field names.
+     */
+    @NotNull
+    public List<String> getVariableFields() {
+        return variableFields;
+    }
+
+    /**
+     * Serialize the JSON value of one field by its ABI type.
+     */
+    @NotNull
+    private String serializeField(@NotNull AbiField field, @NotNull String json)
+            throws ActionTemplateError {
+        AbiRixSerializationObject serializationObject = new AbiRixSerializationObject(
+                this.account, this.name, field.getType(), this.abi);
+        serializationObject.setJson(json);
+
+        try {
+            this.serializationProvider.serialize(serializationObject);
+        } catch (SerializeError serializeError) {
+            throw new ActionTemplateError(
+                    String.format(ErrorConstants.ACTION_TEMPLATE_SERIALIZE_FIELD_ERROR, field.getName()),
+                    serializeError);
+        }
+
+        return serializationObject.getHex();
+    }
+
+    /**
+     * Compile the ABI given in JSON format.
+     */
+    @NotNull
+    private static CompiledAbi compileAbi(@NotNull String abi, @NotNull String account)
+            throws ActionTemplateError {
+        try {
+            return CompiledAbi.compile(abi);
+        } catch (CompileAbiError compileAbiError) {
+            throw new ActionTemplateError(
+                    String.format(ErrorConstants.ACTION_TEMPLATE_INVALID_ABI, account),
+                    compileAbiError);
+        }
+    }
+
+    /**
+     * Parse the data of the partial action into the static fields.
+     */
+    @NotNull
+    private static JsonObject parseStaticFields(@Nullable String data) throws ActionTemplateError {
+        if (Strings.isNullOrEmpty(data)) {
+            return new JsonObject();
+        }
+
+        try {
+            JsonElement element = new JsonParser().parse(data);
+            if (element.isJsonObject()) {
+                return element.getAsJsonObject();
+            }
+        } catch (JsonParseException parseException) {
+            throw new ActionTemplateError(ErrorConstants.ACTION_TEMPLATE_INVALID_DATA, parseException);
+        }
+
+        throw new ActionTemplateError(ErrorConstants.ACTION_TEMPLATE_INVALID_DATA);
+    }
+
+    /**
+     * Either a pre-encoded hex segment or a variable field.
+     */
+    private static final class Segment {
+
+        @Nullable
+        private final String hex;
+
+        @Nullable
+        private final AbiField field;
+
+        Segment(@Nullable String hex, @Nullable AbiField field) {
+            this.hex = hex;
+            this.field = field;
+        }
+    }
+}
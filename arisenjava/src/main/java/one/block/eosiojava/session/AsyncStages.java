@@ -0,0 +1,132 @@
+package one.block.arisenjava.session;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.BiConsumer;
+import one.block.arisenjava.error.ArisenError;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Helpers chaining the stages of the asynchronous {@link TransactionProcessor} API.
+ * <p>
+ * Each stage runs as one task on the given executor and the next stage is only submitted once the
+ * previous one completes, so no thread waits on another stage.  The stages themselves are not
+ * non-blocking: they call the synchronous RPC, ABI and signature providers, so an executor thread is
+ * held for the whole duration of each stage, including its network round trips.  The executor has to
+ * be sized for the number of transactions in flight.  Errors thrown by a stage complete the
+ * resulting future exceptionally with the original error (not wrapped in {@link
+ * CompletionException}), which keeps the {@link ArisenError} hierarchy visible to callbacks like
+ * {@link CompletableFuture#exceptionally(java.util.function.Function)}.
+ */
+final class AsyncStages {
+
+    private AsyncStages() {
+    }
+
+    /**
+     * A stage of the transaction pipeline.
+     *
+     * @param <I> type of the result of the previous stage.
+     * @param <O> type of the result of this stage.
+     */
+    interface Stage<I, O> {
+
+        /**
+         * Run the stage.
+         *
+         * @param input result of the previous stage, null for the first stage.
+         * @return result of the stage.
+         * @throws ArisenError thrown if the stage fails.
+         */
+        O run(@Nullable I input) throws ArisenError;
+    }
+
+    /**
+     * Run the first stage of a pipeline on the executor.
+     *
+     * @param stage the stage to run.
+     * @param executor the executor running the stage.
+     * @param <O> type of the result of the stage.
+     * @return future completed with the result or the error of the stage.
+     */
+    @NotNull
+    static <O> CompletableFuture<O> supply(@NotNull Stage<Void, O> stage,
+            @NotNull Executor executor) {
+        CompletableFuture<O> result = new CompletableFuture<>();
+        submit(stage, null, executor, result);
+        return result;
+    }
+
+    /**
+     * Run a stage on the executor once the previous stage completes successfully.  If the previous
+     * stage fails, the stage is skipped and the returned future fails with the same error.
+     *
+     * @param previous future of the previous stage.
+     * @param stage the stage to run.
+     * @param executor the executor running the stage.
+     * @param <I> type of the result of the previous stage.
+     * @param <O> type of the result of the stage.
+     * @return future completed with the result or the error of the stage.
+     */
+    @NotNull
+    static <I, O> CompletableFuture<O> then(@NotNull CompletableFuture<I> previous,
+            @NotNull final Stage<I, O> stage, @NotNull final Executor executor) {
+        final CompletableFuture<O> result = new CompletableFuture<>();
+        previous.whenComplete(new BiConsumer<I, Throwable>() {
+            @Override
+            public void accept(I input, Throwable throwable) {
+                if (throwable != null) {
+                    result.completeExceptionally(unwrap(throwable));
+                } else {
+                    submit(stage, input, executor, result);
+                }
+            }
+        });
+
+        return result;
+    }
+
+    /**
+     * Unwrap the {@link CompletionException} added by {@link CompletableFuture} around errors of
+     * dependent stages.
+     *
+     * @param throwable the error to unwrap.
+     * @return the original error.
+     */
+    @NotNull
+    static Throwable unwrap(@NotNull Throwable throwable) {
+        if (throwable instanceof CompletionException && throwable.getCause() != null) {
+            return throwable.getCause();
+        }
+
+        return throwable;
+    }
+
+    /**
+     * Submit a stage to the executor and complete the result future with its outcome.
+     */
+    private static <I, O> void submit(@NotNull final Stage<I, O> stage, @Nullable final I input,
+            @NotNull Executor executor, @NotNull final CompletableFuture<O> result) {
+        try {
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        result.complete(stage.run(input));
+                    } catch (ArisenError | RuntimeException error) {
+                        result.completeExceptionally(error);
+                    } catch (Error error) {
+                        // Never leave the pipeline waiting on a future which can't complete
+                        result.completeExceptionally(error);
+                        throw error;
+                    }
+                }
+            });
+        } catch (RejectedExecutionException rejectedExecutionException) {
+            result.completeExceptionally(rejectedExecutionException);
+        }
+    }
+}
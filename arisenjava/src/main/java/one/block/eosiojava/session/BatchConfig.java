@@ -0,0 +1,168 @@
+package one.block.arisenjava.session;
+
+import one.block.arisenjava.models.rpcProvider.TransactionConfig;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A configuration class for {@link TransactionSession#submitBatch(java.util.Iterator, BatchConfig)}.
+ * <p>
+ * A batch runs every transaction through four stages: prepare (getInfo/getBlock), serialize
+ * (ABI fetch, serialization and getRequiredKeys), sign (signature provider) and push
+ * (pushTransaction).  Each stage has its own bounded number of threads so the RPC node and the
+ * signer are kept busy at the same time, and the number of transactions in flight is bounded to
+ * apply backpressure on the input.
+ */
+public class BatchConfig {
+
+    /**
+     * Default number of threads of each stage.
+     */
+    private static final int DEFAULT_STAGE_CONCURRENCY = 4;
+
+    /**
+     * Default maximum number of transactions in flight.
+     */
+    private static final int DEFAULT_MAX_IN_FLIGHT = 64;
+
+    /**
+     * Number of transactions prepared concurrently.
+     */
+    private int prepareConcurrency = DEFAULT_STAGE_CONCURRENCY;
+
+    /**
+     * Number of transactions serialized concurrently.
+     */
+    private int serializeConcurrency = DEFAULT_STAGE_CONCURRENCY;
+
+    /**
+     * Number of transactions signed concurrently.
+     */
+    private int signConcurrency = DEFAULT_STAGE_CONCURRENCY;
+
+    /**
+     * Number of transactions pushed concurrently.
+     */
+    private int pushConcurrency = DEFAULT_STAGE_CONCURRENCY;
+
+    /**
+     * Maximum number of transactions in flight.  No more action list is read from the input until
+     * a transaction completes.
+     */
+    private int maxInFlight = DEFAULT_MAX_IN_FLIGHT;
+
+    /**
+     * Transaction configuration applied to every transaction of the batch.
+     */
+    @NotNull
+    private TransactionConfig transactionConfig = new TransactionConfig();
+
+    /**
+     * Gets the number of transactions prepared concurrently.
+     *
+     * @return the prepare concurrency.
+     */
+    public int getPrepareConcurrency() {
+        return prepareConcurrency;
+    }
+
+    /**
+     * Sets the number of transactions prepared concurrently.
+     *
+     * @param prepareConcurrency the prepare concurrency.
+     */
+    public void setPrepareConcurrency(int prepareConcurrency) {
+        this.prepareConcurrency = prepareConcurrency;
+    }
+
+    /**
+     * Gets the number of transactions serialized concurrently.
+     *
+     * @return the serialize concurrency.
+     */
+    public int getSerializeConcurrency() {
+        return serializeConcurrency;
+    }
+
+    /**
+     * Sets the number of transactions serialized concurrently.
+     *
+     * @param serializeConcurrency the serialize concurrency.
+     */
+    public void setSerializeConcurrency(int serializeConcurrency) {
+        this.serializeConcurrency = serializeConcurrency;
+    }
+
+    /**
+     * Gets the number of transactions signed concurrently.
+     *
+     * @return the sign concurrency.
+     */
+    public int getSignConcurrency() {
+        return signConcurrency;
+    }
+
+    /**
+     * Sets the number of transactions signed concurrently.
+     *
+     * @param signConcurrency the sign concurrency.
+     */
+    public void setSignConcurrency(int signConcurrency) {
+        this.signConcurrency = signConcurrency;
+    }
+
+    /**
+     * Gets the number of transactions pushed concurrently.
+     *
+     * @return the push concurrency.
+     */
+    public int getPushConcurrency() {
+        return pushConcurrency;
+    }
+
+    /**
+     * Sets the number of transactions pushed concurrently.
+     *
+     * @param pushConcurrency the push concurrency.
+     */
+    public void setPushConcurrency(int pushConcurrency) {
+        this.pushConcurrency = pushConcurrency;
+    }
+
+    /**
+     * Gets the maximum number of transactions in flight.
+     *
+     * @return the maximum number of transactions in flight.
+     */
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    /**
+     * Sets the maximum number of transactions in flight.  No more action list is read from the input
+     * until a transaction completes.
+     *
+     * @param maxInFlight the maximum number of transactions in flight.
+     */
+    public void setMaxInFlight(int maxInFlight) {
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * Gets the transaction configuration applied to every transaction of the batch.
+     *
+     * @return the transaction configuration.
+     */
+    @NotNull
+    public TransactionConfig getTransactionConfig() {
+        return transactionConfig;
+    }
+
+    /**
+     * Sets the transaction configuration applied to every transaction of the batch.
+     *
+     * @param transactionConfig the transaction configuration.
+     */
+    public void setTransactionConfig(@NotNull TransactionConfig transactionConfig) {
+        this.transactionConfig = transactionConfig;
+    }
+}
@@ -0,0 +1,180 @@
+package one.block.arisenjava.session;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import one.block.arisenjava.error.ErrorConstants;
+import one.block.arisenjava.error.session.TransactionPrepareError;
+import one.block.arisenjava.error.session.TransactionSignAndBroadCastError;
+import one.block.arisenjava.models.rpcProvider.Action;
+import one.block.arisenjava.models.rpcProvider.response.PushTransactionResponse;
+import one.block.arisenjava.models.signatureProvider.ArisenTransactionSignatureRequest;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Engine behind {@link TransactionSession#submitBatch(Iterator, BatchConfig)}.
+ * <p>
+ * Every action list goes through its own {@link TransactionProcessor} and four stages, each running
+ * on a dedicated fixed thread pool sized from {@link BatchConfig}: prepare, serialize (which also
+ * resolves the required keys), sign and push.  Stages of different transactions overlap, so RPC
+ * calls, serialization and signing happen at the same time.  A semaphore bounds the number of
+ * transactions in flight; the input is only read when a permit is available.
+ */
+final class BatchPipeline {
+
+    /**
+     * Session creating the processors.
+     */
+    @NotNull
+    private final TransactionSession transactionSession;
+
+    /**
+     * Configuration of the batch.
+     */
+    @NotNull
+    private final BatchConfig batchConfig;
+
+    /**
+     * Initialize a batch pipeline.
+     *
+     * @param transactionSession session creating the processors.
+     * @param batchConfig configuration of the batch.
+     */
+    BatchPipeline(@NotNull TransactionSession transactionSession,
+            @NotNull BatchConfig batchConfig) {
+        if (batchConfig.getPrepareConcurrency() <= 0 || batchConfig.getSerializeConcurrency() <= 0
+                || batchConfig.getSignConcurrency() <= 0 || batchConfig.getPushConcurrency() <= 0
+                || batchConfig.getMaxInFlight() <= 0) {
+            throw new IllegalArgumentException(ErrorConstants.BATCH_INVALID_CONCURRENCY);
+        }
+
+        this.transactionSession = transactionSession;
+        this.batchConfig = batchConfig;
+    }
+
+    /**
+     * Run every action list of the input through the pipeline and wait until all transactions
+     * complete.
+     *
+     * @param actionLists action lists to submit, one transaction each.
+     * @param listener called once per transaction, from a pipeline thread, when it succeeds or fails.
+     * @throws InterruptedException thrown if the calling thread is interrupted while waiting.
+     */
+    void run(@NotNull Iterator<List<Action>> actionLists,
+            @NotNull Consumer<BatchTransactionResult> listener) throws InterruptedException {
+        ExecutorService prepareExecutor = this.newStageExecutor("prepare",
+                this.batchConfig.getPrepareConcurrency());
+        ExecutorService serializeExecutor = this.newStageExecutor("serialize",
+                this.batchConfig.getSerializeConcurrency());
+        ExecutorService signExecutor = this.newStageExecutor("sign",
+                this.batchConfig.getSignConcurrency());
+        ExecutorService pushExecutor = this.newStageExecutor("push",
+                this.batchConfig.getPushConcurrency());
+
+        int maxInFlight = this.batchConfig.getMaxInFlight();
+        Semaphore inFlight = new Semaphore(maxInFlight);
+
+        try {
+            long index = 0;
+            while (true) {
+                // Backpressure: read the next action list only when a transaction slot is free
+                inFlight.acquire();
+                if (!actionLists.hasNext()) {
+                    inFlight.release();
+                    break;
+                }
+
+                this.submit(index++, actionLists.next(), listener, inFlight, prepareExecutor,
+                        serializeExecutor, signExecutor, pushExecutor);
+            }
+
+            // Wait for every transaction in flight
+            inFlight.acquire(maxInFlight);
+            inFlight.release(maxInFlight);
+        } finally {
+            prepareExecutor.shutdown();
+            serializeExecutor.shutdown();
+            signExecutor.shutdown();
+            pushExecutor.shutdown();
+        }
+    }
+
+    /**
+     * Chain the stages of one transaction.
+     */
+    private void submit(final long index, @NotNull final List<Action> actions,
+            @NotNull final Consumer<BatchTransactionResult> listener,
+            @NotNull final Semaphore inFlight, @NotNull ExecutorService prepareExecutor,
+            @NotNull ExecutorService serializeExecutor, @NotNull ExecutorService signExecutor,
+            @NotNull ExecutorService pushExecutor) {
+        final TransactionProcessor processor = this.transactionSession.getTransactionProcessor();
+        processor.setTransactionConfig(this.batchConfig.getTransactionConfig());
+
+        CompletableFuture<Void> prepared = AsyncStages
+                .supply(new AsyncStages.Stage<Void, Void>() {
+                    @Override
+                    public Void run(Void input) throws TransactionPrepareError {
+                        processor.prepare(actions);
+                        return null;
+                    }
+                }, prepareExecutor);
+
+        CompletableFuture<ArisenTransactionSignatureRequest> signatureRequest = AsyncStages
+                .then(prepared, new AsyncStages.Stage<Void, ArisenTransactionSignatureRequest>() {
+                    @Override
+                    public ArisenTransactionSignatureRequest run(Void input)
+                            throws TransactionSignAndBroadCastError {
+                        return processor.createSignAndBroadcastRequest();
+                    }
+                }, serializeExecutor);
+
+        CompletableFuture<Void> signed = AsyncStages.then(signatureRequest,
+                new AsyncStages.Stage<ArisenTransactionSignatureRequest, Void>() {
+                    @Override
+                    public Void run(ArisenTransactionSignatureRequest request)
+                            throws TransactionSignAndBroadCastError {
+                        processor.signForBroadcast(request);
+                        return null;
+                    }
+                }, signExecutor);
+
+        CompletableFuture<PushTransactionResponse> pushed = AsyncStages
+                .then(signed, new AsyncStages.Stage<Void, PushTransactionResponse>() {
+                    @Override
+                    public PushTransactionResponse run(Void input)
+                            throws TransactionSignAndBroadCastError {
+                        return processor.pushSignedTransaction();
+                    }
+                }, pushExecutor);
+
+        pushed.whenComplete(new BiConsumer<PushTransactionResponse, Throwable>() {
+            @Override
+            public void accept(PushTransactionResponse response, Throwable throwable) {
+                try {
+                    listener.accept(new BatchTransactionResult(index, actions, processor,
+                            throwable == null ? response : null,
+                            throwable == null ? null : AsyncStages.unwrap(throwable)));
+                } finally {
+                    inFlight.release();
+                }
+            }
+        });
+    }
+
+    /**
+     * Create the fixed thread pool of a stage.
+     */
+    @NotNull
+    private ExecutorService newStageExecutor(@NotNull String stageName, int concurrency) {
+        return Executors.newFixedThreadPool(concurrency, new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("arisenjava-batch-" + stageName + "-%d")
+                .build());
+    }
+}
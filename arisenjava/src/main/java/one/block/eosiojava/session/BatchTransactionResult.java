@@ -0,0 +1,126 @@
+package one.block.arisenjava.session;
+
+import java.util.List;
+import one.block.arisenjava.models.rpcProvider.Action;
+import one.block.arisenjava.models.rpcProvider.response.PushTransactionResponse;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Outcome of one transaction of a batch submitted by
+ * {@link TransactionSession#submitBatch(java.util.Iterator, BatchConfig)}.
+ * <p>
+ * Either {@link BatchTransactionResult#getResponse()} or {@link BatchTransactionResult#getError()}
+ * is set.  The error is the one the equivalent {@link TransactionProcessor} call would have thrown:
+ * {@link one.block.arisenjava.error.session.TransactionPrepareError} for the prepare stage and
+ * {@link one.block.arisenjava.error.session.TransactionSignAndBroadCastError} for the later stages.
+ */
+public final class BatchTransactionResult {
+
+    /**
+     * Position of the action list in the input of the batch.
+     */
+    private final long index;
+
+    /**
+     * Action list of the transaction.
+     */
+    @NotNull
+    private final List<Action> actions;
+
+    /**
+     * Processor which handled the transaction.
+     */
+    @NotNull
+    private final TransactionProcessor transactionProcessor;
+
+    /**
+     * Response of the chain if the transaction was pushed successfully.
+     */
+    @Nullable
+    private final PushTransactionResponse response;
+
+    /**
+     * Error which stopped the transaction.
+     */
+    @Nullable
+    private final Throwable error;
+
+    /**
+     * Instantiates a batch transaction result.
+     *
+     * @param index position of the action list in the input of the batch.
+     * @param actions action list of the transaction.
+     * @param transactionProcessor processor which handled the transaction.
+     * @param response response of the chain, null if the transaction failed.
+     * @param error error which stopped the transaction, null if it succeeded.
+     */
+    BatchTransactionResult(long index, @NotNull List<Action> actions,
+            @NotNull TransactionProcessor transactionProcessor,
+            @Nullable PushTransactionResponse response, @Nullable Throwable error) {
+        this.index = index;
+        this.actions = actions;
+        this.transactionProcessor = transactionProcessor;
+        this.response = response;
+        this.error = error;
+    }
+
+    /**
+     * Gets the position of the action list in the input of the batch, starting from 0.
+     *
+     * @return the index.
+     */
+    public long getIndex() {
+        return index;
+    }
+
+    /**
+     * Gets the action list of the transaction.
+     *
+     * @return the actions.
+     */
+    @NotNull
+    public List<Action> getActions() {
+        return actions;
+    }
+
+    /**
+     * Gets the processor which handled the transaction, to read its transaction, serialized
+     * transaction or signatures.
+     *
+     * @return the transaction processor.
+     */
+    @NotNull
+    public TransactionProcessor getTransactionProcessor() {
+        return transactionProcessor;
+    }
+
+    /**
+     * Gets the response of the chain.
+     *
+     * @return the response, null if the transaction failed.
+     */
+    @Nullable
+    public PushTransactionResponse getResponse() {
+        return response;
+    }
+
+    /**
+     * Gets the error which stopped the transaction.
+     *
+     * @return the error, null if the transaction succeeded.
+     */
+    @Nullable
+    public Throwable getError() {
+        return error;
+    }
+
+    /**
+     * Whether the transaction was pushed successfully.
+     *
+     * @return true if the transaction succeeded.
+     */
+    public boolean isSuccessful() {
+        return error == null;
+    }
+}
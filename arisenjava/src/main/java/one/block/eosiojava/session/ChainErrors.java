@@ -0,0 +1,163 @@
+package one.block.arisenjava.session;
+
+import java.math.BigInteger;
+import java.util.Locale;
+import java.util.regex.Pattern;
+import one.block.arisenjava.error.rpcProvider.RpcProviderError;
+import one.block.arisenjava.models.rpcProvider.response.RPCResponseError;
+import one.block.arisenjava.models.rpcProvider.response.RpcError;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Recognizes chain errors returned through {@link RpcProviderError}.
+ * <p>
+ * The {@link RPCResponseError} attached by the RPC provider is checked first, by code and name.  As
+ * not every provider attaches it, the messages of the cause chain are checked for the error name as
+ * a fallback.
+ */
+final class ChainErrors {
+
+    /**
+     * Code of the error returned when the signatures don't satisfy the authorizations.
+     */
+    private static final BigInteger UNSATISFIED_AUTHORIZATION_CODE = BigInteger.valueOf(3090003);
+
+    /**
+     * Name of the error returned when the signatures don't satisfy the authorizations.
+     */
+    private static final String UNSATISFIED_AUTHORIZATION_NAME = "unsatisfied_authorization";
+
+    /**
+     * Code of the error returned when the transaction was already accepted by the chain.
+     */
+    private static final BigInteger TX_DUPLICATE_CODE = BigInteger.valueOf(3040008);
+
+    /**
+     * Name of the error returned when the transaction was already accepted by the chain.
+     */
+    private static final String TX_DUPLICATE_NAME = "tx_duplicate";
+
+    /**
+     * Code of the error returned when the transaction ran out of time, which depends on the load of
+     * the node.
+     */
+    private static final BigInteger DEADLINE_CODE = BigInteger.valueOf(3080006);
+
+    /**
+     * Name of the error returned when the transaction ran out of time.
+     */
+    private static final String DEADLINE_NAME = "deadline_exception";
+
+    /**
+     * Code of the error returned when the transaction ran out of the leeway time given to speculative
+     * execution, which depends on the load of the node.
+     */
+    private static final BigInteger LEEWAY_DEADLINE_CODE = BigInteger.valueOf(3081001);
+
+    /**
+     * Name of the error returned when the transaction ran out of the leeway time.
+     */
+    private static final String LEEWAY_DEADLINE_NAME = "leeway_deadline_exception";
+
+    /**
+     * Chain error codes are 7 digit numbers starting with 3, like "3050003".
+     */
+    private static final Pattern CHAIN_ERROR_CODE = Pattern.compile("\\b3\\d{6}\\b");
+
+    private ChainErrors() {
+    }
+
+    /**
+     * Whether the error means the signatures don't satisfy the authorizations of the transaction,
+     * which happens when the required keys used to sign it are outdated.  An action missing the
+     * authorization of an account (missing_auth_exception) is not included, as signing again with
+     * other keys can't fix it.
+     *
+     * @param throwable the error thrown by a processor stage.
+     * @return true if the chain reported an unsatisfied authorization.
+     */
+    static boolean isUnsatisfiedAuthorization(@Nullable Throwable throwable) {
+        return matches(throwable, UNSATISFIED_AUTHORIZATION_CODE, UNSATISFIED_AUTHORIZATION_NAME);
+    }
+
+    /**
+     * Whether the error means the chain already has a transaction with the same id, which happens
+     * when the same signed transaction is pushed again after an earlier push landed.
+     *
+     * @param throwable the error thrown by a processor stage.
+     * @return true if the chain reported a duplicate transaction.
+     */
+    static boolean isDuplicateTransaction(@Nullable Throwable throwable) {
+        return matches(throwable, TX_DUPLICATE_CODE, TX_DUPLICATE_NAME);
+    }
+
+    /**
+     * Whether the error may not happen again when pushing the same transaction: the request failed
+     * without a response from the chain, for example a timeout which leaves the outcome unknown, or
+     * the chain reported an error depending on its load.  Other chain errors, like assertion
+     * failures, expired transactions or invalid signatures, are returned again for the same
+     * transaction.
+     *
+     * @param throwable the error thrown by a processor stage.
+     * @return true if pushing the same transaction again may succeed.
+     */
+    static boolean isTransient(@Nullable Throwable throwable) {
+        return !hasChainError(throwable)
+                || matches(throwable, DEADLINE_CODE, DEADLINE_NAME)
+                || matches(throwable, LEEWAY_DEADLINE_CODE, LEEWAY_DEADLINE_NAME);
+    }
+
+    /**
+     * Whether any error of the cause chain carries a response of the chain, or a chain error code in
+     * its message.
+     */
+    private static boolean hasChainError(@Nullable Throwable throwable) {
+        for (Throwable current = throwable; current != null; current = current.getCause()) {
+            if (current instanceof RpcProviderError
+                    && ((RpcProviderError) current).getRpcResponseError() != null) {
+                return true;
+            }
+
+            String message = current.getMessage();
+            if (message != null && CHAIN_ERROR_CODE.matcher(message).find()) {
+                return true;
+            }
+
+            if (current.getCause() == current) {
+                break;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Whether any error of the cause chain matches the input chain error code or name.
+     */
+    private static boolean matches(@Nullable Throwable throwable, @NotNull BigInteger code,
+            @NotNull String name) {
+        for (Throwable current = throwable; current != null; current = current.getCause()) {
+            if (current instanceof RpcProviderError) {
+                RPCResponseError rpcResponseError = ((RpcProviderError) current).getRpcResponseError();
+                RpcError rpcError = rpcResponseError == null ? null : rpcResponseError.getError();
+                if (rpcError != null && (code.equals(rpcError.getCode())
+                        || name.equals(rpcError.getName()))) {
+                    return true;
+                }
+            }
+
+            String message = current.getMessage();
+            if (message != null && (message.toLowerCase(Locale.ROOT).contains(name)
+                    || message.contains(code.toString()))) {
+                return true;
+            }
+
+            if (current.getCause() == current) {
+                break;
+            }
+        }
+
+        return false;
+    }
+}
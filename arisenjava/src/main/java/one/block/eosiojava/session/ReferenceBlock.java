@@ -0,0 +1,266 @@
+package one.block.arisenjava.session;
+
+import java.math.BigInteger;
+import java.text.ParseException;
+import java.util.concurrent.TimeUnit;
+import one.block.arisenjava.error.ErrorConstants;
+import one.block.arisenjava.error.rpcProvider.GetBlockRpcError;
+import one.block.arisenjava.error.session.TransactionPrepareError;
+import one.block.arisenjava.error.session.TransactionPrepareRpcError;
+import one.block.arisenjava.interfaces.IRPCProvider;
+import one.block.arisenjava.models.rpcProvider.TransactionConfig;
+import one.block.arisenjava.models.rpcProvider.request.GetBlockRequest;
+import one.block.arisenjava.models.rpcProvider.response.GetBlockResponse;
+import one.block.arisenjava.models.rpcProvider.response.GetInfoResponse;
+import one.block.arisenjava.utilities.DateFormatter;
+import org.bouncycastle.util.encoders.DecoderException;
+import org.bouncycastle.util.encoders.Hex;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Immutable snapshot of the chain state needed to fill the TAPOS (Transaction as Proof-of-Stake)
+ * fields of a transaction: expiration, refBlockNum and refBlockPrefix.
+ * <p>
+ * Instances are created by {@link TransactionProcessor#prepare(java.util.List, java.util.List)} on
+ * every call, or shared between transactions through a {@link ReferenceBlockCache}.
+ */
+public final class ReferenceBlock {
+
+    /**
+     * Mask restricting the ref block number to 16 bit unsigned value.
+     */
+    private static final BigInteger REF_BLOCK_NUM_MASK = BigInteger.valueOf(0xffff);
+
+    /**
+     * Length of a block id in bytes.
+     */
+    private static final int BLOCK_ID_LENGTH = 32;
+
+    /**
+     * Chain id returned by {@link IRPCProvider#getInfo()}.
+     */
+    @NotNull
+    private final String chainId;
+
+    /**
+     * Head block time in milliseconds, parsed from {@link GetInfoResponse#getHeadBlockTime()}.
+     */
+    private final long headBlockTime;
+
+    /**
+     * Full number of the reference block.
+     */
+    @NotNull
+    private final BigInteger blockNum;
+
+    /**
+     * Ref block prefix of the reference block.
+     */
+    @NotNull
+    private final BigInteger refBlockPrefix;
+
+    /**
+     * Value of {@link System#nanoTime()} when the snapshot was taken, to measure its age.
+     */
+    private final long createdAtNanos;
+
+    /**
+     * Instantiates a new reference block snapshot.
+     *
+     * @param chainId the chain id.
+     * @param headBlockTime the head block time in milliseconds.
+     * @param blockNum the full number of the reference block.
+     * @param refBlockPrefix the ref block prefix of the reference block.
+     */
+    public ReferenceBlock(@NotNull String chainId, long headBlockTime,
+            @NotNull BigInteger blockNum, @NotNull BigInteger refBlockPrefix) {
+        this.chainId = chainId;
+        this.headBlockTime = headBlockTime;
+        this.blockNum = blockNum;
+        this.refBlockPrefix = refBlockPrefix;
+        this.createdAtNanos = System.nanoTime();
+    }
+
+    /**
+     * Resolve the reference block for the chain state described by the input {@link GetInfoResponse}
+     * according to {@link TransactionConfig#getTaposMode()}: either by calling
+     * {@link IRPCProvider#getBlock(GetBlockRequest)} on the block which is
+     * {@link TransactionConfig#getBlocksBehind()} blocks behind the head block, or by computing it
+     * from the head or last irreversible block id.
+     *
+     * @param rpcProvider the rpc provider.
+     * @param getInfoResponse the response of {@link IRPCProvider#getInfo()}.
+     * @param transactionConfig the transaction configuration.
+     * @return the resolved reference block.
+     * @throws TransactionPrepareError thrown if the head block time can't be parsed or the block id
+     * is invalid.  {@link
+     * TransactionPrepareRpcError} is thrown if {@link IRPCProvider#getBlock(GetBlockRequest)}
+     * returns or throws an error.
+     */
+    @NotNull
+    static ReferenceBlock fetch(@NotNull IRPCProvider rpcProvider,
+            @NotNull GetInfoResponse getInfoResponse, @NotNull TransactionConfig transactionConfig)
+            throws TransactionPrepareError {
+        long headBlockTime;
+        try {
+            headBlockTime = DateFormatter.convertBackendTimeToMilli(getInfoResponse.getHeadBlockTime());
+        } catch (ParseException e) {
+            throw new TransactionPrepareError(
+                    ErrorConstants.TRANSACTION_PROCESSOR_HEAD_BLOCK_TIME_PARSE_ERROR, e);
+        }
+
+        String chainId = getInfoResponse.getChainId() == null ? "" : getInfoResponse.getChainId();
+
+        switch (transactionConfig.getTaposMode()) {
+            case HEAD_BLOCK_ID:
+                return fromBlockId(chainId, headBlockTime, getInfoResponse.getHeadBlockId());
+            case LAST_IRREVERSIBLE_BLOCK_ID:
+                return fromBlockId(chainId, headBlockTime,
+                        getInfoResponse.getLastIrreversibleBlockId());
+            default:
+                break;
+        }
+
+        BigInteger headBlockNum;
+
+        int blockBehindConfig = transactionConfig.getBlocksBehind();
+
+        if (getInfoResponse.getHeadBlockNum().compareTo(BigInteger.valueOf(blockBehindConfig))
+                > 0) {
+            headBlockNum = getInfoResponse.getHeadBlockNum()
+                    .subtract(BigInteger.valueOf(blockBehindConfig));
+        } else {
+            headBlockNum = BigInteger.valueOf(blockBehindConfig);
+        }
+
+        GetBlockResponse getBlockResponse;
+        try {
+            getBlockResponse = rpcProvider.getBlock(new GetBlockRequest(headBlockNum.toString()));
+        } catch (GetBlockRpcError getBlockRpcError) {
+            throw new TransactionPrepareRpcError(
+                    ErrorConstants.TRANSACTION_PROCESSOR_PREPARE_RPC_GET_BLOCK, getBlockRpcError);
+        }
+
+        return new ReferenceBlock(
+                chainId,
+                headBlockTime,
+                getBlockResponse.getBlockNum(),
+                getBlockResponse.getRefBlockPrefix());
+    }
+
+    /**
+     * Create a reference block from a block id without downloading the block.
+     * <p>
+     * A block id is the sha256 of the block header with its first 4 bytes replaced by the block
+     * number in big endian.  The ref block prefix is the 32 bit little endian value of the bytes 8 to
+     * 11 of the id, which is what the chain reads when it validates TAPOS.
+     *
+     * @param chainId the chain id.
+     * @param headBlockTime the head block time in milliseconds.
+     * @param blockId the block id as a hex string.
+     * @return the reference block of the input block id.
+     * @throws TransactionPrepareError thrown if the block id is not a 32 bytes hex string.
+     */
+    @NotNull
+    static ReferenceBlock fromBlockId(@NotNull String chainId, long headBlockTime,
+            @Nullable String blockId) throws TransactionPrepareError {
+        byte[] blockIdBytes;
+        try {
+            blockIdBytes = blockId == null ? new byte[0] : Hex.decode(blockId);
+        } catch (DecoderException e) {
+            throw new TransactionPrepareError(String.format(
+                    ErrorConstants.TRANSACTION_PROCESSOR_PREPARE_INVALID_BLOCK_ID, blockId), e);
+        }
+
+        if (blockIdBytes.length != BLOCK_ID_LENGTH) {
+            throw new TransactionPrepareError(String.format(
+                    ErrorConstants.TRANSACTION_PROCESSOR_PREPARE_INVALID_BLOCK_ID, blockId));
+        }
+
+        long blockNum = ((blockIdBytes[0] & 0xffL) << 24)
+                | ((blockIdBytes[1] & 0xffL) << 16)
+                | ((blockIdBytes[2] & 0xffL) << 8)
+                | (blockIdBytes[3] & 0xffL);
+
+        long refBlockPrefix = (blockIdBytes[8] & 0xffL)
+                | ((blockIdBytes[9] & 0xffL) << 8)
+                | ((blockIdBytes[10] & 0xffL) << 16)
+                | ((blockIdBytes[11] & 0xffL) << 24);
+
+        return new ReferenceBlock(chainId, headBlockTime, BigInteger.valueOf(blockNum),
+                BigInteger.valueOf(refBlockPrefix));
+    }
+
+    /**
+     * Gets the chain id returned by {@link IRPCProvider#getInfo()}.
+     *
+     * @return the chain id, empty if the chain did not return one.
+     */
+    @NotNull
+    public String getChainId() {
+        return chainId;
+    }
+
+    /**
+     * Gets the head block time in milliseconds, when the snapshot was taken.  Transaction expiration
+     * is calculated from {@link #getEstimatedHeadBlockTime()} and
+     * {@link TransactionConfig#getExpiresSeconds()}.
+     *
+     * @return the head block time in milliseconds.
+     */
+    public long getHeadBlockTime() {
+        return headBlockTime;
+    }
+
+    /**
+     * Gets the head block time moved forward by the whole seconds elapsed locally since the snapshot
+     * was taken.  Transaction expiration is calculated from this value, so transactions prepared from
+     * an older snapshot keep the same validity.
+     *
+     * @return the estimated current head block time in milliseconds.
+     */
+    public long getEstimatedHeadBlockTime() {
+        return headBlockTime + TimeUnit.MILLISECONDS.toSeconds(this.getAgeMillis()) * 1000;
+    }
+
+    /**
+     * Gets the local time elapsed since the snapshot was taken.
+     *
+     * @return the age of the snapshot in milliseconds.
+     */
+    public long getAgeMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - this.createdAtNanos);
+    }
+
+    /**
+     * Gets the full number of the reference block.
+     *
+     * @return the block number.
+     */
+    @NotNull
+    public BigInteger getBlockNum() {
+        return blockNum;
+    }
+
+    /**
+     * Gets the ref block number, which is the reference block number restricted to 16 bit
+     * unsigned value.
+     *
+     * @return the ref block number.
+     */
+    @NotNull
+    public BigInteger getRefBlockNum() {
+        return blockNum.and(REF_BLOCK_NUM_MASK);
+    }
+
+    /**
+     * Gets the ref block prefix.
+     *
+     * @return the ref block prefix.
+     */
+    @NotNull
+    public BigInteger getRefBlockPrefix() {
+        return refBlockPrefix;
+    }
+}
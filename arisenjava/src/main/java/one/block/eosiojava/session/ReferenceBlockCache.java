@@ -0,0 +1,288 @@
+package one.block.arisenjava.session;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import one.block.arisenjava.error.ErrorConstants;
+import one.block.arisenjava.error.rpcProvider.GetInfoRpcError;
+import one.block.arisenjava.error.session.TransactionPrepareError;
+import one.block.arisenjava.error.session.TransactionPrepareRpcError;
+import one.block.arisenjava.interfaces.IRPCProvider;
+import one.block.arisenjava.models.rpcProvider.TransactionConfig;
+import one.block.arisenjava.models.rpcProvider.request.GetBlockRequest;
+import one.block.arisenjava.models.rpcProvider.response.GetInfoResponse;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Thread safe cache of the {@link ReferenceBlock} used to fill the TAPOS fields of transactions.
+ * <p>
+ * Without the cache, every call of {@link TransactionProcessor#prepare(java.util.List, java.util.List)}
+ * costs one {@link IRPCProvider#getInfo()} and one {@link IRPCProvider#getBlock(GetBlockRequest)}
+ * call.  A cache is owned by a {@link TransactionSession} (see
+ * {@link TransactionSession#enableReferenceBlockCache(long, TimeUnit)}) and shared by all processors
+ * created from it, which makes prepare() a local operation.
+ * <p>
+ * Once started, the cache refreshes its snapshot in the background at the configured interval.  If
+ * a background refresh fails the previous snapshot is kept and the error is available from
+ * {@link ReferenceBlockCache#getLastRefreshError()}.  The first call of
+ * {@link ReferenceBlockCache#getReferenceBlock()} on an empty cache refreshes it synchronously, as
+ * does a call finding a snapshot older than the maximum age, so failing background refreshes never
+ * serve a stale reference block.
+ */
+public class ReferenceBlockCache {
+
+    /**
+     * Rpc provider used to refresh the snapshot.
+     */
+    @NotNull
+    private final IRPCProvider rpcProvider;
+
+    /**
+     * Configuration used to resolve the reference block, like
+     * {@link TransactionConfig#getBlocksBehind()}.
+     */
+    @NotNull
+    private final TransactionConfig transactionConfig;
+
+    /**
+     * Interval between two background refreshes, in milliseconds.
+     */
+    private final long refreshIntervalMillis;
+
+    /**
+     * Maximum age of the snapshot, in milliseconds.  An older snapshot is refreshed synchronously.
+     */
+    private final long maxAgeMillis;
+
+    /**
+     * Default maximum age of the snapshot, as a number of refresh intervals.
+     */
+    private static final int DEFAULT_MAX_AGE_REFRESH_INTERVALS = 3;
+
+    /**
+     * Latest snapshot.  Null if the cache has never been refreshed or has been invalidated.
+     */
+    @Nullable
+    private volatile ReferenceBlock referenceBlock;
+
+    /**
+     * Error of the latest refresh.  Null if it succeeded.
+     */
+    @Nullable
+    private volatile TransactionPrepareError lastRefreshError;
+
+    /**
+     * Scheduler running the background refresh.  Null if the cache is not started.
+     */
+    @Nullable
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * Lock serializing refreshes so concurrent callers on an empty cache share one round trip.
+     */
+    private final Object refreshLock = new Object();
+
+    /**
+     * Initialize a reference block cache.  Call {@link ReferenceBlockCache#start()} to refresh it in
+     * the background.  The snapshot is refreshed synchronously once older than three refresh
+     * intervals.
+     *
+     * @param rpcProvider the rpc provider used to refresh the snapshot.
+     * @param transactionConfig the configuration used to resolve the reference block.
+     * @param refreshIntervalMillis interval between two background refreshes, in milliseconds.
+     */
+    public ReferenceBlockCache(@NotNull IRPCProvider rpcProvider,
+            @NotNull TransactionConfig transactionConfig, long refreshIntervalMillis) {
+        this(rpcProvider, transactionConfig, refreshIntervalMillis,
+                refreshIntervalMillis * DEFAULT_MAX_AGE_REFRESH_INTERVALS);
+    }
+
+    /**
+     * Initialize a reference block cache.  Call {@link ReferenceBlockCache#start()} to refresh it in
+     * the background.
+     *
+     * @param rpcProvider the rpc provider used to refresh the snapshot.
+     * @param transactionConfig the configuration used to resolve the reference block.
+     * @param refreshIntervalMillis interval between two background refreshes, in milliseconds.
+     * @param maxAgeMillis maximum age of the snapshot, in milliseconds, not lower than the refresh
+     * interval.  An older snapshot is refreshed synchronously.
+     */
+    public ReferenceBlockCache(@NotNull IRPCProvider rpcProvider,
+            @NotNull TransactionConfig transactionConfig, long refreshIntervalMillis,
+            long maxAgeMillis) {
+        if (refreshIntervalMillis <= 0) {
+            throw new IllegalArgumentException(
+                    ErrorConstants.REFERENCE_BLOCK_CACHE_INVALID_REFRESH_INTERVAL);
+        }
+
+        if (maxAgeMillis < refreshIntervalMillis) {
+            throw new IllegalArgumentException(
+                    ErrorConstants.REFERENCE_BLOCK_CACHE_INVALID_MAX_AGE);
+        }
+
+        this.rpcProvider = rpcProvider;
+        this.transactionConfig = transactionConfig;
+        this.refreshIntervalMillis = refreshIntervalMillis;
+        this.maxAgeMillis = maxAgeMillis;
+    }
+
+    /**
+     * Start refreshing the snapshot in the background.  The first refresh happens immediately.
+     * Calling this method on a started cache has no effect.
+     */
+    public synchronized void start() {
+        if (this.scheduler != null) {
+            return;
+        }
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("arisenjava-reference-block-%d")
+                .build());
+        this.scheduler.scheduleWithFixedDelay(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    refresh();
+                } catch (TransactionPrepareError transactionPrepareError) {
+                    // Keep the previous snapshot, the error is exposed by getLastRefreshError()
+                } catch (RuntimeException runtimeException) {
+                    // An uncaught exception would cancel all following refreshes
+                    lastRefreshError = new TransactionPrepareError(runtimeException);
+                }
+            }
+        }, 0, this.refreshIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stop the background refresh.  The current snapshot stays available.
+     */
+    public synchronized void stop() {
+        if (this.scheduler != null) {
+            this.scheduler.shutdownNow();
+            this.scheduler = null;
+        }
+    }
+
+    /**
+     * Whether the background refresh is running.
+     *
+     * @return true if the cache has been started and not stopped.
+     */
+    public synchronized boolean isRunning() {
+        return this.scheduler != null;
+    }
+
+    /**
+     * Get the current snapshot.  The cache is refreshed synchronously if it is empty or its snapshot
+     * is older than the maximum age.
+     *
+     * @return the current reference block.
+     * @throws TransactionPrepareError thrown if the cache is empty or too old and refreshing it
+     * fails.
+     */
+    @NotNull
+    public ReferenceBlock getReferenceBlock() throws TransactionPrepareError {
+        ReferenceBlock currentReferenceBlock = this.referenceBlock;
+        if (this.isFresh(currentReferenceBlock)) {
+            return currentReferenceBlock;
+        }
+
+        synchronized (this.refreshLock) {
+            // Another caller may have refreshed the cache while this one was waiting for the lock
+            currentReferenceBlock = this.referenceBlock;
+            if (this.isFresh(currentReferenceBlock)) {
+                return currentReferenceBlock;
+            }
+
+            return this.refresh();
+        }
+    }
+
+    /**
+     * Refresh the snapshot synchronously by calling {@link IRPCProvider#getInfo()} and
+     * {@link IRPCProvider#getBlock(GetBlockRequest)}.
+     *
+     * @return the new reference block.
+     * @throws TransactionPrepareError thrown if any RPC call fails or the head block time can't be
+     * parsed.  The previous snapshot is kept in that case.
+     */
+    @NotNull
+    public ReferenceBlock refresh() throws TransactionPrepareError {
+        synchronized (this.refreshLock) {
+            try {
+                GetInfoResponse getInfoResponse;
+                try {
+                    getInfoResponse = this.rpcProvider.getInfo();
+                } catch (GetInfoRpcError getInfoRpcError) {
+                    throw new TransactionPrepareRpcError(
+                            ErrorConstants.TRANSACTION_PROCESSOR_RPC_GET_INFO, getInfoRpcError);
+                }
+
+                ReferenceBlock refreshedReferenceBlock = ReferenceBlock
+                        .fetch(this.rpcProvider, getInfoResponse, this.transactionConfig);
+                this.referenceBlock = refreshedReferenceBlock;
+                this.lastRefreshError = null;
+                return refreshedReferenceBlock;
+            } catch (TransactionPrepareError transactionPrepareError) {
+                this.lastRefreshError = transactionPrepareError;
+                throw transactionPrepareError;
+            }
+        }
+    }
+
+    /**
+     * Drop the current snapshot.  The next call of {@link ReferenceBlockCache#getReferenceBlock()}
+     * refreshes the cache synchronously unless the background refresh gets there first.
+     */
+    public void invalidate() {
+        this.referenceBlock = null;
+    }
+
+    /**
+     * Gets the error of the latest refresh.
+     *
+     * @return the error of the latest refresh, null if it succeeded.
+     */
+    @Nullable
+    public TransactionPrepareError getLastRefreshError() {
+        return lastRefreshError;
+    }
+
+    /**
+     * Whether the snapshot exists and is not older than the maximum age.
+     */
+    private boolean isFresh(@Nullable ReferenceBlock referenceBlock) {
+        return referenceBlock != null && referenceBlock.getAgeMillis() <= this.maxAgeMillis;
+    }
+
+    /**
+     * Gets the maximum age of the snapshot.
+     *
+     * @return the maximum age in milliseconds.
+     */
+    public long getMaxAgeMillis() {
+        return maxAgeMillis;
+    }
+
+    /**
+     * Gets the interval between two background refreshes.
+     *
+     * @return the refresh interval in milliseconds.
+     */
+    public long getRefreshIntervalMillis() {
+        return refreshIntervalMillis;
+    }
+
+    /**
+     * Gets the configuration used to resolve the reference block.
+     *
+     * @return the transaction configuration.
+     */
+    @NotNull
+    public TransactionConfig getTransactionConfig() {
+        return transactionConfig;
+    }
+}
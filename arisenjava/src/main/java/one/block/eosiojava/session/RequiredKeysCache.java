@@ -0,0 +1,157 @@
+package one.block.arisenjava.session;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import one.block.arisenjava.error.ErrorConstants;
+import one.block.arisenjava.interfaces.IRPCProvider;
+import one.block.arisenjava.models.rpcProvider.Action;
+import one.block.arisenjava.models.rpcProvider.Authorization;
+import one.block.arisenjava.models.rpcProvider.Transaction;
+import one.block.arisenjava.models.rpcProvider.request.GetRequiredKeysRequest;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Thread safe cache of the result of {@link IRPCProvider#getRequiredKeys(GetRequiredKeysRequest)}.
+ * <p>
+ * The required keys of a transaction only depend on the set of authorizations (actor@permission) of
+ * its actions and on the available keys, so the cache is keyed by both sets, regardless of their
+ * order.  Entries expire after a time to live and the least recently used ones are evicted beyond the
+ * maximum size.
+ * <p>
+ * A cache is owned by a {@link TransactionSession} (see
+ * {@link TransactionSession#enableRequiredKeysCache(long, long, TimeUnit)}) and shared by all
+ * processors created from it.  If the chain rejects a transaction signed with cached keys for missing
+ * authority, {@link TransactionProcessor#signAndBroadcast()} invalidates the entry, queries the
+ * required keys again and retries once.
+ */
+public class RequiredKeysCache {
+
+    /**
+     * Cached required keys by authorizations and available keys.
+     */
+    @NotNull
+    private final Cache<Key, List<String>> cache;
+
+    /**
+     * Initialize a required keys cache.
+     *
+     * @param maximumSize maximum number of entries.
+     * @param timeToLive time to live of an entry.
+     * @param timeUnit unit of the time to live.
+     */
+    public RequiredKeysCache(long maximumSize, long timeToLive, @NotNull TimeUnit timeUnit) {
+        if (maximumSize <= 0 || timeToLive <= 0) {
+            throw new IllegalArgumentException(ErrorConstants.REQUIRED_KEYS_CACHE_INVALID_CONFIG);
+        }
+
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive, timeUnit)
+                .build();
+    }
+
+    /**
+     * Get the cached required keys of a transaction.
+     *
+     * @param transaction the transaction to sign.
+     * @param availableKeys the available keys of the signature provider.
+     * @return the cached required keys, null if they are not cached.
+     */
+    @Nullable
+    public List<String> get(@NotNull Transaction transaction, @NotNull List<String> availableKeys) {
+        return this.cache.getIfPresent(new Key(transaction, availableKeys));
+    }
+
+    /**
+     * Cache the required keys of a transaction.
+     *
+     * @param transaction the transaction to sign.
+     * @param availableKeys the available keys of the signature provider.
+     * @param requiredKeys the required keys returned by the chain.
+     */
+    public void put(@NotNull Transaction transaction, @NotNull List<String> availableKeys,
+            @NotNull List<String> requiredKeys) {
+        this.cache.put(new Key(transaction, availableKeys),
+                Collections.unmodifiableList(new ArrayList<>(requiredKeys)));
+    }
+
+    /**
+     * Remove the cached required keys of a transaction.
+     *
+     * @param transaction the transaction to sign.
+     * @param availableKeys the available keys of the signature provider.
+     */
+    public void invalidate(@NotNull Transaction transaction, @NotNull List<String> availableKeys) {
+        this.cache.invalidate(new Key(transaction, availableKeys));
+    }
+
+    /**
+     * Remove all cached required keys, for example after a permission of an account changed.
+     */
+    public void invalidateAll() {
+        this.cache.invalidateAll();
+    }
+
+    /**
+     * Gets the approximate number of cached entries.
+     *
+     * @return the number of entries.
+     */
+    public long size() {
+        return this.cache.size();
+    }
+
+    /**
+     * Normalized key of the cache: the sorted sets of authorizations and available keys.
+     */
+    private static final class Key {
+
+        @NotNull
+        private final SortedSet<String> authorizations = new TreeSet<>();
+
+        @NotNull
+        private final SortedSet<String> availableKeys;
+
+        Key(@NotNull Transaction transaction, @NotNull List<String> availableKeys) {
+            this.addAuthorizations(transaction.getActions());
+            this.addAuthorizations(transaction.getContextFreeActions());
+            this.availableKeys = new TreeSet<>(availableKeys);
+        }
+
+        private void addAuthorizations(@NotNull List<Action> actions) {
+            for (Action action : actions) {
+                for (Authorization authorization : action.getAuthorization()) {
+                    this.authorizations
+                            .add(authorization.getActor() + "@" + authorization.getPermission());
+                }
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (!(o instanceof Key)) {
+                return false;
+            }
+
+            Key key = (Key) o;
+            return this.authorizations.equals(key.authorizations)
+                    && this.availableKeys.equals(key.availableKeys);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * this.authorizations.hashCode() + this.availableKeys.hashCode();
+        }
+    }
+}
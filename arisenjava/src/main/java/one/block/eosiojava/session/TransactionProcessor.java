@@ -1,19 +1,23 @@
 package one.block.arisenjava.session;
 
 import com.google.common.base.Strings;
-import java.io.IOException;
-import java.io.Serializable;
 import java.math.BigInteger;
-import java.text.ParseException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
 import one.block.arisenjava.error.ErrorConstants;
 import one.block.arisenjava.error.abiProvider.GetAbiError;
-import one.block.arisenjava.error.rpcProvider.GetBlockRpcError;
 import one.block.arisenjava.error.rpcProvider.GetInfoRpcError;
 import one.block.arisenjava.error.rpcProvider.GetRequiredKeysRpcError;
 import one.block.arisenjava.error.rpcProvider.PushTransactionRpcError;
-import one.block.arisenjava.error.serializationProvider.DeserializeTransactionError;
 import one.block.arisenjava.error.serializationProvider.SerializeError;
 import one.block.arisenjava.error.serializationProvider.SerializeTransactionError;
 import one.block.arisenjava.error.session.TransactionBroadCastEmptySignatureError;
@@ -44,19 +48,21 @@ import one.block.arisenjava.interfaces.IRPCProvider;
 import one.block.arisenjava.interfaces.ISerializationProvider;
 import one.block.arisenjava.interfaces.ISignatureProvider;
 import one.block.arisenjava.models.AbiRixSerializationObject;
+import one.block.arisenjava.models.abi.CompiledAbi;
 import one.block.arisenjava.models.ARISENName;
 import one.block.arisenjava.models.rpcProvider.Action;
+import one.block.arisenjava.models.rpcProvider.PackedTransaction;
 import one.block.arisenjava.models.rpcProvider.Transaction;
 import one.block.arisenjava.models.rpcProvider.TransactionConfig;
 import one.block.arisenjava.models.rpcProvider.request.GetBlockRequest;
 import one.block.arisenjava.models.rpcProvider.request.GetRequiredKeysRequest;
 import one.block.arisenjava.models.rpcProvider.request.PushTransactionRequest;
-import one.block.arisenjava.models.rpcProvider.response.GetBlockResponse;
 import one.block.arisenjava.models.rpcProvider.response.GetInfoResponse;
 import one.block.arisenjava.models.rpcProvider.response.GetRequiredKeysResponse;
 import one.block.arisenjava.models.rpcProvider.response.PushTransactionResponse;
 import one.block.arisenjava.models.signatureProvider.ArisenTransactionSignatureRequest;
 import one.block.arisenjava.models.signatureProvider.ArisenTransactionSignatureResponse;
+import one.block.arisenjava.utilities.ByteFormatter;
 import one.block.arisenjava.utilities.DateFormatter;
 import one.block.arisenjava.utilities.Utils;
 import org.jetbrains.annotations.NotNull;
@@ -123,6 +129,16 @@ public class TransactionProcessor {
     @Nullable
     private Transaction originalTransaction;
 
+    /**
+     * The transaction modified by the signature provider, kept packed until the current transaction
+     * is needed, as a signed transaction is usually only broadcast.  While it is set, the current
+     * transaction is null.
+     * <p>
+     * Check getSignature() flow in "Complete Workflow" document for more detail.
+     */
+    @Nullable
+    private PackedTransaction modifiedTransaction;
+
     /**
      * List of signatures used to sign the transaction.  This is populated after the transaction
      * has been signed and the signatures have been return by the signature provider.
@@ -140,10 +156,30 @@ public class TransactionProcessor {
      * <p>
      *     Check getSignature() flow in "Complete Workflow" document for more detail
      * about the value assigned and usages.
+     * <p>
+     *     Null while only {@link TransactionProcessor#serializedTransactionBytes} is set, until the hex
+     * version is needed.
      */
     @Nullable
     private String serializedTransaction;
 
+    /**
+     * The serialized version of the Transaction as bytes, set instead of
+     * {@link TransactionProcessor#serializedTransaction} when both the serialization provider and the
+     * signature provider support byte serialization.  The hex version is then only built for the
+     * push_transaction request or if it is asked for.
+     */
+    @Nullable
+    private byte[] serializedTransactionBytes;
+
+    /**
+     * Id of the transaction: the sha256 hash of the serialized transaction, in hex.  Computed
+     * locally as soon as the transaction is serialized and updated if the signature provider modifies
+     * the transaction, so it is known before the chain responds.
+     */
+    @Nullable
+    private String transactionId;
+
     /**
      * List of available keys that may be provided by SignatureProvider.
      * <p>
@@ -191,6 +227,30 @@ public class TransactionProcessor {
      */
     private boolean isTransactionModificationAllowed;
 
+    /**
+     * Reference block cache shared by the {@link TransactionSession} which created this processor.
+     * <p>
+     * If set, {@link TransactionProcessor#prepare(List, List)} takes the TAPOS values from it instead
+     * of calling {@link IRPCProvider#getInfo()} and {@link IRPCProvider#getBlock(GetBlockRequest)}.
+     */
+    @Nullable
+    private ReferenceBlockCache referenceBlockCache;
+
+    /**
+     * Required keys cache shared by the {@link TransactionSession} which created this processor.
+     * <p>
+     * If set, createSignatureRequest() takes the required keys from it when possible instead of
+     * calling {@link IRPCProvider#getRequiredKeys(GetRequiredKeysRequest)}.
+     */
+    @Nullable
+    private RequiredKeysCache requiredKeysCache;
+
+    /**
+     * Whether {@link TransactionProcessor#requiredKeys} were taken from
+     * {@link TransactionProcessor#requiredKeysCache}.
+     */
+    private boolean isRequiredKeysFromCache;
+
     /**
      * Constructor with all provider references from {@link TransactionSession}
      * @param serializationProvider the serialization provider.
@@ -251,6 +311,8 @@ public class TransactionProcessor {
      *          <br>
      *              - There is a problem with parsing head block time from {@link GetInfoResponse#getHeadBlockTime()}
      *          <br>
+     *              - The block id used by {@link TransactionConfig#getTaposMode()} is invalid
+     *          <br>
      *          It throws a base error class if:
      *          <br>
      *              {@link TransactionPrepareInputError} thrown if inputs are invalid
@@ -275,81 +337,39 @@ public class TransactionProcessor {
                 new ArrayList<String>());
 
         // Assigning values for transaction expiration, refBlockNum and refBlockPrefix
-        GetInfoResponse getInfoResponse;
+        ReferenceBlock referenceBlock;
 
-        try {
-            getInfoResponse = this.rpcProvider.getInfo();
-        } catch (GetInfoRpcError getInfoRpcError) {
-            throw new TransactionPrepareRpcError(ErrorConstants.TRANSACTION_PROCESSOR_RPC_GET_INFO,
-                    getInfoRpcError);
-        }
+        if (this.referenceBlockCache != null) {
+            // Reuse the snapshot shared by the session instead of calling getInfo and getBlock
+            referenceBlock = this.referenceBlockCache.getReferenceBlock();
+            this.validateChainId(referenceBlock.getChainId());
+        } else {
+            GetInfoResponse getInfoResponse;
 
-        if (Strings.isNullOrEmpty(this.chainId)) {
-            if (Strings.isNullOrEmpty(getInfoResponse.getChainId())) {
-                // Throw exception if both provided chain id and RPC chain id are empty
-                throw new TransactionPrepareError(
-                        ErrorConstants.TRANSACTION_PROCESSOR_PREPARE_CHAINID_RPC_EMPTY);
+            try {
+                getInfoResponse = this.rpcProvider.getInfo();
+            } catch (GetInfoRpcError getInfoRpcError) {
+                throw new TransactionPrepareRpcError(ErrorConstants.TRANSACTION_PROCESSOR_RPC_GET_INFO,
+                        getInfoRpcError);
             }
 
-            // Assign value to chain id only if chain id is not provided and RPC's chain id is valid
-            this.chainId = getInfoResponse.getChainId();
-        } else if (!Strings.isNullOrEmpty(getInfoResponse.getChainId()) && !getInfoResponse
-                .getChainId().equals(chainId)) {
-            // Throw error if both are not empty but one does not match with another
-            throw new TransactionPrepareError(
-                    String.format(ErrorConstants.TRANSACTION_PROCESSOR_PREPARE_CHAINID_NOT_MATCH,
-                            this.chainId,
-                            getInfoResponse.getChainId()));
+            this.validateChainId(getInfoResponse.getChainId());
+            referenceBlock = ReferenceBlock
+                    .fetch(this.rpcProvider, getInfoResponse, this.transactionConfig);
         }
 
         if (preparingTransaction.getExpiration().isEmpty()) {
-            String strHeadBlockTime = getInfoResponse.getHeadBlockTime();
-
-            long headBlockTime;
-
-            try {
-                headBlockTime = DateFormatter.convertBackendTimeToMilli(strHeadBlockTime);
-            } catch (ParseException e) {
-                throw new TransactionPrepareError(
-                        ErrorConstants.TRANSACTION_PROCESSOR_HEAD_BLOCK_TIME_PARSE_ERROR, e);
-            }
-
             int expiresSeconds = this.transactionConfig.getExpiresSeconds();
 
-            long expirationTimeInMilliseconds = headBlockTime + expiresSeconds * 1000;
+            long expirationTimeInMilliseconds =
+                    referenceBlock.getEstimatedHeadBlockTime() + expiresSeconds * 1000L;
             preparingTransaction.setExpiration(DateFormatter
                     .convertMilliSecondToBackendTimeString(expirationTimeInMilliseconds));
         }
 
         // Assigning value to refBlockNum and refBlockPrefix
-
-        BigInteger headBlockNum;
-
-        int blockBehindConfig = this.transactionConfig.getBlocksBehind();
-
-        if (getInfoResponse.getHeadBlockNum().compareTo(BigInteger.valueOf(blockBehindConfig))
-                > 0) {
-            headBlockNum = getInfoResponse.getHeadBlockNum()
-                    .subtract(BigInteger.valueOf(blockBehindConfig));
-        } else {
-            headBlockNum = BigInteger.valueOf(blockBehindConfig);
-        }
-
-        GetBlockResponse getBlockResponse;
-        try {
-            getBlockResponse = this.rpcProvider
-                    .getBlock(new GetBlockRequest(headBlockNum.toString()));
-        } catch (GetBlockRpcError getBlockRpcError) {
-            throw new TransactionPrepareRpcError(
-                    ErrorConstants.TRANSACTION_PROCESSOR_PREPARE_RPC_GET_BLOCK, getBlockRpcError);
-        }
-
-        // Restrict the refBlockNum to 32 bit unsigned value
-        BigInteger refBlockNum = getBlockResponse.getBlockNum().and(BigInteger.valueOf(0xffff));
-        BigInteger refBlockPrefix = getBlockResponse.getRefBlockPrefix();
-
-        preparingTransaction.setRefBlockNum(refBlockNum);
-        preparingTransaction.setRefBlockPrefix(refBlockPrefix);
+        preparingTransaction.setRefBlockNum(referenceBlock.getRefBlockNum());
+        preparingTransaction.setRefBlockPrefix(referenceBlock.getRefBlockPrefix());
 
         this.finishPreparing(preparingTransaction);
     }
@@ -371,6 +391,8 @@ public class TransactionProcessor {
      *          <br>
      *              - There is a problem with parsing head block time from {@link GetInfoResponse#getHeadBlockTime()}
      *          <br>
+     *              - The block id used by {@link TransactionConfig#getTaposMode()} is invalid
+     *          <br>
      *          It throws a base error class if:
      *          <br>
      *              {@link TransactionPrepareInputError} thrown if input is invalid
@@ -396,35 +418,17 @@ public class TransactionProcessor {
      *          - Signing. Cause: {@link TransactionGetSignatureError} or {@link SignatureProviderError}
      */
     public boolean sign() throws TransactionSignError {
-        ArisenTransactionSignatureRequest arisenTransactionSignatureRequest;
-        try {
-            arisenTransactionSignatureRequest = this.createSignatureRequest();
-        } catch (TransactionCreateSignatureRequestError transactionCreateSignatureRequestError) {
-            throw new TransactionSignError(
-                    ErrorConstants.TRANSACTION_PROCESSOR_SIGN_CREATE_SIGN_REQUEST_ERROR,
-                    transactionCreateSignatureRequestError);
-        }
-
-        ArisenTransactionSignatureResponse arisenTransactionSignatureResponse;
-        try {
-            arisenTransactionSignatureResponse = this.getSignature(arisenTransactionSignatureRequest);
-            if (arisenTransactionSignatureResponse.getError() != null) {
-                throw arisenTransactionSignatureResponse.getError();
-            }
-        } catch (TransactionGetSignatureError transactionGetSignatureError) {
-            throw new TransactionSignError(transactionGetSignatureError);
-        } catch (@Nullable SignatureProviderError signatureProviderError) {
-            throw new TransactionSignError(
-                    ErrorConstants.TRANSACTION_PROCESSOR_SIGN_SIGNATURE_RESPONSE_ERROR,
-                    signatureProviderError);
-        }
-
-        return true;
+        return this.signWithRequest(this.createSignRequest());
     }
 
     /**
      * Broadcast transaction to blockchain. <p> Check broadcast() flow in "Complete Workflow"
      * document for more detail.
+     * <p>
+     * If {@link TransactionConfig#getMaxBroadcastRetries()} is greater than zero, transient failures
+     * are retried with the same signed transaction.  A duplicate transaction error on a retry then
+     * means an earlier attempt landed: the returned response holds the transaction id of
+     * {@link #getTransactionId()} and a null {@link PushTransactionResponse#getProcessed()}.
      *
      * @return broadcast result from chain
      * @throws TransactionBroadCastError thrown under the following conditions:
@@ -437,7 +441,7 @@ public class TransactionProcessor {
      */
     @NotNull
     public PushTransactionResponse broadcast() throws TransactionBroadCastError {
-        if (this.serializedTransaction == null || this.serializedTransaction.isEmpty()) {
+        if (!this.isSerialized()) {
             throw new TransactionBroadCastError(
                     ErrorConstants.TRANSACTION_PROCESSOR_BROADCAST_SERIALIZED_TRANSACTION_EMPTY);
         }
@@ -448,10 +452,16 @@ public class TransactionProcessor {
         }
 
         PushTransactionRequest pushTransactionRequest = new PushTransactionRequest(this.signatures,
-                0, "", this.serializedTransaction);
+                0, "", this.getSerializedTransaction());
         try {
-            return this.pushTransaction(pushTransactionRequest);
+            return this.pushTransactionWithRetries(pushTransactionRequest);
         } catch (TransactionPushTransactionError transactionPushTransactionError) {
+            if (this.isRequiredKeysFromCache
+                    && ChainErrors.isUnsatisfiedAuthorization(transactionPushTransactionError)) {
+                // Signed with outdated cached required keys, the next sign() queries them again
+                this.invalidateCachedRequiredKeys();
+            }
+
             throw new TransactionBroadCastError(
                     ErrorConstants.TRANSACTION_PROCESSOR_BROADCAST_TRANS_ERROR,
                     transactionPushTransactionError);
@@ -460,6 +470,9 @@ public class TransactionProcessor {
 
     /**
      * Sign and broadcast the transaction and signature/s to chain
+     * <p>
+     * Broadcast failures are retried as by {@link #broadcast()}, so the response may hold a null
+     * {@link PushTransactionResponse#getProcessed()} when an earlier attempt landed.
      *
      * @return PushTransactionResponse from blockchain.
      * @throws TransactionSignAndBroadCastError thrown under the following conditions:
@@ -476,37 +489,8 @@ public class TransactionProcessor {
      */
     @NotNull
     public PushTransactionResponse signAndBroadcast() throws TransactionSignAndBroadCastError {
-        ArisenTransactionSignatureRequest arisenTransactionSignatureRequest;
-        try {
-            arisenTransactionSignatureRequest = this.createSignatureRequest();
-        } catch (TransactionCreateSignatureRequestError transactionCreateSignatureRequestError) {
-            throw new TransactionSignAndBroadCastError(transactionCreateSignatureRequestError);
-        }
-
-        try {
-            this.getSignature(arisenTransactionSignatureRequest);
-        } catch (TransactionGetSignatureError transactionGetSignatureError) {
-            throw new TransactionSignAndBroadCastError(transactionGetSignatureError);
-        }
-
-        if (this.serializedTransaction == null || this.serializedTransaction.isEmpty()) {
-            throw new TransactionSignAndBroadCastError(
-                    ErrorConstants.TRANSACTION_PROCESSOR_SIGN_BROADCAST_SERIALIZED_TRANSACTION_EMPTY);
-        }
-
-        if (this.signatures.isEmpty()) {
-            throw new TransactionSignAndBroadCastError(
-                    ErrorConstants.TRANSACTION_PROCESSOR_SIGN_BROADCAST_SIGN_EMPTY);
-        }
-
-        // Signatures and serializedTransaction are assigned and finalized in getSignature() method
-        PushTransactionRequest pushTransactionRequest = new PushTransactionRequest(this.signatures,
-                0, "", this.serializedTransaction);
-        try {
-            return this.pushTransaction(pushTransactionRequest);
-        } catch (TransactionPushTransactionError transactionPushTransactionError) {
-            throw new TransactionSignAndBroadCastError(transactionPushTransactionError);
-        }
+        this.signForBroadcast(this.createSignAndBroadcastRequest());
+        return this.pushSignedTransaction();
     }
 
     /**
@@ -516,6 +500,7 @@ public class TransactionProcessor {
      */
     @Nullable
     public String toJSON() {
+        this.decodeModifiedTransaction();
         return Utils.getGson(DateFormatter.BACKEND_DATE_PATTERN).toJson(this.transaction);
     }
 
@@ -527,8 +512,7 @@ public class TransactionProcessor {
      * @throws TransactionSerializeError thrown if there are any exceptions while serializing
      * transaction. Cause: {@link TransactionCreateSignatureRequestError}
      *      <br>
-     *          - Exception while trying to clone transaction for runtime handling.
-     *          Method used {@link Utils#clone(Serializable)}
+     *          - The transaction has not been initialized.
      *      <br>
      *      Thrown as parent error class for:
      *      <br>
@@ -549,8 +533,8 @@ public class TransactionProcessor {
     public String serialize() throws TransactionSerializeError {
         // Return serialized version of the Transaction, if it exists, otherwise serialize the
         // transaction and return the result.
-        if (this.serializedTransaction != null && !this.serializedTransaction.isEmpty()) {
-            return this.serializedTransaction;
+        if (this.isSerialized()) {
+            return this.getSerializedTransaction();
         }
 
         try {
@@ -562,10 +546,307 @@ public class TransactionProcessor {
         }
     }
 
+    /**
+     * Asynchronous version of {@link TransactionProcessor#prepare(List, List)}.
+     * <p>
+     * The TAPOS values are resolved on the input executor.  The RPC calls are the blocking calls of
+     * {@link IRPCProvider}, so an executor thread is held until they return.  Errors are reported as
+     * an exceptional completion with the same errors {@link TransactionProcessor#prepare(List, List)}
+     * throws.
+     *
+     * @param actions - List of actions with data.
+     * @param contextFreeActions - List of context free actions with data.
+     * @param executor - Executor running the RPC calls.
+     * @return future completed once the transaction is prepared.
+     */
+    @NotNull
+    public CompletableFuture<Void> prepareAsync(@NotNull final List<Action> actions,
+            @NotNull final List<Action> contextFreeActions, @NotNull Executor executor) {
+        return AsyncStages.supply(new AsyncStages.Stage<Void, Void>() {
+            @Override
+            public Void run(Void input) throws TransactionPrepareError {
+                prepare(actions, contextFreeActions);
+                return null;
+            }
+        }, executor);
+    }
+
+    /**
+     * Asynchronous version of {@link TransactionProcessor#prepare(List)}.
+     *
+     * @param actions - List of actions with data.
+     * @param executor - Executor running the RPC calls.
+     * @return future completed once the transaction is prepared.
+     */
+    @NotNull
+    public CompletableFuture<Void> prepareAsync(@NotNull List<Action> actions,
+            @NotNull Executor executor) {
+        return this.prepareAsync(actions, new ArrayList<Action>(), executor);
+    }
+
+    /**
+     * Asynchronous version of {@link TransactionProcessor#serialize()}.
+     * <p>
+     * The serialization runs on an executor thread, blocked while the ABIs are fetched.
+     *
+     * @param executor - Executor running the ABI fetches and the serialization.
+     * @return future completed with the serialized transaction, or exceptionally with
+     * {@link TransactionSerializeError}.
+     */
+    @NotNull
+    public CompletableFuture<String> serializeAsync(@NotNull Executor executor) {
+        return AsyncStages.supply(new AsyncStages.Stage<Void, String>() {
+            @Override
+            public String run(Void input) throws TransactionSerializeError {
+                return serialize();
+            }
+        }, executor);
+    }
+
+    /**
+     * Asynchronous version of {@link TransactionProcessor#sign()}.
+     * <p>
+     * Creating the signature request (serialization, ABI fetches and getRequiredKeys) and signing are
+     * two stages chained on the input executor.  Each stage holds an executor thread while the
+     * providers it calls block.  Errors are reported as an exceptional completion with
+     * {@link TransactionSignError}.
+     *
+     * @param executor - Executor running the stages.
+     * @return future completed with true once the transaction is signed.
+     */
+    @NotNull
+    public CompletableFuture<Boolean> signAsync(@NotNull Executor executor) {
+        CompletableFuture<ArisenTransactionSignatureRequest> signatureRequest = AsyncStages
+                .supply(new AsyncStages.Stage<Void, ArisenTransactionSignatureRequest>() {
+                    @Override
+                    public ArisenTransactionSignatureRequest run(Void input)
+                            throws TransactionSignError {
+                        return createSignRequest();
+                    }
+                }, executor);
+
+        return AsyncStages.then(signatureRequest,
+                new AsyncStages.Stage<ArisenTransactionSignatureRequest, Boolean>() {
+                    @Override
+                    public Boolean run(ArisenTransactionSignatureRequest request)
+                            throws TransactionSignError {
+                        return signWithRequest(request);
+                    }
+                }, executor);
+    }
+
+    /**
+     * Asynchronous version of {@link TransactionProcessor#broadcast()}.
+     * <p>
+     * The pushTransaction RPC call blocks an executor thread until the chain answers, including the
+     * delays between retries when {@link TransactionConfig#getMaxBroadcastRetries()} is set.
+     *
+     * @param executor - Executor running the pushTransaction RPC call.
+     * @return future completed with the response of the chain, or exceptionally with
+     * {@link TransactionBroadCastError}.
+     */
+    @NotNull
+    public CompletableFuture<PushTransactionResponse> broadcastAsync(@NotNull Executor executor) {
+        return AsyncStages.supply(new AsyncStages.Stage<Void, PushTransactionResponse>() {
+            @Override
+            public PushTransactionResponse run(Void input) throws TransactionBroadCastError {
+                return broadcast();
+            }
+        }, executor);
+    }
+
+    /**
+     * Asynchronous version of {@link TransactionProcessor#signAndBroadcast()}.
+     * <p>
+     * Creating the signature request, signing and pushing the transaction are three stages chained
+     * on the input executor.  As the providers are synchronous, every stage holds an executor thread
+     * until its calls return, so a thread is busy per transaction in flight.  Errors are reported as
+     * an exceptional completion with {@link TransactionSignAndBroadCastError}.
+     *
+     * @param executor - Executor running the stages.
+     * @return future completed with the response of the chain.
+     */
+    @NotNull
+    public CompletableFuture<PushTransactionResponse> signAndBroadcastAsync(
+            @NotNull Executor executor) {
+        CompletableFuture<ArisenTransactionSignatureRequest> signatureRequest = AsyncStages
+                .supply(new AsyncStages.Stage<Void, ArisenTransactionSignatureRequest>() {
+                    @Override
+                    public ArisenTransactionSignatureRequest run(Void input)
+                            throws TransactionSignAndBroadCastError {
+                        return createSignAndBroadcastRequest();
+                    }
+                }, executor);
+
+        CompletableFuture<Void> signed = AsyncStages.then(signatureRequest,
+                new AsyncStages.Stage<ArisenTransactionSignatureRequest, Void>() {
+                    @Override
+                    public Void run(ArisenTransactionSignatureRequest request)
+                            throws TransactionSignAndBroadCastError {
+                        signForBroadcast(request);
+                        return null;
+                    }
+                }, executor);
+
+        return AsyncStages.then(signed, new AsyncStages.Stage<Void, PushTransactionResponse>() {
+            @Override
+            public PushTransactionResponse run(Void input)
+                    throws TransactionSignAndBroadCastError {
+                return pushSignedTransaction();
+            }
+        }, executor);
+    }
+
     //endregion
 
     //region private methods
 
+    /**
+     * First stage of {@link TransactionProcessor#sign()}: create the signature request.
+     *
+     * @return the signature request.
+     * @throws TransactionSignError thrown if creating the signature request fails. Cause:
+     * {@link TransactionCreateSignatureRequestError}
+     */
+    @NotNull
+    private ArisenTransactionSignatureRequest createSignRequest() throws TransactionSignError {
+        try {
+            return this.createSignatureRequest();
+        } catch (TransactionCreateSignatureRequestError transactionCreateSignatureRequestError) {
+            throw new TransactionSignError(
+                    ErrorConstants.TRANSACTION_PROCESSOR_SIGN_CREATE_SIGN_REQUEST_ERROR,
+                    transactionCreateSignatureRequestError);
+        }
+    }
+
+    /**
+     * Second stage of {@link TransactionProcessor#sign()}: get the signatures from the signature
+     * provider.
+     *
+     * @param arisenTransactionSignatureRequest the signature request.
+     * @return true if the transaction is signed.
+     * @throws TransactionSignError thrown if signing fails. Cause: {@link TransactionGetSignatureError}
+     * or {@link SignatureProviderError}
+     */
+    private boolean signWithRequest(
+            @NotNull ArisenTransactionSignatureRequest arisenTransactionSignatureRequest)
+            throws TransactionSignError {
+        ArisenTransactionSignatureResponse arisenTransactionSignatureResponse;
+        try {
+            arisenTransactionSignatureResponse = this.getSignature(arisenTransactionSignatureRequest);
+            if (arisenTransactionSignatureResponse.getError() != null) {
+                throw arisenTransactionSignatureResponse.getError();
+            }
+        } catch (TransactionGetSignatureError transactionGetSignatureError) {
+            throw new TransactionSignError(transactionGetSignatureError);
+        } catch (@Nullable SignatureProviderError signatureProviderError) {
+            throw new TransactionSignError(
+                    ErrorConstants.TRANSACTION_PROCESSOR_SIGN_SIGNATURE_RESPONSE_ERROR,
+                    signatureProviderError);
+        }
+
+        return true;
+    }
+
+    /**
+     * First stage of {@link TransactionProcessor#signAndBroadcast()}: create the signature request.
+     *
+     * @return the signature request.
+     * @throws TransactionSignAndBroadCastError thrown if creating the signature request fails.
+     * Cause: {@link TransactionCreateSignatureRequestError}
+     */
+    @NotNull
+    ArisenTransactionSignatureRequest createSignAndBroadcastRequest()
+            throws TransactionSignAndBroadCastError {
+        try {
+            return this.createSignatureRequest();
+        } catch (TransactionCreateSignatureRequestError transactionCreateSignatureRequestError) {
+            throw new TransactionSignAndBroadCastError(transactionCreateSignatureRequestError);
+        }
+    }
+
+    /**
+     * Second stage of {@link TransactionProcessor#signAndBroadcast()}: get the signatures from the
+     * signature provider.
+     *
+     * @param arisenTransactionSignatureRequest the signature request.
+     * @throws TransactionSignAndBroadCastError thrown if signing fails. Cause:
+     * {@link TransactionGetSignatureError}
+     */
+    void signForBroadcast(
+            @NotNull ArisenTransactionSignatureRequest arisenTransactionSignatureRequest)
+            throws TransactionSignAndBroadCastError {
+        try {
+            this.getSignature(arisenTransactionSignatureRequest);
+        } catch (TransactionGetSignatureError transactionGetSignatureError) {
+            throw new TransactionSignAndBroadCastError(transactionGetSignatureError);
+        }
+    }
+
+    /**
+     * Last stage of {@link TransactionProcessor#signAndBroadcast()}: push the signed transaction to
+     * the chain.
+     *
+     * @return PushTransactionResponse from blockchain.
+     * @throws TransactionSignAndBroadCastError thrown if the transaction is not serialized or signed,
+     * or if the chain returns an error. Cause: {@link TransactionPushTransactionError}
+     */
+    @NotNull
+    PushTransactionResponse pushSignedTransaction() throws TransactionSignAndBroadCastError {
+        if (!this.isSerialized()) {
+            throw new TransactionSignAndBroadCastError(
+                    ErrorConstants.TRANSACTION_PROCESSOR_SIGN_BROADCAST_SERIALIZED_TRANSACTION_EMPTY);
+        }
+
+        if (this.signatures.isEmpty()) {
+            throw new TransactionSignAndBroadCastError(
+                    ErrorConstants.TRANSACTION_PROCESSOR_SIGN_BROADCAST_SIGN_EMPTY);
+        }
+
+        // Signatures and serializedTransaction are assigned and finalized in getSignature() method
+        PushTransactionRequest pushTransactionRequest = new PushTransactionRequest(this.signatures,
+                0, "", this.getSerializedTransaction());
+        try {
+            return this.pushTransactionWithRetries(pushTransactionRequest);
+        } catch (TransactionPushTransactionError transactionPushTransactionError) {
+            if (!this.isRequiredKeysFromCache
+                    || !ChainErrors.isUnsatisfiedAuthorization(transactionPushTransactionError)) {
+                throw new TransactionSignAndBroadCastError(transactionPushTransactionError);
+            }
+        }
+
+        // The cached required keys are outdated: query them again, sign again and retry once
+        this.invalidateCachedRequiredKeys();
+        try {
+            this.signForBroadcast(this.createSignatureRequestForSerializedTransaction());
+        } catch (TransactionCreateSignatureRequestError transactionCreateSignatureRequestError) {
+            throw new TransactionSignAndBroadCastError(transactionCreateSignatureRequestError);
+        }
+
+        pushTransactionRequest = new PushTransactionRequest(this.signatures, 0, "",
+                this.getSerializedTransaction());
+        try {
+            return this.pushTransactionWithRetries(pushTransactionRequest);
+        } catch (TransactionPushTransactionError transactionPushTransactionError) {
+            throw new TransactionSignAndBroadCastError(transactionPushTransactionError);
+        }
+    }
+
+    /**
+     * Drop the required keys taken from the cache of the session, from the processor and from the
+     * cache, so they are queried again with getRequiredKeys.
+     */
+    private void invalidateCachedRequiredKeys() {
+        this.decodeModifiedTransaction();
+        if (this.requiredKeysCache != null && this.transaction != null
+                && this.availableKeys != null) {
+            this.requiredKeysCache.invalidate(this.transaction, this.availableKeys);
+        }
+
+        this.requiredKeys = null;
+        this.isRequiredKeysFromCache = false;
+    }
+
     /**
      * Create signature request which will be sent to signature provider to be signed.
      * <p>
@@ -574,6 +855,7 @@ public class TransactionProcessor {
     @NotNull
     private ArisenTransactionSignatureRequest createSignatureRequest()
             throws TransactionCreateSignatureRequestError {
+        this.decodeModifiedTransaction();
         if (this.transaction == null) {
             throw new TransactionCreateSignatureRequestError(
                     ErrorConstants.TRANSACTION_PROCESSOR_TRANSACTION_HAS_TO_BE_INITIALIZED);
@@ -585,9 +867,32 @@ public class TransactionProcessor {
         }
 
         // Cache the serialized version of transaction in the TransactionProcessor
-        this.serializedTransaction = this.serializeTransaction();
+        if (this.isByteSerializationEnabled()) {
+            this.serializedTransactionBytes = this.serializeTransactionToBytes();
+            this.serializedTransaction = null;
+        } else {
+            this.serializedTransaction = this.serializeTransaction();
+            this.serializedTransactionBytes = null;
+        }
 
-        ArisenTransactionSignatureRequest arisenTransactionSignatureRequest = new ArisenTransactionSignatureRequest(
+        return this.createSignatureRequestForSerializedTransaction();
+    }
+
+    /**
+     * Create signature request for the already serialized transaction, resolving the required keys
+     * if they are not set.
+     */
+    @NotNull
+    private ArisenTransactionSignatureRequest createSignatureRequestForSerializedTransaction()
+            throws TransactionCreateSignatureRequestError {
+        ArisenTransactionSignatureRequest arisenTransactionSignatureRequest = this.serializedTransactionBytes != null
+                ? new ArisenTransactionSignatureRequest(
+                this.serializedTransactionBytes,
+                null,
+                this.chainId,
+                null,
+                this.isTransactionModificationAllowed)
+                : new ArisenTransactionSignatureRequest(
                 this.serializedTransaction,
                 null,
                 this.chainId,
@@ -617,7 +922,19 @@ public class TransactionProcessor {
             }
         }
 
-        // 2.Getting required keys by getRequiredKeys() RPC call
+        // 2.Getting required keys from the cache of the session if it has them
+        if (this.requiredKeysCache != null) {
+            List<String> cachedRequiredKeys = this.requiredKeysCache
+                    .get(this.transaction, this.availableKeys);
+            if (cachedRequiredKeys != null) {
+                this.requiredKeys = cachedRequiredKeys;
+                this.isRequiredKeysFromCache = true;
+                arisenTransactionSignatureRequest.setSigningPublicKeys(this.requiredKeys);
+                return arisenTransactionSignatureRequest;
+            }
+        }
+
+        // 3.Getting required keys by getRequiredKeys() RPC call
         try {
             GetRequiredKeysResponse getRequiredKeysResponse = this.rpcProvider
                     .getRequiredKeys(
@@ -637,6 +954,9 @@ public class TransactionProcessor {
             }
 
             this.requiredKeys = backendRequiredKeys;
+            if (this.requiredKeysCache != null) {
+                this.requiredKeysCache.put(this.transaction, this.availableKeys, backendRequiredKeys);
+            }
         } catch (GetRequiredKeysRpcError getRequiredKeysRpcError) {
             throw new TransactionCreateSignatureRequestRpcError(
                     ErrorConstants.TRANSACTION_PROCESSOR_RPC_GET_REQUIRED_KEYS,
@@ -672,7 +992,19 @@ public class TransactionProcessor {
                     signatureProviderError);
         }
 
-        if (Strings.isNullOrEmpty(arisenTransactionSignatureResponse.getSerializeTransaction())) {
+        // Keep the form of the serialized transaction of the request, the other one is only built
+        // when needed
+        boolean isByteSerialized = this.serializedTransactionBytes != null;
+        byte[] signedTransactionBytes = null;
+        String signedTransaction = null;
+        if (isByteSerialized) {
+            signedTransactionBytes = arisenTransactionSignatureResponse.getSerializeTransactionBytes();
+        } else {
+            signedTransaction = arisenTransactionSignatureResponse.getSerializeTransaction();
+        }
+
+        if (isByteSerialized ? signedTransactionBytes == null || signedTransactionBytes.length == 0
+                : Strings.isNullOrEmpty(signedTransaction)) {
             throw new TransactionGetSignatureSigningError(
                     ErrorConstants.TRANSACTION_PROCESSOR_SIGN_TRANSACTION_TRANS_EMPTY_ERROR);
         }
@@ -685,38 +1017,50 @@ public class TransactionProcessor {
         // Store current transaction as original transaction
         this.originalTransaction = this.transaction;
 
-        if (this.serializedTransaction != null
-                && !this.serializedTransaction
-                .equals(arisenTransactionSignatureResponse.getSerializeTransaction())) {
+        boolean isModified = isByteSerialized
+                ? !Arrays.equals(this.serializedTransactionBytes, signedTransactionBytes)
+                : this.serializedTransaction != null && !this.serializedTransaction.equals(signedTransaction);
+        if (isModified) {
             // Throw error if an unmodifiable transaction is modified
             if (!this.isTransactionModificationAllowed) {
                 throw new TransactionGetSignatureNotAllowModifyTransactionError(
                         ErrorConstants.TRANSACTION_IS_NOT_ALLOWED_TOBE_MODIFIED);
             }
 
-            /* Deserialize and update new transaction to the current transaction if it was
-               and modification is allowed.*/
-            String transactionJSON;
+            /* Keep the new transaction packed, it is only decoded to replace the current
+               transaction when needed. Its layout is checked now.*/
             try {
-                transactionJSON = this.serializationProvider
-                        .deserializeTransaction(
-                                arisenTransactionSignatureResponse.getSerializeTransaction());
-                if (transactionJSON == null || transactionJSON.isEmpty()) {
-                    throw new DeserializeTransactionError(
-                            ErrorConstants.TRANSACTION_PROCESSOR_GET_SIGN_DESERIALIZE_TRANS_EMPTY_ERROR);
-                }
-            } catch (DeserializeTransactionError deserializeTransactionError) {
+                this.modifiedTransaction = isByteSerialized
+                        ? new PackedTransaction(signedTransactionBytes)
+                        : PackedTransaction.createFromHex(signedTransaction);
+            } catch (IllegalArgumentException illegalArgumentException) {
+                throw new TransactionGetSignatureDeserializationError(
+                        ErrorConstants.TRANSACTION_PROCESSOR_GET_SIGN_DESERIALIZE_TRANS_ERROR,
+                        illegalArgumentException);
+            }
+
+            // Transaction extensions can't be decoded to the current transaction later
+            if (this.modifiedTransaction.getTransactionExtensionCount() != 0) {
                 throw new TransactionGetSignatureDeserializationError(
                         ErrorConstants.TRANSACTION_PROCESSOR_GET_SIGN_DESERIALIZE_TRANS_ERROR,
-                        deserializeTransactionError);
+                        new IllegalStateException(
+                                ErrorConstants.PACKED_TRANSACTION_EXTENSIONS_NOT_SUPPORTED));
             }
 
-            this.transaction = Utils.getGson(DateFormatter.BACKEND_DATE_PATTERN).fromJson(transactionJSON, Transaction.class);
+            this.transaction = null;
         }
 
         this.signatures = new ArrayList<>();
         this.signatures.addAll(arisenTransactionSignatureResponse.getSignatures());
-        this.serializedTransaction = arisenTransactionSignatureResponse.getSerializeTransaction();
+        if (isByteSerialized) {
+            this.serializedTransactionBytes = signedTransactionBytes;
+            this.serializedTransaction = null;
+            this.transactionId = computeTransactionId(signedTransactionBytes);
+        } else {
+            this.serializedTransaction = signedTransaction;
+            this.transactionId = computeTransactionId(signedTransaction);
+        }
+
         return arisenTransactionSignatureResponse;
     }
 
@@ -740,13 +1084,107 @@ public class TransactionProcessor {
         }
     }
 
+    /**
+     * Push signed transaction to blockchain, retrying with the same request up to
+     * {@link TransactionConfig#getMaxBroadcastRetries()} times.
+     * <p>
+     * Only transient errors are retried, after a delay doubling for each retry: failures without a
+     * response from the chain and chain errors depending on its load.  Other errors are thrown as
+     * is, as the chain would return them again for the same transaction.  The delay is a
+     * {@link Thread#sleep(long)} of the calling thread, which is an executor thread for the
+     * asynchronous and batch APIs.
+     * <p>
+     * A duplicate transaction error on a retry means an earlier attempt was accepted and its
+     * response was lost, so it is reported as a success holding the local transaction id and a null
+     * processed trace.  On the first attempt it means an identical transaction pushed by someone
+     * else ran instead of this one, and it is thrown.
+     *
+     * @param pushTransactionRequest the request
+     * @return Response from chain
+     */
+    @NotNull
+    private PushTransactionResponse pushTransactionWithRetries(
+            PushTransactionRequest pushTransactionRequest) throws TransactionPushTransactionError {
+        int maxRetries = this.transactionConfig.getMaxBroadcastRetries();
+        long retryDelayMillis = this.transactionConfig.getBroadcastRetryDelayMillis();
+        for (int attempt = 0; ; attempt++) {
+            try {
+                return this.pushTransaction(pushTransactionRequest);
+            } catch (TransactionPushTransactionError transactionPushTransactionError) {
+                if (maxRetries <= 0) {
+                    throw transactionPushTransactionError;
+                }
+
+                if (attempt > 0
+                        && ChainErrors.isDuplicateTransaction(transactionPushTransactionError)) {
+                    // An earlier attempt of this processor landed and its response was lost
+                    return new PushTransactionResponse(this.transactionId, null);
+                }
+
+                if (attempt >= maxRetries
+                        || !ChainErrors.isTransient(transactionPushTransactionError)) {
+                    throw transactionPushTransactionError;
+                }
+
+                try {
+                    Thread.sleep(retryDelayMillis);
+                } catch (InterruptedException interruptedException) {
+                    Thread.currentThread().interrupt();
+                    throw transactionPushTransactionError;
+                }
+
+                retryDelayMillis = Math.min(retryDelayMillis * 2,
+                        TransactionConfig.MAX_BROADCAST_RETRY_DELAY_MILLIS);
+            }
+        }
+    }
+
+    /**
+     * Compute the id of a serialized transaction: the sha256 hash of its bytes, in hex.
+     *
+     * @param serializedTransaction the serialized transaction in hex.
+     * @return the transaction id.
+     */
+    @NotNull
+    private static String computeTransactionId(@NotNull String serializedTransaction) {
+        return ByteFormatter.createFromHex(serializedTransaction).sha256().toHex();
+    }
+
+    /**
+     * Compute the id of a serialized transaction: the sha256 hash of its bytes, in hex.
+     *
+     * @param serializedTransaction the serialized transaction.
+     * @return the transaction id.
+     */
+    @NotNull
+    private static String computeTransactionId(@NotNull byte[] serializedTransaction) {
+        return new ByteFormatter(serializedTransaction).sha256().toHex();
+    }
+
+    /**
+     * Whether the serialized transaction is kept as bytes: both the serialization provider and the
+     * signature provider support byte serialization.
+     */
+    private boolean isByteSerializationEnabled() {
+        return this.serializationProvider.isByteSerializationSupported()
+                && this.signatureProvider.isByteSerializationSupported();
+    }
+
+    /**
+     * Whether the transaction is serialized, in hex or as bytes.
+     */
+    private boolean isSerialized() {
+        return (this.serializedTransactionBytes != null && this.serializedTransactionBytes.length > 0)
+                || !Strings.isNullOrEmpty(this.serializedTransaction);
+    }
+
     /**
      * Serialize current transaction
      *
      * @return serialized transaction in Hex
      * @throws TransactionCreateSignatureRequestError thrown if there are any exceptions while serializing transaction:
      *      <br>
-     *          - Exception while cloning transaction for runtime handling. Method used {@link Utils#clone(Serializable)}
+     *          - The transaction has not been initialized.
      *      <br>
      *      Thrown as parent error class for:
      *      <br>
@@ -754,7 +1192,8 @@ public class TransactionProcessor {
      *          ({@link IRPCProvider#getInfo()}) results in an exception
      *      <br>
      *          - {@link TransactionCreateSignatureRequestAbiError}, which is thrown if any error
-     *          occurs while calling {@link IABIProvider#getAbi(String, ARISENName)} to get the ABI
+     *          occurs while calling {@link IABIProvider#getCompiledAbi(String, ARISENName)} or
+     *          {@link IABIProvider#getAbi(String, ARISENName)} to get the ABI
      *          needed to serialize an action
      *      <br>
      *          - {@link TransactionCreateSignatureRequestSerializationError}, which is thrown if
@@ -764,20 +1203,74 @@ public class TransactionProcessor {
      */
     @NotNull
     private String serializeTransaction() throws TransactionCreateSignatureRequestError {
-        Transaction clonedTransaction;
+        String transactionToJSON = this.prepareTransactionForSerialization();
+
+        // Serialize the whole transaction
+        String _serializedTransaction;
         try {
-            clonedTransaction = this.getDeepClone();
-        } catch (IOException e) {
-            throw new TransactionCreateSignatureRequestError(
-                    ErrorConstants.TRANSACTION_PROCESSOR_PREPARE_CLONE_ERROR, e);
-        } catch (ClassNotFoundException e) {
-            throw new TransactionCreateSignatureRequestError(
-                    ErrorConstants.TRANSACTION_PROCESSOR_PREPARE_CLONE_CLASS_NOT_FOUND, e);
+            _serializedTransaction = this.serializationProvider
+                    .serializeTransaction(transactionToJSON);
+            if (_serializedTransaction == null || _serializedTransaction.isEmpty()) {
+                throw new TransactionCreateSignatureRequestSerializationError(
+                        ErrorConstants.TRANSACTION_PROCESSOR_SERIALIZE_TRANSACTION_WORKED_BUT_EMPTY_RESULT);
+            }
+
+            this.transactionId = computeTransactionId(_serializedTransaction);
+
+        } catch (SerializeTransactionError serializeTransactionError) {
+            throw new TransactionCreateSignatureRequestSerializationError(
+                    ErrorConstants.TRANSACTION_PROCESSOR_SERIALIZE_TRANSACTION_ERROR,
+                    serializeTransactionError);
+        }
+
+        return _serializedTransaction;
+    }
+
+    /**
+     * Serialize current transaction to bytes, without converting it to hex.
+     *
+     * @return serialized transaction
+     * @throws TransactionCreateSignatureRequestError thrown in the same conditions as
+     * {@link TransactionProcessor#serializeTransaction()}, with
+     * {@link ISerializationProvider#serializeTransactionToBytes(String)} serializing the whole
+     * transaction.
+     */
+    @NotNull
+    private byte[] serializeTransactionToBytes() throws TransactionCreateSignatureRequestError {
+        String transactionToJSON = this.prepareTransactionForSerialization();
+
+        byte[] _serializedTransaction;
+        try {
+            _serializedTransaction = this.serializationProvider
+                    .serializeTransactionToBytes(transactionToJSON);
+            if (_serializedTransaction == null || _serializedTransaction.length == 0) {
+                throw new TransactionCreateSignatureRequestSerializationError(
+                        ErrorConstants.TRANSACTION_PROCESSOR_SERIALIZE_TRANSACTION_WORKED_BUT_EMPTY_RESULT);
+            }
+
+            this.transactionId = computeTransactionId(_serializedTransaction);
+
+        } catch (SerializeTransactionError serializeTransactionError) {
+            throw new TransactionCreateSignatureRequestSerializationError(
+                    ErrorConstants.TRANSACTION_PROCESSOR_SERIALIZE_TRANSACTION_ERROR,
+                    serializeTransactionError);
         }
 
-        if (clonedTransaction == null) {
+        return _serializedTransaction;
+    }
+
+    /**
+     * Resolve the chain id if needed and serialize the data of each action, replacing the current
+     * transaction by its serialized-actions copy.
+     *
+     * @return the current transaction in JSON, ready to be serialized as a whole.
+     */
+    @NotNull
+    private String prepareTransactionForSerialization() throws TransactionCreateSignatureRequestError {
+        this.decodeModifiedTransaction();
+        if (this.transaction == null) {
             throw new TransactionCreateSignatureRequestError(
-                    ErrorConstants.TRANSACTION_PROCESSOR_PREPARE_CLONE_ERROR);
+                    ErrorConstants.TRANSACTION_PROCESSOR_TRANSACTION_HAS_TO_BE_INITIALIZED);
         }
 
         /* Check for chain id
@@ -793,44 +1286,30 @@ public class TransactionProcessor {
             }
         }
 
-        // Serialize each action of Transaction's actions
-        for (Action action : clonedTransaction.getActions()) {
-            AbiRixSerializationObject actionAbiRixSerializationObject = this.serializeAction(action, this.chainId, this.abiProvider);
-            // !!! Set serialization result to data field of the action
-            action.setData(actionAbiRixSerializationObject.getHex());
-        }
-
-        // Serialize each action of Transaction's context free actions if they exist.
-        if (!clonedTransaction.getContextFreeActions().isEmpty()) {
-            for (Action contextFreeAction : clonedTransaction.getContextFreeActions()) {
-                AbiRixSerializationObject actionAbiRixSerializationObject = this.serializeAction(contextFreeAction, this.chainId, this.abiProvider);
-                // !!! Set serialization result to data field of the contextFreeAction
-                contextFreeAction.setData(actionAbiRixSerializationObject.getHex());
-            }
-        }
+        // Serialize each action of Transaction's actions and context free actions into new Action
+        // instances.  The current transaction and its actions are left untouched, so no deep clone is
+        // needed; the unchanged fields and lists are shared by the serialized copy.
+        List<Action> serializedActions = this.serializeActions(this.transaction.getActions());
+        List<Action> serializedContextFreeActions = this.transaction.getContextFreeActions().isEmpty()
+                ? this.transaction.getContextFreeActions()
+                : this.serializeActions(this.transaction.getContextFreeActions());
+
+        Transaction preparedTransaction = new Transaction(
+                this.transaction.getExpiration(),
+                this.transaction.getRefBlockNum(),
+                this.transaction.getRefBlockPrefix(),
+                this.transaction.getMaxNetUsageWords(),
+                this.transaction.getMaxCpuUsageMs(),
+                this.transaction.getDelaySec(),
+                serializedContextFreeActions,
+                serializedActions,
+                this.transaction.getTransactionExtensions());
 
         // Apply serialized actions to current transaction to be used on getRequiredKeys
         // From now, the current transaction keep serialized actions
-        this.transaction = clonedTransaction;
-
-        // Serialize the whole transaction
-        String _serializedTransaction;
-        try {
-            String clonedTransactionToJSON = Utils.getGson(DateFormatter.BACKEND_DATE_PATTERN).toJson(clonedTransaction);
-            _serializedTransaction = this.serializationProvider
-                    .serializeTransaction(clonedTransactionToJSON);
-            if (_serializedTransaction == null || _serializedTransaction.isEmpty()) {
-                throw new TransactionCreateSignatureRequestSerializationError(
-                        ErrorConstants.TRANSACTION_PROCESSOR_SERIALIZE_TRANSACTION_WORKED_BUT_EMPTY_RESULT);
-            }
-
-        } catch (SerializeTransactionError serializeTransactionError) {
-            throw new TransactionCreateSignatureRequestSerializationError(
-                    ErrorConstants.TRANSACTION_PROCESSOR_SERIALIZE_TRANSACTION_ERROR,
-                    serializeTransactionError);
-        }
+        this.transaction = preparedTransaction;
 
-        return _serializedTransaction;
+        return Utils.getGson(DateFormatter.BACKEND_DATE_PATTERN).toJson(preparedTransaction);
     }
 
     /**
@@ -843,7 +1322,8 @@ public class TransactionProcessor {
      * @throws TransactionCreateSignatureRequestError thrown if there are any exceptions while serializing transaction:
      *      <br>
      *          - {@link TransactionCreateSignatureRequestAbiError}, which is thrown if any error
-     *          occurs while calling {@link IABIProvider#getAbi(String, ARISENName)} to get the ABI
+     *          occurs while calling {@link IABIProvider#getCompiledAbi(String, ARISENName)} or
+     *          {@link IABIProvider#getAbi(String, ARISENName)} to get the ABI
      *          needed to serialize an action
      *      <br>
      *          - {@link TransactionCreateSignatureRequestSerializationError}, which is thrown if
@@ -854,19 +1334,56 @@ public class TransactionProcessor {
     @NotNull
     private AbiRixSerializationObject serializeAction(Action action, String chainId, IABIProvider abiProvider)
             throws TransactionCreateSignatureRequestError {
-        String actionAbiJSON;
+        return this.serializeActionWithAbi(action, this.getActionAbi(action, chainId, abiProvider));
+    }
+
+    /**
+     * Getting the ABI of the contract of an action from {@link IABIProvider}, compiled if the
+     * provider reports {@link IABIProvider#isCompiledAbiSupported()}, in JSON format otherwise.
+     *
+     * @param action - the action.
+     * @param chainId - the chain id.
+     * @param abiProvider - an instance of ABI provider.
+     * @return the ABI of the contract.
+     * @throws TransactionCreateSignatureRequestAbiError thrown if any error occurs while calling
+     * {@link IABIProvider#getCompiledAbi(String, ARISENName)} or
+     * {@link IABIProvider#getAbi(String, ARISENName)}
+     */
+    @NotNull
+    private ContractAbi getActionAbi(Action action, String chainId, IABIProvider abiProvider)
+            throws TransactionCreateSignatureRequestAbiError {
         try {
-            actionAbiJSON = abiProvider
-                    .getAbi(chainId, new ARISENName(action.getAccount()));
-        } catch (GetAbiError getAbiError) {
+            ARISENName account = ARISENName.valueOf(action.getAccount());
+            if (abiProvider.isCompiledAbiSupported()) {
+                return new ContractAbi(abiProvider.getCompiledAbi(chainId, account));
+            }
+
+            return new ContractAbi(abiProvider.getAbi(chainId, account));
+        } catch (GetAbiError | IllegalArgumentException getAbiError) {
             throw new TransactionCreateSignatureRequestAbiError(
                     String.format(ErrorConstants.TRANSACTION_PROCESSOR_GET_ABI_ERROR,
                             action.getAccount()), getAbiError);
         }
+    }
 
-        AbiRixSerializationObject actionAbiRixSerializationObject = new AbiRixSerializationObject(
-                action.getAccount(), action.getName(),
-                null, actionAbiJSON);
+    /**
+     * Serializing an action's JSON data to Hex format with the ABI of its contract by using
+     * {@link ISerializationProvider}
+     *
+     * @param action - input action to serialize.
+     * @param actionAbi - the ABI of the contract of the action.
+     * @return A serialized object from {@link ISerializationProvider} which contains the hex format of the action's JSON data.
+     * @throws TransactionCreateSignatureRequestSerializationError thrown if an exception occurs while
+     * calling {@link ISerializationProvider#serialize(AbiRixSerializationObject)} or the result is empty.
+     */
+    @NotNull
+    private AbiRixSerializationObject serializeActionWithAbi(Action action, ContractAbi actionAbi)
+            throws TransactionCreateSignatureRequestSerializationError {
+        AbiRixSerializationObject actionAbiRixSerializationObject = actionAbi.compiledAbi != null
+                ? new AbiRixSerializationObject(action.getAccount(), action.getName(), null,
+                        actionAbi.compiledAbi)
+                : new AbiRixSerializationObject(action.getAccount(), action.getName(), null,
+                        actionAbi.abiJson);
         actionAbiRixSerializationObject.setHex("");
 
         // !!! At this step, the data field of the action is still in JSON format.
@@ -888,14 +1405,176 @@ public class TransactionProcessor {
     }
 
     /**
-     * Getting deep clone of the transaction
+     * Serialize the data of each input action and return new actions holding the hex data.  The
+     * account, name and authorization of the input actions are shared with the returned ones.
+     * Actions flagged by {@link Action#isDataSerialized()} keep their data as is.
+     *
+     * @param actions - actions with JSON data.
+     * @return actions with hex data, in the same order.
+     * @throws TransactionCreateSignatureRequestError thrown if any action fails to serialize.  See
+     * {@link TransactionProcessor#serializeAction(Action, String, IABIProvider)}
      */
-    private Transaction getDeepClone() throws IOException, ClassNotFoundException {
-        if (this.transaction == null) {
-            return null;
+    @NotNull
+    private List<Action> serializeActions(@NotNull List<Action> actions)
+            throws TransactionCreateSignatureRequestError {
+        if (this.transactionConfig.isParallelActionSerializationEnabled() && actions.size() > 1) {
+            return this.serializeActionsInParallel(actions);
+        }
+
+        List<Action> serializedActions = new ArrayList<>(actions.size());
+        for (Action action : actions) {
+            if (action.isDataSerialized()) {
+                // Data was serialized ahead, for example by an ActionTemplate
+                serializedActions.add(new Action(action.getAccount(), action.getName(),
+                        action.getAuthorization(), action.getData()));
+                continue;
+            }
+
+            AbiRixSerializationObject actionAbiRixSerializationObject = this.serializeAction(action, this.chainId, this.abiProvider);
+            // !!! Set serialization result to data field of the new action
+            serializedActions.add(new Action(action.getAccount(), action.getName(),
+                    action.getAuthorization(), actionAbiRixSerializationObject.getHex()));
+        }
+
+        return serializedActions;
+    }
+
+    /**
+     * Parallel version of {@link TransactionProcessor#serializeActions(List)}.
+     * <p>
+     * The ABI of each distinct contract is fetched once, then the actions are serialized
+     * concurrently on {@link ForkJoinPool#commonPool()}.  If several actions fail, the error of the
+     * first failing action in the input order is thrown, as the sequential serialization would.
+     *
+     * @param actions - actions with JSON data.
+     * @return actions with hex data, in the same order.
+     * @throws TransactionCreateSignatureRequestError thrown if any action fails to serialize.
+     */
+    @NotNull
+    private List<Action> serializeActionsInParallel(@NotNull List<Action> actions)
+            throws TransactionCreateSignatureRequestError {
+        // Resolve the ABI of each distinct contract once, keeping the error of failing ones
+        Map<String, ContractAbi> abis = new HashMap<>();
+        Map<String, TransactionCreateSignatureRequestError> abiErrors = new HashMap<>();
+        for (Action action : actions) {
+            if (action.isDataSerialized() || abis.containsKey(action.getAccount())
+                    || abiErrors.containsKey(action.getAccount())) {
+                continue;
+            }
+
+            try {
+                abis.put(action.getAccount(), this.getActionAbi(action, this.chainId, this.abiProvider));
+            } catch (TransactionCreateSignatureRequestError abiError) {
+                abiErrors.put(action.getAccount(), abiError);
+            }
+        }
+
+        List<CompletableFuture<AbiRixSerializationObject>> tasks = new ArrayList<>(actions.size());
+        for (final Action action : actions) {
+            if (action.isDataSerialized()) {
+                tasks.add(null);
+                continue;
+            }
+
+            final ContractAbi actionAbi = abis.get(action.getAccount());
+            if (actionAbi == null) {
+                tasks.add(null);
+                continue;
+            }
+
+            tasks.add(CompletableFuture.supplyAsync(new Supplier<AbiRixSerializationObject>() {
+                @Override
+                public AbiRixSerializationObject get() {
+                    try {
+                        return serializeActionWithAbi(action, actionAbi);
+                    } catch (TransactionCreateSignatureRequestError serializationError) {
+                        // Unwrapped by CompletableFuture.get() as the cause of ExecutionException
+                        throw new CompletionException(serializationError);
+                    }
+                }
+            }, ForkJoinPool.commonPool()));
+        }
+
+        List<Action> serializedActions = new ArrayList<>(actions.size());
+        for (int i = 0; i < actions.size(); i++) {
+            Action action = actions.get(i);
+            if (action.isDataSerialized()) {
+                serializedActions.add(new Action(action.getAccount(), action.getName(),
+                        action.getAuthorization(), action.getData()));
+                continue;
+            }
+
+            CompletableFuture<AbiRixSerializationObject> task = tasks.get(i);
+            if (task == null) {
+                throw abiErrors.get(action.getAccount());
+            }
+
+            AbiRixSerializationObject actionAbiRixSerializationObject;
+            try {
+                actionAbiRixSerializationObject = task.get();
+            } catch (InterruptedException interruptedException) {
+                Thread.currentThread().interrupt();
+                throw new TransactionCreateSignatureRequestSerializationError(
+                        ErrorConstants.TRANSACTION_PROCESSOR_SERIALIZE_ACTION_INTERRUPTED,
+                        interruptedException);
+            } catch (ExecutionException executionException) {
+                // Rethrow the error of the action as the sequential serialization would
+                Throwable cause = executionException.getCause();
+                if (cause instanceof TransactionCreateSignatureRequestError) {
+                    throw (TransactionCreateSignatureRequestError) cause;
+                } else if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                } else if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+
+                throw new TransactionCreateSignatureRequestSerializationError(
+                        String.format(ErrorConstants.TRANSACTION_PROCESSOR_SERIALIZE_ACTION_ERROR,
+                                action.getAccount()), executionException);
+            }
+
+            serializedActions.add(new Action(action.getAccount(), action.getName(),
+                    action.getAuthorization(), actionAbiRixSerializationObject.getHex()));
+        }
+
+        return serializedActions;
+    }
+
+    /**
+     * Validate the chain id returned by the chain against the chain id of the processor.  The chain id
+     * of the processor is assigned from the chain if it was not provided.
+     *
+     * @param rpcChainId - chain id returned by {@link IRPCProvider#getInfo()}
+     * @throws TransactionPrepareError thrown if both chain ids are empty or they do not match.
+     */
+    private void validateChainId(@Nullable String rpcChainId) throws TransactionPrepareError {
+        if (Strings.isNullOrEmpty(this.chainId)) {
+            if (Strings.isNullOrEmpty(rpcChainId)) {
+                // Throw exception if both provided chain id and RPC chain id are empty
+                throw new TransactionPrepareError(
+                        ErrorConstants.TRANSACTION_PROCESSOR_PREPARE_CHAINID_RPC_EMPTY);
+            }
+
+            // Assign value to chain id only if chain id is not provided and RPC's chain id is valid
+            this.chainId = rpcChainId;
+        } else if (!Strings.isNullOrEmpty(rpcChainId) && !rpcChainId.equals(this.chainId)) {
+            // Throw error if both are not empty but one does not match with another
+            throw new TransactionPrepareError(
+                    String.format(ErrorConstants.TRANSACTION_PROCESSOR_PREPARE_CHAINID_NOT_MATCH,
+                            this.chainId,
+                            rpcChainId));
         }
+    }
 
-        return Utils.clone(this.transaction);
+    /**
+     * Decode the transaction modified by the signature provider, if any, into the current
+     * transaction.
+     */
+    private void decodeModifiedTransaction() {
+        if (this.modifiedTransaction != null) {
+            this.transaction = this.modifiedTransaction.toTransaction();
+            this.modifiedTransaction = null;
+        }
     }
 
     /**
@@ -905,10 +1584,13 @@ public class TransactionProcessor {
      */
     private void finishPreparing(Transaction preparingTransaction) {
         this.transaction = preparingTransaction;
+        this.modifiedTransaction = null;
         // Clear serialized transaction if it was serialized.
         if (!Strings.isNullOrEmpty(this.serializedTransaction)) {
             this.serializedTransaction = "";
         }
+
+        this.serializedTransactionBytes = null;
     }
 
     //endregion
@@ -923,9 +1605,28 @@ public class TransactionProcessor {
      */
     @Nullable
     public Transaction getTransaction() {
+        this.decodeModifiedTransaction();
         return transaction;
     }
 
+    /**
+     * Gets a view of the serialized transaction, decoding its members only when they are accessed.
+     * After the signature provider modified the transaction, this is the modified transaction.
+     *
+     * @return the view of the serialized transaction, null if the transaction is not serialized.
+     * @throws IllegalArgumentException thrown if the serialized transaction is not a valid packed
+     * transaction.
+     */
+    @Nullable
+    public PackedTransaction getPackedTransaction() {
+        if (this.modifiedTransaction != null) {
+            return this.modifiedTransaction;
+        }
+
+        byte[] packedTransaction = this.getSerializedTransactionBytes();
+        return packedTransaction == null ? null : new PackedTransaction(packedTransaction);
+    }
+
     /**
      * Gets Transaction instance that holds the original transaction reference after signature provider
      * returns the signing result.
@@ -961,9 +1662,42 @@ public class TransactionProcessor {
      */
     @Nullable
     public String getSerializedTransaction() {
+        if (serializedTransaction == null && serializedTransactionBytes != null) {
+            serializedTransaction = new ByteFormatter(serializedTransactionBytes).toHex();
+        }
+
         return serializedTransaction;
     }
 
+    /**
+     * Gets serialized version of Transaction as bytes.  It is kept without hex conversion when both
+     * the serialization provider and the signature provider support byte serialization, otherwise it
+     * is decoded from {@link TransactionProcessor#getSerializedTransaction()}.  The returned array is
+     * not a copy and must not be modified.
+     * @return the serialized transaction, null if the transaction is not serialized.
+     */
+    @Nullable
+    public byte[] getSerializedTransactionBytes() {
+        if (serializedTransactionBytes != null) {
+            return serializedTransactionBytes;
+        }
+
+        return Strings.isNullOrEmpty(serializedTransaction) ? null
+                : ByteFormatter.decodeHex(serializedTransaction);
+    }
+
+    /**
+     * Gets the id of the transaction, computed locally as the sha256 hash of the serialized
+     * transaction.  It is known as soon as the transaction is serialized, before it is broadcast, so
+     * a transaction whose broadcast timed out can be looked up on the chain by this id.
+     *
+     * @return the transaction id in hex, null if the transaction has not been serialized yet.
+     */
+    @Nullable
+    public String getTransactionId() {
+        return transactionId;
+    }
+
     /**
      * Gets configuration for Transaction which offers ability to set:
      * <p>
@@ -1027,6 +1761,7 @@ public class TransactionProcessor {
      */
     public void setRequiredKeys(@NotNull List<String> requiredKeys) {
         this.requiredKeys = requiredKeys;
+        this.isRequiredKeysFromCache = false;
     }
 
     /**
@@ -1049,5 +1784,66 @@ public class TransactionProcessor {
         this.isTransactionModificationAllowed = isTransactionModificationAllowed;
     }
 
+    /**
+     * Gets the reference block cache used by {@link TransactionProcessor#prepare(List, List)}.
+     * @return the reference block cache, null if TAPOS values are fetched on every prepare.
+     */
+    @Nullable
+    public ReferenceBlockCache getReferenceBlockCache() {
+        return referenceBlockCache;
+    }
+
+    /**
+     * Sets the reference block cache used by {@link TransactionProcessor#prepare(List, List)}.
+     * <p>
+     * Processors created by {@link TransactionSession} get the cache of the session if it is enabled.
+     * @param referenceBlockCache the reference block cache, null to fetch TAPOS values on every prepare.
+     */
+    public void setReferenceBlockCache(@Nullable ReferenceBlockCache referenceBlockCache) {
+        this.referenceBlockCache = referenceBlockCache;
+    }
+
+    /**
+     * Gets the required keys cache used to sign the transaction.
+     * @return the required keys cache, null if required keys are queried for every transaction.
+     */
+    @Nullable
+    public RequiredKeysCache getRequiredKeysCache() {
+        return requiredKeysCache;
+    }
+
+    /**
+     * Sets the required keys cache used to sign the transaction.
+     * <p>
+     * Processors created by {@link TransactionSession} get the cache of the session if it is enabled.
+     * @param requiredKeysCache the required keys cache, null to query required keys for every transaction.
+     */
+    public void setRequiredKeysCache(@Nullable RequiredKeysCache requiredKeysCache) {
+        this.requiredKeysCache = requiredKeysCache;
+    }
+
     //endregion
+
+    /**
+     * ABI of a contract as returned by the ABI provider: compiled if the provider supports it, in
+     * JSON format otherwise.
+     */
+    private static final class ContractAbi {
+
+        @Nullable
+        private final CompiledAbi compiledAbi;
+
+        @NotNull
+        private final String abiJson;
+
+        ContractAbi(@NotNull CompiledAbi compiledAbi) {
+            this.compiledAbi = compiledAbi;
+            this.abiJson = compiledAbi.getAbiJson();
+        }
+
+        ContractAbi(@NotNull String abiJson) {
+            this.compiledAbi = null;
+            this.abiJson = abiJson;
+        }
+    }
 }
@@ -1,12 +1,27 @@
 package one.block.arisenjava.session;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import one.block.arisenjava.error.ErrorConstants;
+import one.block.arisenjava.error.abiProvider.GetAbiError;
+import one.block.arisenjava.error.session.ActionTemplateError;
 import one.block.arisenjava.error.session.TransactionProcessorConstructorInputError;
 import one.block.arisenjava.interfaces.IABIProvider;
 import one.block.arisenjava.interfaces.IRPCProvider;
 import one.block.arisenjava.interfaces.ISerializationProvider;
 import one.block.arisenjava.interfaces.ISignatureProvider;
+import one.block.arisenjava.models.ARISENName;
+import one.block.arisenjava.models.abi.CompiledAbi;
+import one.block.arisenjava.models.rpcProvider.Action;
 import one.block.arisenjava.models.rpcProvider.Transaction;
+import one.block.arisenjava.models.rpcProvider.TransactionConfig;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Transaction Session class has a factory role for creating {@link TransactionProcessor} object from providers instances
@@ -45,6 +60,22 @@ public class TransactionSession {
     @NotNull
     private ISignatureProvider signatureProvider;
 
+    /**
+     * Reference block cache shared by all {@link TransactionProcessor} objects created by this session.
+     * <br>
+     *     Null unless enabled by {@link TransactionSession#enableReferenceBlockCache(long, TimeUnit)}
+     */
+    @Nullable
+    private ReferenceBlockCache referenceBlockCache;
+
+    /**
+     * Required keys cache shared by all {@link TransactionProcessor} objects created by this session.
+     * <br>
+     *     Null unless enabled by {@link TransactionSession#enableRequiredKeysCache(long, long, TimeUnit)}
+     */
+    @Nullable
+    private RequiredKeysCache requiredKeysCache;
+
     /**
      * Initialize TransactionSession object which acts like a factory to create {@link TransactionProcessor} object from providers instances.
      *
@@ -69,8 +100,12 @@ public class TransactionSession {
      * @return new instance of TransactionProcessor
      */
     public TransactionProcessor getTransactionProcessor() {
-        return new TransactionProcessor(this.serializationProvider, this.rpcProvider,
-                this.abiProvider, this.signatureProvider);
+        TransactionProcessor transactionProcessor = new TransactionProcessor(
+                this.serializationProvider, this.rpcProvider, this.abiProvider,
+                this.signatureProvider);
+        transactionProcessor.setReferenceBlockCache(this.referenceBlockCache);
+        transactionProcessor.setRequiredKeysCache(this.requiredKeysCache);
+        return transactionProcessor;
     }
 
     /**
@@ -81,8 +116,170 @@ public class TransactionSession {
      * @throws TransactionProcessorConstructorInputError thrown if initializing {@link TransactionProcessor} get error.
      */
     public TransactionProcessor getTransactionProcessor(Transaction transaction) throws TransactionProcessorConstructorInputError {
-        return new TransactionProcessor(this.serializationProvider, this.rpcProvider,
-                this.abiProvider, this.signatureProvider, transaction);
+        TransactionProcessor transactionProcessor = new TransactionProcessor(
+                this.serializationProvider, this.rpcProvider, this.abiProvider,
+                this.signatureProvider, transaction);
+        transactionProcessor.setReferenceBlockCache(this.referenceBlockCache);
+        transactionProcessor.setRequiredKeysCache(this.requiredKeysCache);
+        return transactionProcessor;
+    }
+
+    /**
+     * Enable a reference block cache shared by all {@link TransactionProcessor} objects created by
+     * this session from now on, using the default {@link TransactionConfig}.
+     * <br>
+     *     {@link TransactionProcessor#prepare(java.util.List, java.util.List)} then takes expiration,
+     *     refBlockNum and refBlockPrefix from the cache instead of calling getInfo and getBlock for each transaction.
+     *
+     * @param refreshInterval interval between two background refreshes of the cache.
+     * @param timeUnit unit of the refresh interval.
+     * @return the started cache.
+     */
+    @NotNull
+    public ReferenceBlockCache enableReferenceBlockCache(long refreshInterval, @NotNull TimeUnit timeUnit) {
+        return this.enableReferenceBlockCache(new TransactionConfig(), refreshInterval, timeUnit);
+    }
+
+    /**
+     * Enable a reference block cache shared by all {@link TransactionProcessor} objects created by
+     * this session from now on.  A previously enabled cache is stopped and replaced.
+     *
+     * @param transactionConfig configuration used to resolve the reference block, like blocks behind.
+     * @param refreshInterval interval between two background refreshes of the cache.
+     * @param timeUnit unit of the refresh interval.
+     * @return the started cache.
+     */
+    @NotNull
+    public synchronized ReferenceBlockCache enableReferenceBlockCache(
+            @NotNull TransactionConfig transactionConfig, long refreshInterval,
+            @NotNull TimeUnit timeUnit) {
+        this.disableReferenceBlockCache();
+        ReferenceBlockCache cache = new ReferenceBlockCache(this.rpcProvider, transactionConfig,
+                timeUnit.toMillis(refreshInterval));
+        cache.start();
+        this.referenceBlockCache = cache;
+        return cache;
+    }
+
+    /**
+     * Stop and drop the reference block cache of this session.  {@link TransactionProcessor} objects
+     * created afterward fetch TAPOS values on every prepare.
+     */
+    public synchronized void disableReferenceBlockCache() {
+        if (this.referenceBlockCache != null) {
+            this.referenceBlockCache.stop();
+            this.referenceBlockCache = null;
+        }
+    }
+
+    /**
+     * Enable a required keys cache shared by all {@link TransactionProcessor} objects created by this
+     * session from now on.  A previously enabled cache is replaced.
+     * <br>
+     *     Processors then skip the getRequiredKeys RPC call when a transaction with the same
+     *     authorizations was signed with the same available keys within the time to live.
+     *
+     * @param maximumSize maximum number of cached entries.
+     * @param timeToLive time to live of an entry.
+     * @param timeUnit unit of the time to live.
+     * @return the enabled cache.
+     */
+    @NotNull
+    public synchronized RequiredKeysCache enableRequiredKeysCache(long maximumSize,
+            long timeToLive, @NotNull TimeUnit timeUnit) {
+        this.requiredKeysCache = new RequiredKeysCache(maximumSize, timeToLive, timeUnit);
+        return this.requiredKeysCache;
+    }
+
+    /**
+     * Drop the required keys cache of this session.  {@link TransactionProcessor} objects created
+     * afterward query the required keys for every transaction.
+     */
+    public synchronized void disableRequiredKeysCache() {
+        this.requiredKeysCache = null;
+    }
+
+    /**
+     * Submit a batch of independent transactions, one per action list, and wait until all of them
+     * are pushed or failed.
+     * <br>
+     *     Prepare, serialize, sign and push stages of different transactions overlap with the bounded
+     *     concurrency of {@link BatchConfig}.  The input is read lazily, only when fewer than
+     *     {@link BatchConfig#getMaxInFlight()} transactions are in flight.
+     *
+     * @param actionLists action lists to submit, one transaction each.
+     * @param batchConfig configuration of the batch.
+     * @return one result per action list, in input order.
+     * @throws InterruptedException thrown if the calling thread is interrupted while waiting.
+     */
+    @NotNull
+    public List<BatchTransactionResult> submitBatch(@NotNull Iterator<List<Action>> actionLists,
+            @NotNull BatchConfig batchConfig) throws InterruptedException {
+        final List<BatchTransactionResult> results = Collections
+                .synchronizedList(new ArrayList<BatchTransactionResult>());
+        this.submitBatch(actionLists, batchConfig, new Consumer<BatchTransactionResult>() {
+            @Override
+            public void accept(BatchTransactionResult batchTransactionResult) {
+                results.add(batchTransactionResult);
+            }
+        });
+
+        List<BatchTransactionResult> orderedResults = new ArrayList<>(results);
+        Collections.sort(orderedResults, new Comparator<BatchTransactionResult>() {
+            @Override
+            public int compare(BatchTransactionResult first, BatchTransactionResult second) {
+                return Long.compare(first.getIndex(), second.getIndex());
+            }
+        });
+        return orderedResults;
+    }
+
+    /**
+     * Submit a batch of independent transactions, one per action list, and wait until all of them
+     * are pushed or failed.  Results are passed to the listener as soon as each transaction completes,
+     * which allows unbounded inputs without keeping the results in memory.
+     *
+     * @param actionLists action lists to submit, one transaction each.
+     * @param batchConfig configuration of the batch.
+     * @param listener called once per transaction from a pipeline thread.  It has to be thread safe.
+     * @throws InterruptedException thrown if the calling thread is interrupted while waiting.
+     */
+    public void submitBatch(@NotNull Iterator<List<Action>> actionLists,
+            @NotNull BatchConfig batchConfig, @NotNull Consumer<BatchTransactionResult> listener)
+            throws InterruptedException {
+        new BatchPipeline(this, batchConfig).run(actionLists, listener);
+    }
+
+    /**
+     * Compile an {@link ActionTemplate} with the ABI of the contract of the partial action, returned
+     * by the ABI provider of this session.  The ABI is compiled by the provider if it reports
+     * {@link IABIProvider#isCompiledAbiSupported()}, by the template otherwise.
+     *
+     * @param chainId the chain id, used to look up the ABI.
+     * @param partialAction action whose data is a JSON object holding the static fields.
+     * @return the compiled action template.
+     * @throws ActionTemplateError thrown if the ABI can't be fetched or the template fails to compile.
+     * See {@link ActionTemplate#ActionTemplate(ISerializationProvider, CompiledAbi, Action)}
+     */
+    @NotNull
+    public ActionTemplate createActionTemplate(@NotNull String chainId,
+            @NotNull Action partialAction) throws ActionTemplateError {
+        String abiJson = null;
+        CompiledAbi abi = null;
+        try {
+            ARISENName account = ARISENName.valueOf(partialAction.getAccount());
+            if (this.abiProvider.isCompiledAbiSupported()) {
+                abi = this.abiProvider.getCompiledAbi(chainId, account);
+            } else {
+                abiJson = this.abiProvider.getAbi(chainId, account);
+            }
+        } catch (GetAbiError | IllegalArgumentException getAbiError) {
+            throw new ActionTemplateError(String.format(ErrorConstants.ACTION_TEMPLATE_GET_ABI_ERROR,
+                    partialAction.getAccount()), getAbiError);
+        }
+
+        return abi != null ? new ActionTemplate(this.serializationProvider, abi, partialAction)
+                : new ActionTemplate(this.serializationProvider, abiJson, partialAction);
     }
 
     //region getters
@@ -130,5 +327,23 @@ public class TransactionSession {
     public ISignatureProvider getSignatureProvider() {
         return signatureProvider;
     }
+
+    /**
+     * Get reference block cache shared by {@link TransactionProcessor} objects created by this session
+     * @return the reference block cache, null if it is not enabled.
+     */
+    @Nullable
+    public ReferenceBlockCache getReferenceBlockCache() {
+        return referenceBlockCache;
+    }
+
+    /**
+     * Get required keys cache shared by {@link TransactionProcessor} objects created by this session
+     * @return the required keys cache, null if it is not enabled.
+     */
+    @Nullable
+    public RequiredKeysCache getRequiredKeysCache() {
+        return requiredKeysCache;
+    }
     //endregion
 }
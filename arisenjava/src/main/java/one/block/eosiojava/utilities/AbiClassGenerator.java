@@ -0,0 +1,687 @@
+package one.block.arisenjava.utilities;
+
+import com.google.common.base.Strings;
+import com.google.common.io.Files;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import one.block.arisenjava.error.ErrorConstants;
+import one.block.arisenjava.error.abiProvider.CompileAbiError;
+import one.block.arisenjava.error.utilities.AbiClassGeneratorError;
+import one.block.arisenjava.models.abi.AbiField;
+import one.block.arisenjava.models.abi.AbiStruct;
+import one.block.arisenjava.models.abi.CompiledAbi;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Generator of typed Java classes from the ABI of a contract, meant to run at build time.
+ * <p>
+ * One class is generated per struct of the ABI, holding the fields of its base structs first.  Each
+ * class implements {@link one.block.arisenjava.interfaces.IAbiSerializable}: its serialize method
+ * writes every field with the {@link one.block.arisenjava.implementations.AbiBinaryWriter} method of
+ * its type and its static deserialize method reads them back, without JSON, reflection or ABI
+ * lookups.  The class of a struct used by a single action also holds the name of the action and a
+ * toAction method returning a {@link one.block.arisenjava.models.rpcProvider.TypedAction}, which
+ * {@link one.block.arisenjava.session.TransactionProcessor} accepts next to JSON actions.
+ * <p>
+ * ABI types map to Java types as follows: bool to boolean; int8, uint8, int16, uint16, int32 and
+ * varint32 to int; uint32, int64, uint64 and varuint32 to long; float32 and float64 to float and
+ * double; bytes to byte[]; symbol, asset and extended_asset to {@link one.block.arisenjava.models.Symbol},
+ * {@link one.block.arisenjava.models.Asset} and {@link one.block.arisenjava.models.ExtendedAsset};
+ * name, string and the other built-in types to String, in the JSON format of
+ * {@link one.block.arisenjava.implementations.SerializationProviderImpl}; arrays to List; optional
+ * and binary extension types to nullable boxed types.  Variants are not supported.
+ * <p>
+ * The generateAbiClasses Gradle task of the arisenjava module runs {@link AbiClassGenerator#main(String[])}.
+ */
+public final class AbiClassGenerator {
+
+    /**
+     * Maximum nesting of types, which bounds the recursion of circular type aliases.
+     */
+    private static final int MAX_DEPTH = 32;
+
+    private static final String ARRAY_SUFFIX = "[]";
+
+    private static final String OPTIONAL_SUFFIX = "?";
+
+    private static final String BINARY_EXTENSION_SUFFIX = "$";
+
+    private static final String INDENT = "    ";
+
+    /**
+     * Built-in types read and written with a dedicated method: Java type, boxed Java type and suffix
+     * of the reader and writer methods.
+     */
+    private static final Map<String, String[]> PRIMITIVE_TYPES = new HashMap<>();
+
+    static {
+        PRIMITIVE_TYPES.put("bool", new String[]{"boolean", "Boolean", "Bool"});
+        PRIMITIVE_TYPES.put("int8", new String[]{"int", "Integer", "Int8"});
+        PRIMITIVE_TYPES.put("uint8", new String[]{"int", "Integer", "Uint8"});
+        PRIMITIVE_TYPES.put("int16", new String[]{"int", "Integer", "Int16"});
+        PRIMITIVE_TYPES.put("uint16", new String[]{"int", "Integer", "Uint16"});
+        PRIMITIVE_TYPES.put("int32", new String[]{"int", "Integer", "Int32"});
+        PRIMITIVE_TYPES.put("uint32", new String[]{"long", "Long", "Uint32"});
+        PRIMITIVE_TYPES.put("int64", new String[]{"long", "Long", "Int64"});
+        PRIMITIVE_TYPES.put("uint64", new String[]{"long", "Long", "Uint64"});
+        PRIMITIVE_TYPES.put("varint32", new String[]{"int", "Integer", "VarInt32"});
+        PRIMITIVE_TYPES.put("varuint32", new String[]{"long", "Long", "VarUint32"});
+        PRIMITIVE_TYPES.put("float32", new String[]{"float", "Float", "Float32"});
+        PRIMITIVE_TYPES.put("float64", new String[]{"double", "Double", "Float64"});
+        PRIMITIVE_TYPES.put("name", new String[]{"String", "String", "Name"});
+        PRIMITIVE_TYPES.put("string", new String[]{"String", "String", "String"});
+        PRIMITIVE_TYPES.put("bytes", new String[]{"byte[]", "byte[]", "Bytes"});
+        PRIMITIVE_TYPES.put("symbol", new String[]{"Symbol", "Symbol", "Symbol"});
+        PRIMITIVE_TYPES.put("asset", new String[]{"Asset", "Asset", "Asset"});
+        PRIMITIVE_TYPES.put("extended_asset",
+                new String[]{"ExtendedAsset", "ExtendedAsset", "ExtendedAsset"});
+    }
+
+    /**
+     * Built-in types read and written in their string format.
+     */
+    private static final Set<String> STRING_TYPES = new HashSet<>(Arrays.asList("int128",
+            "uint128", "float128", "time_point", "time_point_sec", "block_timestamp_type",
+            "checksum160", "checksum256", "checksum512", "public_key", "private_key", "signature",
+            "symbol_code"));
+
+    /**
+     * Value types of the models package used by the generated classes, imported when used.
+     */
+    private static final List<String> MODEL_TYPES = Arrays.asList("Asset", "ExtendedAsset",
+            "Symbol");
+
+    /**
+     * Java types of the fields which can't be null.
+     */
+    private static final Set<String> JAVA_PRIMITIVE_TYPES = new HashSet<>(Arrays.asList("boolean",
+            "int", "long", "float", "double"));
+
+    /**
+     * Simple names the generated classes can't take, as they are imported or used by them.
+     */
+    private static final Set<String> RESERVED_CLASS_NAMES = new HashSet<>(Arrays.asList(
+            "AbiBinaryReader", "AbiBinaryWriter", "ArrayList", "Asset", "Authorization", "Boolean",
+            "Double", "ExtendedAsset", "Float", "IAbiSerializable", "IllegalArgumentException",
+            "Integer", "List", "Long", "NotNull", "Object", "Override", "String", "Symbol",
+            "TypedAction"));
+
+    private static final Set<String> JAVA_KEYWORDS = new HashSet<>(Arrays.asList("abstract",
+            "assert", "boolean", "break", "byte", "case", "catch", "char", "class", "const",
+            "continue", "default", "do", "double", "else", "enum", "extends", "false", "final",
+            "finally", "float", "for", "goto", "if", "implements", "import", "instanceof", "int",
+            "interface", "long", "native", "new", "null", "package", "private", "protected", "public",
+            "return", "short", "static", "strictfp", "super", "switch", "synchronized", "this",
+            "throw", "throws", "transient", "true", "try", "void", "volatile", "while"));
+
+    /**
+     * Compiled ABI of the contract.
+     */
+    @NotNull
+    private final CompiledAbi abi;
+
+    /**
+     * Package of the generated classes.
+     */
+    @NotNull
+    private final String packageName;
+
+    /**
+     * Generated class name by struct name.
+     */
+    @NotNull
+    private final Map<String, String> classNames = new TreeMap<>();
+
+    /**
+     * Name of the single action of each struct used by exactly one action.
+     */
+    @NotNull
+    private final Map<String, String> actionNames = new HashMap<>();
+
+    /**
+     * Counter making the local variable names of a generated method unique.
+     */
+    private int variableCount;
+
+    /**
+     * Instantiates a new generator for an ABI.
+     *
+     * @param abiJson the ABI in JSON format, as found in the .abi file of a contract.
+     * @param packageName the package of the generated classes.
+     * @throws AbiClassGeneratorError thrown if the ABI is not a valid JSON ABI.
+     */
+    public AbiClassGenerator(@NotNull String abiJson, @NotNull String packageName)
+            throws AbiClassGeneratorError {
+        try {
+            this.abi = CompiledAbi.compile(abiJson);
+        } catch (CompileAbiError compileAbiError) {
+            throw new AbiClassGeneratorError(ErrorConstants.ABI_CLASS_GENERATOR_INVALID_ABI,
+                    compileAbiError);
+        }
+
+        this.packageName = packageName;
+
+        Set<String> usedClassNames = new HashSet<>(RESERVED_CLASS_NAMES);
+        for (String structName : new TreeSet<>(this.abi.getStructNames())) {
+            String className = toIdentifier(structName, true);
+            while (!usedClassNames.add(className)) {
+                className += "Struct";
+            }
+
+            this.classNames.put(structName, className);
+        }
+
+        Map<String, List<String>> structActions = new HashMap<>();
+        for (String actionName : new TreeSet<>(this.abi.getActionNames())) {
+            AbiStruct actionStruct = this.abi.getActionStruct(actionName);
+            if (actionStruct == null) {
+                continue;
+            }
+
+            if (!structActions.containsKey(actionStruct.getName())) {
+                structActions.put(actionStruct.getName(), new ArrayList<String>());
+            }
+
+            structActions.get(actionStruct.getName()).add(actionName);
+        }
+
+        for (Map.Entry<String, List<String>> entry : structActions.entrySet()) {
+            if (entry.getValue().size() == 1) {
+                this.actionNames.put(entry.getKey(), entry.getValue().get(0));
+            }
+        }
+    }
+
+    /**
+     * Generate the source of a class per struct of the ABI.
+     *
+     * @return the source of each class by class name.
+     * @throws AbiClassGeneratorError thrown if a field has a type which is not supported, like a
+     * variant, or is not defined in the ABI.
+     */
+    @NotNull
+    public Map<String, String> generate() throws AbiClassGeneratorError {
+        Map<String, String> sources = new TreeMap<>();
+        for (Map.Entry<String, String> entry : this.classNames.entrySet()) {
+            AbiStruct struct = this.abi.getStruct(entry.getKey());
+            if (struct != null) {
+                sources.put(entry.getValue(), this.generateClass(struct, entry.getValue()));
+            }
+        }
+
+        return sources;
+    }
+
+    /**
+     * Generate a class per struct of the ABI and write them in their package directory.
+     *
+     * @param outputDirectory the root directory of the generated sources.
+     * @throws AbiClassGeneratorError thrown if a field type is not supported or a class can't be
+     * written.
+     */
+    public void generateTo(@NotNull File outputDirectory) throws AbiClassGeneratorError {
+        File packageDirectory = this.packageName.isEmpty() ? outputDirectory
+                : new File(outputDirectory, this.packageName.replace('.', File.separatorChar));
+        for (Map.Entry<String, String> entry : this.generate().entrySet()) {
+            File classFile = new File(packageDirectory, entry.getKey() + ".java");
+            try {
+                Files.createParentDirs(classFile);
+                Files.asCharSink(classFile, StandardCharsets.UTF_8).write(entry.getValue());
+            } catch (IOException ioException) {
+                throw new AbiClassGeneratorError(String.format(
+                        ErrorConstants.ABI_CLASS_GENERATOR_IO_ERROR, classFile), ioException);
+            }
+        }
+    }
+
+    /**
+     * Generate the classes of an ABI file.
+     *
+     * @param args the path of the ABI file in JSON format, the package of the generated classes and
+     * the root directory of the generated sources.
+     * @throws AbiClassGeneratorError thrown if the ABI can't be read, is invalid or has a field type
+     * which is not supported, or a class can't be written.
+     */
+    public static void main(String[] args) throws AbiClassGeneratorError {
+        if (args.length != 3) {
+            throw new IllegalArgumentException(
+                    "Usage: AbiClassGenerator <abi file> <package> <output directory>");
+        }
+
+        File abiFile = new File(args[0]);
+        String abiJson;
+        try {
+            abiJson = Files.asCharSource(abiFile, StandardCharsets.UTF_8).read();
+        } catch (IOException ioException) {
+            throw new AbiClassGeneratorError(String.format(
+                    ErrorConstants.ABI_CLASS_GENERATOR_IO_ERROR, abiFile), ioException);
+        }
+
+        new AbiClassGenerator(abiJson, args[1]).generateTo(new File(args[2]));
+    }
+
+    @NotNull
+    private String generateClass(@NotNull AbiStruct struct, @NotNull String className)
+            throws AbiClassGeneratorError {
+        List<AbiField> fields = struct.getFields();
+        List<String> fieldNames = new ArrayList<>(fields.size());
+        List<String> javaTypes = new ArrayList<>(fields.size());
+        Set<String> usedFieldNames = new HashSet<>();
+        boolean hasList = false;
+        for (AbiField field : fields) {
+            String fieldName = toIdentifier(field.getName(), false);
+            while (!usedFieldNames.add(fieldName)) {
+                fieldName += "_";
+            }
+
+            String javaType = this.getJavaType(field.getType(), false, struct, field, 0);
+            hasList |= javaType.contains("List<");
+            fieldNames.add(fieldName);
+            javaTypes.add(javaType);
+        }
+
+        String actionName = this.actionNames.get(struct.getName());
+        this.variableCount = 0;
+        StringBuilder deserializeBody = new StringBuilder();
+        for (int i = 0; i < fields.size(); i++) {
+            String type = fields.get(i).getType();
+            String target = "result." + fieldNames.get(i);
+            if (type.endsWith(BINARY_EXTENSION_SUFFIX)) {
+                line(deserializeBody, 2, "if (reader.hasRemaining()) {");
+                this.appendRead(deserializeBody, 3, stripSuffix(type, BINARY_EXTENSION_SUFFIX),
+                        target, struct, fields.get(i), 0);
+                line(deserializeBody, 2, "}");
+            } else {
+                this.appendRead(deserializeBody, 2, type, target, struct, fields.get(i), 0);
+            }
+        }
+
+        boolean hasArrayRead = this.variableCount > 0;
+
+        StringBuilder source = new StringBuilder();
+        if (!this.packageName.isEmpty()) {
+            source.append("package ").append(this.packageName).append(";\n\n");
+        }
+
+        if (hasArrayRead) {
+            source.append("import java.util.ArrayList;\n");
+        }
+
+        if (hasList || actionName != null) {
+            source.append("import java.util.List;\n");
+        }
+
+        source.append("import one.block.arisenjava.implementations.AbiBinaryReader;\n");
+        source.append("import one.block.arisenjava.implementations.AbiBinaryWriter;\n");
+        source.append("import one.block.arisenjava.interfaces.IAbiSerializable;\n");
+        for (String modelType : MODEL_TYPES) {
+            for (String javaType : javaTypes) {
+                if (javaType.matches("(.*\\W)?" + modelType + "(\\W.*)?")) {
+                    source.append("import one.block.arisenjava.models.").append(modelType)
+                            .append(";\n");
+                    break;
+                }
+            }
+        }
+
+        if (actionName != null) {
+            source.append("import one.block.arisenjava.models.rpcProvider.Authorization;\n");
+            source.append("import one.block.arisenjava.models.rpcProvider.TypedAction;\n");
+        }
+
+        source.append("import org.jetbrains.annotations.NotNull;\n\n");
+
+        source.append("/**\n");
+        source.append(" * Struct [").append(struct.getName()).append("] of the ABI");
+        if (struct.getBase() != null) {
+            source.append(", with the fields of its base [").append(struct.getBase())
+                    .append("] first");
+        }
+
+        source.append(".\n");
+        source.append(" * <p>\n");
+        source.append(" * Generated by {@link one.block.arisenjava.utilities.AbiClassGenerator}, do not edit.\n");
+        source.append(" */\n");
+        source.append("public class ").append(className).append(" implements IAbiSerializable {\n");
+
+        if (actionName != null) {
+            source.append('\n');
+            line(source, 1, "/**");
+            line(source, 1, " * Name of the action taking this struct as data.");
+            line(source, 1, " */");
+            line(source, 1, "public static final String ACTION_NAME = " + quote(actionName) + ";");
+        }
+
+        for (int i = 0; i < fields.size(); i++) {
+            source.append('\n');
+            line(source, 1, "/**");
+            line(source, 1, " * Field [" + fields.get(i).getName() + "] of type ["
+                    + fields.get(i).getType() + "].");
+            line(source, 1, " */");
+            line(source, 1, "private " + javaTypes.get(i) + " " + fieldNames.get(i) + ";");
+        }
+
+        source.append('\n');
+        line(source, 1, "/**");
+        line(source, 1, " * Instantiates an empty struct, to be filled with the setters.");
+        line(source, 1, " */");
+        line(source, 1, "public " + className + "() {");
+        line(source, 1, "}");
+
+        if (!fields.isEmpty()) {
+            source.append('\n');
+            line(source, 1, "/**");
+            line(source, 1, " * Instantiates a struct with all its fields.");
+            line(source, 1, " *");
+            for (int i = 0; i < fields.size(); i++) {
+                line(source, 1, " * @param " + fieldNames.get(i) + " field ["
+                        + fields.get(i).getName() + "]");
+            }
+
+            line(source, 1, " */");
+            StringBuilder parameters = new StringBuilder();
+            for (int i = 0; i < fields.size(); i++) {
+                parameters.append(i > 0 ? ", " : "").append(javaTypes.get(i)).append(' ')
+                        .append(fieldNames.get(i));
+            }
+
+            line(source, 1, "public " + className + "(" + parameters + ") {");
+            for (String fieldName : fieldNames) {
+                line(source, 2, "this." + fieldName + " = " + fieldName + ";");
+            }
+
+            line(source, 1, "}");
+        }
+
+        for (int i = 0; i < fields.size(); i++) {
+            String fieldName = fieldNames.get(i);
+            String accessorSuffix = Character.toUpperCase(fieldName.charAt(0))
+                    + fieldName.substring(1);
+            source.append('\n');
+            line(source, 1, "public " + javaTypes.get(i) + " get" + accessorSuffix + "() {");
+            line(source, 2, "return " + fieldName + ";");
+            line(source, 1, "}");
+            source.append('\n');
+            line(source, 1, "public void set" + accessorSuffix + "(" + javaTypes.get(i) + " "
+                    + fieldName + ") {");
+            line(source, 2, "this." + fieldName + " = " + fieldName + ";");
+            line(source, 1, "}");
+        }
+
+        source.append('\n');
+        line(source, 1, "@Override");
+        line(source, 1, "public void serialize(@NotNull AbiBinaryWriter writer) {");
+        for (int i = 0; i < fields.size(); i++) {
+            String type = fields.get(i).getType();
+            String expression = "this." + fieldNames.get(i);
+            if (!type.endsWith(BINARY_EXTENSION_SUFFIX)) {
+                this.appendWrite(source, 2, type, expression, struct, fields.get(i), 0);
+                continue;
+            }
+
+            // A missing binary extension field ends the data, no field may follow it
+            line(source, 2, "if (" + expression + " == null) {");
+            for (int j = i + 1; j < fields.size(); j++) {
+                String message = String.format(
+                        ErrorConstants.SERIALIZATION_PROVIDER_FIELD_AFTER_MISSING_EXTENSION,
+                        fields.get(j).getName(), struct.getName());
+                if (!JAVA_PRIMITIVE_TYPES.contains(javaTypes.get(j))) {
+                    line(source, 3, "if (this." + fieldNames.get(j) + " != null) {");
+                    line(source, 4, "throw new IllegalArgumentException(" + quote(message) + ");");
+                    line(source, 3, "}");
+                    source.append('\n');
+                } else {
+                    line(source, 3, "throw new IllegalArgumentException(" + quote(message) + ");");
+                    break;
+                }
+            }
+
+            line(source, 3, "return;");
+            line(source, 2, "}");
+            source.append('\n');
+            this.appendWrite(source, 2, stripSuffix(type, BINARY_EXTENSION_SUFFIX), expression,
+                    struct, fields.get(i), 0);
+        }
+
+        line(source, 1, "}");
+
+        source.append('\n');
+        line(source, 1, "/**");
+        line(source, 1, " * Read a struct from its binary format.");
+        line(source, 1, " *");
+        line(source, 1, " * @param reader the reader of the binary format.");
+        line(source, 1, " * @return the struct.");
+        line(source, 1, " */");
+        line(source, 1, "@NotNull");
+        line(source, 1, "public static " + className + " deserialize(@NotNull AbiBinaryReader reader) {");
+        line(source, 2, className + " result = new " + className + "();");
+        source.append(deserializeBody);
+        line(source, 2, "return result;");
+        line(source, 1, "}");
+
+        if (actionName != null) {
+            source.append('\n');
+            line(source, 1, "/**");
+            line(source, 1, " * Create an action of a contract taking this struct as data.");
+            line(source, 1, " *");
+            line(source, 1, " * @param account the contract account name.");
+            line(source, 1, " * @param authorization the authorization of the action.");
+            line(source, 1, " * @return the action, with its data serialized.");
+            line(source, 1, " */");
+            line(source, 1, "@NotNull");
+            line(source, 1, "public TypedAction toAction(@NotNull String account,");
+            line(source, 3, "@NotNull List<Authorization> authorization) {");
+            line(source, 2, "return new TypedAction(account, ACTION_NAME, authorization, this);");
+            line(source, 1, "}");
+        }
+
+        source.append("}\n");
+        return source.toString();
+    }
+
+    /**
+     * Gets the Java type of an ABI type.
+     */
+    @NotNull
+    private String getJavaType(@NotNull String type, boolean isBoxed, @NotNull AbiStruct struct,
+            @NotNull AbiField field, int depth) throws AbiClassGeneratorError {
+        if (depth > MAX_DEPTH) {
+            throw unsupportedType(type, struct, field);
+        }
+
+        if (type.endsWith(BINARY_EXTENSION_SUFFIX) && depth == 0) {
+            return this.getJavaType(stripSuffix(type, BINARY_EXTENSION_SUFFIX), true, struct, field,
+                    depth + 1);
+        }
+
+        if (type.endsWith(OPTIONAL_SUFFIX)) {
+            return this.getJavaType(stripSuffix(type, OPTIONAL_SUFFIX), true, struct, field,
+                    depth + 1);
+        }
+
+        if (type.endsWith(ARRAY_SUFFIX)) {
+            return "List<" + this.getJavaType(stripSuffix(type, ARRAY_SUFFIX), true, struct, field,
+                    depth + 1) + ">";
+        }
+
+        String resolvedType = this.abi.resolveType(type);
+        if (!resolvedType.equals(type)) {
+            return this.getJavaType(resolvedType, isBoxed, struct, field, depth + 1);
+        }
+
+        String[] primitiveType = PRIMITIVE_TYPES.get(type);
+        if (primitiveType != null) {
+            return isBoxed ? primitiveType[1] : primitiveType[0];
+        }
+
+        if (STRING_TYPES.contains(type)) {
+            return "String";
+        }
+
+        String className = this.classNames.get(type);
+        if (className != null) {
+            return className;
+        }
+
+        throw unsupportedType(type, struct, field);
+    }
+
+    /**
+     * Append the statements writing an expression of an ABI type.
+     */
+    private void appendWrite(@NotNull StringBuilder source, int indent, @NotNull String type,
+            @NotNull String expression, @NotNull AbiStruct struct, @NotNull AbiField field, int depth)
+            throws AbiClassGeneratorError {
+        if (type.endsWith(OPTIONAL_SUFFIX)) {
+            line(source, indent, "if (" + expression + " == null) {");
+            line(source, indent + 1, "writer.writeBool(false);");
+            line(source, indent, "} else {");
+            line(source, indent + 1, "writer.writeBool(true);");
+            this.appendWrite(source, indent + 1, stripSuffix(type, OPTIONAL_SUFFIX), expression,
+                    struct, field, depth + 1);
+            line(source, indent, "}");
+            return;
+        }
+
+        if (type.endsWith(ARRAY_SUFFIX)) {
+            String itemType = stripSuffix(type, ARRAY_SUFFIX);
+            String item = "item" + this.variableCount++;
+            line(source, indent, "writer.writeVarUint32(" + expression + ".size());");
+            line(source, indent, "for (" + this.getJavaType(itemType, true, struct, field, depth + 1)
+                    + " " + item + " : " + expression + ") {");
+            this.appendWrite(source, indent + 1, itemType, item, struct, field, depth + 1);
+            line(source, indent, "}");
+            return;
+        }
+
+        String resolvedType = this.abi.resolveType(type);
+        if (!resolvedType.equals(type)) {
+            this.appendWrite(source, indent, resolvedType, expression, struct, field, depth + 1);
+            return;
+        }
+
+        String[] primitiveType = PRIMITIVE_TYPES.get(type);
+        if (primitiveType != null) {
+            line(source, indent, "writer.write" + primitiveType[2] + "(" + expression + ");");
+        } else if (STRING_TYPES.contains(type)) {
+            line(source, indent, "writer.writeBuiltIn(" + quote(type) + ", " + expression + ");");
+        } else if (this.classNames.containsKey(type)) {
+            line(source, indent, expression + ".serialize(writer);");
+        } else {
+            throw unsupportedType(type, struct, field);
+        }
+    }
+
+    /**
+     * Append the statements reading a value of an ABI type into a target variable or field.
+     */
+    private void appendRead(@NotNull StringBuilder source, int indent, @NotNull String type,
+            @NotNull String target, @NotNull AbiStruct struct, @NotNull AbiField field, int depth)
+            throws AbiClassGeneratorError {
+        if (type.endsWith(OPTIONAL_SUFFIX)) {
+            line(source, indent, "if (reader.readBool()) {");
+            this.appendRead(source, indent + 1, stripSuffix(type, OPTIONAL_SUFFIX), target, struct,
+                    field, depth + 1);
+            line(source, indent, "}");
+            return;
+        }
+
+        if (type.endsWith(ARRAY_SUFFIX)) {
+            String itemType = stripSuffix(type, ARRAY_SUFFIX);
+            String boxedItemType = this.getJavaType(itemType, true, struct, field, depth + 1);
+            int variable = this.variableCount++;
+            String count = "count" + variable;
+            String list = "list" + variable;
+            String index = "i" + variable;
+            String item = "item" + variable;
+            line(source, indent, "long " + count + " = reader.readVarUint32();");
+            line(source, indent, "List<" + boxedItemType + "> " + list + " = new ArrayList<>();");
+            line(source, indent, "for (long " + index + " = 0; " + index + " < " + count + "; "
+                    + index + "++) {");
+            line(source, indent + 1, boxedItemType + " " + item + " = null;");
+            this.appendRead(source, indent + 1, itemType, item, struct, field, depth + 1);
+            line(source, indent + 1, list + ".add(" + item + ");");
+            line(source, indent, "}");
+            line(source, indent, target + " = " + list + ";");
+            return;
+        }
+
+        String resolvedType = this.abi.resolveType(type);
+        if (!resolvedType.equals(type)) {
+            this.appendRead(source, indent, resolvedType, target, struct, field, depth + 1);
+            return;
+        }
+
+        String[] primitiveType = PRIMITIVE_TYPES.get(type);
+        if (primitiveType != null) {
+            line(source, indent, target + " = reader.read" + primitiveType[2] + "();");
+        } else if (STRING_TYPES.contains(type)) {
+            line(source, indent, target + " = reader.readBuiltIn(" + quote(type) + ");");
+        } else if (this.classNames.containsKey(type)) {
+            line(source, indent, target + " = " + this.classNames.get(type) + ".deserialize(reader);");
+        } else {
+            throw unsupportedType(type, struct, field);
+        }
+    }
+
+    /**
+     * Convert an ABI name to a Java identifier: camel case, starting upper case for class names.
+     */
+    @NotNull
+    private static String toIdentifier(@NotNull String name, boolean isClassName) {
+        StringBuilder identifier = new StringBuilder();
+        for (String part : name.split("[^A-Za-z0-9]+")) {
+            if (part.isEmpty()) {
+                continue;
+            }
+
+            boolean isFirst = identifier.length() == 0;
+            char first = isFirst && !isClassName ? Character.toLowerCase(part.charAt(0))
+                    : Character.toUpperCase(part.charAt(0));
+            identifier.append(first).append(part.substring(1));
+        }
+
+        if (identifier.length() == 0 || Character.isDigit(identifier.charAt(0))) {
+            identifier.insert(0, isClassName ? "Struct" : "field");
+        }
+
+        if (JAVA_KEYWORDS.contains(identifier.toString())) {
+            identifier.append('_');
+        }
+
+        return identifier.toString();
+    }
+
+    @NotNull
+    private static String quote(@NotNull String value) {
+        return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+
+    @NotNull
+    private static String stripSuffix(@NotNull String type, @NotNull String suffix) {
+        return type.substring(0, type.length() - suffix.length());
+    }
+
+    private static void line(@NotNull StringBuilder source, int indent, @NotNull String line) {
+        source.append(Strings.repeat(INDENT, indent)).append(line)
+                .append('\n');
+    }
+
+    @NotNull
+    private static AbiClassGeneratorError unsupportedType(@NotNull String type,
+            @NotNull AbiStruct struct, @NotNull AbiField field) {
+        return new AbiClassGeneratorError(String.format(
+                ErrorConstants.ABI_CLASS_GENERATOR_UNSUPPORTED_TYPE, type, field.getName(),
+                struct.getName()));
+    }
+}
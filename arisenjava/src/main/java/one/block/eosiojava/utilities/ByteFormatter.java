@@ -4,22 +4,60 @@
 
 package one.block.arisenjava.utilities;
 
-import com.google.common.base.CharMatcher;
-import com.google.common.base.Strings;
+import static com.google.common.base.Preconditions.checkPositionIndexes;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import one.block.arisenjava.error.ErrorConstants;
 import org.bitcoinj.core.Sha256Hash;
-import org.bouncycastle.util.encoders.Base64;
-import org.bouncycastle.util.encoders.Hex;
 import org.jetbrains.annotations.NotNull;
 
 /**
  * This class provides methods for transforming and formatting byte data to and from different
  * formats in use on the blockchain.
+ * <p>
+ * Its static hex and base64 codecs use lookup tables and can encode into a caller-supplied
+ * {@link StringBuilder} and decode any {@link CharSequence} into a caller-supplied array, so
+ * repeated conversions don't need intermediate arrays or strings.
  */
 public class ByteFormatter {
 
-    private static final int BASE64_PADDING = 4;
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    private static final char[] UPPER_CASE_HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+    private static final char[] BASE64_DIGITS =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/".toCharArray();
     private static final char BASE64_PADDING_CHAR = '=';
 
+    /**
+     * Value in the decoding tables of a character which is not a digit.
+     */
+    private static final byte INVALID_DIGIT = -1;
+
+    /**
+     * Value in the base64 decoding table of the padding and whitespace characters.
+     */
+    private static final byte IGNORED_DIGIT = -2;
+
+    private static final byte[] HEX_VALUES = new byte[128];
+    private static final byte[] BASE64_VALUES = new byte[128];
+
+    static {
+        Arrays.fill(HEX_VALUES, INVALID_DIGIT);
+        for (int i = 0; i < HEX_DIGITS.length; i++) {
+            HEX_VALUES[HEX_DIGITS[i]] = (byte) i;
+            HEX_VALUES[UPPER_CASE_HEX_DIGITS[i]] = (byte) i;
+        }
+
+        Arrays.fill(BASE64_VALUES, INVALID_DIGIT);
+        for (int i = 0; i < BASE64_DIGITS.length; i++) {
+            BASE64_VALUES[BASE64_DIGITS[i]] = (byte) i;
+        }
+
+        for (char ignored : new char[]{BASE64_PADDING_CHAR, ' ', '\t', '\r', '\n'}) {
+            BASE64_VALUES[ignored] = IGNORED_DIGIT;
+        }
+    }
+
     @NotNull
     private byte[] context;
 
@@ -28,23 +66,17 @@ public class ByteFormatter {
     }
 
     /**
-     * Create and initialize a ByteFormatter from a Base64 encoded string.  The Base64 string
-     * will have its padding checked and adjusted if necessary.
+     * Create and initialize a ByteFormatter from a Base64 encoded string.  The string doesn't need
+     * to be padded, see {@link #decodeBase64(CharSequence)}.
      *
      * @param base64String - Base64 encoded string.
      * @return - Initialized ByteFormatter
+     * @throws IllegalArgumentException - if the string is not valid base64.
      */
     public static ByteFormatter createFromBase64(@NotNull String base64String) {
-        // Base64 encoded strings must be an even multiple of 4 if they are handled with padding.
-        // The strings that we get back from the blockchain in the JSON do not follow this
-        // strictly so we have to adjust the string if necessary before decoding.  The padding
-        // character is '='.  So we remove all existing padding characters and then pad the
-        // string to the nearest multiple of 4.
-        String trimmed = CharMatcher.is(BASE64_PADDING_CHAR).removeFrom(base64String);
-        String padded = Strings.padEnd(trimmed,
-                (trimmed.length() + BASE64_PADDING - 1) / BASE64_PADDING * BASE64_PADDING,
-                BASE64_PADDING_CHAR);
-        return new ByteFormatter(Base64.decode(padded));
+        // The strings that we get back from the blockchain in the JSON are not always padded to a
+        // multiple of 4, so the decoder ignores the padding.
+        return new ByteFormatter(decodeBase64(base64String));
     }
 
     /**
@@ -52,18 +84,242 @@ public class ByteFormatter {
      *
      * @param hexString - Hex encoded string.
      * @return - Initialized ByteFormatter
+     * @throws IllegalArgumentException - if the string is not valid hex.
      */
     public static ByteFormatter createFromHex(@NotNull String hexString) {
-        byte[] data = Hex.decode(hexString);
+        byte[] data = decodeHex(hexString);
         return new ByteFormatter(data);
     }
 
+    /**
+     * Create and initialize a ByteFormatter from the remaining bytes of a buffer, without changing
+     * the position of the buffer.
+     *
+     * @param byteBuffer - buffer read from its position to its limit.
+     * @return - Initialized ByteFormatter
+     */
+    public static ByteFormatter createFromByteBuffer(@NotNull ByteBuffer byteBuffer) {
+        ByteBuffer duplicate = byteBuffer.duplicate();
+        byte[] data = new byte[duplicate.remaining()];
+        duplicate.get(data);
+        return new ByteFormatter(data);
+    }
+
+    /**
+     * Encode bytes to a lower case hex string.
+     *
+     * @param data - bytes to encode.
+     * @return - Hex encoded string.
+     */
+    @NotNull
+    public static String encodeHex(@NotNull byte[] data) {
+        StringBuilder hex = new StringBuilder(2 * data.length);
+        appendHex(data, 0, data.length, false, hex);
+        return hex.toString();
+    }
+
+    /**
+     * Encode a range of bytes to hex, appended to a string builder.
+     *
+     * @param data - bytes to encode.
+     * @param offset - start of the range in the bytes.
+     * @param length - length of the range.
+     * @param upperCase - true to encode with upper case digits, false with lower case digits.
+     * @param target - string builder the hex is appended to.
+     * @throws IndexOutOfBoundsException - if the range is not within the bytes.
+     */
+    public static void appendHex(@NotNull byte[] data, int offset, int length, boolean upperCase,
+            @NotNull StringBuilder target) {
+        checkPositionIndexes(offset, offset + length, data.length);
+        char[] digits = upperCase ? UPPER_CASE_HEX_DIGITS : HEX_DIGITS;
+        target.ensureCapacity(target.length() + 2 * length);
+        for (int i = offset; i < offset + length; i++) {
+            target.append(digits[(data[i] >> 4) & 0x0F]).append(digits[data[i] & 0x0F]);
+        }
+    }
+
+    /**
+     * Decode a hex string to bytes.
+     *
+     * @param hex - Hex encoded string, in lower or upper case.
+     * @return - Decoded bytes.
+     * @throws IllegalArgumentException - if the string is not valid hex.
+     */
+    @NotNull
+    public static byte[] decodeHex(@NotNull CharSequence hex) {
+        if (hex.length() % 2 != 0) {
+            throw new IllegalArgumentException(
+                    String.format(ErrorConstants.BYTE_FORMATTER_ODD_HEX_LENGTH, hex.length()));
+        }
+
+        byte[] data = new byte[hex.length() / 2];
+        decodeHex(hex, data, 0);
+        return data;
+    }
+
+    /**
+     * Decode a hex string into a caller-supplied array.
+     *
+     * @param hex - Hex encoded string, in lower or upper case.
+     * @param target - array the bytes are written to.
+     * @param targetOffset - position in the array of the first decoded byte.
+     * @return - Number of bytes written, half the length of the string.
+     * @throws IllegalArgumentException - if the string is not valid hex.
+     * @throws IndexOutOfBoundsException - if the decoded bytes don't fit in the array.
+     */
+    public static int decodeHex(@NotNull CharSequence hex, @NotNull byte[] target,
+            int targetOffset) {
+        int length = hex.length();
+        if (length % 2 != 0) {
+            throw new IllegalArgumentException(
+                    String.format(ErrorConstants.BYTE_FORMATTER_ODD_HEX_LENGTH, length));
+        }
+
+        checkPositionIndexes(targetOffset, targetOffset + length / 2, target.length);
+        for (int i = 0; i < length; i += 2) {
+            int high = digitValue(HEX_VALUES, hex.charAt(i));
+            int low = digitValue(HEX_VALUES, hex.charAt(i + 1));
+            if (high < 0 || low < 0) {
+                throw new IllegalArgumentException(String.format(
+                        ErrorConstants.BYTE_FORMATTER_INVALID_HEX_CHARACTER, high < 0 ? i : i + 1));
+            }
+
+            target[targetOffset + i / 2] = (byte) (high << 4 | low);
+        }
+
+        return length / 2;
+    }
+
+    /**
+     * Encode bytes to a padded base64 string.
+     *
+     * @param data - bytes to encode.
+     * @return - Base64 encoded string.
+     */
+    @NotNull
+    public static String encodeBase64(@NotNull byte[] data) {
+        StringBuilder base64 = new StringBuilder((data.length + 2) / 3 * 4);
+        appendBase64(data, 0, data.length, base64);
+        return base64.toString();
+    }
+
+    /**
+     * Encode a range of bytes to padded base64, appended to a string builder.
+     *
+     * @param data - bytes to encode.
+     * @param offset - start of the range in the bytes.
+     * @param length - length of the range.
+     * @param target - string builder the base64 is appended to.
+     * @throws IndexOutOfBoundsException - if the range is not within the bytes.
+     */
+    public static void appendBase64(@NotNull byte[] data, int offset, int length,
+            @NotNull StringBuilder target) {
+        checkPositionIndexes(offset, offset + length, data.length);
+        target.ensureCapacity(target.length() + (length + 2) / 3 * 4);
+        int end = offset + length;
+        int i = offset;
+        for (; i + 2 < end; i += 3) {
+            int bits = (data[i] & 0xFF) << 16 | (data[i + 1] & 0xFF) << 8 | (data[i + 2] & 0xFF);
+            target.append(BASE64_DIGITS[bits >> 18])
+                    .append(BASE64_DIGITS[(bits >> 12) & 0x3F])
+                    .append(BASE64_DIGITS[(bits >> 6) & 0x3F])
+                    .append(BASE64_DIGITS[bits & 0x3F]);
+        }
+
+        if (i < end) {
+            int bits = (data[i] & 0xFF) << 16 | (i + 1 < end ? (data[i + 1] & 0xFF) << 8 : 0);
+            target.append(BASE64_DIGITS[bits >> 18])
+                    .append(BASE64_DIGITS[(bits >> 12) & 0x3F])
+                    .append(i + 1 < end ? BASE64_DIGITS[(bits >> 6) & 0x3F] : BASE64_PADDING_CHAR)
+                    .append(BASE64_PADDING_CHAR);
+        }
+    }
+
+    /**
+     * Get the number of bytes encoded by a base64 string, to size the array given to
+     * {@link #decodeBase64(CharSequence, byte[], int)}.
+     *
+     * @param base64 - Base64 encoded string, padded or not.
+     * @return - Number of encoded bytes.
+     * @throws IllegalArgumentException - if the string is not valid base64.
+     */
+    public static int decodedBase64Length(@NotNull CharSequence base64) {
+        int digitCount = 0;
+        for (int i = 0; i < base64.length(); i++) {
+            int value = digitValue(BASE64_VALUES, base64.charAt(i));
+            if (value == INVALID_DIGIT) {
+                throw new IllegalArgumentException(String.format(
+                        ErrorConstants.BYTE_FORMATTER_INVALID_BASE64_CHARACTER, i));
+            }
+
+            if (value != IGNORED_DIGIT) {
+                digitCount++;
+            }
+        }
+
+        if (digitCount % 4 == 1) {
+            throw new IllegalArgumentException(ErrorConstants.BYTE_FORMATTER_TRUNCATED_BASE64);
+        }
+
+        return digitCount / 4 * 3 + Math.max(digitCount % 4 - 1, 0);
+    }
+
+    /**
+     * Decode a base64 string to bytes.  The decoding is tolerant: the padding can be missing or
+     * incomplete, and padding characters and whitespace are ignored wherever they are.
+     *
+     * @param base64 - Base64 encoded string, padded or not.
+     * @return - Decoded bytes.
+     * @throws IllegalArgumentException - if the string is not valid base64.
+     */
+    @NotNull
+    public static byte[] decodeBase64(@NotNull CharSequence base64) {
+        byte[] data = new byte[decodedBase64Length(base64)];
+        decodeBase64Unchecked(base64, data, 0);
+        return data;
+    }
+
+    /**
+     * Decode a base64 string into a caller-supplied array, as tolerantly as
+     * {@link #decodeBase64(CharSequence)}.
+     *
+     * @param base64 - Base64 encoded string, padded or not.
+     * @param target - array the bytes are written to.
+     * @param targetOffset - position in the array of the first decoded byte.
+     * @return - Number of bytes written.
+     * @throws IllegalArgumentException - if the string is not valid base64.
+     * @throws IndexOutOfBoundsException - if the decoded bytes don't fit in the array.
+     */
+    public static int decodeBase64(@NotNull CharSequence base64, @NotNull byte[] target,
+            int targetOffset) {
+        int length = decodedBase64Length(base64);
+        checkPositionIndexes(targetOffset, targetOffset + length, target.length);
+        decodeBase64Unchecked(base64, target, targetOffset);
+        return length;
+    }
+
     /**
      * Convert the current ByteFormatter contents to a Hex encoded string and return it.
      * @return - Hex encoded string representation of the current formatter context.
      */
     public String toHex() {
-        return Hex.toHexString(this.context);
+        return encodeHex(this.context);
+    }
+
+    /**
+     * Return a copy of the current ByteFormatter contents.
+     * @return - Bytes of the current formatter context.
+     */
+    public byte[] toBytes() {
+        return this.context.clone();
+    }
+
+    /**
+     * Return a read-only buffer over the current ByteFormatter contents, without copying them.
+     * @return - Read-only buffer of the current formatter context.
+     */
+    public ByteBuffer toByteBuffer() {
+        return ByteBuffer.wrap(this.context).asReadOnlyBuffer();
     }
 
     /**
@@ -75,4 +331,31 @@ public class ByteFormatter {
     public ByteFormatter sha256() {
         return new ByteFormatter(Sha256Hash.hash(this.context));
     }
+
+    /**
+     * Decode a base64 string already checked by {@link #decodedBase64Length(CharSequence)}.
+     */
+    private static void decodeBase64Unchecked(@NotNull CharSequence base64,
+            @NotNull byte[] target, int targetOffset) {
+        int position = targetOffset;
+        int bits = 0;
+        int bitCount = 0;
+        for (int i = 0; i < base64.length(); i++) {
+            int value = BASE64_VALUES[base64.charAt(i)];
+            if (value == IGNORED_DIGIT) {
+                continue;
+            }
+
+            bits = bits << 6 | value;
+            bitCount += 6;
+            if (bitCount >= 8) {
+                bitCount -= 8;
+                target[position++] = (byte) (bits >> bitCount);
+            }
+        }
+    }
+
+    private static int digitValue(@NotNull byte[] values, char character) {
+        return character < values.length ? values[character] : INVALID_DIGIT;
+    }
 }
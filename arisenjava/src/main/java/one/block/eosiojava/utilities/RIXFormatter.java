@@ -610,7 +610,7 @@ public class RIXFormatter {
      * @throws RIXFormatterError if PEM conversion to rix format fails.
      */
     @NotNull
-    public static String convertPEMFormattedPrivateKeyTorixFormat(@NotNull String privateKeyPEM)
+    public static String convertPEMFormattedPrivateKeyToRIXFormat(@NotNull String privateKeyPEM)
             throws RIXFormatterError {
         String rixFormattedPrivateKey = privateKeyPEM;
         AlgorithmEmployed algorithmEmployed;
@@ -642,7 +642,7 @@ public class RIXFormatter {
                     .matches("(?i:.*" + PATTERN_STRING_PEM_SUFFIX_PRIVATE_KEY_SECP256K1 + ".*)")) {
                 algorithmEmployed = AlgorithmEmployed.SECP256K1;
             } else {
-                throw new rixFormatterError(ErrorConstants.INVALID_DER_PRIVATE_KEY);
+                throw new RIXFormatterError(ErrorConstants.INVALID_DER_PRIVATE_KEY);
             }
 
             //Strip away the DER header and footer
@@ -8,12 +8,21 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import one.block.arisenjava.models.rpcProvider.RpcModelTypeAdapterFactory;
 
 /**
  * This class provides generic utility methods
  */
 public class Utils {
 
+    /**
+     * Configured GSON objects by date time pattern.  {@link Gson} is thread safe and caches its type
+     * adapters, so one instance per pattern is shared by every caller.
+     */
+    private static final ConcurrentMap<String, Gson> GSON_BY_DATE_PATTERN = new ConcurrentHashMap<>();
+
     private Utils() {}
 
     /**
@@ -35,14 +44,28 @@ public class Utils {
     }
 
     /**
-     * Getting a GSON object with a date time pattern
+     * Getting a GSON object with a date time pattern.
+     * <p>
+     * The returned instance is shared between calls with the same pattern and uses the streaming
+     * adapters of {@link RpcModelTypeAdapterFactory} for the transaction models.
+     *
      * @param datePattern - input date time pattern
      * @return Configured GSON object with input.
      */
     public static Gson getGson(String datePattern) {
-        return new GsonBuilder()
-                .setDateFormat(datePattern)
-                .disableHtmlEscaping()
-                .create();
+        Gson gson = GSON_BY_DATE_PATTERN.get(datePattern);
+        if (gson == null) {
+            gson = new GsonBuilder()
+                    .setDateFormat(datePattern)
+                    .disableHtmlEscaping()
+                    .registerTypeAdapterFactory(new RpcModelTypeAdapterFactory())
+                    .create();
+            Gson existing = GSON_BY_DATE_PATTERN.putIfAbsent(datePattern, gson);
+            if (existing != null) {
+                gson = existing;
+            }
+        }
+
+        return gson;
     }
 }
@@ -10,14 +10,27 @@ import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.ListeningExecutorService;
 import com.google.common.util.concurrent.MoreExecutors;
 import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import one.block.arisenjava.error.ErrorConstants;
+import one.block.arisenjava.error.abiProvider.GetAbiError;
+import one.block.arisenjava.error.rpcProvider.GetRawAbiRpcError;
 import one.block.arisenjava.implementations.ABIProviderImpl;
+import one.block.arisenjava.implementations.AbiCacheConfig;
+import one.block.arisenjava.implementations.AbiCacheStats;
+import one.block.arisenjava.implementations.AbiFileStore;
+import one.block.arisenjava.implementations.AbiWarmup;
 import one.block.arisenjava.interfaces.IABIProvider;
 import one.block.arisenjava.interfaces.IRPCProvider;
 import one.block.arisenjava.interfaces.ISerializationProvider;
@@ -26,11 +39,15 @@ import static junit.framework.TestCase.*;
 import static org.mockito.Mockito.*;
 
 import one.block.arisenjava.models.ARISENName;
+import one.block.arisenjava.models.AbiFetchResult;
+import one.block.arisenjava.models.abi.CompiledAbi;
 import one.block.arisenjava.models.rpcProvider.request.GetRawAbiRequest;
 import one.block.arisenjava.models.rpcProvider.response.GetRawAbiResponse;
 import org.checkerframework.checker.nullness.compatqual.NullableDecl;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.stubbing.Answer;
 
@@ -42,6 +59,9 @@ public class ABIProviderTest {
     private String arisenTokenAbiJsonString;
     private String chainId;
 
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     @Before
     public void setup() {
 
@@ -50,7 +70,7 @@ public class ABIProviderTest {
         mockRpcProvider = mock(IRPCProvider.class);
         GetRawAbiRequest getRawAbiRequest = new GetRawAbiRequest("arisen.token");
 
-        String getRawAbiarisenTokenJson = "{\n"
+        String getRawAbiArisenTokenJson = "{\n"
                 + "    \"account_name\": \"arisen.token\",\n"
                 + "    \"code_hash\": \"3e0cf4172ab025f9fff5f1db11ee8a34d44779492e1d668ae1dc2d129e865348\",\n"
                 + "    \"abi_hash\": \"43864d5af0fe294d44d19c612036cbe8c098414c4a12a5a7bb0bfe7db1556248\",\n"
@@ -142,12 +162,12 @@ public class ABIProviderTest {
         try {
 
             String testAbiArisenTokenJson = abiProvider
-                    .getAbi(chainId, new ArisenName("arisen.token"));
-            assertEquals(arisenTokenAbiJsonString, testAbiarisenTokenJson);
+                    .getAbi(chainId, new ARISENName("arisen.token"));
+            assertEquals(arisenTokenAbiJsonString, testAbiArisenTokenJson);
 
             String testAbiArisenJson = abiProvider
                     .getAbi(chainId, new ARISENName("arisen"));
-            assertEquals(arisenAbiJsonString, testAbiarisenJson);
+            assertEquals(arisenAbiJsonString, testAbiArisenJson);
 
         } catch (Exception ex) {
             fail("ABI provider should not throw error: " + ex.getLocalizedMessage());
@@ -164,7 +184,7 @@ public class ABIProviderTest {
         } catch (Exception ex) {
             assertEquals("Error retrieving ABI from the chain.", ex.getLocalizedMessage());
             assertNotNull(ex.getCause());
-            assertEquals("unable to decode base64 string: invalid characters encountered in base64 data", ex.getCause().getLocalizedMessage());
+            assertEquals(String.format(ErrorConstants.BYTE_FORMATTER_INVALID_BASE64_CHARACTER, 0), ex.getCause().getLocalizedMessage());
             return;
         }
     }
@@ -203,7 +223,7 @@ public class ABIProviderTest {
     public void testGetAbis() {
         IABIProvider abiProvider = new ABIProviderImpl(mockRpcProvider, mockSerializationProvider);
         try {
-            List<ARISENBName> account_names = Arrays.asList(new ARISENName("arisen"),
+            List<ARISENName> account_names = Arrays.asList(new ARISENName("arisen"),
                     new ARISENName("arisen.token"));
             Map<String, String> accounts = abiProvider.getAbis(chainId, account_names);
             assertNotNull(accounts);
@@ -216,6 +236,441 @@ public class ABIProviderTest {
         }
     }
 
+    @Test
+    public void testGetAbiCacheStats() {
+        ABIProviderImpl abiProvider = new ABIProviderImpl(mockRpcProvider, mockSerializationProvider);
+        try {
+            abiProvider.getAbi(chainId, new ARISENName("arisen.token"));
+            abiProvider.getAbi(chainId, new ARISENName("arisen.token"));
+            verify(mockRpcProvider, times(1)).getRawAbi(any(GetRawAbiRequest.class));
+        } catch (Exception ex) {
+            fail("ABI provider should not throw error: " + ex.getLocalizedMessage());
+        }
+
+        AbiCacheStats abiCacheStats = abiProvider.getAbiCacheStats();
+        assertEquals(1, abiCacheStats.getHitCount());
+        assertEquals(1, abiCacheStats.getMissCount());
+        assertEquals(0, abiCacheStats.getEvictionCount());
+        assertEquals(1, abiCacheStats.getEntryCount());
+        assertEquals(2L * (chainId.length() + arisenTokenAbiJsonString.length()) + 8,
+                abiCacheStats.getEstimatedBytes());
+
+        abiProvider.invalidateAbiCache();
+        assertEquals(0, abiProvider.getAbiCacheStats().getEntryCount());
+    }
+
+    @Test
+    public void testGetAbiWithBoundedCache() {
+        AbiCacheConfig abiCacheConfig = new AbiCacheConfig();
+        abiCacheConfig.setMaximumEntries(1);
+        ABIProviderImpl abiProvider = new ABIProviderImpl(mockRpcProvider, mockSerializationProvider,
+                abiCacheConfig);
+        try {
+            abiProvider.getAbi(chainId, new ARISENName("arisen"));
+            abiProvider.getAbi(chainId, new ARISENName("arisen.token"));
+            // The least recently used ABI was evicted and is fetched again
+            assertEquals(arisenAbiJsonString, abiProvider.getAbi(chainId, new ARISENName("arisen")));
+            verify(mockRpcProvider, times(3)).getRawAbi(any(GetRawAbiRequest.class));
+        } catch (Exception ex) {
+            fail("ABI provider should not throw error: " + ex.getLocalizedMessage());
+        }
+
+        assertEquals(2, abiProvider.getAbiCacheStats().getEvictionCount());
+        assertEquals(1, abiProvider.getAbiCacheStats().getEntryCount());
+    }
+
+    @Test
+    public void testGetAbiWithMemoryBoundedCache() {
+        AbiCacheConfig abiCacheConfig = new AbiCacheConfig();
+        abiCacheConfig.setMaximumBytes(
+                2L * ((chainId + "arisen.token").length() + arisenTokenAbiJsonString.length()));
+        ABIProviderImpl abiProvider = new ABIProviderImpl(mockRpcProvider, mockSerializationProvider,
+                abiCacheConfig);
+        try {
+            abiProvider.getAbi(chainId, new ARISENName("arisen.token"));
+            assertEquals(1, abiProvider.getAbiCacheStats().getEntryCount());
+            // The system contract ABI is bigger than the bound, nothing else fits
+            abiProvider.getAbi(chainId, new ARISENName("arisen"));
+        } catch (Exception ex) {
+            fail("ABI provider should not throw error: " + ex.getLocalizedMessage());
+        }
+
+        assertTrue(abiProvider.getAbiCacheStats().getEstimatedBytes() <= abiCacheConfig.getMaximumBytes());
+        assertTrue(abiProvider.getAbiCacheStats().getEvictionCount() >= 1);
+    }
+
+    @Test
+    public void testInvalidAbiCacheConfig() {
+        AbiCacheConfig abiCacheConfig = new AbiCacheConfig();
+        abiCacheConfig.setMaximumEntries(10);
+        abiCacheConfig.setMaximumBytes(1024);
+        try {
+            new ABIProviderImpl(mockRpcProvider, mockSerializationProvider, abiCacheConfig);
+            fail("Should throw an error because the cache is bounded by entries and bytes.");
+        } catch (IllegalArgumentException ex) {
+            assertEquals(ErrorConstants.ABI_CACHE_INVALID_CONFIG, ex.getMessage());
+        }
+    }
+
+    @Test
+    public void testGetAbiSharesConcurrentFetch() throws Exception {
+        final CountDownLatch fetchStarted = new CountDownLatch(1);
+        final CountDownLatch releaseFetch = new CountDownLatch(1);
+        final GetRawAbiResponse getRawAbiResponse = mockRpcProvider
+                .getRawAbi(new GetRawAbiRequest("arisen.token"));
+        IRPCProvider slowRpcProvider = mock(IRPCProvider.class);
+        when(slowRpcProvider.getRawAbi(any(GetRawAbiRequest.class))).thenAnswer(
+                new Answer<GetRawAbiResponse>() {
+                    @Override
+                    public GetRawAbiResponse answer(InvocationOnMock invocation) throws Throwable {
+                        fetchStarted.countDown();
+                        releaseFetch.await(2000, TimeUnit.MILLISECONDS);
+                        return getRawAbiResponse;
+                    }
+                });
+
+        final ABIProviderImpl abiProvider = new ABIProviderImpl(slowRpcProvider, mockSerializationProvider);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(new Callable<String>() {
+                    @Override
+                    public String call() throws Exception {
+                        return abiProvider.getAbi(chainId, new ARISENName("arisen.token"));
+                    }
+                }));
+            }
+
+            assertTrue(fetchStarted.await(2000, TimeUnit.MILLISECONDS));
+            // Let the other callers reach the in-flight fetch before it completes
+            Thread.sleep(100);
+            releaseFetch.countDown();
+
+            for (Future<String> future : futures) {
+                assertEquals(arisenTokenAbiJsonString, future.get(2000, TimeUnit.MILLISECONDS));
+            }
+
+            verify(slowRpcProvider, times(1)).getRawAbi(any(GetRawAbiRequest.class));
+            verify(mockSerializationProvider, times(1)).deserializeAbi(any(String.class));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testGetAbiDoesNotCacheFailedFetch() throws Exception {
+        final GetRawAbiResponse getRawAbiResponse = mockRpcProvider
+                .getRawAbi(new GetRawAbiRequest("arisen.token"));
+        IRPCProvider failingOnceRpcProvider = mock(IRPCProvider.class);
+        when(failingOnceRpcProvider.getRawAbi(any(GetRawAbiRequest.class)))
+                .thenThrow(new GetRawAbiRpcError("Connection reset"))
+                .thenReturn(getRawAbiResponse);
+
+        ABIProviderImpl abiProvider = new ABIProviderImpl(failingOnceRpcProvider, mockSerializationProvider);
+        try {
+            abiProvider.getAbi(chainId, new ARISENName("arisen.token"));
+            fail("Should throw an error because the RPC call failed.");
+        } catch (GetAbiError getAbiError) {
+            assertEquals(ErrorConstants.ERROR_RETRIEVING_ABI, getAbiError.getMessage());
+            assertEquals("Connection reset", getAbiError.getCause().getMessage());
+        }
+
+        assertEquals(arisenTokenAbiJsonString, abiProvider.getAbi(chainId, new ARISENName("arisen.token")));
+        verify(failingOnceRpcProvider, times(2)).getRawAbi(any(GetRawAbiRequest.class));
+    }
+
+    @Test
+    public void testGetAbisFetchesConcurrently() throws Exception {
+        final CountDownLatch fetchesStarted = new CountDownLatch(2);
+        IRPCProvider slowRpcProvider = mock(IRPCProvider.class);
+        when(slowRpcProvider.getRawAbi(any(GetRawAbiRequest.class))).thenAnswer(
+                new Answer<GetRawAbiResponse>() {
+                    @Override
+                    public GetRawAbiResponse answer(InvocationOnMock invocation) throws Throwable {
+                        // Each fetch only completes once both are running
+                        fetchesStarted.countDown();
+                        assertTrue(fetchesStarted.await(2000, TimeUnit.MILLISECONDS));
+                        return mockRpcProvider.getRawAbi((GetRawAbiRequest) invocation.getArgument(0));
+                    }
+                });
+
+        ABIProviderImpl abiProvider = new ABIProviderImpl(slowRpcProvider, mockSerializationProvider);
+        Map<String, String> abis = abiProvider.getAbis(chainId, Arrays.asList(
+                new ARISENName("arisen"), new ARISENName("arisen.token"), new ARISENName("arisen")));
+
+        assertEquals(2, abis.size());
+        assertEquals(arisenAbiJsonString, abis.get("arisen"));
+        assertEquals(arisenTokenAbiJsonString, abis.get("arisen.token"));
+        verify(slowRpcProvider, times(2)).getRawAbi(any(GetRawAbiRequest.class));
+    }
+
+    @Test
+    public void testGetAbisWithDeadline() throws Exception {
+        final CountDownLatch releaseFetch = new CountDownLatch(1);
+        IRPCProvider slowRpcProvider = mock(IRPCProvider.class);
+        when(slowRpcProvider.getRawAbi(any(GetRawAbiRequest.class))).thenAnswer(
+                new Answer<GetRawAbiResponse>() {
+                    @Override
+                    public GetRawAbiResponse answer(InvocationOnMock invocation) throws Throwable {
+                        GetRawAbiRequest request = (GetRawAbiRequest) invocation.getArgument(0);
+                        if (request.getAccountName().equals("arisen")) {
+                            releaseFetch.await(2000, TimeUnit.MILLISECONDS);
+                        }
+                        return mockRpcProvider.getRawAbi(request);
+                    }
+                });
+
+        ABIProviderImpl abiProvider = new ABIProviderImpl(slowRpcProvider, mockSerializationProvider);
+        try {
+            AbiFetchResult result = abiProvider.getAbis(chainId, Arrays.asList(
+                    new ARISENName("arisen"), new ARISENName("arisen.token")),
+                    200, TimeUnit.MILLISECONDS);
+
+            assertFalse(result.isComplete());
+            assertEquals(1, result.getAbis().size());
+            assertEquals(arisenTokenAbiJsonString, result.getAbis().get("arisen.token"));
+            assertEquals(String.format(ErrorConstants.ABI_FETCH_DEADLINE_EXCEEDED, "arisen"),
+                    result.getError("arisen").getMessage());
+        } finally {
+            releaseFetch.countDown();
+        }
+    }
+
+    @Test
+    public void testGetAbisReportsErrorsByAccount() {
+        ABIProviderImpl abiProvider = new ABIProviderImpl(mockRpcProvider, mockSerializationProvider);
+        AbiFetchResult result = abiProvider.getAbis(chainId, Arrays.asList(
+                new ARISENName("arisen.bad"), new ARISENName("arisen.token")),
+                2000, TimeUnit.MILLISECONDS);
+
+        assertFalse(result.isComplete());
+        assertEquals(arisenTokenAbiJsonString, result.getAbis().get("arisen.token"));
+        assertEquals(ErrorConstants.ERROR_RETRIEVING_ABI, result.getError("arisen.bad").getMessage());
+
+        try {
+            abiProvider.getAbis(chainId, Arrays.asList(new ARISENName("arisen.token"),
+                    new ARISENName("arisen.bad")));
+            fail("Should throw an error because the ABI of arisen.bad can't be retrieved.");
+        } catch (GetAbiError getAbiError) {
+            assertEquals(ErrorConstants.ERROR_RETRIEVING_ABI, getAbiError.getMessage());
+        }
+    }
+
+    @Test
+    public void testInvalidMaxConcurrentAbiFetches() {
+        ABIProviderImpl abiProvider = new ABIProviderImpl(mockRpcProvider, mockSerializationProvider);
+        try {
+            abiProvider.setMaxConcurrentAbiFetches(0);
+            fail("Should throw an error because the maximum number of fetches is not positive.");
+        } catch (IllegalArgumentException illegalArgumentException) {
+            assertEquals(ErrorConstants.ABI_INVALID_MAX_CONCURRENT_FETCHES,
+                    illegalArgumentException.getMessage());
+        }
+    }
+
+    @Test
+    public void testGetCompiledAbiIsCached() throws Exception {
+        ABIProviderImpl abiProvider = new ABIProviderImpl(mockRpcProvider, mockSerializationProvider);
+        CompiledAbi compiledAbi = abiProvider.getCompiledAbi(chainId, new ARISENName("arisen.token"));
+        assertEquals(arisenTokenAbiJsonString, compiledAbi.getAbiJson());
+        assertEquals(4, compiledAbi.getActionStruct("transfer").getFields().size());
+        assertSame(compiledAbi, abiProvider.getCompiledAbi(chainId, new ARISENName("arisen.token")));
+
+        // The compiled ABI goes with its cache entry
+        abiProvider.invalidateAbiCache();
+        assertNotSame(compiledAbi, abiProvider.getCompiledAbi(chainId, new ARISENName("arisen.token")));
+        verify(mockSerializationProvider, times(2)).deserializeAbi(any(String.class));
+    }
+
+    @Test
+    public void testWarmUp() throws Exception {
+        ABIProviderImpl abiProvider = new ABIProviderImpl(mockRpcProvider, mockSerializationProvider);
+        AbiWarmup abiWarmup = abiProvider.warmUp(chainId, Arrays.asList(new ARISENName("arisen"),
+                new ARISENName("arisen.token"), new ARISENName("arisen")));
+
+        assertTrue(abiWarmup.awaitDone(2000, TimeUnit.MILLISECONDS));
+        assertTrue(abiWarmup.isDone());
+        assertTrue(abiWarmup.isReady());
+        assertEquals(2, abiWarmup.getAccountCount());
+        assertEquals(arisenAbiJsonString, abiWarmup.getResult().getAbis().get("arisen"));
+
+        // Warmed up ABIs are served compiled from the cache
+        abiProvider.getCompiledAbi(chainId, new ARISENName("arisen.token"));
+        verify(mockRpcProvider, times(2)).getRawAbi(any(GetRawAbiRequest.class));
+        assertEquals(2, abiProvider.getAbiCacheStats().getMissCount());
+    }
+
+    @Test
+    public void testWarmUpWithFailedAccount() {
+        ABIProviderImpl abiProvider = new ABIProviderImpl(mockRpcProvider, mockSerializationProvider);
+        abiProvider.setAbiFetchExecutor(MoreExecutors.directExecutor());
+        AbiWarmup abiWarmup = abiProvider.warmUp(chainId, Arrays.asList(
+                new ARISENName("arisen.token"), new ARISENName("arisen.bad")));
+
+        assertTrue(abiWarmup.isDone());
+        assertFalse(abiWarmup.isReady());
+        assertEquals(arisenTokenAbiJsonString, abiWarmup.getResult().getAbis().get("arisen.token"));
+        assertEquals(ErrorConstants.ERROR_RETRIEVING_ABI,
+                abiWarmup.getResult().getError("arisen.bad").getMessage());
+
+        assertTrue(abiProvider.warmUp(chainId, new ArrayList<ARISENName>()).isReady());
+    }
+
+    @Test
+    public void testGetAbiFromStoreAfterRestart() throws Exception {
+        AbiCacheConfig abiCacheConfig = new AbiCacheConfig();
+        abiCacheConfig.setStoreFile(temporaryFolder.newFile());
+        ABIProviderImpl abiProvider = new ABIProviderImpl(mockRpcProvider, mockSerializationProvider,
+                abiCacheConfig);
+        assertEquals(arisenTokenAbiJsonString, abiProvider.getAbi(chainId, new ARISENName("arisen.token")));
+
+        // A new provider on the same store file doesn't call the chain
+        IRPCProvider restartedRpcProvider = mock(IRPCProvider.class);
+        ABIProviderImpl restartedAbiProvider = new ABIProviderImpl(restartedRpcProvider,
+                mockSerializationProvider, abiCacheConfig);
+        assertEquals(arisenTokenAbiJsonString,
+                restartedAbiProvider.getAbi(chainId, new ARISENName("arisen.token")));
+        verify(restartedRpcProvider, never()).getRawAbi(any(GetRawAbiRequest.class));
+
+        // ABIs are stored by chain id
+        assertEquals(arisenTokenAbiJsonString, new ABIProviderImpl(mockRpcProvider,
+                mockSerializationProvider, abiCacheConfig)
+                .getAbi("otherchain", new ARISENName("arisen.token")));
+    }
+
+    @Test
+    public void testGetAbiIgnoresCorruptedStore() throws Exception {
+        File storeFile = temporaryFolder.newFile();
+        new AbiFileStore(storeFile).writeAbi(chainId, "arisen.token",
+                "43864d5af0fe294d44d19c612036cbe8c098414c4a12a5a7bb0bfe7db1556248", new byte[]{1, 2, 3});
+
+        AbiCacheConfig abiCacheConfig = new AbiCacheConfig();
+        abiCacheConfig.setStoreFile(storeFile);
+        ABIProviderImpl abiProvider = new ABIProviderImpl(mockRpcProvider, mockSerializationProvider,
+                abiCacheConfig);
+        assertEquals(arisenTokenAbiJsonString, abiProvider.getAbi(chainId, new ARISENName("arisen.token")));
+        verify(mockRpcProvider, times(1)).getRawAbi(any(GetRawAbiRequest.class));
+
+        // The verified ABI fetched from the chain replaces the corrupted one
+        IRPCProvider restartedRpcProvider = mock(IRPCProvider.class);
+        assertEquals(arisenTokenAbiJsonString, new ABIProviderImpl(restartedRpcProvider,
+                mockSerializationProvider, abiCacheConfig)
+                .getAbi(chainId, new ARISENName("arisen.token")));
+        verify(restartedRpcProvider, never()).getRawAbi(any(GetRawAbiRequest.class));
+    }
+
+    @Test
+    public void testAbiFileStoreDropsTruncatedRecord() throws Exception {
+        File storeFile = temporaryFolder.newFile();
+        AbiFileStore abiStore = new AbiFileStore(storeFile);
+        abiStore.writeAbi(chainId, "arisen", "0a", new byte[]{1, 2, 3});
+        abiStore.writeAbi(chainId, "arisen.token", "0b", new byte[]{4, 5, 6});
+        abiStore.writeAbi(chainId, "arisen", "0c", new byte[]{7, 8});
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(storeFile, "rw")) {
+            randomAccessFile.setLength(randomAccessFile.length() - 1);
+        }
+
+        AbiFileStore reopenedAbiStore = new AbiFileStore(storeFile);
+        assertEquals("0a", reopenedAbiStore.getAbiHash(chainId, "arisen"));
+        assertTrue(Arrays.equals(new byte[]{1, 2, 3}, reopenedAbiStore.readAbi(chainId, "arisen")));
+        assertTrue(Arrays.equals(new byte[]{4, 5, 6}, reopenedAbiStore.readAbi(chainId, "arisen.token")));
+        assertNull(reopenedAbiStore.readAbi(chainId, "blank"));
+
+        reopenedAbiStore.writeAbi(chainId, "arisen", "0d", new byte[]{9});
+        assertTrue(Arrays.equals(new byte[]{9}, new AbiFileStore(storeFile).readAbi(chainId, "arisen")));
+    }
+
+    @Test
+    public void testRevalidationKeepsAbiWithUnchangedHash() throws Exception {
+        final GetRawAbiResponse getRawAbiResponse = mockRpcProvider
+                .getRawAbi(new GetRawAbiRequest("arisen.token"));
+        final List<String> requestedAbiHashes = new ArrayList<>();
+        IRPCProvider revalidatingRpcProvider = mock(IRPCProvider.class);
+        when(revalidatingRpcProvider.getRawAbi(any(GetRawAbiRequest.class))).thenAnswer(
+                new Answer<GetRawAbiResponse>() {
+                    @Override
+                    public GetRawAbiResponse answer(InvocationOnMock invocation) throws Throwable {
+                        GetRawAbiRequest request = (GetRawAbiRequest) invocation.getArgument(0);
+                        requestedAbiHashes.add(request.getAbiHash());
+                        // The node omits the ABI when the requested hash matches
+                        return request.getAbiHash() == null ? getRawAbiResponse
+                                : rawAbiResponse("arisen.token", getRawAbiResponse.getAbiHash(), null);
+                    }
+                });
+
+        AbiCacheConfig abiCacheConfig = new AbiCacheConfig();
+        abiCacheConfig.setRevalidationIntervalMillis(200);
+        ABIProviderImpl abiProvider = new ABIProviderImpl(revalidatingRpcProvider,
+                mockSerializationProvider, abiCacheConfig);
+        abiProvider.setAbiFetchExecutor(MoreExecutors.directExecutor());
+
+        assertEquals(arisenTokenAbiJsonString, abiProvider.getAbi(chainId, new ARISENName("arisen.token")));
+        Thread.sleep(250);
+        assertEquals(arisenTokenAbiJsonString, abiProvider.getAbi(chainId, new ARISENName("arisen.token")));
+        assertEquals(arisenTokenAbiJsonString, abiProvider.getAbi(chainId, new ARISENName("arisen.token")));
+
+        assertEquals(Arrays.asList(null, getRawAbiResponse.getAbiHash()), requestedAbiHashes);
+        verify(mockSerializationProvider, times(1)).deserializeAbi(any(String.class));
+        assertEquals(1, abiProvider.getAbiCacheStats().getMissCount());
+    }
+
+    @Test
+    public void testRevalidationReplacesChangedAbi() throws Exception {
+        final GetRawAbiResponse getRawAbiResponse = mockRpcProvider
+                .getRawAbi(new GetRawAbiRequest("arisen.token"));
+        GetRawAbiResponse upgradedAbiResponse = mockRpcProvider
+                .getRawAbi(new GetRawAbiRequest("arisen"));
+        IRPCProvider revalidatingRpcProvider = mock(IRPCProvider.class);
+        when(revalidatingRpcProvider.getRawAbi(any(GetRawAbiRequest.class)))
+                .thenReturn(getRawAbiResponse)
+                .thenReturn(rawAbiResponse("arisen.token", upgradedAbiResponse.getAbiHash(),
+                        upgradedAbiResponse.getAbi()));
+
+        AbiCacheConfig abiCacheConfig = new AbiCacheConfig();
+        abiCacheConfig.setRevalidationIntervalMillis(200);
+        ABIProviderImpl abiProvider = new ABIProviderImpl(revalidatingRpcProvider,
+                mockSerializationProvider, abiCacheConfig);
+        abiProvider.setAbiFetchExecutor(MoreExecutors.directExecutor());
+
+        assertEquals(arisenTokenAbiJsonString, abiProvider.getAbi(chainId, new ARISENName("arisen.token")));
+        Thread.sleep(250);
+        // The outdated ABI is returned while the new one is fetched in the background
+        assertEquals(arisenTokenAbiJsonString, abiProvider.getAbi(chainId, new ARISENName("arisen.token")));
+        assertEquals(arisenAbiJsonString, abiProvider.getAbi(chainId, new ARISENName("arisen.token")));
+        verify(revalidatingRpcProvider, times(2)).getRawAbi(any(GetRawAbiRequest.class));
+    }
+
+    @Test
+    public void testRevalidationOfStoredAbi() throws Exception {
+        AbiCacheConfig abiCacheConfig = new AbiCacheConfig();
+        abiCacheConfig.setStoreFile(temporaryFolder.newFile());
+        abiCacheConfig.setRevalidationIntervalMillis(60000);
+        new ABIProviderImpl(mockRpcProvider, mockSerializationProvider, abiCacheConfig)
+                .getAbi(chainId, new ARISENName("arisen.token"));
+
+        // The stored ABI is returned and checked in the background right away
+        GetRawAbiResponse getRawAbiResponse = mockRpcProvider
+                .getRawAbi(new GetRawAbiRequest("arisen.token"));
+        IRPCProvider restartedRpcProvider = mock(IRPCProvider.class);
+        when(restartedRpcProvider.getRawAbi(any(GetRawAbiRequest.class))).thenReturn(
+                rawAbiResponse("arisen.token", getRawAbiResponse.getAbiHash(), null));
+        ABIProviderImpl restartedAbiProvider = new ABIProviderImpl(restartedRpcProvider,
+                mockSerializationProvider, abiCacheConfig);
+        restartedAbiProvider.setAbiFetchExecutor(MoreExecutors.directExecutor());
+        assertEquals(arisenTokenAbiJsonString,
+                restartedAbiProvider.getAbi(chainId, new ARISENName("arisen.token")));
+        verify(restartedRpcProvider, times(1)).getRawAbi(any(GetRawAbiRequest.class));
+    }
+
+    private static GetRawAbiResponse rawAbiResponse(String accountName, String abiHash, String abi) {
+        JsonObject response = new JsonObject();
+        response.addProperty("account_name", accountName);
+        response.addProperty("abi_hash", abiHash);
+        response.addProperty("abi", abi);
+        return new Gson().fromJson(response, GetRawAbiResponse.class);
+    }
+
     @Test
     public void testGetAbiAsync() {
         final CountDownLatch testLock = new CountDownLatch(1);
@@ -0,0 +1,59 @@
+package one.block.arisenjava;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import one.block.arisenjava.error.ErrorConstants;
+import one.block.arisenjava.models.ARISENName;
+import org.junit.Test;
+
+public class ARISENNameTest {
+
+    @Test
+    public void encodeAndDecode() {
+        assertEquals(0x5530EA033482A600L, ARISENName.encode("eosio.token"));
+        assertEquals(0xCDCD3C2D57000000L, ARISENName.encode("transfer"));
+        assertEquals(0L, ARISENName.encode(""));
+
+        assertEquals("eosio.token", ARISENName.decode(0x5530EA033482A600L));
+        assertEquals("transfer", ARISENName.decode(0xCDCD3C2D57000000L));
+        assertEquals("", ARISENName.decode(0L));
+        assertEquals("zzzzzzzzzzzzj", ARISENName.decode(-1L));
+        assertEquals(-1L, ARISENName.encode("zzzzzzzzzzzzj"));
+    }
+
+    @Test
+    public void equalityUsesTheValue() {
+        ARISENName name = new ARISENName("arisen.token");
+        ARISENName decodedName = ARISENName.valueOf(name.toLong());
+
+        assertEquals(name, decodedName);
+        assertEquals(name.hashCode(), decodedName.hashCode());
+        assertEquals("arisen.token", decodedName.getAccountName());
+        assertEquals("arisen.token", decodedName.toString());
+        assertNotEquals(name, new ARISENName("arisen"));
+    }
+
+    @Test
+    public void frequentNamesAreInterned() {
+        assertSame(ARISENName.valueOf("arisen.token"), ARISENName.valueOf("arisen.token"));
+        assertSame(ARISENName.valueOf(0x5530EA033482A600L), ARISENName.valueOf(0x5530EA033482A600L));
+    }
+
+    @Test
+    public void rejectInvalidNames() {
+        String[] invalidNames = {"Arisen", "arisen6", "arisen.", "abcdefghijklmn", "abcdefghijklz",
+                "arisen-token"};
+        for (String invalidName : invalidNames) {
+            try {
+                ARISENName.valueOf(invalidName);
+                fail("Name should be rejected: " + invalidName);
+            } catch (IllegalArgumentException illegalArgumentException) {
+                assertEquals(String.format(ErrorConstants.ARISEN_NAME_INVALID, invalidName),
+                        illegalArgumentException.getMessage());
+            }
+        }
+    }
+}
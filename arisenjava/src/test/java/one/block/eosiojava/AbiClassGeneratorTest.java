@@ -0,0 +1,188 @@
+package one.block.arisenjava;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import one.block.arisenjava.error.ErrorConstants;
+import one.block.arisenjava.error.utilities.AbiClassGeneratorError;
+import one.block.arisenjava.implementations.AbiBinaryReader;
+import one.block.arisenjava.implementations.AbiBinaryWriter;
+import one.block.arisenjava.implementations.SerializationProviderImpl;
+import one.block.arisenjava.interfaces.IAbiSerializable;
+import one.block.arisenjava.models.AbiRixSerializationObject;
+import one.block.arisenjava.models.Asset;
+import one.block.arisenjava.models.rpcProvider.Authorization;
+import one.block.arisenjava.models.rpcProvider.TypedAction;
+import one.block.arisenjava.utilities.AbiClassGenerator;
+import org.bouncycastle.util.encoders.Hex;
+import org.junit.Assume;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class AbiClassGeneratorTest {
+
+    private static final String PACKAGE = "one.block.arisenjava.generated";
+
+    private static final String TOKEN_ABI = "{\"version\":\"arisen::abi/1.0\","
+            + "\"types\":[{\"new_type_name\":\"account_name\",\"type\":\"name\"}],"
+            + "\"structs\":[{\"name\":\"transfer\",\"base\":\"\",\"fields\":["
+            + "{\"name\":\"from\",\"type\":\"account_name\"},{\"name\":\"to\",\"type\":\"account_name\"},"
+            + "{\"name\":\"quantity\",\"type\":\"asset\"},{\"name\":\"memo\",\"type\":\"string\"}]},"
+            + "{\"name\":\"currency_stats\",\"base\":\"\",\"fields\":["
+            + "{\"name\":\"supply\",\"type\":\"asset\"},{\"name\":\"max_supply\",\"type\":\"asset\"},"
+            + "{\"name\":\"issuer\",\"type\":\"account_name\"}]}],"
+            + "\"actions\":[{\"name\":\"transfer\",\"type\":\"transfer\",\"ricardian_contract\":\"\"}]}";
+
+    private static final String TRANSFER_HEX
+            = "000000000000C034000000000000A682A08601000000000004454F530000000009536F6D657468696E67";
+
+    private static final String STORE_ABI = "{\"version\":\"arisen::abi/1.1\","
+            + "\"types\":[{\"new_type_name\":\"account_name\",\"type\":\"name\"}],"
+            + "\"structs\":[{\"name\":\"header\",\"base\":\"\",\"fields\":["
+            + "{\"name\":\"id\",\"type\":\"uint64\"},{\"name\":\"small\",\"type\":\"uint8\"}]},"
+            + "{\"name\":\"point\",\"base\":\"\",\"fields\":["
+            + "{\"name\":\"x\",\"type\":\"int32\"},{\"name\":\"y\",\"type\":\"float64\"}]},"
+            + "{\"name\":\"store\",\"base\":\"header\",\"fields\":["
+            + "{\"name\":\"owners\",\"type\":\"account_name[]\"},{\"name\":\"note\",\"type\":\"string?\"},"
+            + "{\"name\":\"points\",\"type\":\"point[]\"},{\"name\":\"hash\",\"type\":\"checksum256\"},"
+            + "{\"name\":\"class\",\"type\":\"bool\"},{\"name\":\"extra\",\"type\":\"uint32$\"}]}],"
+            + "\"actions\":[{\"name\":\"store\",\"type\":\"store\",\"ricardian_contract\":\"\"}]}";
+
+    private static final String HASH
+            = "00112233445566778899aabbccddeeff00112233445566778899aabbccddeeff";
+
+    private static final String STORE_JSON = "{\"id\":\"18446744073709551615\",\"small\":255,"
+            + "\"owners\":[\"alice\",\"bob\"],\"note\":null,\"points\":[{\"x\":-1,\"y\":2.5}],"
+            + "\"hash\":\"" + HASH + "\",\"class\":true,\"extra\":7}";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final SerializationProviderImpl serializationProvider = new SerializationProviderImpl();
+
+    @Test
+    public void generateClassPerStruct() throws Exception {
+        Map<String, String> sources = new AbiClassGenerator(TOKEN_ABI, PACKAGE).generate();
+        assertEquals(Arrays.asList("CurrencyStats", "Transfer"), new ArrayList<>(sources.keySet()));
+        assertTrue(sources.get("Transfer").contains("public static final String ACTION_NAME = \"transfer\";"));
+        assertTrue(sources.get("Transfer").contains("writer.writeAsset(this.quantity);"));
+        assertTrue(sources.get("Transfer").contains("import one.block.arisenjava.models.Asset;"));
+        assertTrue(sources.get("CurrencyStats").contains("private Asset maxSupply;"));
+        // Only structs of actions can create an action
+        assertTrue(!sources.get("CurrencyStats").contains("toAction"));
+    }
+
+    @Test
+    public void generatedActionSerializesLikeSerializationProvider() throws Exception {
+        ClassLoader classLoader = this.compile(TOKEN_ABI);
+        Class<?> transferClass = classLoader.loadClass(PACKAGE + ".Transfer");
+        Object transfer = transferClass
+                .getConstructor(String.class, String.class, Asset.class, String.class)
+                .newInstance("an", "ken", Asset.parse("10.0000 EOS"), "Something");
+
+        TypedAction action = (TypedAction) transferClass.getMethod("toAction", String.class, List.class)
+                .invoke(transfer, "eosio.token",
+                        Collections.singletonList(new Authorization("an", "active")));
+        assertEquals("transfer", action.getName());
+        assertEquals(TRANSFER_HEX, action.getData());
+        assertTrue(action.isDataSerialized());
+
+        Object deserializedTransfer = transferClass.getMethod("deserialize", AbiBinaryReader.class)
+                .invoke(null, new AbiBinaryReader(Hex.decode(TRANSFER_HEX)));
+        assertEquals("ken", transferClass.getMethod("getTo").invoke(deserializedTransfer));
+        assertEquals(Asset.parse("10.0000 EOS"), transferClass.getMethod("getQuantity").invoke(deserializedTransfer));
+    }
+
+    @Test
+    public void generatedStructCoversArraysOptionalsAndExtensions() throws Exception {
+        ClassLoader classLoader = this.compile(STORE_ABI);
+        Class<?> pointClass = classLoader.loadClass(PACKAGE + ".Point");
+        Class<?> storeClass = classLoader.loadClass(PACKAGE + ".Store");
+        Object point = pointClass.getConstructor(int.class, double.class).newInstance(-1, 2.5);
+        Constructor<?> storeConstructor = storeClass.getConstructor(long.class, int.class,
+                List.class, String.class, List.class, String.class, boolean.class, Long.class);
+        IAbiSerializable store = (IAbiSerializable) storeConstructor.newInstance(-1L, 255,
+                Arrays.asList("alice", "bob"), null, Collections.singletonList(point), HASH, true, 7L);
+
+        byte[] expected = serializeJson(STORE_JSON);
+        AbiBinaryWriter writer = new AbiBinaryWriter();
+        store.serialize(writer);
+        assertArrayEquals(expected, writer.toBytes());
+
+        // A missing binary extension field is not written
+        storeClass.getMethod("setExtra", Long.class).invoke(store, (Long) null);
+        writer = new AbiBinaryWriter();
+        store.serialize(writer);
+        assertArrayEquals(serializeJson(STORE_JSON.replace(",\"extra\":7", "")), writer.toBytes());
+
+        Method deserialize = storeClass.getMethod("deserialize", AbiBinaryReader.class);
+        Object deserializedStore = deserialize.invoke(null, new AbiBinaryReader(expected));
+        assertEquals(-1L, storeClass.getMethod("getId").invoke(deserializedStore));
+        assertEquals(255, storeClass.getMethod("getSmall").invoke(deserializedStore));
+        assertEquals(Arrays.asList("alice", "bob"), storeClass.getMethod("getOwners").invoke(deserializedStore));
+        assertNull(storeClass.getMethod("getNote").invoke(deserializedStore));
+        assertEquals(HASH, storeClass.getMethod("getHash").invoke(deserializedStore));
+        assertEquals(true, storeClass.getMethod("getClass_").invoke(deserializedStore));
+        assertEquals(7L, storeClass.getMethod("getExtra").invoke(deserializedStore));
+        Object deserializedPoint = ((List<?>) storeClass.getMethod("getPoints").invoke(deserializedStore)).get(0);
+        assertEquals(2.5, (Double) pointClass.getMethod("getY").invoke(deserializedPoint), 0);
+    }
+
+    @Test
+    public void generate_thenFailWithVariantField() {
+        String abi = "{\"version\":\"arisen::abi/1.1\","
+                + "\"structs\":[{\"name\":\"owner\",\"base\":\"\",\"fields\":["
+                + "{\"name\":\"key\",\"type\":\"key_or_name\"}]}],"
+                + "\"variants\":[{\"name\":\"key_or_name\",\"types\":[\"public_key\",\"name\"]}]}";
+        try {
+            new AbiClassGenerator(abi, PACKAGE).generate();
+            fail("Expected AbiClassGeneratorError to be thrown!");
+        } catch (AbiClassGeneratorError abiClassGeneratorError) {
+            assertEquals(String.format(ErrorConstants.ABI_CLASS_GENERATOR_UNSUPPORTED_TYPE,
+                    "key_or_name", "key", "owner"), abiClassGeneratorError.getMessage());
+        }
+    }
+
+    private byte[] serializeJson(String json) throws Exception {
+        AbiRixSerializationObject serializationObject = new AbiRixSerializationObject(
+                "test", "store", null, STORE_ABI);
+        serializationObject.setJson(json);
+        return this.serializationProvider.serializeToBytes(serializationObject);
+    }
+
+    private ClassLoader compile(String abi) throws Exception {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        Assume.assumeTrue("Compiling the generated classes needs a JDK", compiler != null);
+
+        File sourceDirectory = this.temporaryFolder.newFolder("src");
+        File classDirectory = this.temporaryFolder.newFolder("classes");
+        new AbiClassGenerator(abi, PACKAGE).generateTo(sourceDirectory);
+
+        List<String> arguments = new ArrayList<>(Arrays.asList("-d", classDirectory.getPath(),
+                "-classpath", System.getProperty("java.class.path")));
+        File[] sourceFiles = new File(sourceDirectory, PACKAGE.replace('.', File.separatorChar)).listFiles();
+        for (File sourceFile : sourceFiles) {
+            arguments.add(sourceFile.getPath());
+        }
+
+        assertEquals(0, compiler.run(null, null, null, arguments.toArray(new String[0])));
+        return new URLClassLoader(new URL[]{classDirectory.toURI().toURL()},
+                this.getClass().getClassLoader());
+    }
+}
@@ -0,0 +1,107 @@
+package one.block.arisenjava;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import one.block.arisenjava.error.ErrorConstants;
+import one.block.arisenjava.implementations.AbiBinaryReader;
+import one.block.arisenjava.implementations.AbiBinaryWriter;
+import one.block.arisenjava.models.ARISENName;
+import one.block.arisenjava.models.Asset;
+import one.block.arisenjava.models.ExtendedAsset;
+import one.block.arisenjava.models.Symbol;
+import one.block.arisenjava.utilities.ByteFormatter;
+import org.junit.Test;
+
+public class AssetTest {
+
+    private static final String ASSET_HEX = "A08601000000000004454F5300000000";
+
+    private static final String CONTRACT_HEX = "00A6823403EA3055";
+
+    @Test
+    public void parseAndFormat() {
+        Asset asset = Asset.parse("10.0000 EOS");
+        assertEquals(100000, asset.getAmount());
+        assertEquals(4, asset.getSymbol().getPrecision());
+        assertEquals("EOS", asset.getSymbol().getCode());
+        assertEquals("10.0000 EOS", asset.toString());
+
+        assertEquals("-0.0001 RIX", Asset.parse("-0.0001 RIX").toString());
+        assertEquals("0.0500 RIX", Asset.parse(" +.0500  RIX ").toString());
+        assertEquals("7 NFT", Asset.parse("7 NFT").toString());
+        assertEquals("4611686018427387903 MAX", Asset.parse("4611686018427387903 MAX").toString());
+
+        Symbol symbol = Symbol.parse("4,RIX");
+        assertEquals("4,RIX", symbol.toString());
+        assertEquals(symbol, Symbol.valueOf(symbol.toLong()));
+        assertEquals(new Symbol(4, "RIX"), symbol);
+    }
+
+    @Test
+    public void rejectInvalidAssets() {
+        String[] invalidAssets = {"", "10.0000", "10. EOS", "1.2.3 EOS", "10.0000 eos",
+                "ten EOS", "- EOS", "4611686018427387904 MAX", "1.0000000000000000000 EOS",
+                "1.0000 TOOLONGS"};
+        for (String invalidAsset : invalidAssets) {
+            try {
+                Asset.parse(invalidAsset);
+                fail("Asset should be rejected: " + invalidAsset);
+            } catch (IllegalArgumentException illegalArgumentException) {
+                assertEquals(String.format(ErrorConstants.ASSET_INVALID, invalidAsset),
+                        illegalArgumentException.getMessage());
+            }
+        }
+
+        for (String invalidSymbol : new String[]{"RIX", ",RIX", "19,RIX", "4,", "4,rix"}) {
+            try {
+                Symbol.parse(invalidSymbol);
+                fail("Symbol should be rejected: " + invalidSymbol);
+            } catch (IllegalArgumentException illegalArgumentException) {
+                assertEquals(String.format(ErrorConstants.SYMBOL_INVALID, invalidSymbol),
+                        illegalArgumentException.getMessage());
+            }
+        }
+    }
+
+    @Test
+    public void exactArithmetic() {
+        Asset asset = Asset.parse("1.0000 RIX");
+        assertEquals("1.5000 RIX", asset.add(Asset.parse("0.5000 RIX")).toString());
+        assertEquals("-0.5000 RIX", Asset.parse("0.5000 RIX").subtract(asset).toString());
+        assertEquals("-1.0000 RIX", asset.negate().toString());
+
+        try {
+            asset.add(Asset.parse("1.000 RIX"));
+            fail("Assets of different symbols should not be added");
+        } catch (IllegalArgumentException illegalArgumentException) {
+            assertEquals(String.format(ErrorConstants.ASSET_SYMBOL_MISMATCH, "4,RIX", "3,RIX"),
+                    illegalArgumentException.getMessage());
+        }
+
+        try {
+            new Asset(Asset.MAX_AMOUNT, asset.getSymbol()).add(new Asset(1, asset.getSymbol()));
+            fail("Sum out of range should be rejected");
+        } catch (ArithmeticException arithmeticException) {
+            assertEquals(ErrorConstants.ASSET_AMOUNT_OUT_OF_RANGE, arithmeticException.getMessage());
+        }
+    }
+
+    @Test
+    public void binaryFormat() {
+        Asset asset = Asset.parse("10.0000 EOS");
+        ExtendedAsset extendedAsset = new ExtendedAsset(asset, ARISENName.valueOf("eosio.token"));
+
+        AbiBinaryWriter writer = new AbiBinaryWriter();
+        writer.write(asset);
+        writer.write(extendedAsset);
+        writer.writeBuiltIn("asset", "10.0000 EOS");
+        assertEquals(ASSET_HEX + ASSET_HEX + CONTRACT_HEX + ASSET_HEX, writer.toHex());
+
+        AbiBinaryReader reader = new AbiBinaryReader(
+                ByteFormatter.decodeHex(ASSET_HEX + ASSET_HEX + CONTRACT_HEX));
+        assertEquals(asset, reader.readAsset());
+        assertEquals(extendedAsset, reader.readExtendedAsset());
+        assertEquals("10.0000 EOS@eosio.token", extendedAsset.toString());
+    }
+}
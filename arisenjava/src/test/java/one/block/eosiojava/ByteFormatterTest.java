@@ -0,0 +1,121 @@
+package one.block.arisenjava;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.util.Random;
+import one.block.arisenjava.error.ErrorConstants;
+import one.block.arisenjava.utilities.ByteFormatter;
+import org.bouncycastle.util.encoders.Base64;
+import org.bouncycastle.util.encoders.Hex;
+import org.junit.Test;
+
+public class ByteFormatterTest {
+
+    @Test
+    public void hexMatchesReferenceEncoder() {
+        Random random = new Random(42);
+        for (int length = 0; length < 64; length++) {
+            byte[] data = new byte[length];
+            random.nextBytes(data);
+            String hex = Hex.toHexString(data);
+
+            assertEquals(hex, ByteFormatter.encodeHex(data));
+            assertEquals(hex, new ByteFormatter(data).toHex());
+            assertArrayEquals(data, ByteFormatter.decodeHex(hex));
+            assertArrayEquals(data, ByteFormatter.decodeHex(hex.toUpperCase()));
+        }
+    }
+
+    @Test
+    public void hexIntoCallerSuppliedTargets() {
+        byte[] data = {0x01, (byte) 0xAB, (byte) 0xFF, 0x7F};
+        StringBuilder hex = new StringBuilder("0x");
+        ByteFormatter.appendHex(data, 1, 2, true, hex);
+        assertEquals("0xABFF", hex.toString());
+
+        byte[] target = new byte[4];
+        assertEquals(2, ByteFormatter.decodeHex(new StringBuilder("abFF"), target, 1));
+        assertArrayEquals(new byte[]{0, (byte) 0xAB, (byte) 0xFF, 0}, target);
+
+        try {
+            ByteFormatter.decodeHex("abcdef", target, 2);
+            fail("Decoded bytes should not fit in the target");
+        } catch (IndexOutOfBoundsException expected) {
+            // Expected
+        }
+    }
+
+    @Test
+    public void rejectInvalidHex() {
+        try {
+            ByteFormatter.decodeHex("abc");
+            fail("Hex with an odd length should be rejected");
+        } catch (IllegalArgumentException illegalArgumentException) {
+            assertEquals(String.format(ErrorConstants.BYTE_FORMATTER_ODD_HEX_LENGTH, 3),
+                    illegalArgumentException.getMessage());
+        }
+
+        try {
+            ByteFormatter.createFromHex("abxz");
+            fail("Hex with invalid characters should be rejected");
+        } catch (IllegalArgumentException illegalArgumentException) {
+            assertEquals(String.format(ErrorConstants.BYTE_FORMATTER_INVALID_HEX_CHARACTER, 2),
+                    illegalArgumentException.getMessage());
+        }
+    }
+
+    @Test
+    public void base64MatchesReferenceEncoder() {
+        Random random = new Random(42);
+        for (int length = 0; length < 64; length++) {
+            byte[] data = new byte[length];
+            random.nextBytes(data);
+            String base64 = Base64.toBase64String(data);
+
+            assertEquals(base64, ByteFormatter.encodeBase64(data));
+            assertArrayEquals(data, ByteFormatter.decodeBase64(base64));
+            assertArrayEquals(data, ByteFormatter.createFromBase64(base64).toBytes());
+
+            String unpadded = base64.replace("=", "");
+            assertEquals(length, ByteFormatter.decodedBase64Length(unpadded));
+            assertArrayEquals(data, ByteFormatter.decodeBase64(unpadded));
+        }
+    }
+
+    @Test
+    public void base64IsTolerant() {
+        byte[] data = "arisen".getBytes();
+        assertArrayEquals(data, ByteFormatter.decodeBase64("YXJp\nc2Vu"));
+        assertArrayEquals("ar".getBytes(), ByteFormatter.decodeBase64("YXI"));
+        assertArrayEquals("ar".getBytes(), ByteFormatter.decodeBase64("YXI=="));
+
+        StringBuilder base64 = new StringBuilder();
+        ByteFormatter.appendBase64(data, 0, 4, base64);
+        assertEquals("YXJpcw==", base64.toString());
+
+        byte[] target = new byte[8];
+        assertEquals(4, ByteFormatter.decodeBase64(base64, target, 2));
+        assertArrayEquals(new byte[]{0, 0, 'a', 'r', 'i', 's', 0, 0}, target);
+    }
+
+    @Test
+    public void rejectInvalidBase64() {
+        try {
+            ByteFormatter.decodeBase64("YX*p");
+            fail("Base64 with invalid characters should be rejected");
+        } catch (IllegalArgumentException illegalArgumentException) {
+            assertEquals(String.format(ErrorConstants.BYTE_FORMATTER_INVALID_BASE64_CHARACTER, 2),
+                    illegalArgumentException.getMessage());
+        }
+
+        try {
+            ByteFormatter.decodeBase64("YXJpc");
+            fail("Base64 ending with a single digit should be rejected");
+        } catch (IllegalArgumentException illegalArgumentException) {
+            assertEquals(ErrorConstants.BYTE_FORMATTER_TRUNCATED_BASE64,
+                    illegalArgumentException.getMessage());
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package one.block.arisenjava;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import one.block.arisenjava.error.ErrorConstants;
+import one.block.arisenjava.error.abiProvider.CompileAbiError;
+import one.block.arisenjava.models.abi.AbiField;
+import one.block.arisenjava.models.abi.AbiStruct;
+import one.block.arisenjava.models.abi.CompiledAbi;
+import org.junit.Test;
+
+public class CompiledAbiTest {
+
+    private static final String ABI = "{\"version\":\"arisen::abi/1.1\","
+            + "\"types\":[{\"new_type_name\":\"account_name\",\"type\":\"name\"},"
+            + "{\"new_type_name\":\"transfer_args\",\"type\":\"transfer\"}],"
+            + "\"structs\":[{\"name\":\"transfer\",\"base\":\"base_transfer\",\"fields\":["
+            + "{\"name\":\"quantity\",\"type\":\"asset\"},{\"name\":\"memo\",\"type\":\"string\"}]},"
+            + "{\"name\":\"base_transfer\",\"base\":\"\",\"fields\":["
+            + "{\"name\":\"from\",\"type\":\"account_name\"},{\"name\":\"to\",\"type\":\"account_name\"}]}],"
+            + "\"variants\":[{\"name\":\"key_or_name\",\"types\":[\"public_key\",\"name\"]}],"
+            + "\"actions\":[{\"name\":\"transfer\",\"type\":\"transfer_args\",\"ricardian_contract\":\"\"}]}";
+
+    @Test
+    public void compileResolvesStructsAliasesAndActions() {
+        try {
+            CompiledAbi compiledAbi = CompiledAbi.compile(ABI);
+            assertEquals(ABI, compiledAbi.getAbiJson());
+            assertEquals("arisen::abi/1.1", compiledAbi.getVersion());
+            assertEquals("name", compiledAbi.resolveType("account_name"));
+            assertEquals("uint64", compiledAbi.resolveType("uint64"));
+
+            AbiStruct transfer = compiledAbi.getActionStruct("transfer");
+            assertEquals("transfer", transfer.getName());
+            assertEquals("base_transfer", transfer.getBase());
+            assertEquals(Arrays.asList("from", "to", "quantity", "memo"), fieldNames(transfer));
+            assertEquals("account_name", transfer.getFields().get(0).getType());
+            assertSame(transfer, compiledAbi.getStruct("transfer_args"));
+            assertEquals("transfer_args", compiledAbi.getActionType("transfer"));
+
+            assertEquals(Arrays.asList("public_key", "name"), compiledAbi.getVariant("key_or_name"));
+            assertNull(compiledAbi.getActionStruct("issue"));
+            assertNull(compiledAbi.getStruct("asset"));
+        } catch (CompileAbiError compileAbiError) {
+            compileAbiError.printStackTrace();
+            fail("Exception should not be thrown here for compiling a valid ABI.");
+        }
+    }
+
+    @Test
+    public void compile_thenFailWithInvalidAbi() {
+        assertCompileError("[1]", ErrorConstants.COMPILE_ABI_INVALID_JSON);
+        assertCompileError("{\"structs\":[{\"base\":\"\",\"fields\":[]}]}",
+                String.format(ErrorConstants.COMPILE_ABI_INVALID_MEMBER, "name"));
+        assertCompileError("{\"structs\":[{\"name\":\"a\",\"base\":\"b\",\"fields\":[]}]}",
+                String.format(ErrorConstants.COMPILE_ABI_UNKNOWN_BASE, "b", "a"));
+        assertCompileError("{\"structs\":[{\"name\":\"a\",\"base\":\"b\",\"fields\":[]},"
+                        + "{\"name\":\"b\",\"base\":\"a\",\"fields\":[]}]}",
+                String.format(ErrorConstants.COMPILE_ABI_CIRCULAR_STRUCT, "a"));
+        assertCompileError("{\"types\":[{\"new_type_name\":\"a\",\"type\":\"a\"}]}",
+                String.format(ErrorConstants.COMPILE_ABI_CIRCULAR_TYPE, "a"));
+    }
+
+    private static void assertCompileError(String abi, String message) {
+        try {
+            CompiledAbi.compile(abi);
+            fail("Exception should be thrown here for compiling " + abi);
+        } catch (CompileAbiError compileAbiError) {
+            assertEquals(message, compileAbiError.getMessage());
+        }
+    }
+
+    private static List<String> fieldNames(AbiStruct struct) {
+        List<String> fieldNames = new ArrayList<>();
+        for (AbiField field : struct.getFields()) {
+            fieldNames.add(field.getName());
+        }
+
+        return fieldNames;
+    }
+}
@@ -0,0 +1,119 @@
+package one.block.arisenjava;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.List;
+import one.block.arisenjava.error.ErrorConstants;
+import one.block.arisenjava.models.rpcProvider.Action;
+import one.block.arisenjava.models.rpcProvider.Authorization;
+import one.block.arisenjava.models.rpcProvider.PackedAction;
+import one.block.arisenjava.models.rpcProvider.PackedTransaction;
+import one.block.arisenjava.models.rpcProvider.Transaction;
+import org.junit.Test;
+
+public class PackedTransactionTest {
+
+    /**
+     * Transfer of 10.0000 EOS from "an" to "ken" on eosio.token, authorized by an@active.
+     */
+    private static final String TRANSACTION_HEX = "8BC2A35CF56E6CC25F7F000000000100A6823403EA3055"
+            + "000000572D3CCDCD01000000000000C03400000000A8ED32322A000000000000C034000000000000A682"
+            + "A08601000000000004454F530000000009536F6D657468696E6700";
+
+    private static final String TRANSFER_DATA_HEX = "000000000000C034000000000000A682A08601000000000004"
+            + "454F530000000009536F6D657468696E67";
+
+    @Test
+    public void decodeMembersOnDemand() {
+        PackedTransaction packedTransaction = PackedTransaction.createFromHex(TRANSACTION_HEX);
+
+        assertEquals("2019-04-02T20:14:03.000", packedTransaction.getExpiration());
+        assertEquals(28405, packedTransaction.getRefBlockNum());
+        assertEquals(2136982124L, packedTransaction.getRefBlockPrefix());
+        assertEquals(0, packedTransaction.getMaxNetUsageWords());
+        assertEquals(0, packedTransaction.getMaxCpuUsageMs());
+        assertEquals(0, packedTransaction.getDelaySec());
+        assertTrue(packedTransaction.getContextFreeActions().isEmpty());
+        assertEquals(0, packedTransaction.getTransactionExtensionCount());
+
+        List<PackedAction> actions = packedTransaction.getActions();
+        assertEquals(1, actions.size());
+        PackedAction action = actions.get(0);
+        assertEquals("eosio.token", action.getAccount());
+        assertEquals("transfer", action.getName());
+        assertEquals(1, action.getAuthorization().size());
+        assertEquals("an", action.getAuthorization().get(0).getActor());
+        assertEquals("active", action.getAuthorization().get(0).getPermission());
+        assertEquals(TRANSFER_DATA_HEX, action.getData());
+
+        ByteBuffer data = action.getDataBytes();
+        assertEquals(TRANSFER_DATA_HEX.length() / 2, data.remaining());
+        assertTrue(data.isReadOnly());
+    }
+
+    @Test
+    public void toTransaction() {
+        Transaction transaction = PackedTransaction.createFromHex(TRANSACTION_HEX).toTransaction();
+
+        assertEquals("2019-04-02T20:14:03.000", transaction.getExpiration());
+        assertEquals(BigInteger.valueOf(28405), transaction.getRefBlockNum());
+        assertEquals(BigInteger.valueOf(2136982124L), transaction.getRefBlockPrefix());
+        assertEquals(BigInteger.ZERO, transaction.getDelaySec());
+        assertTrue(transaction.getContextFreeActions().isEmpty());
+        assertTrue(transaction.getTransactionExtensions().isEmpty());
+
+        Action action = transaction.getActions().get(0);
+        assertEquals("eosio.token", action.getAccount());
+        assertEquals("transfer", action.getName());
+        Authorization authorization = action.getAuthorization().get(0);
+        assertEquals("an", authorization.getActor());
+        assertEquals("active", authorization.getPermission());
+        assertEquals(TRANSFER_DATA_HEX, action.getData());
+        assertTrue(action.isDataSerialized());
+    }
+
+    @Test
+    public void rejectInvalidPackedTransaction() {
+        String[] invalidHexes = {
+                // Truncated transaction extensions
+                TRANSACTION_HEX.substring(0, TRANSACTION_HEX.length() - 2),
+                // Extra data
+                TRANSACTION_HEX + "00",
+                // Action count larger than the data
+                TRANSACTION_HEX.substring(0, 26) + "FF" + TRANSACTION_HEX.substring(28),
+                // Not hex
+                "XYZ"
+        };
+
+        for (String invalidHex : invalidHexes) {
+            try {
+                PackedTransaction.createFromHex(invalidHex);
+                fail("Data should be rejected: " + invalidHex);
+            } catch (IllegalArgumentException illegalArgumentException) {
+                assertEquals(ErrorConstants.PACKED_TRANSACTION_INVALID_DATA,
+                        illegalArgumentException.getMessage());
+            }
+        }
+    }
+
+    @Test
+    public void transactionExtensionsCanNotBeConverted() {
+        String hexWithExtension = TRANSACTION_HEX.substring(0, TRANSACTION_HEX.length() - 2)
+                + "0101000100";
+        PackedTransaction packedTransaction = PackedTransaction.createFromHex(hexWithExtension);
+        assertEquals(1, packedTransaction.getTransactionExtensionCount());
+        assertEquals("transfer", packedTransaction.getActions().get(0).getName());
+
+        try {
+            packedTransaction.toTransaction();
+            fail("Transaction extensions should not be converted");
+        } catch (IllegalStateException illegalStateException) {
+            assertEquals(ErrorConstants.PACKED_TRANSACTION_EXTENSIONS_NOT_SUPPORTED,
+                    illegalStateException.getMessage());
+        }
+    }
+}
@@ -440,7 +440,7 @@ Test uses output of one way conversion as input for return conversion.
     //SECP256K1 Public Key Test - Roundtrip (RIX to PEM to RIX) Legacy SECP256K1
     @Test
     public void validateRIXtoPEMtoRIXConversionOfSecp256k1PublicKeyLegacy() {
-        String RIXFormattedPublicKey = "RSN5AzPqKAx4caCrRSAuyojY6rRKA3KJf4A1MY3paNVqV5eADEVm2";
+        String RIXFormattedPublicKey = "RIX5AzPqKAx4caCrRSAuyojY6rRKA3KJf4A1MY3paNVqV5eADEVm2";
 
         try {
             String RIXToPem = RIXFormatter.convertRIXPublicKeyToPEMFormat(RIXFormattedPublicKey);
@@ -1,6 +1,8 @@
 package one.block.arisenjava;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
@@ -8,6 +10,7 @@ import static org.junit.Assert.assertNull;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import java.math.BigInteger;
+import java.util.Collections;
 import one.block.arisenjava.models.rpcProvider.request.GetBlockRequest;
 import one.block.arisenjava.models.rpcProvider.request.GetRawAbiRequest;
 import one.block.arisenjava.models.rpcProvider.request.GetRequiredKeysRequest;
@@ -17,6 +20,8 @@ import one.block.arisenjava.models.rpcProvider.response.GetInfoResponse;
 import one.block.arisenjava.models.rpcProvider.response.GetRawAbiResponse;
 import one.block.arisenjava.models.rpcProvider.response.GetRequiredKeysResponse;
 import one.block.arisenjava.models.rpcProvider.response.PushTransactionResponse;
+import one.block.arisenjava.models.signatureProvider.ArisenTransactionSignatureRequest;
+import one.block.arisenjava.models.signatureProvider.ArisenTransactionSignatureResponse;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -194,7 +199,7 @@ public class RpcModelTest {
         assertNotNull(getBlockRequest);
 
         assertEquals("2019-03-25T06:08:05.000", getBlockRequest.getTimestamp());
-        assertEquals("RIXnewyorkio", getBlockRequest.getProducer());
+        assertEquals("rixnewyorkio", getBlockRequest.getProducer());
         assertEquals(BigInteger.valueOf(0), getBlockRequest.getConfirmed());
         assertEquals("02f217198bda8b9f88b0d7bd5450ce39c90352a01f896cdb64b8a4c88a9e7f3c",
                 getBlockRequest.getPrevious());
@@ -330,4 +335,51 @@ public class RpcModelTest {
     }
 
     //endregion
+
+    //region Signature Provider Models
+
+    /**
+     * Test that ArisenTransactionSignatureRequest created from bytes keeps its hex JSON form
+     */
+    @Test
+    public void ArisenTransactionSignatureRequestFromBytesTest() {
+        byte[] serializedTransaction = new byte[]{0x01, 0x02, (byte) 0xff};
+        ArisenTransactionSignatureRequest request = new ArisenTransactionSignatureRequest(
+                serializedTransaction, Collections.singletonList("PUB_K1_key"), "chainId",
+                null, false);
+        assertEquals("0102ff", request.getSerializedTransaction());
+
+        // ToJSON test
+        String toJSON = this.gson.toJson(request);
+        assertFalse(toJSON.contains("Bytes"));
+
+        // FromJSON test
+        ArisenTransactionSignatureRequest fromJSON = this.gson
+                .fromJson(toJSON, ArisenTransactionSignatureRequest.class);
+        assertEquals("0102ff", fromJSON.getSerializedTransaction());
+        assertArrayEquals(serializedTransaction, fromJSON.getSerializedTransactionBytes());
+    }
+
+    /**
+     * Test that ArisenTransactionSignatureResponse created from bytes keeps its hex JSON form
+     */
+    @Test
+    public void ArisenTransactionSignatureResponseFromBytesTest() {
+        byte[] serializedTransaction = new byte[]{0x01, 0x02, (byte) 0xff};
+        ArisenTransactionSignatureResponse response = new ArisenTransactionSignatureResponse(
+                serializedTransaction, Collections.singletonList("SIG_K1_signature"), null);
+        assertEquals("0102ff", response.getSerializeTransaction());
+
+        // ToJSON test
+        String toJSON = this.gson.toJson(response);
+        assertEquals("{\"serializeTransaction\":\"0102ff\",\"signatures\":[\"SIG_K1_signature\"]}",
+                toJSON);
+
+        // FromJSON test
+        ArisenTransactionSignatureResponse fromJSON = this.gson
+                .fromJson(toJSON, ArisenTransactionSignatureResponse.class);
+        assertArrayEquals(serializedTransaction, fromJSON.getSerializeTransactionBytes());
+    }
+
+    //endregion
 }
@@ -0,0 +1,156 @@
+package one.block.arisenjava;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonSyntaxException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import one.block.arisenjava.models.rpcProvider.Action;
+import one.block.arisenjava.models.rpcProvider.Authorization;
+import one.block.arisenjava.models.rpcProvider.Transaction;
+import one.block.arisenjava.models.rpcProvider.response.GetInfoResponse;
+import one.block.arisenjava.models.rpcProvider.response.GetRequiredKeysResponse;
+import one.block.arisenjava.models.rpcProvider.response.PushTransactionResponse;
+import one.block.arisenjava.utilities.DateFormatter;
+import one.block.arisenjava.utilities.Utils;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test the streaming adapters registered by {@link Utils#getGson(String)} against reflective Gson
+ */
+public class RpcModelTypeAdapterFactoryTest {
+
+    private Gson reflectiveGson;
+
+    private Gson gson;
+
+    @Before
+    public void setUpGSON() {
+        this.reflectiveGson = new GsonBuilder().setDateFormat(DateFormatter.BACKEND_DATE_PATTERN)
+                .disableHtmlEscaping().create();
+        this.gson = Utils.getGson(DateFormatter.BACKEND_DATE_PATTERN);
+    }
+
+    @Test
+    public void getGsonIsShared() {
+        assertSame(this.gson, Utils.getGson(DateFormatter.BACKEND_DATE_PATTERN));
+    }
+
+    @Test
+    public void transactionWritesLikeReflectiveGson() {
+        Transaction transaction = this.createTransaction();
+        assertEquals(this.reflectiveGson.toJson(transaction), this.gson.toJson(transaction));
+
+        transaction.setTransactionExtensions(null);
+        transaction.getActions().get(0).setData(null);
+        assertEquals(this.reflectiveGson.toJson(transaction), this.gson.toJson(transaction));
+    }
+
+    @Test
+    public void transactionRoundTrip() {
+        Transaction transaction = this.createTransaction();
+        String json = this.gson.toJson(transaction);
+
+        Transaction parsed = this.gson.fromJson(json, Transaction.class);
+        assertEquals(json, this.gson.toJson(parsed));
+        assertEquals(this.reflectiveGson.toJson(this.reflectiveGson.fromJson(json,
+                Transaction.class)), this.gson.toJson(parsed));
+    }
+
+    @Test
+    public void transactionReadIgnoresUnknownFields() {
+        String json = "{\"expiration\":\"2019-04-01T22:08:40.000\",\"ref_block_num\":\"19220\","
+                + "\"ref_block_prefix\":2823845311,\"unknown\":{\"a\":[1,2]},"
+                + "\"actions\":[{\"account\":\"arisen.token\",\"name\":\"transfer\","
+                + "\"authorization\":[{\"actor\":\"bob\",\"permission\":\"active\",\"weight\":1}],"
+                + "\"data\":\"00\",\"hex_data\":\"00\"}]}";
+
+        Transaction transaction = this.gson.fromJson(json, Transaction.class);
+        assertEquals(BigInteger.valueOf(19220), transaction.getRefBlockNum());
+        assertEquals(new BigInteger("2823845311"), transaction.getRefBlockPrefix());
+        assertNull(transaction.getDelaySec());
+        assertNull(transaction.getContextFreeActions());
+        assertEquals("bob", transaction.getActions().get(0).getAuthorization().get(0).getActor());
+        assertEquals("00", transaction.getActions().get(0).getData());
+    }
+
+    @Test
+    public void getInfoResponseReadsLikeReflectiveGson() {
+        String json = "{\"server_version\":\"0f6695cb\",\"chain_id\":\"687fa513e18843ad3e820744f4ffcf93b1354036d80737db8dc444fe4b15ad17\","
+                + "\"head_block_num\":20583056,\"last_irreversible_block_num\":20582724,"
+                + "\"last_irreversible_block_id\":\"013a1044f1a2e65fb3a7c51d5e0c5fb3d4b3b2c5b5ed6e5cf7e57fe64f9d7b36\","
+                + "\"head_block_id\":\"013a1190bb5ff42b54a3bd7cba6d04e7ba77a69e39a4f7eb5ab7e0ba5ce0e2ac\","
+                + "\"head_block_time\":\"2019-04-01T22:08:40.000\",\"head_block_producer\":\"blkproducer2\","
+                + "\"virtual_block_cpu_limit\":200000000,\"virtual_block_net_limit\":1048576000,"
+                + "\"block_cpu_limit\":199900,\"block_net_limit\":1048576,"
+                + "\"server_version_string\":\"v1.3.0\",\"fork_db_head_block_num\":20583056}";
+
+        GetInfoResponse expected = this.reflectiveGson.fromJson(json, GetInfoResponse.class);
+        GetInfoResponse actual = this.gson.fromJson(json, GetInfoResponse.class);
+        assertEquals(this.reflectiveGson.toJson(expected), this.gson.toJson(actual));
+        assertEquals(new BigInteger("20583056"), actual.getHeadBlockNum());
+    }
+
+    @Test(expected = JsonSyntaxException.class)
+    public void getInfoResponseRejectsInvalidNumbers() {
+        this.gson.fromJson("{\"head_block_num\":\"not a number\"}", GetInfoResponse.class);
+    }
+
+    @Test
+    public void responsesHaveEmptyConstructors() {
+        assertNull(new GetInfoResponse().getChainId());
+        assertNull(new GetRequiredKeysResponse().getRequiredKeys());
+        assertNull(new PushTransactionResponse().getProcessed());
+    }
+
+    @Test
+    public void getRequiredKeysResponseRoundTrip() {
+        String json = "{\"required_keys\":[\"RSN5j67P1W2RyBXAL8sNzYcDLox3yLpxyrxgkYy1xsXzVCvzbYpba\"]}";
+
+        GetRequiredKeysResponse response = this.gson.fromJson(json, GetRequiredKeysResponse.class);
+        assertEquals(1, response.getRequiredKeys().size());
+        assertEquals(json, this.gson.toJson(response));
+    }
+
+    @Test
+    public void pushTransactionResponseReadsLikeReflectiveGson() {
+        String json = "{\"transaction_id\":\"ae735820e26a7b771e1b522186294d7cbba035d0c31ca88237559d6c0a3bf00a\","
+                + "\"processed\":{\"id\":\"ae735820\",\"block_num\":21098575,\"receipt\":{\"status\":\"executed\"},"
+                + "\"action_traces\":[{\"elapsed\":47}],\"except\":null}}";
+
+        PushTransactionResponse expected = this.reflectiveGson
+                .fromJson(json, PushTransactionResponse.class);
+        PushTransactionResponse actual = this.gson.fromJson(json, PushTransactionResponse.class);
+        assertEquals(expected.getTransactionId(), actual.getTransactionId());
+        assertEquals(expected.getProcessed(), actual.getProcessed());
+        assertEquals(this.reflectiveGson.toJson(expected), this.gson.toJson(actual));
+        assertEquals("executed", ((Map) actual.getProcessed().get("receipt")).get("status"));
+    }
+
+    @Test
+    public void nullModelsAreWrittenAsNull() {
+        assertEquals("null", this.gson.toJson(null, Transaction.class));
+        assertNull(this.gson.fromJson("null", Action.class));
+    }
+
+    private Transaction createTransaction() {
+        List<Authorization> authorizations = Collections
+                .singletonList(new Authorization("bob", "active"));
+        List<Action> actions = new ArrayList<>(Arrays.asList(
+                new Action("arisen.token", "transfer", authorizations,
+                        "{\"from\":\"bob\",\"memo\":\"<a & b>\"}"),
+                new Action("arisen.token", "issue", authorizations, "00aa")));
+        return new Transaction("2019-04-01T22:08:40.000", BigInteger.valueOf(19220),
+                new BigInteger("2823845311"), BigInteger.ZERO, BigInteger.ZERO, BigInteger.ZERO,
+                new ArrayList<Action>(), actions, Collections.singletonList("ext"));
+    }
+}
@@ -0,0 +1,496 @@
+package one.block.arisenjava;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import java.nio.ByteBuffer;
+import one.block.arisenjava.error.ErrorConstants;
+import one.block.arisenjava.error.serializationProvider.DeserializeError;
+import one.block.arisenjava.error.serializationProvider.DeserializeTransactionError;
+import one.block.arisenjava.error.serializationProvider.SerializeError;
+import one.block.arisenjava.implementations.SerializationProviderImpl;
+import one.block.arisenjava.models.AbiRixSerializationObject;
+import one.block.arisenjava.models.abi.CompiledAbi;
+import org.bouncycastle.util.encoders.Hex;
+import org.junit.Test;
+
+public class SerializationProviderImplTest {
+
+    private static final String TOKEN_ABI = "{\"version\":\"arisen::abi/1.0\","
+            + "\"types\":[{\"new_type_name\":\"account_name\",\"type\":\"name\"}],"
+            + "\"structs\":[{\"name\":\"transfer\",\"base\":\"\",\"fields\":["
+            + "{\"name\":\"from\",\"type\":\"account_name\"},{\"name\":\"to\",\"type\":\"account_name\"},"
+            + "{\"name\":\"quantity\",\"type\":\"asset\"},{\"name\":\"memo\",\"type\":\"string\"}]}],"
+            + "\"actions\":[{\"name\":\"transfer\",\"type\":\"transfer\",\"ricardian_contract\":\"\"}]}";
+
+    /**
+     * Transfer of 10.0000 EOS from "an" to "ken" on eosio.token, authorized by an@active.
+     */
+    private static final String TRANSACTION_HEX = "8BC2A35CF56E6CC25F7F000000000100A6823403EA3055"
+            + "000000572D3CCDCD01000000000000C03400000000A8ED32322A000000000000C034000000000000A682"
+            + "A08601000000000004454F530000000009536F6D657468696E6700";
+
+    private static final String TRANSACTION_JSON = "{\"expiration\":\"2019-04-02T20:14:03.000\","
+            + "\"ref_block_num\":28405,\"ref_block_prefix\":2136982124,\"max_net_usage_words\":0,"
+            + "\"max_cpu_usage_ms\":0,\"delay_sec\":0,\"context_free_actions\":[],"
+            + "\"actions\":[{\"account\":\"eosio.token\",\"name\":\"transfer\","
+            + "\"authorization\":[{\"actor\":\"an\",\"permission\":\"active\"}],"
+            + "\"data\":\"000000000000C034000000000000A682A08601000000000004454F530000000009536F6D657468696E67\"}],"
+            + "\"transaction_extensions\":[]}";
+
+    private static final String TRANSFER_HEX
+            = "000000000000C034000000000000A682A08601000000000004454F530000000009536F6D657468696E67";
+
+    private static final String TRANSFER_JSON = "{\"from\":\"an\",\"to\":\"ken\","
+            + "\"quantity\":\"10.0000 EOS\",\"memo\":\"Something\"}";
+
+    private static final String TYPES_ABI = "{\"version\":\"arisen::abi/1.1\","
+            + "\"types\":[{\"new_type_name\":\"account_name\",\"type\":\"name\"}],"
+            + "\"structs\":[{\"name\":\"base_record\",\"base\":\"\",\"fields\":["
+            + "{\"name\":\"id\",\"type\":\"uint64\"}]},"
+            + "{\"name\":\"record\",\"base\":\"base_record\",\"fields\":["
+            + "{\"name\":\"flag\",\"type\":\"bool\"},{\"name\":\"i8\",\"type\":\"int8\"},"
+            + "{\"name\":\"u16\",\"type\":\"uint16\"},{\"name\":\"i32\",\"type\":\"int32\"},"
+            + "{\"name\":\"u32\",\"type\":\"uint32\"},{\"name\":\"i64\",\"type\":\"int64\"},"
+            + "{\"name\":\"u128\",\"type\":\"uint128\"},{\"name\":\"vi\",\"type\":\"varint32\"},"
+            + "{\"name\":\"vu\",\"type\":\"varuint32\"},{\"name\":\"f64\",\"type\":\"float64\"},"
+            + "{\"name\":\"owner\",\"type\":\"account_name\"},{\"name\":\"sym\",\"type\":\"symbol\"},"
+            + "{\"name\":\"code\",\"type\":\"symbol_code\"},{\"name\":\"amount\",\"type\":\"asset\"},"
+            + "{\"name\":\"ext\",\"type\":\"extended_asset\"},{\"name\":\"tp\",\"type\":\"time_point\"},"
+            + "{\"name\":\"tps\",\"type\":\"time_point_sec\"},"
+            + "{\"name\":\"bt\",\"type\":\"block_timestamp_type\"},"
+            + "{\"name\":\"memo\",\"type\":\"string\"},{\"name\":\"raw\",\"type\":\"bytes\"},"
+            + "{\"name\":\"hash\",\"type\":\"checksum256\"},{\"name\":\"tags\",\"type\":\"name[]\"},"
+            + "{\"name\":\"note\",\"type\":\"string?\"},{\"name\":\"missing\",\"type\":\"string?\"},"
+            + "{\"name\":\"choice\",\"type\":\"item\"},{\"name\":\"extra\",\"type\":\"uint32$\"}]}],"
+            + "\"variants\":[{\"name\":\"item\",\"types\":[\"uint8\",\"string\"]}],"
+            + "\"actions\":[{\"name\":\"store\",\"type\":\"record\",\"ricardian_contract\":\"\"}]}";
+
+    private static final String TYPES_JSON = "{\"id\":\"18446744073709551615\",\"flag\":true,"
+            + "\"i8\":-2,\"u16\":513,\"i32\":-1,\"u32\":4294967295,\"i64\":\"-9223372036854775808\","
+            + "\"u128\":\"340282366920938463463374607431768211455\",\"vi\":-3,\"vu\":300,\"f64\":1.5,"
+            + "\"owner\":\"eosio\",\"sym\":\"4,EOS\",\"code\":\"EOS\",\"amount\":\"-1.2345 EOS\","
+            + "\"ext\":{\"quantity\":\"1.0000 EOS\",\"contract\":\"eosio.token\"},"
+            + "\"tp\":\"2019-04-01T22:08:40.123456\",\"tps\":\"2019-04-01T22:08:40.000\","
+            + "\"bt\":\"2019-04-01T22:08:40.500\",\"memo\":\"héllo\",\"raw\":\"DEADBEEF\","
+            + "\"hash\":\"9b3f0e3c7f1b5e6a5b1f2c3d4e5f60718293a4b5c6d7e8f90a1b2c3d4e5f6071\","
+            + "\"tags\":[\"eosio\",\"eosio.token\"],\"note\":\"x\",\"missing\":null,"
+            + "\"choice\":[\"string\",\"abc\"],\"extra\":7}";
+
+    private static final String TYPES_HEX = "FFFFFFFFFFFFFFFF01FE0102FFFFFFFFFFFFFFFF0000000000000080"
+            + "FFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFF05AC02000000000000F83F0000000000EA305504454F5300000000"
+            + "454F530000000000C7CFFFFFFFFFFFFF04454F5300000000102700000000000004454F5300000000"
+            + "00A6823403EA305540AC4E437F850500E88BA25CD1906A480668C3A96C6C6F04DEADBEEF"
+            + "9B3F0E3C7F1B5E6A5B1F2C3D4E5F60718293A4B5C6D7E8F90A1B2C3D4E5F6071"
+            + "020000000000EA305500A6823403EA305501017800010361626307000000";
+
+    private static final String TOKEN_ABI_HEX
+            = "0e656f73696f3a3a6162692f312e30010c6163636f756e745f6e616d65046e616d6505087472616e73666572"
+            + "00040466726f6d0c6163636f756e745f6e616d6502746f0c6163636f756e745f6e616d65087175616e746974"
+            + "79056173736574046d656d6f06737472696e67066372656174650002066973737565720c6163636f756e745f"
+            + "6e616d650e6d6178696d756d5f737570706c79056173736574056973737565000302746f0c6163636f756e74"
+            + "5f6e616d65087175616e74697479056173736574046d656d6f06737472696e67076163636f756e7400010762"
+            + "616c616e63650561737365740e63757272656e63795f7374617473000306737570706c790561737365740a6d"
+            + "61785f737570706c79056173736574066973737565720c6163636f756e745f6e616d6503000000572d3ccdcd"
+            + "087472616e73666572bc072d2d2d0a7469746c653a20546f6b656e205472616e736665720a73756d6d617279"
+            + "3a205472616e7366657220746f6b656e732066726f6d206f6e65206163636f756e7420746f20616e6f746865"
+            + "722e0a69636f6e3a2068747470733a2f2f63646e2e746573746e65742e6465762e62316f70732e6e65742f74"
+            + "6f6b656e2d7472616e736665722e706e67236365353165663966396565636133343334653835353037653065"
+            + "64343965373666666631323635343232626465643032353566333139366561353963386230630a2d2d2d0a0a"
+            + "2323205472616e73666572205465726d73202620436f6e646974696f6e730a0a492c207b7b66726f6d7d7d2c"
+            + "20636572746966792074686520666f6c6c6f77696e6720746f206265207472756520746f2074686520626573"
+            + "74206f66206d79206b6e6f776c656467653a0a0a312e204920636572746966792074686174207b7b7175616e"
+            + "746974797d7d206973206e6f74207468652070726f6365656473206f66206672617564756c656e74206f7220"
+            + "76696f6c656e7420616374697669746965732e0a322e2049206365727469667920746861742c20746f207468"
+            + "652062657374206f66206d79206b6e6f776c656467652c207b7b746f7d7d206973206e6f7420737570706f72"
+            + "74696e6720696e6974696174696f6e206f662076696f6c656e636520616761696e7374206f74686572732e0a"
+            + "332e2049206861766520646973636c6f73656420616e7920636f6e747261637475616c207465726d73202620"
+            + "636f6e646974696f6e732077697468207265737065637420746f207b7b7175616e746974797d7d20746f207b"
+            + "7b746f7d7d2e0a0a4920756e6465727374616e6420746861742066756e6473207472616e7366657273206172"
+            + "65206e6f742072657665727369626c6520616674657220746865207b7b247472616e73616374696f6e2e6465"
+            + "6c61795f7365637d7d207365636f6e6473206f72206f746865722064656c617920617320636f6e6669677572"
+            + "6564206279207b7b66726f6d7d7d2773207065726d697373696f6e732e0a0a4966207468697320616374696f"
+            + "6e206661696c7320746f20626520697272657665727369626c7920636f6e6669726d65642061667465722072"
+            + "6563656976696e6720676f6f6473206f722073657276696365732066726f6d20277b7b746f7d7d272c204920"
+            + "616772656520746f206569746865722072657475726e2074686520676f6f6473206f72207365727669636573"
+            + "206f7220726573656e64207b7b7175616e746974797d7d20696e20612074696d656c79206d616e6e65722e00"
+            + "00000000a531760569737375650000000000a86cd445066372656174650002000000384f4d11320369363401"
+            + "0863757272656e6379010675696e743634076163636f756e740000000000904dc60369363401086375727265"
+            + "6e6379010675696e7436340e63757272656e63795f737461747300000000";
+
+    private final SerializationProviderImpl serializationProvider = new SerializationProviderImpl();
+
+    @Test
+    public void serializeTransactionMatchesKnownVector() throws Exception {
+        assertEquals(TRANSACTION_HEX, this.serializationProvider.serializeTransaction(TRANSACTION_JSON));
+        assertEquals(TRANSACTION_JSON, this.serializationProvider.deserializeTransaction(TRANSACTION_HEX));
+    }
+
+    @Test
+    public void serializeTransactionAcceptsNumbersAsStrings() throws Exception {
+        String json = TRANSACTION_JSON.replace("\"ref_block_num\":28405", "\"ref_block_num\":\"28405\"")
+                .replace("20:14:03.000", "20:14:03Z");
+        assertEquals(TRANSACTION_HEX, this.serializationProvider.serializeTransaction(json));
+    }
+
+    @Test
+    public void serializeActionMatchesKnownVector() throws Exception {
+        AbiRixSerializationObject serializationObject = new AbiRixSerializationObject(
+                "eosio.token", "transfer", null, TOKEN_ABI);
+        serializationObject.setJson(TRANSFER_JSON);
+        this.serializationProvider.serialize(serializationObject);
+        assertEquals(TRANSFER_HEX, serializationObject.getHex());
+
+        AbiRixSerializationObject deserializationObject = new AbiRixSerializationObject(
+                "eosio.token", "transfer", null, CompiledAbi.compile(TOKEN_ABI));
+        deserializationObject.setHex(TRANSFER_HEX);
+        this.serializationProvider.deserialize(deserializationObject);
+        assertEquals(TRANSFER_JSON, deserializationObject.getJson());
+    }
+
+    @Test
+    public void serializeCoversAbiTypeSystem() throws Exception {
+        AbiRixSerializationObject serializationObject = new AbiRixSerializationObject(
+                "test", "store", null, TYPES_ABI);
+        serializationObject.setJson(TYPES_JSON);
+        this.serializationProvider.serialize(serializationObject);
+        assertEquals(TYPES_HEX, serializationObject.getHex());
+
+        AbiRixSerializationObject deserializationObject = new AbiRixSerializationObject(
+                "test", "store", null, TYPES_ABI);
+        deserializationObject.setHex(TYPES_HEX);
+        this.serializationProvider.deserialize(deserializationObject);
+        assertEquals(TYPES_JSON, deserializationObject.getJson());
+    }
+
+    @Test
+    public void deserializeOmitsMissingBinaryExtension() throws Exception {
+        String hexWithoutExtension = TYPES_HEX.substring(0, TYPES_HEX.length() - 8);
+        AbiRixSerializationObject deserializationObject = new AbiRixSerializationObject(
+                "test", "store", null, TYPES_ABI);
+        deserializationObject.setHex(hexWithoutExtension);
+        this.serializationProvider.deserialize(deserializationObject);
+        assertEquals(TYPES_JSON.replace(",\"extra\":7", ""), deserializationObject.getJson());
+
+        AbiRixSerializationObject serializationObject = new AbiRixSerializationObject(
+                "test", "store", null, TYPES_ABI);
+        serializationObject.setJson(deserializationObject.getJson());
+        this.serializationProvider.serialize(serializationObject);
+        assertEquals(hexWithoutExtension, serializationObject.getHex());
+    }
+
+    @Test
+    public void compiledAbiCodecsMatchAndHandleRecursiveTypes() throws Exception {
+        CompiledAbi typesAbi = CompiledAbi.compile(TYPES_ABI);
+        // The second conversion reuses the codec compiled by the first one
+        for (int i = 0; i < 2; i++) {
+            AbiRixSerializationObject serializationObject = new AbiRixSerializationObject(
+                    "test", "store", null, typesAbi);
+            serializationObject.setJson(TYPES_JSON);
+            this.serializationProvider.serialize(serializationObject);
+            assertEquals(TYPES_HEX, serializationObject.getHex());
+
+            AbiRixSerializationObject deserializationObject = new AbiRixSerializationObject(
+                    "test", "store", null, typesAbi);
+            deserializationObject.setHex(TYPES_HEX);
+            this.serializationProvider.deserialize(deserializationObject);
+            assertEquals(TYPES_JSON, deserializationObject.getJson());
+        }
+
+        // A recursive struct with a field of a type unknown to the ABI, only failing when present
+        CompiledAbi treeAbi = CompiledAbi.compile("{\"version\":\"arisen::abi/1.1\","
+                + "\"structs\":[{\"name\":\"node\",\"base\":\"\",\"fields\":["
+                + "{\"name\":\"value\",\"type\":\"uint8\"},{\"name\":\"children\",\"type\":\"node[]\"},"
+                + "{\"name\":\"other\",\"type\":\"unknown?\"}]}],"
+                + "\"actions\":[{\"name\":\"tree\",\"type\":\"node\",\"ricardian_contract\":\"\"}]}");
+        String treeJson = "{\"value\":1,\"children\":[{\"value\":2,\"children\":[],\"other\":null}],"
+                + "\"other\":null}";
+        AbiRixSerializationObject serializationObject = new AbiRixSerializationObject(
+                "test", "tree", null, treeAbi);
+        serializationObject.setJson(treeJson);
+        this.serializationProvider.serialize(serializationObject);
+        assertEquals("010102000000", serializationObject.getHex());
+
+        AbiRixSerializationObject deserializationObject = new AbiRixSerializationObject(
+                "test", "tree", null, treeAbi);
+        deserializationObject.setHex("010102000000");
+        this.serializationProvider.deserialize(deserializationObject);
+        assertEquals(treeJson, deserializationObject.getJson());
+
+        String deepTreeJson = "{\"value\":0,\"children\":[]}";
+        for (int i = 0; i < 40; i++) {
+            deepTreeJson = "{\"value\":0,\"children\":[" + deepTreeJson + "]}";
+        }
+
+        serializationObject.setJson(deepTreeJson);
+        try {
+            this.serializationProvider.serialize(serializationObject);
+            fail("Serializing a value nested too deeply should fail.");
+        } catch (SerializeError serializeError) {
+            assertEquals(String.format(ErrorConstants.SERIALIZATION_PROVIDER_TYPE_TOO_DEEP, "node"),
+                    serializeError.getCause().getMessage());
+        }
+
+        serializationObject.setJson("{\"value\":1,\"children\":[],\"other\":1}");
+        try {
+            this.serializationProvider.serialize(serializationObject);
+            fail("Serializing a value of an unknown type should fail.");
+        } catch (SerializeError serializeError) {
+            assertEquals(String.format(ErrorConstants.SERIALIZATION_PROVIDER_UNKNOWN_TYPE, "unknown"),
+                    serializeError.getCause().getMessage());
+        }
+    }
+
+    @Test
+    public void serializeSelfReferentialAlias() throws Exception {
+        // Types without end, as any value of x is itself an x
+        for (String aliasType : new String[]{"x?", "x$"}) {
+            CompiledAbi aliasAbi = CompiledAbi.compile("{\"version\":\"arisen::abi/1.1\","
+                    + "\"types\":[{\"new_type_name\":\"x\",\"type\":\"" + aliasType + "\"}],"
+                    + "\"structs\":[{\"name\":\"s\",\"base\":\"\",\"fields\":["
+                    + "{\"name\":\"f\",\"type\":\"x\"}]}],"
+                    + "\"actions\":[{\"name\":\"act\",\"type\":\"s\",\"ricardian_contract\":\"\"}]}");
+            AbiRixSerializationObject serializationObject = new AbiRixSerializationObject(
+                    "test", "act", null, aliasAbi);
+            serializationObject.setJson("{\"f\":[[[]]]}");
+            try {
+                this.serializationProvider.serialize(serializationObject);
+                fail("Serializing a value of a type without end should fail: " + aliasType);
+            } catch (SerializeError serializeError) {
+                assertEquals(String.format(ErrorConstants.SERIALIZATION_PROVIDER_TYPE_TOO_DEEP, "x"),
+                        serializeError.getCause().getMessage());
+            }
+        }
+
+        CompiledAbi arrayAbi = CompiledAbi.compile("{\"version\":\"arisen::abi/1.1\","
+                + "\"types\":[{\"new_type_name\":\"x\",\"type\":\"x[]\"}],"
+                + "\"structs\":[{\"name\":\"s\",\"base\":\"\",\"fields\":["
+                + "{\"name\":\"f\",\"type\":\"x\"}]}],"
+                + "\"actions\":[{\"name\":\"act\",\"type\":\"s\",\"ricardian_contract\":\"\"}]}");
+        AbiRixSerializationObject serializationObject = new AbiRixSerializationObject(
+                "test", "act", null, arrayAbi);
+        serializationObject.setJson("{\"f\":[]}");
+        this.serializationProvider.serialize(serializationObject);
+        assertEquals("00", serializationObject.getHex());
+
+        serializationObject.setJson("{\"f\":[[[]]]}");
+        this.serializationProvider.serialize(serializationObject);
+        assertEquals("010100", serializationObject.getHex());
+
+        AbiRixSerializationObject deserializationObject = new AbiRixSerializationObject(
+                "test", "act", null, arrayAbi);
+        deserializationObject.setHex("010100");
+        this.serializationProvider.deserialize(deserializationObject);
+        assertEquals("{\"f\":[[[]]]}", deserializationObject.getJson());
+
+        String deepJson = "[]";
+        for (int i = 0; i < 40; i++) {
+            deepJson = "[" + deepJson + "]";
+        }
+
+        serializationObject.setJson("{\"f\":" + deepJson + "}");
+        try {
+            this.serializationProvider.serialize(serializationObject);
+            fail("Serializing a value nested too deeply should fail.");
+        } catch (SerializeError serializeError) {
+            assertEquals(String.format(ErrorConstants.SERIALIZATION_PROVIDER_TYPE_TOO_DEEP, "x"),
+                    serializeError.getCause().getMessage());
+        }
+    }
+
+    @Test
+    public void serializeTypeKeysAndSignatures() throws Exception {
+        String publicKey = "PUB_K1_8CbY5PhQZGF2gzPKRBaNG4YzB4AwpmfnDcVZMSPZTqQMn1uFhB";
+        assertEquals(publicKey, roundTrip("public_key", publicKey));
+        String publicKeyR1 = "PUB_R1_4ztaVy8L9zbmzTdpfq5GcaFYwGwXTNmN3qW7qcgHMmfUZhpzQQ";
+        assertEquals(publicKeyR1, roundTrip("public_key", publicKeyR1));
+        String legacyPublicKey = "RIX5AzPqKAx4caCrRSAuyojY6rRKA3KJf4A1MY3paNVqV5eADEVm2";
+        String convertedPublicKey = roundTrip("public_key", legacyPublicKey);
+        assertTrue(convertedPublicKey.startsWith("PUB_K1_"));
+        assertEquals(serializeType("public_key", legacyPublicKey),
+                serializeType("public_key", convertedPublicKey));
+
+        String privateKey = roundTrip("private_key", "5JKVeYzRs42DpnHU1rUeJHPZyXb1pCdhyayx7FD2qKHV63F71zU");
+        assertTrue(privateKey.startsWith("PVT_K1_"));
+        assertEquals(privateKey, roundTrip("private_key", privateKey));
+
+        StringBuilder signatureHex = new StringBuilder("00");
+        for (int i = 0; i < 65; i++) {
+            signatureHex.append(String.format("%02X", i));
+        }
+
+        String signature = deserializeType("signature", signatureHex.toString());
+        assertTrue(signature.startsWith("SIG_K1_"));
+        assertEquals(signatureHex.toString(), serializeType("signature", signature));
+    }
+
+    @Test
+    public void serializeTypeUsesTypeOfSerializationObject() throws Exception {
+        assertEquals("0000000000EA3055", serializeType("name", "eosio"));
+        assertEquals("C7CFFFFFFFFFFFFF04454F5300000000", serializeType("asset", "-1.2345 EOS"));
+        assertEquals("0100000000000000004D4F4E45590000", serializeType("asset", "1 MONEY"));
+        assertEquals("0.0001 EOS", roundTrip("asset", "0.0001 EOS"));
+        assertEquals("-0.5000 EOS", roundTrip("asset", "-0.5000 EOS"));
+        assertEquals("1969-12-31T23:59:59.999", roundTrip("time_point", "1969-12-31T23:59:59.999"));
+        assertEquals("2100-02-28T12:00:00.000", roundTrip("time_point_sec", "2100-02-28T12:00:00"));
+        assertEquals("12345678901234567890", roundTrip("uint128", "12345678901234567890"));
+        assertEquals("-170141183460469231731687303715884105728",
+                roundTrip("int128", "-170141183460469231731687303715884105728"));
+        assertEquals("zzzzzzzzzzzzj", roundTrip("name", "zzzzzzzzzzzzj"));
+    }
+
+    @Test
+    public void byteVariantsMatchHexVariants() throws Exception {
+        assertTrue(this.serializationProvider.isByteSerializationSupported());
+        byte[] transaction = this.serializationProvider.serializeTransactionToBytes(TRANSACTION_JSON);
+        assertArrayEquals(Hex.decode(TRANSACTION_HEX), transaction);
+
+        // Only the remaining bytes are read and the position of the buffer is left unchanged
+        ByteBuffer buffer = ByteBuffer.allocate(transaction.length + 2);
+        buffer.put((byte) 0x7F).put(transaction).put((byte) 0x7F);
+        buffer.position(1);
+        buffer.limit(transaction.length + 1);
+        assertEquals(TRANSACTION_JSON, this.serializationProvider.deserializeTransaction(buffer));
+        assertEquals(1, buffer.position());
+
+        AbiRixSerializationObject serializationObject = new AbiRixSerializationObject(
+                "eosio.token", "transfer", null, TOKEN_ABI);
+        serializationObject.setJson(TRANSFER_JSON);
+        byte[] transfer = this.serializationProvider.serializeToBytes(serializationObject);
+        assertArrayEquals(Hex.decode(TRANSFER_HEX), transfer);
+
+        AbiRixSerializationObject deserializationObject = new AbiRixSerializationObject(
+                "eosio.token", "transfer", null, TOKEN_ABI);
+        this.serializationProvider.deserialize(deserializationObject, ByteBuffer.wrap(transfer));
+        assertEquals(TRANSFER_JSON, deserializationObject.getJson());
+
+        byte[] abi = this.serializationProvider.serializeAbiToBytes(
+                this.serializationProvider.deserializeAbi(ByteBuffer.wrap(Hex.decode(TOKEN_ABI_HEX))));
+        assertArrayEquals(Hex.decode(TOKEN_ABI_HEX), abi);
+    }
+
+    @Test
+    public void serializeAndDeserializeAbiRoundTrip() throws Exception {
+        String abiJson = this.serializationProvider.deserializeAbi(TOKEN_ABI_HEX);
+        JsonObject abi = new JsonParser().parse(abiJson).getAsJsonObject();
+        assertEquals("eosio::abi/1.0", abi.get("version").getAsString());
+        assertEquals("account_name", abi.getAsJsonArray("types").get(0).getAsJsonObject()
+                .get("new_type_name").getAsString());
+        assertEquals(3, abi.getAsJsonArray("actions").size());
+        assertEquals(2, abi.getAsJsonArray("tables").size());
+        assertEquals(TOKEN_ABI_HEX.toUpperCase(), this.serializationProvider.serializeAbi(abiJson));
+
+        // The token ABI written by hand, without its optional members
+        String tokenAbiHex = this.serializationProvider.serializeAbi(
+                TOKEN_ABI.replace("\"base\":\"\",", ""));
+        String tokenAbiJson = this.serializationProvider.deserializeAbi(tokenAbiHex);
+        CompiledAbi compiledAbi = CompiledAbi.compile(tokenAbiJson);
+        assertEquals("transfer", compiledAbi.getActionType("transfer"));
+        assertEquals(4, compiledAbi.getActionStruct("transfer").getFields().size());
+    }
+
+    @Test
+    public void serialize_thenFailWithInvalidValues() {
+        assertSerializeError("name", "\"EOSIO\"");
+        assertSerializeError("name", "\"abcdefghijklmn\"");
+        assertSerializeError("uint8", "256");
+        assertSerializeError("int64", "\"9223372036854775808\"");
+        assertSerializeError("asset", "\"1.0000\"");
+        assertSerializeError("symbol", "\"4,eos\"");
+        assertSerializeError("time_point", "\"2019-13-01T00:00:00\"");
+        assertSerializeError("checksum256", "\"00\"");
+        assertSerializeError("public_key", "\"PUB_K1_8CbY5PhQZGF2gzPKRBaNG4YzB4AwpmfnDcVZMSPZTqQMn1uFhC\"");
+        assertSerializeError("item", "[\"name\",\"eosio\"]");
+        assertSerializeError("unknown", "1");
+
+        AbiRixSerializationObject serializationObject = new AbiRixSerializationObject(
+                "eosio.token", "issue", null, TOKEN_ABI);
+        serializationObject.setJson("{}");
+        try {
+            this.serializationProvider.serialize(serializationObject);
+            fail("Serializing an action missing from the ABI should fail.");
+        } catch (SerializeError serializeError) {
+            assertEquals(String.format(ErrorConstants.SERIALIZATION_PROVIDER_UNKNOWN_ACTION,
+                    "issue", "eosio.token"), serializeError.getMessage());
+        }
+
+        AbiRixSerializationObject missingFieldObject = new AbiRixSerializationObject(
+                "eosio.token", "transfer", null, TOKEN_ABI);
+        missingFieldObject.setJson("{\"from\":\"an\",\"to\":\"ken\",\"quantity\":\"10.0000 EOS\"}");
+        try {
+            this.serializationProvider.serialize(missingFieldObject);
+            fail("Serializing a struct missing a field should fail.");
+        } catch (SerializeError serializeError) {
+            assertEquals(String.format(ErrorConstants.SERIALIZATION_PROVIDER_MISSING_FIELD,
+                    "memo", "transfer"), serializeError.getCause().getMessage());
+        }
+    }
+
+    @Test
+    public void deserialize_thenFailWithInvalidData() {
+        try {
+            this.serializationProvider.deserializeTransaction(
+                    TRANSACTION_HEX.substring(0, TRANSACTION_HEX.length() - 4));
+            fail("Deserializing a truncated transaction should fail.");
+        } catch (DeserializeTransactionError deserializeTransactionError) {
+            assertEquals(String.format(ErrorConstants.SERIALIZATION_PROVIDER_DESERIALIZE_ERROR,
+                    "transaction"), deserializeTransactionError.getMessage());
+        }
+
+        try {
+            this.serializationProvider.deserializeTransaction(TRANSACTION_HEX + "00");
+            fail("Deserializing a transaction followed by extra data should fail.");
+        } catch (DeserializeTransactionError deserializeTransactionError) {
+            assertEquals(String.format(ErrorConstants.SERIALIZATION_PROVIDER_EXTRA_DATA, 1),
+                    deserializeTransactionError.getCause().getMessage());
+        }
+
+        AbiRixSerializationObject deserializationObject = new AbiRixSerializationObject(
+                "test", "store", "bool", TYPES_ABI);
+        deserializationObject.setHex("02");
+        try {
+            this.serializationProvider.deserialize(deserializationObject);
+            fail("Deserializing an invalid bool should fail.");
+        } catch (DeserializeError deserializeError) {
+            assertEquals(String.format(ErrorConstants.SERIALIZATION_PROVIDER_INVALID_DATA, "bool"),
+                    deserializeError.getCause().getMessage());
+        }
+    }
+
+    private String serializeType(String type, String value) throws SerializeError {
+        AbiRixSerializationObject serializationObject = new AbiRixSerializationObject(
+                "test", "store", type, TYPES_ABI);
+        serializationObject.setJson("\"" + value + "\"");
+        this.serializationProvider.serialize(serializationObject);
+        return serializationObject.getHex();
+    }
+
+    private String deserializeType(String type, String hex) throws DeserializeError {
+        AbiRixSerializationObject deserializationObject = new AbiRixSerializationObject(
+                "test", "store", type, TYPES_ABI);
+        deserializationObject.setHex(hex);
+        this.serializationProvider.deserialize(deserializationObject);
+        return new JsonParser().parse(deserializationObject.getJson()).getAsString();
+    }
+
+    private String roundTrip(String type, String value) throws Exception {
+        return deserializeType(type, serializeType(type, value));
+    }
+
+    private void assertSerializeError(String type, String json) {
+        AbiRixSerializationObject serializationObject = new AbiRixSerializationObject(
+                "test", "store", type, TYPES_ABI);
+        serializationObject.setJson(json);
+        try {
+            this.serializationProvider.serialize(serializationObject);
+            fail("Serializing " + json + " as " + type + " should fail.");
+        } catch (SerializeError serializeError) {
+            assertEquals(String.format(ErrorConstants.SERIALIZATION_PROVIDER_SERIALIZE_ERROR, type),
+                    serializeError.getMessage());
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package one.block.arisenjava.session;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import one.block.arisenjava.error.ErrorConstants;
+import one.block.arisenjava.error.serializationProvider.SerializeError;
+import one.block.arisenjava.error.session.ActionTemplateError;
+import one.block.arisenjava.interfaces.ISerializationProvider;
+import one.block.arisenjava.models.AbiRixSerializationObject;
+import one.block.arisenjava.models.rpcProvider.Action;
+import one.block.arisenjava.models.rpcProvider.Authorization;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+public class ActionTemplateTest {
+
+    private static final String ABI = "{\"version\":\"arisen::abi/1.1\","
+            + "\"types\":[{\"new_type_name\":\"account_name\",\"type\":\"name\"}],"
+            + "\"structs\":[{\"name\":\"base_transfer\",\"base\":\"\",\"fields\":["
+            + "{\"name\":\"from\",\"type\":\"account_name\"},{\"name\":\"to\",\"type\":\"account_name\"}]},"
+            + "{\"name\":\"transfer\",\"base\":\"base_transfer\",\"fields\":["
+            + "{\"name\":\"quantity\",\"type\":\"asset\"},{\"name\":\"memo\",\"type\":\"string\"}]}],"
+            + "\"actions\":[{\"name\":\"transfer\",\"type\":\"transfer\",\"ricardian_contract\":\"\"}]}";
+
+    private ISerializationProvider mockedSerializationProvider = mock(ISerializationProvider.class);
+
+    @Before
+    public void setUp() {
+        try {
+            // Serialize each field as "<type=json>" to check the order and the types of the fields
+            doAnswer(new Answer() {
+                @Override
+                public Object answer(InvocationOnMock invocationOnMock) {
+                    AbiRixSerializationObject serializationObject = (AbiRixSerializationObject) invocationOnMock.getArguments()[0];
+                    serializationObject.setHex("<" + serializationObject.getType() + "="
+                            + serializationObject.getJson() + ">");
+                    return null;
+                }
+            }).when(this.mockedSerializationProvider).serialize(any(AbiRixSerializationObject.class));
+        } catch (SerializeError serializeError) {
+            serializeError.printStackTrace();
+            fail("Exception should not be thrown here for mocking serialize");
+        }
+    }
+
+    @Test
+    public void bindSplicesVariableFieldsBetweenStaticSegments() {
+        try {
+            ActionTemplate template = new ActionTemplate(this.mockedSerializationProvider, ABI,
+                    this.partialAction("{\"from\":\"alice\",\"memo\":\"payout\"}"));
+            assertEquals(Arrays.asList("to", "quantity"), template.getVariableFields());
+            verify(this.mockedSerializationProvider, times(2)).serialize(any(AbiRixSerializationObject.class));
+
+            reset(this.mockedSerializationProvider);
+            this.setUp();
+
+            Map<String, Object> values = new HashMap<>();
+            values.put("to", "bob");
+            values.put("quantity", "1.0000 RIX");
+            Action action = template.bind(values);
+
+            assertEquals("<account_name=\"alice\"><account_name=\"bob\"><asset=\"1.0000 RIX\"><string=\"payout\">",
+                    action.getData());
+            assertTrue(action.isDataSerialized());
+            assertEquals("arisen.token", action.getAccount());
+            assertEquals("transfer", action.getName());
+            assertEquals("bob", action.getAuthorization().get(0).getActor());
+            // Only the variable fields are serialized when binding
+            verify(this.mockedSerializationProvider, times(2)).serialize(any(AbiRixSerializationObject.class));
+        } catch (ActionTemplateError | SerializeError error) {
+            error.printStackTrace();
+            fail("Exception should not be thrown here for compiling and binding a template.");
+        }
+    }
+
+    @Test
+    public void bindWithoutStaticFields() {
+        try {
+            ActionTemplate template = new ActionTemplate(this.mockedSerializationProvider, ABI,
+                    this.partialAction(""));
+            assertEquals(Arrays.asList("from", "to", "quantity", "memo"), template.getVariableFields());
+
+            Map<String, Object> values = new HashMap<>();
+            values.put("from", "alice");
+            values.put("to", "bob");
+            values.put("quantity", "1.0000 RIX");
+            values.put("memo", "");
+            assertEquals("<account_name=\"alice\"><account_name=\"bob\"><asset=\"1.0000 RIX\"><string=\"\">",
+                    template.bind(values).getData());
+        } catch (ActionTemplateError actionTemplateError) {
+            actionTemplateError.printStackTrace();
+            fail("Exception should not be thrown here for compiling and binding a template.");
+        }
+    }
+
+    @Test
+    public void bind_thenFailWithMissingOrUnknownField() {
+        ActionTemplate template = null;
+        try {
+            template = new ActionTemplate(this.mockedSerializationProvider, ABI,
+                    this.partialAction("{\"from\":\"alice\",\"memo\":\"payout\"}"));
+        } catch (ActionTemplateError actionTemplateError) {
+            actionTemplateError.printStackTrace();
+            fail("Exception should not be thrown here for compiling a template.");
+        }
+
+        Map<String, Object> values = new HashMap<>();
+        values.put("to", "bob");
+        try {
+            template.bind(values);
+            fail("Exception should be thrown here for binding a template without quantity.");
+        } catch (ActionTemplateError actionTemplateError) {
+            assertEquals(String.format(ErrorConstants.ACTION_TEMPLATE_MISSING_FIELD, "quantity"),
+                    actionTemplateError.getMessage());
+        }
+
+        values.put("quantity", "1.0000 RIX");
+        values.put("memo", "overridden");
+        try {
+            template.bind(values);
+            fail("Exception should be thrown here for binding a static field.");
+        } catch (ActionTemplateError actionTemplateError) {
+            assertEquals(String.format(ErrorConstants.ACTION_TEMPLATE_UNKNOWN_FIELD, "memo"),
+                    actionTemplateError.getMessage());
+        }
+    }
+
+    @Test
+    public void compile_thenFailWithUnknownAction() {
+        Action partialAction = this.partialAction("{}");
+        partialAction.setName("issue");
+        try {
+            new ActionTemplate(this.mockedSerializationProvider, ABI, partialAction);
+            fail("Exception should be thrown here for an action missing from the ABI.");
+        } catch (ActionTemplateError actionTemplateError) {
+            assertEquals(String.format(ErrorConstants.ACTION_TEMPLATE_STRUCT_NOT_FOUND, "issue",
+                    "arisen.token"), actionTemplateError.getMessage());
+        }
+    }
+
+    @Test
+    public void compile_thenFailWithInvalidData() {
+        try {
+            new ActionTemplate(this.mockedSerializationProvider, ABI, this.partialAction("[1]"));
+            fail("Exception should be thrown here for data which is not a JSON object.");
+        } catch (ActionTemplateError actionTemplateError) {
+            assertEquals(ErrorConstants.ACTION_TEMPLATE_INVALID_DATA, actionTemplateError.getMessage());
+        }
+
+        try {
+            new ActionTemplate(this.mockedSerializationProvider, ABI,
+                    this.partialAction("{\"amount\":1}"));
+            fail("Exception should be thrown here for a static field missing from the struct.");
+        } catch (ActionTemplateError actionTemplateError) {
+            assertEquals(String.format(ErrorConstants.ACTION_TEMPLATE_UNKNOWN_FIELD, "amount"),
+                    actionTemplateError.getMessage());
+        }
+    }
+
+    private Action partialAction(String data) {
+        List<Authorization> authorizations = new ArrayList<>();
+        authorizations.add(new Authorization("bob", "active"));
+        return new Action("arisen.token", "transfer", authorizations, data);
+    }
+}
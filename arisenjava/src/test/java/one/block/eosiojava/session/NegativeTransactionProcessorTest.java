@@ -2,6 +2,7 @@ package one.block.arisenjava.session;
 
 import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -11,6 +12,11 @@ import java.text.ParseException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import one.block.arisenjava.enums.TaposMode;
 import one.block.arisenjava.error.ArisenError;
 import one.block.arisenjava.error.ErrorConstants;
 import one.block.arisenjava.error.abiProvider.GetAbiError;
@@ -72,7 +78,7 @@ public class NegativeTransactionProcessorTest {
 
     private IRPCProvider mockedRpcProvider = mock(IRPCProvider.class);
     private ISignatureProvider mockedSignatureProvider = mock(ISignatureProvider.class);
-    private IABIProvider mockedABIProvider = mock(IABIProvider.class);
+    private IABIProvider mockedABIProvider = mock(IABIProvider.class, CALLS_REAL_METHODS);
     private ISerializationProvider mockedSerializationProvider = mock(ISerializationProvider.class);
     private TransactionSession session;
 
@@ -109,6 +115,30 @@ public class NegativeTransactionProcessorTest {
         processor.prepare(this.defaultActions());
     }
 
+    @Test
+    public void prepareAsync_thenFailWithGetInfoError() throws Throwable {
+        exceptionRule.expect(TransactionPrepareRpcError.class);
+        exceptionRule.expectMessage(ErrorConstants.TRANSACTION_PROCESSOR_RPC_GET_INFO);
+        exceptionRule.expectCause(IsInstanceOf.<Exception>instanceOf(GetInfoRpcError.class));
+
+        try {
+            when(this.mockedRpcProvider.getInfo()).thenThrow(new GetInfoRpcError());
+        } catch (GetInfoRpcError getInfoRpcError) {
+            getInfoRpcError.printStackTrace();
+            fail("Exception should not be thrown here for mocking getInfo");
+        }
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            session.getTransactionProcessor().prepareAsync(this.defaultActions(), executor)
+                    .get(10, TimeUnit.SECONDS);
+        } catch (ExecutionException executionException) {
+            throw executionException.getCause();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
     @Test
     public void prepare_thenFailWithGetBlockError() throws TransactionPrepareError {
         exceptionRule.expect(TransactionPrepareRpcError.class);
@@ -189,6 +219,21 @@ public class NegativeTransactionProcessorTest {
         processor.prepare(this.defaultActions());
     }
 
+    @Test
+    public void prepare_thenFailWithInvalidBlockIdInTaposMode() throws TransactionPrepareError {
+        exceptionRule.expect(TransactionPrepareError.class);
+        exceptionRule.expectMessage(String.format(ErrorConstants.TRANSACTION_PROCESSOR_PREPARE_INVALID_BLOCK_ID, "1"));
+
+        this.mockGetInfoPositively();
+
+        TransactionConfig transactionConfig = new TransactionConfig();
+        transactionConfig.setTaposMode(TaposMode.HEAD_BLOCK_ID);
+
+        TransactionProcessor processor = session.getTransactionProcessor();
+        processor.setTransactionConfig(transactionConfig);
+        processor.prepare(this.defaultActions());
+    }
+
     //endregion
 
     //region negative tests for "sign"
@@ -376,18 +421,48 @@ public class NegativeTransactionProcessorTest {
         this.mockSerialize(MOCKED_ACTION_HEX);
         this.mockSerializeTransaction(MOCKED_TRANSACTION_HEX);
 
-        // Mock Deserialize Transaction to throw error
+        // Mock signature provider to return a modified transaction which is not a valid packed transaction
+        this.mockGetAvailableKey(Arrays.asList("Key1", "Key2"));
+        this.mockSignTransaction(Utils.getGson(DateFormatter.BACKEND_DATE_PATTERN)
+                .fromJson(mockedArisenTransactionSignatureResponseInvalidModifiedTransactionJSON, ArisenTransactionSignatureResponse.class));
+
+        TransactionProcessor processor = session.getTransactionProcessor();
+        processor.setIsTransactionModificationAllowed(true);
+
         try {
-            when(this.mockedSerializationProvider.deserializeTransaction(any(String.class))).thenThrow(new DeserializeTransactionError());
-        } catch (DeserializeTransactionError deserializeTransactionError) {
-            deserializeTransactionError.printStackTrace();
-            fail("Exception should not be thrown here for mocking deserializeTransaction");
+            processor.prepare(this.defaultActions());
+        } catch (TransactionPrepareError transactionPrepareError) {
+            transactionPrepareError.printStackTrace();
+            fail("Exception should not be thrown here for calling prepare");
         }
 
-        // Mock signature provider
+        processor.sign();
+    }
+
+    @Test
+    public void signCallGetSignatureWithTransactionModifiedWithExtensions_thenFailWithDeserializeTransactionError()
+            throws TransactionSignError {
+        exceptionRule.expect(TransactionSignError.class);
+        exceptionRule.expectMessage(ErrorConstants.TRANSACTION_PROCESSOR_GET_SIGN_DESERIALIZE_TRANS_ERROR);
+        exceptionRule.expectCause(IsInstanceOf.<ArisenError>instanceOf(
+                TransactionGetSignatureDeserializationError.class));
+
+        // Mock RpcProvider
+        this.mockGetInfoPositively();
+        this.mockGetBlockPositively();
+        this.mockRequiredKeys(Utils.getGson(DateFormatter.BACKEND_DATE_PATTERN).fromJson(mockedGetRequiredKeysResponse, GetRequiredKeysResponse.class));
+
+        // Mock AbiProvider
+        this.mockGetAbi(ARISENTOKENABIJSON);
+
+        // mock serialization
+        this.mockSerialize(MOCKED_ACTION_HEX);
+        this.mockSerializeTransaction(MOCKED_TRANSACTION_HEX);
+
+        // Mock signature provider to return a modified transaction with a transaction extension
         this.mockGetAvailableKey(Arrays.asList("Key1", "Key2"));
         this.mockSignTransaction(Utils.getGson(DateFormatter.BACKEND_DATE_PATTERN)
-                .fromJson(mockedArisenTransactionSignatureResponseModifiedTransactionJSON, ArisenTransactionSignatureResponse.class));
+                .fromJson(mockedArisenTransactionSignatureResponseModifiedTransactionWithExtensionJSON, ArisenTransactionSignatureResponse.class));
 
         TransactionProcessor processor = session.getTransactionProcessor();
         processor.setIsTransactionModificationAllowed(true);
@@ -647,8 +722,13 @@ public class NegativeTransactionProcessorTest {
             + "\"signatures\": [\"" + MOCKED_SIGNATURE + "\"]"
             + "}";
 
-    private static final String mockedArisenTransactionSignatureResponseModifiedTransactionJSON = "{"
-            + "\"serializeTransaction\": \"" + MOCKED_TRANSACTION_HEX_MODIFIED + "\","
+    private static final String mockedArisenTransactionSignatureResponseInvalidModifiedTransactionJSON = "{"
+            + "\"serializeTransaction\": \"" + MOCKED_TRANSACTION_HEX_MODIFIED.substring(0, MOCKED_TRANSACTION_HEX_MODIFIED.length() - 2) + "\","
+            + "\"signatures\": [\"" + MOCKED_SIGNATURE + "\"]"
+            + "}";
+
+    private static final String mockedArisenTransactionSignatureResponseModifiedTransactionWithExtensionJSON = "{"
+            + "\"serializeTransaction\": \"" + MOCKED_TRANSACTION_HEX_MODIFIED.substring(0, MOCKED_TRANSACTION_HEX_MODIFIED.length() - 2) + "01010000\","
             + "\"signatures\": [\"" + MOCKED_SIGNATURE + "\"]"
             + "}";
 
@@ -0,0 +1,84 @@
+package one.block.arisenjava.session;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import one.block.arisenjava.models.rpcProvider.Action;
+import one.block.arisenjava.models.rpcProvider.Authorization;
+import one.block.arisenjava.models.rpcProvider.Transaction;
+import org.junit.Before;
+import org.junit.Test;
+
+public class RequiredKeysCacheTest {
+
+    private RequiredKeysCache cache;
+
+    @Before
+    public void setUp() {
+        this.cache = new RequiredKeysCache(2, 1, TimeUnit.MINUTES);
+    }
+
+    @Test
+    public void getIgnoresOrderOfAuthorizationsAndKeys() {
+        this.cache.put(this.transaction("alice@active", "bob@active"),
+                Arrays.asList("Key1", "Key2"), Arrays.asList("Key1"));
+
+        assertEquals(Arrays.asList("Key1"), this.cache.get(this.transaction("bob@active", "alice@active"),
+                Arrays.asList("Key2", "Key1")));
+        assertEquals(Arrays.asList("Key1"), this.cache.get(this.transaction("alice@active", "bob@active", "alice@active"),
+                Arrays.asList("Key1", "Key2")));
+    }
+
+    @Test
+    public void getMissesOnDifferentAuthorizationsOrKeys() {
+        this.cache.put(this.transaction("alice@active"), Arrays.asList("Key1", "Key2"), Arrays.asList("Key1"));
+
+        assertNull(this.cache.get(this.transaction("alice@owner"), Arrays.asList("Key1", "Key2")));
+        assertNull(this.cache.get(this.transaction("alice@active"), Arrays.asList("Key1")));
+    }
+
+    @Test
+    public void invalidate() {
+        this.cache.put(this.transaction("alice@active"), Arrays.asList("Key1"), Arrays.asList("Key1"));
+        this.cache.put(this.transaction("bob@active"), Arrays.asList("Key1"), Arrays.asList("Key1"));
+
+        this.cache.invalidate(this.transaction("alice@active"), Arrays.asList("Key1"));
+        assertNull(this.cache.get(this.transaction("alice@active"), Arrays.asList("Key1")));
+        assertEquals(1, this.cache.size());
+
+        this.cache.invalidateAll();
+        assertEquals(0, this.cache.size());
+    }
+
+    @Test
+    public void sizeIsBounded() {
+        for (int i = 0; i < 10; i++) {
+            this.cache.put(this.transaction("account" + i + "@active"), Arrays.asList("Key1"), Arrays.asList("Key1"));
+        }
+
+        assertEquals(2, this.cache.size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorRejectsInvalidSize() {
+        new RequiredKeysCache(0, 1, TimeUnit.MINUTES);
+    }
+
+    private Transaction transaction(String... authorizations) {
+        List<Action> actions = new ArrayList<>();
+        for (String authorization : authorizations) {
+            String[] actorPermission = authorization.split("@");
+            List<Authorization> actionAuthorizations = new ArrayList<>();
+            actionAuthorizations.add(new Authorization(actorPermission[0], actorPermission[1]));
+            actions.add(new Action("arisen.token", "transfer", actionAuthorizations, ""));
+        }
+
+        return new Transaction("", BigInteger.ZERO, BigInteger.ZERO, BigInteger.ZERO, BigInteger.ZERO,
+                BigInteger.ZERO, new ArrayList<Action>(), actions, new ArrayList<String>());
+    }
+}
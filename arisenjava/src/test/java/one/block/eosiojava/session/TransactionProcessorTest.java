@@ -5,17 +5,35 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.math.BigInteger;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import one.block.arisenjava.enums.TaposMode;
+import one.block.arisenjava.error.ErrorConstants;
+import one.block.arisenjava.error.abiProvider.CompileAbiError;
 import one.block.arisenjava.error.abiProvider.GetAbiError;
 import one.block.arisenjava.error.rpcProvider.GetBlockRpcError;
 import one.block.arisenjava.error.rpcProvider.GetInfoRpcError;
@@ -26,7 +44,9 @@ import one.block.arisenjava.error.serializationProvider.SerializeError;
 import one.block.arisenjava.error.serializationProvider.SerializeTransactionError;
 import one.block.arisenjava.error.session.TransactionBroadCastError;
 import one.block.arisenjava.error.session.TransactionCreateSignatureRequestRequiredKeysEmptyError;
+import one.block.arisenjava.error.session.TransactionCreateSignatureRequestSerializationError;
 import one.block.arisenjava.error.session.TransactionPrepareError;
+import one.block.arisenjava.error.session.TransactionPushTransactionError;
 import one.block.arisenjava.error.session.TransactionProcessorConstructorInputError;
 import one.block.arisenjava.error.session.TransactionSerializeError;
 import one.block.arisenjava.error.session.TransactionSignAndBroadCastError;
@@ -38,7 +58,8 @@ import one.block.arisenjava.interfaces.IRPCProvider;
 import one.block.arisenjava.interfaces.ISerializationProvider;
 import one.block.arisenjava.interfaces.ISignatureProvider;
 import one.block.arisenjava.models.AbiRixSerializationObject;
-import one.block.arisenjava.models.arisenName;
+import one.block.arisenjava.models.ARISENName;
+import one.block.arisenjava.models.abi.CompiledAbi;
 import one.block.arisenjava.models.rpcProvider.Action;
 import one.block.arisenjava.models.rpcProvider.Authorization;
 import one.block.arisenjava.models.rpcProvider.Transaction;
@@ -50,15 +71,17 @@ import one.block.arisenjava.models.rpcProvider.response.GetBlockResponse;
 import one.block.arisenjava.models.rpcProvider.response.GetInfoResponse;
 import one.block.arisenjava.models.rpcProvider.response.GetRequiredKeysResponse;
 import one.block.arisenjava.models.rpcProvider.response.PushTransactionResponse;
-import one.block.arisenjava.models.signatureProvider.arisenTransactionSignatureRequest;
-import one.block.arisenjava.models.signatureProvider.arisenTransactionSignatureResponse;
+import one.block.arisenjava.models.signatureProvider.ArisenTransactionSignatureRequest;
+import one.block.arisenjava.models.signatureProvider.ArisenTransactionSignatureResponse;
 import one.block.arisenjava.utilities.DateFormatter;
 import one.block.arisenjava.utilities.Utils;
+import org.bouncycastle.util.encoders.Hex;
 import org.jetbrains.annotations.Nullable;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
+import org.mockito.ArgumentCaptor;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.stubbing.Answer;
 
@@ -67,7 +90,7 @@ public class TransactionProcessorTest {
 
     private IRPCProvider mockedRpcProvider = mock(IRPCProvider.class);
     private ISignatureProvider mockedSignatureProvider = mock(ISignatureProvider.class);
-    private IABIProvider mockedABIProvider = mock(IABIProvider.class);
+    private IABIProvider mockedABIProvider = mock(IABIProvider.class, CALLS_REAL_METHODS);
     private ISerializationProvider mockedSerializationProvider = mock(ISerializationProvider.class);
     private TransactionSession session;
 
@@ -112,6 +135,126 @@ public class TransactionProcessorTest {
         assertNotNull(transaction.getRefBlockPrefix());
     }
 
+    @Test
+    public void prepareWithReferenceBlockCache() {
+        this.mockRPC(
+                Utils.getGson(DateFormatter.BACKEND_DATE_PATTERN).fromJson(mockedGetInfoResponse, GetInfoResponse.class),
+                Utils.getGson(DateFormatter.BACKEND_DATE_PATTERN).fromJson(mockedGetBlockResponse, GetBlockResponse.class),
+                null, null);
+
+        ReferenceBlockCache referenceBlockCache = new ReferenceBlockCache(this.mockedRpcProvider,
+                new TransactionConfig(), 1000);
+
+        // Apply
+        List<Transaction> transactions = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            TransactionProcessor processor = session.getTransactionProcessor();
+            processor.setReferenceBlockCache(referenceBlockCache);
+            try {
+                processor.prepare(this.defaultActions());
+            } catch (TransactionPrepareError transactionPrepareError) {
+                transactionPrepareError.printStackTrace();
+                fail("Exception should not be thrown here for calling prepare");
+            }
+
+            transactions.add(processor.getTransaction());
+        }
+
+        // Validate
+        try {
+            verify(this.mockedRpcProvider, times(1)).getInfo();
+            verify(this.mockedRpcProvider, times(1)).getBlock(any(GetBlockRequest.class));
+        } catch (GetInfoRpcError | GetBlockRpcError error) {
+            fail("Exception should not be thrown here for verifying RPC calls");
+        }
+
+        for (Transaction transaction : transactions) {
+            assertEquals(expectedExpiration, transaction.getExpiration());
+            assertEquals(expectedRefBlockNum, transaction.getRefBlockNum());
+            assertEquals(refBlockPrefix, transaction.getRefBlockPrefix());
+        }
+    }
+
+    @Test
+    public void referenceBlockCacheRefreshesSnapshotOlderThanMaxAge() {
+        this.mockRPC(
+                Utils.getGson(DateFormatter.BACKEND_DATE_PATTERN).fromJson(mockedGetInfoResponse, GetInfoResponse.class),
+                Utils.getGson(DateFormatter.BACKEND_DATE_PATTERN).fromJson(mockedGetBlockResponse, GetBlockResponse.class),
+                null, null);
+
+        ReferenceBlockCache referenceBlockCache = new ReferenceBlockCache(this.mockedRpcProvider,
+                new TransactionConfig(), 1, 1);
+        try {
+            referenceBlockCache.getReferenceBlock();
+            Thread.sleep(5);
+            referenceBlockCache.getReferenceBlock();
+            verify(this.mockedRpcProvider, times(2)).getInfo();
+        } catch (TransactionPrepareError | InterruptedException | GetInfoRpcError error) {
+            error.printStackTrace();
+            fail("Exception should not be thrown here for getting the reference block");
+        }
+
+        try {
+            when(this.mockedRpcProvider.getInfo()).thenThrow(new GetInfoRpcError());
+            Thread.sleep(5);
+            referenceBlockCache.getReferenceBlock();
+            fail("A snapshot older than the maximum age should not be served");
+        } catch (TransactionPrepareError transactionPrepareError) {
+            assertEquals(ErrorConstants.TRANSACTION_PROCESSOR_RPC_GET_INFO,
+                    transactionPrepareError.getMessage());
+        } catch (InterruptedException | GetInfoRpcError error) {
+            error.printStackTrace();
+            fail("Exception should not be thrown here for mocking getInfo");
+        }
+    }
+
+    @Test
+    public void prepareWithBlockIdTaposMode() {
+        String blockId = "00000001405147477ab2f5f51cda427b638191c66d2c59aa392d5c2c98076cb0";
+        this.mockRPC(
+                Utils.getGson(DateFormatter.BACKEND_DATE_PATTERN).fromJson(
+                        mockedGetInfoResponse.replace("\"head_block_id\": \"1\"", "\"head_block_id\": \"" + blockId + "\""),
+                        GetInfoResponse.class),
+                null, null, null);
+
+        TransactionConfig transactionConfig = new TransactionConfig();
+        transactionConfig.setTaposMode(TaposMode.HEAD_BLOCK_ID);
+
+        // Apply
+        TransactionProcessor processor = session.getTransactionProcessor();
+        processor.setTransactionConfig(transactionConfig);
+        try {
+            processor.prepare(this.defaultActions());
+        } catch (TransactionPrepareError transactionPrepareError) {
+            transactionPrepareError.printStackTrace();
+            fail("Exception should not be thrown here for calling prepare");
+        }
+
+        // Validate
+        try {
+            verify(this.mockedRpcProvider, never()).getBlock(any(GetBlockRequest.class));
+        } catch (GetBlockRpcError getBlockRpcError) {
+            fail("Exception should not be thrown here for verifying getBlock");
+        }
+
+        Transaction transaction = processor.getTransaction();
+        assertNotNull(transaction);
+        assertEquals(expectedExpiration, transaction.getExpiration());
+        assertEquals(BigInteger.ONE, transaction.getRefBlockNum());
+        assertEquals(new BigInteger("4126519930"), transaction.getRefBlockPrefix());
+    }
+
+    @Test
+    public void setTaposModeRejectsNull() {
+        try {
+            new TransactionConfig().setTaposMode(null);
+            fail("A null TAPOS mode should be rejected");
+        } catch (IllegalArgumentException illegalArgumentException) {
+            assertEquals(ErrorConstants.TRANSACTION_CONFIG_TAPOS_MODE_NULL,
+                    illegalArgumentException.getMessage());
+        }
+    }
+
     @Test
     public void sign() {
         this.mockDefaultSuccessData();
@@ -171,6 +314,369 @@ public class TransactionProcessorTest {
         }
     }
 
+    @Test
+    public void signAndBroadcastWithByteSerialization() {
+        this.mockDefaultSuccessData();
+        final byte[] serializedTransaction = Hex.decode(MOCKED_TRANSACTION_HEX);
+        when(this.mockedSerializationProvider.isByteSerializationSupported()).thenReturn(true);
+        when(this.mockedSignatureProvider.isByteSerializationSupported()).thenReturn(true);
+        try {
+            when(this.mockedSerializationProvider.serializeTransactionToBytes(any(String.class)))
+                    .thenReturn(serializedTransaction);
+            when(this.mockedSignatureProvider.signTransaction(any(ArisenTransactionSignatureRequest.class)))
+                    .thenAnswer(new Answer<ArisenTransactionSignatureResponse>() {
+                        @Override
+                        public ArisenTransactionSignatureResponse answer(InvocationOnMock invocationOnMock) {
+                            ArisenTransactionSignatureRequest request =
+                                    (ArisenTransactionSignatureRequest) invocationOnMock.getArguments()[0];
+                            return new ArisenTransactionSignatureResponse(
+                                    request.getSerializedTransactionBytes(),
+                                    Arrays.asList(MOCKED_SIGNATURE), null);
+                        }
+                    });
+        } catch (SerializeTransactionError | SignTransactionError error) {
+            fail("Exception should not be thrown here for mocking byte serialization");
+        }
+
+        TransactionProcessor processor = createAndPrepareTransaction(this.defaultActions());
+        assertNotNull(processor);
+
+        try {
+            processor.signAndBroadcast();
+            assertSame(serializedTransaction, processor.getSerializedTransactionBytes());
+            verify(this.mockedSerializationProvider, never()).serializeTransaction(any(String.class));
+
+            // Hex is only produced for the push_transaction request
+            ArgumentCaptor<PushTransactionRequest> pushTransactionRequest =
+                    ArgumentCaptor.forClass(PushTransactionRequest.class);
+            verify(this.mockedRpcProvider).pushTransaction(pushTransactionRequest.capture());
+            assertEquals(MOCKED_TRANSACTION_HEX.toLowerCase(), pushTransactionRequest.getValue().getPackTrx());
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(serializedTransaction);
+            assertEquals(Hex.toHexString(digest), processor.getTransactionId());
+        } catch (TransactionSignAndBroadCastError | SerializeTransactionError | PushTransactionRpcError
+                | NoSuchAlgorithmException error) {
+            error.printStackTrace();
+            fail("Exception should not be thrown here for calling signAndBroadcast");
+        }
+    }
+
+    @Test
+    public void signWithRequiredKeysCache() {
+        this.mockDefaultSuccessData();
+        session.enableRequiredKeysCache(10, 1, TimeUnit.MINUTES);
+
+        for (int i = 0; i < 3; i++) {
+            TransactionProcessor processor = createAndPrepareTransaction(this.defaultActions());
+            assertNotNull(processor);
+            try {
+                assertTrue(processor.sign());
+            } catch (TransactionSignError transactionSignError) {
+                transactionSignError.printStackTrace();
+                fail("Exception should not be thrown here for calling sign");
+            }
+        }
+
+        try {
+            verify(this.mockedRpcProvider, times(1)).getRequiredKeys(any(GetRequiredKeysRequest.class));
+        } catch (GetRequiredKeysRpcError getRequiredKeysRpcError) {
+            fail("Exception should not be thrown here for verifying getRequiredKeys");
+        }
+    }
+
+    @Test
+    public void signAndBroadcastWithOutdatedRequiredKeysCache() {
+        this.mockDefaultSuccessData();
+        RequiredKeysCache requiredKeysCache = session.enableRequiredKeysCache(10, 1, TimeUnit.MINUTES);
+        requiredKeysCache.put(
+                new Transaction("", BigInteger.ZERO, BigInteger.ZERO, BigInteger.ZERO, BigInteger.ZERO,
+                        BigInteger.ZERO, new ArrayList<Action>(), this.defaultActions(), new ArrayList<String>()),
+                Arrays.asList("Key1", "Key2"), Arrays.asList("Key2"));
+
+        try {
+            when(this.mockedRpcProvider.pushTransaction(any(PushTransactionRequest.class)))
+                    .thenThrow(new PushTransactionRpcError("Error 3090003: unsatisfied_authorization"))
+                    .thenReturn(Utils.getGson(DateFormatter.BACKEND_DATE_PATTERN).fromJson(MOCKED_PUSHTRANSACTION_RESPONE_JSON, PushTransactionResponse.class));
+        } catch (PushTransactionRpcError pushTransactionRpcError) {
+            fail("Exception should not be thrown here for mocking pushTransaction");
+        }
+
+        TransactionProcessor processor = createAndPrepareTransaction(this.defaultActions());
+        assertNotNull(processor);
+        try {
+            PushTransactionResponse pushTransactionResponse = processor.signAndBroadcast();
+            assertEquals(DUMP_TRANSACTION_ID, pushTransactionResponse.getTransactionId());
+            // The required keys were queried again and replaced the outdated entry
+            verify(this.mockedRpcProvider, times(1)).getRequiredKeys(any(GetRequiredKeysRequest.class));
+            verify(this.mockedRpcProvider, times(2)).pushTransaction(any(PushTransactionRequest.class));
+        } catch (TransactionSignAndBroadCastError | GetRequiredKeysRpcError | PushTransactionRpcError error) {
+            error.printStackTrace();
+            fail("Exception should not be thrown here for calling signAndBroadcast");
+        }
+
+        assertEquals(1, requiredKeysCache.size());
+    }
+
+    @Test
+    public void signAndBroadcastWithRequiredKeysCache_thenFailOnMissingAuth() {
+        this.mockDefaultSuccessData();
+        RequiredKeysCache requiredKeysCache = session.enableRequiredKeysCache(10, 1, TimeUnit.MINUTES);
+        requiredKeysCache.put(
+                new Transaction("", BigInteger.ZERO, BigInteger.ZERO, BigInteger.ZERO, BigInteger.ZERO,
+                        BigInteger.ZERO, new ArrayList<Action>(), this.defaultActions(), new ArrayList<String>()),
+                Arrays.asList("Key1", "Key2"), Arrays.asList("Key2"));
+
+        try {
+            when(this.mockedRpcProvider.pushTransaction(any(PushTransactionRequest.class)))
+                    .thenThrow(new PushTransactionRpcError("Error 3090004: missing_auth_exception"));
+        } catch (PushTransactionRpcError pushTransactionRpcError) {
+            fail("Exception should not be thrown here for mocking pushTransaction");
+        }
+
+        TransactionProcessor processor = createAndPrepareTransaction(this.defaultActions());
+        assertNotNull(processor);
+        try {
+            processor.signAndBroadcast();
+            fail("Exception should be thrown here for calling signAndBroadcast");
+        } catch (TransactionSignAndBroadCastError transactionSignAndBroadCastError) {
+            assertTrue(transactionSignAndBroadCastError.getCause() instanceof TransactionPushTransactionError);
+        }
+
+        try {
+            // Signing again with other keys can't add a missing authorization
+            verify(this.mockedRpcProvider, never()).getRequiredKeys(any(GetRequiredKeysRequest.class));
+            verify(this.mockedRpcProvider, times(1)).pushTransaction(any(PushTransactionRequest.class));
+        } catch (GetRequiredKeysRpcError | PushTransactionRpcError error) {
+            fail("Exception should not be thrown here for verifying RPC calls");
+        }
+
+        assertEquals(1, requiredKeysCache.size());
+    }
+
+    @Test
+    public void getTransactionIdAfterSign() {
+        this.mockDefaultSuccessData();
+        TransactionProcessor processor = createAndPrepareTransaction(this.defaultActions());
+        assertNotNull(processor);
+        assertNull(processor.getTransactionId());
+
+        try {
+            assertTrue(processor.sign());
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(Hex.decode(processor.getSerializedTransaction()));
+            assertEquals(Hex.toHexString(digest), processor.getTransactionId());
+        } catch (TransactionSignError | NoSuchAlgorithmException error) {
+            error.printStackTrace();
+            fail("Exception should not be thrown here for calling sign");
+        }
+    }
+
+    @Test
+    public void signAndBroadcastWithRetries_thenSucceedOnDuplicateTransaction() {
+        this.mockDefaultSuccessData();
+        try {
+            when(this.mockedRpcProvider.pushTransaction(any(PushTransactionRequest.class)))
+                    .thenThrow(new PushTransactionRpcError("Read timed out"))
+                    .thenThrow(new PushTransactionRpcError("Error 3040008: tx_duplicate"));
+        } catch (PushTransactionRpcError pushTransactionRpcError) {
+            fail("Exception should not be thrown here for mocking pushTransaction");
+        }
+
+        TransactionProcessor processor = createAndPrepareTransaction(this.defaultActions());
+        assertNotNull(processor);
+        TransactionConfig transactionConfig = new TransactionConfig();
+        transactionConfig.setMaxBroadcastRetries(2);
+        transactionConfig.setBroadcastRetryDelayMillis(1);
+        processor.setTransactionConfig(transactionConfig);
+
+        try {
+            PushTransactionResponse pushTransactionResponse = processor.signAndBroadcast();
+            assertNotNull(processor.getTransactionId());
+            assertEquals(processor.getTransactionId(), pushTransactionResponse.getTransactionId());
+            assertNull(pushTransactionResponse.getProcessed());
+            // The same signed transaction is pushed again, without signing it again
+            verify(this.mockedSignatureProvider, times(1)).signTransaction(any(ArisenTransactionSignatureRequest.class));
+            verify(this.mockedRpcProvider, times(2)).pushTransaction(any(PushTransactionRequest.class));
+        } catch (TransactionSignAndBroadCastError | SignTransactionError | PushTransactionRpcError error) {
+            error.printStackTrace();
+            fail("Exception should not be thrown here for calling signAndBroadcast");
+        }
+    }
+
+    @Test
+    public void broadcastWithRetries_thenFailAfterLastRetry() {
+        this.mockDefaultSuccessData();
+        try {
+            when(this.mockedRpcProvider.pushTransaction(any(PushTransactionRequest.class)))
+                    .thenThrow(new PushTransactionRpcError("Read timed out"));
+        } catch (PushTransactionRpcError pushTransactionRpcError) {
+            fail("Exception should not be thrown here for mocking pushTransaction");
+        }
+
+        TransactionProcessor processor = createAndPrepareTransaction(this.defaultActions());
+        assertNotNull(processor);
+        TransactionConfig transactionConfig = new TransactionConfig();
+        transactionConfig.setMaxBroadcastRetries(2);
+        transactionConfig.setBroadcastRetryDelayMillis(1);
+        processor.setTransactionConfig(transactionConfig);
+
+        try {
+            assertTrue(processor.sign());
+            processor.broadcast();
+            fail("Exception should be thrown here for calling broadcast");
+        } catch (TransactionSignError transactionSignError) {
+            transactionSignError.printStackTrace();
+            fail("Exception should not be thrown here for calling sign");
+        } catch (TransactionBroadCastError transactionBroadCastError) {
+            assertEquals(ErrorConstants.TRANSACTION_PROCESSOR_BROADCAST_TRANS_ERROR,
+                    transactionBroadCastError.getMessage());
+        }
+
+        try {
+            verify(this.mockedRpcProvider, times(3)).pushTransaction(any(PushTransactionRequest.class));
+        } catch (PushTransactionRpcError pushTransactionRpcError) {
+            fail("Exception should not be thrown here for verifying pushTransaction");
+        }
+    }
+
+    @Test
+    public void broadcastWithRetries_thenFailOnDeterministicError() {
+        this.mockDefaultSuccessData();
+        PushTransactionRpcError assertionError = new PushTransactionRpcError(
+                "Error 3050003: eosio_assert_message_exception");
+        try {
+            when(this.mockedRpcProvider.pushTransaction(any(PushTransactionRequest.class)))
+                    .thenThrow(assertionError);
+        } catch (PushTransactionRpcError pushTransactionRpcError) {
+            fail("Exception should not be thrown here for mocking pushTransaction");
+        }
+
+        TransactionProcessor processor = createAndPrepareTransaction(this.defaultActions());
+        assertNotNull(processor);
+        TransactionConfig transactionConfig = new TransactionConfig();
+        transactionConfig.setMaxBroadcastRetries(2);
+        transactionConfig.setBroadcastRetryDelayMillis(1);
+        processor.setTransactionConfig(transactionConfig);
+
+        try {
+            assertTrue(processor.sign());
+            processor.broadcast();
+            fail("Exception should be thrown here for calling broadcast");
+        } catch (TransactionSignError transactionSignError) {
+            transactionSignError.printStackTrace();
+            fail("Exception should not be thrown here for calling sign");
+        } catch (TransactionBroadCastError transactionBroadCastError) {
+            assertSame(assertionError, transactionBroadCastError.getCause().getCause());
+        }
+
+        try {
+            // The chain would reject the same transaction again, it is not retried
+            verify(this.mockedRpcProvider, times(1)).pushTransaction(any(PushTransactionRequest.class));
+        } catch (PushTransactionRpcError pushTransactionRpcError) {
+            fail("Exception should not be thrown here for verifying pushTransaction");
+        }
+    }
+
+    @Test
+    public void broadcastWithRetries_thenFailOnDuplicateTransactionOnFirstAttempt() {
+        this.mockDefaultSuccessData();
+        PushTransactionRpcError duplicateError = new PushTransactionRpcError(
+                "Error 3040008: tx_duplicate");
+        try {
+            when(this.mockedRpcProvider.pushTransaction(any(PushTransactionRequest.class)))
+                    .thenThrow(duplicateError);
+        } catch (PushTransactionRpcError pushTransactionRpcError) {
+            fail("Exception should not be thrown here for mocking pushTransaction");
+        }
+
+        TransactionProcessor processor = createAndPrepareTransaction(this.defaultActions());
+        assertNotNull(processor);
+        TransactionConfig transactionConfig = new TransactionConfig();
+        transactionConfig.setMaxBroadcastRetries(2);
+        transactionConfig.setBroadcastRetryDelayMillis(1);
+        processor.setTransactionConfig(transactionConfig);
+
+        try {
+            assertTrue(processor.sign());
+            processor.broadcast();
+            fail("Exception should be thrown here for calling broadcast");
+        } catch (TransactionSignError transactionSignError) {
+            transactionSignError.printStackTrace();
+            fail("Exception should not be thrown here for calling sign");
+        } catch (TransactionBroadCastError transactionBroadCastError) {
+            // No attempt of this processor landed before, the duplicate is not its own
+            assertSame(duplicateError, transactionBroadCastError.getCause().getCause());
+        }
+
+        try {
+            verify(this.mockedRpcProvider, times(1)).pushTransaction(any(PushTransactionRequest.class));
+        } catch (PushTransactionRpcError pushTransactionRpcError) {
+            fail("Exception should not be thrown here for verifying pushTransaction");
+        }
+    }
+
+    @Test
+    public void signAndBroadcastAsync() {
+        this.mockDefaultSuccessData();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            TransactionProcessor processor = session.getTransactionProcessor();
+            PushTransactionResponse pushTransactionResponse = processor
+                    .prepareAsync(this.defaultActions(), executor)
+                    .thenCompose(new Function<Void, CompletionStage<PushTransactionResponse>>() {
+                        @Override
+                        public CompletionStage<PushTransactionResponse> apply(Void input) {
+                            return processor.signAndBroadcastAsync(executor);
+                        }
+                    }).get(10, TimeUnit.SECONDS);
+
+            assertNotNull(pushTransactionResponse);
+            assertEquals(DUMP_TRANSACTION_ID, pushTransactionResponse.getTransactionId());
+            assertEquals(1, processor.getSignatures().size());
+            assertEquals(MOCKED_SIGNATURE, processor.getSignatures().get(0));
+        } catch (Exception exception) {
+            exception.printStackTrace();
+            fail("Exception should not be thrown here for calling signAndBroadcastAsync");
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void submitBatch() {
+        this.mockDefaultSuccessData();
+
+        BatchConfig batchConfig = new BatchConfig();
+        batchConfig.setMaxInFlight(2);
+        List<List<Action>> actionLists = Arrays.asList(this.defaultActions(),
+                new ArrayList<Action>(), this.defaultActions(), this.defaultActions());
+
+        List<BatchTransactionResult> results = null;
+        try {
+            results = session.submitBatch(actionLists.iterator(), batchConfig);
+        } catch (InterruptedException interruptedException) {
+            fail("Exception should not be thrown here for calling submitBatch");
+        }
+
+        assertNotNull(results);
+        assertEquals(actionLists.size(), results.size());
+        for (int i = 0; i < results.size(); i++) {
+            BatchTransactionResult result = results.get(i);
+            assertEquals(i, result.getIndex());
+            assertSame(actionLists.get(i), result.getActions());
+            if (i == 1) {
+                // Empty action list fails in the prepare stage
+                assertFalse(result.isSuccessful());
+                assertTrue(result.getError() instanceof TransactionPrepareError);
+            } else {
+                assertTrue(result.isSuccessful());
+                assertNotNull(result.getResponse());
+                assertEquals(DUMP_TRANSACTION_ID, result.getResponse().getTransactionId());
+                assertEquals(MOCKED_SIGNATURE, result.getTransactionProcessor().getSignatures().get(0));
+            }
+        }
+    }
+
     @Test
     public void serialize() {
         this.mockDefaultSuccessData();
@@ -185,6 +691,142 @@ public class TransactionProcessorTest {
         }
     }
 
+    @Test
+    public void serializeKeepsInputActionsUntouched() {
+        this.mockDefaultSuccessData();
+        List<Action> actions = this.defaultActions();
+        String jsonData = actions.get(0).getData();
+        TransactionProcessor processor = createAndPrepareTransaction(actions);
+        assertNotNull(processor);
+
+        try {
+            assertEquals(MOCKED_TRANSACTION_HEX, processor.serialize());
+        } catch (TransactionSerializeError transactionSerializeError) {
+            transactionSerializeError.printStackTrace();
+            fail("Exception should not be thrown here for calling serialize.");
+        }
+
+        // The processor holds new actions with hex data, sharing the unchanged parts of the inputs
+        Action serializedAction = processor.getTransaction().getActions().get(0);
+        assertEquals(jsonData, actions.get(0).getData());
+        assertEquals(MOCKED_ACTION_HEX, serializedAction.getData());
+        assertNotSame(actions.get(0), serializedAction);
+        assertSame(actions.get(0).getAuthorization(), serializedAction.getAuthorization());
+    }
+
+    @Test
+    public void serializeKeepsDataOfSerializedActions() {
+        this.mockDefaultSuccessData();
+        List<Action> actions = this.defaultActions();
+        actions.get(0).setData("0000000000ea3055");
+        actions.get(0).setIsDataSerialized(true);
+        TransactionProcessor processor = createAndPrepareTransaction(actions);
+        assertNotNull(processor);
+
+        try {
+            assertEquals(MOCKED_TRANSACTION_HEX, processor.serialize());
+            // Neither the ABI nor the action serialization is needed
+            verify(this.mockedABIProvider, never()).getAbi(any(String.class), any(ARISENName.class));
+            verify(this.mockedSerializationProvider, never()).serialize(any(AbiRixSerializationObject.class));
+        } catch (TransactionSerializeError | GetAbiError | SerializeError error) {
+            error.printStackTrace();
+            fail("Exception should not be thrown here for calling serialize.");
+        }
+
+        assertEquals("0000000000ea3055", processor.getTransaction().getActions().get(0).getData());
+    }
+
+    @Test
+    public void serializeWithJsonAbiOfProviderWithoutCompiledAbi() {
+        this.mockDefaultSuccessData();
+        TransactionProcessor processor = createAndPrepareTransaction(this.defaultActions());
+        assertNotNull(processor);
+
+        ArgumentCaptor<AbiRixSerializationObject> serializationObject = ArgumentCaptor
+                .forClass(AbiRixSerializationObject.class);
+        try {
+            assertEquals(MOCKED_TRANSACTION_HEX, processor.serialize());
+            verify(this.mockedABIProvider, never()).getCompiledAbi(any(String.class), any(ARISENName.class));
+            verify(this.mockedSerializationProvider).serialize(serializationObject.capture());
+        } catch (TransactionSerializeError | GetAbiError | SerializeError error) {
+            error.printStackTrace();
+            fail("Exception should not be thrown here for calling serialize.");
+        }
+
+        assertNull(serializationObject.getValue().getCompiledAbi());
+        assertEquals(ARISENTOKENABIJSON, serializationObject.getValue().getAbi());
+    }
+
+    @Test
+    public void serializeWithCompiledAbiOfProvider() {
+        this.mockDefaultSuccessData();
+        ArgumentCaptor<AbiRixSerializationObject> serializationObject = ArgumentCaptor
+                .forClass(AbiRixSerializationObject.class);
+        try {
+            CompiledAbi compiledAbi = CompiledAbi.compile(ARISENTOKENABIJSON);
+            doReturn(true).when(this.mockedABIProvider).isCompiledAbiSupported();
+            doReturn(compiledAbi).when(this.mockedABIProvider)
+                    .getCompiledAbi(any(String.class), any(ARISENName.class));
+            TransactionProcessor processor = createAndPrepareTransaction(this.defaultActions());
+            assertNotNull(processor);
+
+            assertEquals(MOCKED_TRANSACTION_HEX, processor.serialize());
+            verify(this.mockedABIProvider, never()).getAbi(any(String.class), any(ARISENName.class));
+            verify(this.mockedSerializationProvider).serialize(serializationObject.capture());
+            assertSame(compiledAbi, serializationObject.getValue().getCompiledAbi());
+        } catch (CompileAbiError | TransactionSerializeError | GetAbiError | SerializeError error) {
+            error.printStackTrace();
+            fail("Exception should not be thrown here for calling serialize.");
+        }
+    }
+
+    @Test
+    public void serializeActionsInParallel() {
+        this.mockDefaultSuccessData();
+        this.mockSerializationProviderEchoingData(-1);
+
+        List<Action> actions = this.multiContractActions(20);
+        TransactionProcessor processor = this.createParallelSerializationProcessor(actions);
+
+        try {
+            assertEquals(MOCKED_TRANSACTION_HEX, processor.serialize());
+            // One ABI fetch per distinct contract
+            verify(this.mockedABIProvider, times(2)).getAbi(any(String.class), any(ARISENName.class));
+        } catch (TransactionSerializeError | GetAbiError error) {
+            error.printStackTrace();
+            fail("Exception should not be thrown here for calling serialize.");
+        }
+
+        List<Action> serializedActions = processor.getTransaction().getActions();
+        assertEquals(actions.size(), serializedActions.size());
+        for (int i = 0; i < actions.size(); i++) {
+            assertEquals(actions.get(i).getAccount(), serializedActions.get(i).getAccount());
+            assertEquals("hex" + actions.get(i).getData(), serializedActions.get(i).getData());
+        }
+    }
+
+    @Test
+    public void serializeActionsInParallel_thenFailWithFirstActionError() {
+        this.mockDefaultSuccessData();
+        this.mockSerializationProviderEchoingData(5);
+
+        List<Action> actions = this.multiContractActions(20);
+        TransactionProcessor processor = this.createParallelSerializationProcessor(actions);
+
+        try {
+            processor.serialize();
+            fail("Exception should be thrown here for calling serialize.");
+        } catch (TransactionSerializeError transactionSerializeError) {
+            Throwable cause = transactionSerializeError.getCause();
+            assertTrue(cause instanceof TransactionCreateSignatureRequestSerializationError);
+            assertEquals(String.format(ErrorConstants.TRANSACTION_PROCESSOR_SERIALIZE_ACTION_ERROR,
+                    actions.get(5).getAccount()), cause.getMessage());
+            // The original error of the first failing action, not a wrapped execution error
+            assertTrue(cause.getCause() instanceof SerializeError);
+            assertEquals("5", cause.getCause().getMessage());
+        }
+    }
+
     @Test
     public void getTransaction() {
         this.mockDefaultSuccessData();
@@ -352,7 +994,7 @@ public class TransactionProcessorTest {
         this.mockSerializationProvider(MOCKED_ACTION_HEX, MOCKED_TRANSACTION_HEX, mockedDeserilizedTransaction);
         this.mockSignatureProvider(Arrays.asList("Key1", "Key2"),
                 Utils.getGson(DateFormatter.BACKEND_DATE_PATTERN)
-                        .fromJson(mockedArisenTransactionSignatureResponseModifiedTransactionJSON, arisenTransactionSignatureResponse.class));
+                        .fromJson(mockedArisenTransactionSignatureResponseModifiedTransactionJSON, ArisenTransactionSignatureResponse.class));
 
         TransactionProcessor processor = createAndPrepareTransaction(this.defaultActions());
         assertNotNull(processor);
@@ -375,6 +1017,11 @@ public class TransactionProcessorTest {
 
             // after signing and broadcast, serialized transaction is updated
             assertEquals(MOCKED_TRANSACTION_HEX_MODIFIED, processor.getSerializedTransaction());
+
+            // the modified transaction is decoded from its packed version when needed
+            assertEquals("transfer", processor.getPackedTransaction().getActions().get(0).getName());
+            assertEquals(BigInteger.valueOf(28698), processor.getTransaction().getRefBlockNum());
+            assertEquals("2019-04-02T20:16:30.000", processor.getTransaction().getExpiration());
         } catch (TransactionSignAndBroadCastError transactionSignAndBroadCastError) {
             transactionSignAndBroadCastError.printStackTrace();
             fail("Exception should not be thrown here for calling signAndBroadcast");
@@ -526,7 +1173,59 @@ public class TransactionProcessorTest {
         this.mockAbiProvider(ARISENTOKENABIJSON);
         this.mockSerializationProvider(MOCKED_ACTION_HEX, MOCKED_TRANSACTION_HEX, mockedDeserilizedTransaction);
         this.mockSignatureProvider(Arrays.asList("Key1", "Key2"),
-                Utils.getGson(DateFormatter.BACKEND_DATE_PATTERN).fromJson(mockedArisenTransactionSignatureResponseJSON, arisenTransactionSignatureResponse.class));
+                Utils.getGson(DateFormatter.BACKEND_DATE_PATTERN).fromJson(mockedArisenTransactionSignatureResponseJSON, ArisenTransactionSignatureResponse.class));
+    }
+
+    private List<Action> multiContractActions(int count) {
+        List<Action> actions = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            List<Authorization> authorizations = new ArrayList<>();
+            authorizations.add(new Authorization("cryptkeeper", "active"));
+            actions.add(new Action(i % 2 == 0 ? "arisen.token" : "payout.token", "transfer",
+                    authorizations, String.valueOf(i)));
+        }
+
+        return actions;
+    }
+
+    private TransactionProcessor createParallelSerializationProcessor(List<Action> actions) {
+        TransactionConfig transactionConfig = new TransactionConfig();
+        transactionConfig.setIsParallelActionSerializationEnabled(true);
+        TransactionProcessor processor = session.getTransactionProcessor();
+        processor.setTransactionConfig(transactionConfig);
+        try {
+            processor.prepare(actions);
+        } catch (TransactionPrepareError transactionPrepareError) {
+            transactionPrepareError.printStackTrace();
+            fail("Exception should not be thrown here for calling prepare");
+        }
+
+        return processor;
+    }
+
+    /**
+     * Mock action serialization returning "hex" + the JSON data.  If failingData is not negative,
+     * the actions whose data is failingData or failingData + 7 (an action of the other contract) fail.
+     */
+    private void mockSerializationProviderEchoingData(final int failingData) {
+        try {
+            doAnswer(new Answer() {
+                @Override
+                public Object answer(InvocationOnMock invocationOnMock) throws SerializeError {
+                    AbiRixSerializationObject serializationObject = (AbiRixSerializationObject) invocationOnMock.getArguments()[0];
+                    int data = Integer.parseInt(serializationObject.getJson());
+                    if (failingData >= 0 && (data == failingData || data == failingData + 7)) {
+                        throw new SerializeError(String.valueOf(data));
+                    }
+
+                    serializationObject.setHex("hex" + serializationObject.getJson());
+                    return null;
+                }
+            }).when(this.mockedSerializationProvider).serialize(any(AbiRixSerializationObject.class));
+        } catch (SerializeError serializeError) {
+            serializeError.printStackTrace();
+            fail("Exception should not be thrown here for mocking serialize");
+        }
     }
 
     private List<Action> defaultActions() {
@@ -722,12 +1421,12 @@ public class TransactionProcessorTest {
             + "    \"ref_block_prefix\": " + refBlockPrefix + "\n"
             + "}";
 
-    private static final String mockedarisenTransactionSignatureResponseJSON = "{"
+    private static final String mockedArisenTransactionSignatureResponseJSON = "{"
             + "\"serializeTransaction\": \"" + MOCKED_TRANSACTION_HEX + "\","
             + "\"signatures\": [\"" + MOCKED_SIGNATURE + "\"]"
             + "}";
 
-    private static final String mockedarisenTransactionSignatureResponseModifiedTransactionJSON = "{"
+    private static final String mockedArisenTransactionSignatureResponseModifiedTransactionJSON = "{"
             + "\"serializeTransaction\": \"" + MOCKED_TRANSACTION_HEX_MODIFIED + "\","
             + "\"signatures\": [\"" + MOCKED_SIGNATURE + "\"]"
             + "}";
@@ -1,8 +1,12 @@
 package one.block.arisenjava.session;
 
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 
+import java.util.concurrent.TimeUnit;
 import one.block.arisenjava.interfaces.IABIProvider;
 import one.block.arisenjava.interfaces.IRPCProvider;
 import one.block.arisenjava.interfaces.ISerializationProvider;
@@ -48,4 +52,16 @@ public class TransactionSessionTest {
     public void getSignatureProvider() {
         assertNotNull(this.session.getSignatureProvider());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void enableReferenceBlockCache() {
+        ReferenceBlockCache cache = this.session.enableReferenceBlockCache(1, TimeUnit.MINUTES);
+        assertTrue(cache.isRunning());
+        assertSame(cache, this.session.getReferenceBlockCache());
+        assertSame(cache, this.session.getTransactionProcessor().getReferenceBlockCache());
+
+        this.session.disableReferenceBlockCache();
+        assertNull(this.session.getReferenceBlockCache());
+        assertNull(this.session.getTransactionProcessor().getReferenceBlockCache());
+    }
+}